@@ -29,12 +29,15 @@ public final class BuildContext {
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    private final long priority;
     private volatile boolean running;
+    private volatile long readyTime;
 
-    BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
+    BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution, final long priority) {
         this.classLoader = classLoader;
         this.stepInfo = stepInfo;
         this.execution = execution;
+        this.priority = priority;
         dependencies = new AtomicInteger(stepInfo.getDependencies());
     }
 
@@ -234,10 +237,18 @@ void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
+    long getPriority() {
+        return priority;
+    }
+
+    void ready() {
+        readyTime = System.nanoTime();
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
@@ -263,8 +274,10 @@ void run() {
                 }
             }
         } finally {
-            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
-            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
+            long durationNanos = System.nanoTime() - start;
+            long duration = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, start, durationNanos,
+                    start - readyTime);
             log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
             execution.removeBuildContext(stepInfo, this);
         }
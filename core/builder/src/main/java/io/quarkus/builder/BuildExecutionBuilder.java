@@ -19,6 +19,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Map<String, Long> stepDurationEstimates;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -68,6 +69,21 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Provide the estimated durations of the build steps, typically recorded by a previous build. If set, the steps
+     * that are ready to run are executed in the order of the longest estimated path to the end of the build, so that
+     * the steps on the critical path are not delayed by steps that have more slack.
+     *
+     * @param stepDurationEstimates the estimated durations in milliseconds, keyed by build step id, or {@code null} to
+     *        execute the steps in the order they become ready
+     * @return this builder
+     * @see BuildMetrics#readStepDurations(java.nio.file.Path)
+     */
+    public BuildExecutionBuilder setStepDurationEstimates(Map<String, Long> stepDurationEstimates) {
+        this.stepDurationEstimates = stepDurationEstimates;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -109,6 +125,10 @@ Map<ItemId, ArrayList<BuildItem>> getInitialMulti() {
         return initialMulti;
     }
 
+    Map<String, Long> getStepDurationEstimates() {
+        return stepDurationEstimates;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
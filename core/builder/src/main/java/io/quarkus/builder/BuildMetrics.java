@@ -4,6 +4,7 @@
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -12,10 +13,16 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
@@ -23,12 +30,18 @@
 import io.quarkus.builder.Json.JsonArrayBuilder;
 import io.quarkus.builder.Json.JsonObjectBuilder;
 import io.quarkus.builder.item.BuildItem;
+import io.quarkus.builder.json.JsonArray;
+import io.quarkus.builder.json.JsonInteger;
+import io.quarkus.builder.json.JsonObject;
+import io.quarkus.builder.json.JsonString;
+import io.quarkus.builder.json.JsonValue;
 
 public class BuildMetrics {
 
     static final Logger LOG = Logger.getLogger(BuildMetrics.class.getName());
 
     private volatile LocalDateTime started;
+    private volatile long startedNanos;
     private volatile long duration;
     private final String buildTargetName;
     private final ConcurrentMap<String, BuildStepRecord> records = new ConcurrentHashMap<>();
@@ -46,6 +59,7 @@ public Collection<BuildStepRecord> getRecords() {
 
     public void buildStarted() {
         this.started = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        this.startedNanos = System.nanoTime();
     }
 
     public void buildFinished(long duration) {
@@ -53,8 +67,15 @@ public void buildFinished(long duration) {
     }
 
     public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        long durationNanos = TimeUnit.MILLISECONDS.toNanos(duration);
+        buildStepFinished(stepInfo, thread, started, System.nanoTime() - durationNanos, durationNanos, 0);
+    }
+
+    void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long startNanos, long durationNanos,
+            long waitNanos) {
         records.put(stepInfo.getBuildStep().getId(),
-                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
+                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, startNanos - startedNanos,
+                        durationNanos, waitNanos));
     }
 
     public void buildItemProduced(BuildItem buildItem) {
@@ -68,6 +89,163 @@ private Integer itemProduced(String key, Integer val) {
         return val + 1;
     }
 
+    /**
+     * The critical path is the chain of dependent build steps with the longest total execution time. The build cannot
+     * finish sooner than the steps on this path, regardless of the number of threads.
+     *
+     * @return the build steps on the critical path, in the order of execution
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        Map<BuildStepRecord, Long> longestPaths = new HashMap<>();
+        Map<BuildStepRecord, BuildStepRecord> next = new HashMap<>();
+        BuildStepRecord first = null;
+        long longest = -1;
+        for (BuildStepRecord rec : records.values()) {
+            long path = longestPath(rec, longestPaths, next);
+            if (path > longest) {
+                longest = path;
+                first = rec;
+            }
+        }
+        List<BuildStepRecord> criticalPath = new ArrayList<>();
+        for (BuildStepRecord rec = first; rec != null; rec = next.get(rec)) {
+            criticalPath.add(rec);
+        }
+        return criticalPath;
+    }
+
+    private long longestPath(BuildStepRecord rec, Map<BuildStepRecord, Long> longestPaths,
+            Map<BuildStepRecord, BuildStepRecord> next) {
+        Long path = longestPaths.get(rec);
+        if (path == null) {
+            long longestDependent = 0;
+            BuildStepRecord nextRec = null;
+            for (StepInfo dependent : rec.stepInfo.getDependents()) {
+                BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
+                if (dependentRecord != null) {
+                    long dependentPath = longestPath(dependentRecord, longestPaths, next);
+                    if (nextRec == null || dependentPath > longestDependent) {
+                        longestDependent = dependentPath;
+                        nextRec = dependentRecord;
+                    }
+                }
+            }
+            if (nextRec != null) {
+                next.put(rec, nextRec);
+            }
+            path = rec.durationNanos + longestDependent;
+            longestPaths.put(rec, path);
+        }
+        return path;
+    }
+
+    /**
+     * @param limit the maximum number of build steps to list
+     * @return a human-readable summary of the critical path, listing the longest build steps on the path
+     */
+    public String getCriticalPathSummary(int limit) {
+        List<BuildStepRecord> criticalPath = getCriticalPath();
+        long pathNanos = 0;
+        long waitNanos = 0;
+        for (BuildStepRecord rec : criticalPath) {
+            pathNanos += rec.durationNanos;
+            waitNanos += rec.waitNanos;
+        }
+        StringBuilder summary = new StringBuilder();
+        summary.append("Critical path of ").append(buildTargetName).append(": ").append(criticalPath.size())
+                .append(" build steps executed in ").append(TimeUnit.NANOSECONDS.toMillis(pathNanos))
+                .append(" ms and waited for a thread for ").append(TimeUnit.NANOSECONDS.toMillis(waitNanos))
+                .append(" ms, the build took ").append(duration).append(" ms");
+        List<BuildStepRecord> sortedSteps = new ArrayList<>(criticalPath);
+        sortedSteps.sort(Comparator.comparingLong((BuildStepRecord rec) -> rec.durationNanos).reversed());
+        for (int i = 0; i < Math.min(limit, sortedSteps.size()); i++) {
+            BuildStepRecord rec = sortedSteps.get(i);
+            summary.append("\n\t").append(rec.duration).append(" ms ").append(rec.stepInfo.getBuildStep().getId());
+            if (rec.waitTime > 0) {
+                summary.append(" (waited ").append(rec.waitTime).append(" ms)");
+            }
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Writes the build step records in the Chrome trace event format, which can be opened in {@code chrome://tracing}
+     * or Perfetto. The steps on the critical path are in the {@code critical-path} category.
+     *
+     * @param file the target file
+     * @throws IOException
+     */
+    public void dumpTraceTo(Path file) throws IOException {
+        Set<BuildStepRecord> criticalPath = new HashSet<>(getCriticalPath());
+        List<BuildStepRecord> sortedSteps = new ArrayList<>(records.values());
+        sortedSteps.sort(Comparator.comparingLong(rec -> rec.startOffsetNanos));
+
+        JsonObjectBuilder json = Json.object();
+        json.put("displayTimeUnit", "ms");
+        JsonArrayBuilder events = Json.array();
+        json.put("traceEvents", events);
+        Map<String, Integer> threadIds = new LinkedHashMap<>();
+        for (BuildStepRecord rec : sortedSteps) {
+            Integer threadId = threadIds.get(rec.thread);
+            if (threadId == null) {
+                threadId = threadIds.size() + 1;
+                threadIds.put(rec.thread, threadId);
+                events.add(Json.object()
+                        .put("name", "thread_name")
+                        .put("ph", "M")
+                        .put("pid", 1)
+                        .put("tid", threadId)
+                        .put("args", Json.object().put("name", rec.thread)));
+            }
+            events.add(Json.object()
+                    .put("name", rec.stepInfo.getBuildStep().getId())
+                    .put("cat", criticalPath.contains(rec) ? "build-step,critical-path" : "build-step")
+                    .put("ph", "X")
+                    .put("ts", TimeUnit.NANOSECONDS.toMicros(rec.startOffsetNanos))
+                    .put("dur", TimeUnit.NANOSECONDS.toMicros(rec.durationNanos))
+                    .put("pid", 1)
+                    .put("tid", threadId)
+                    .put("args", Json.object().put("waitMicros", TimeUnit.NANOSECONDS.toMicros(rec.waitNanos))));
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
+            json.appendTo(writer);
+        }
+    }
+
+    /**
+     * Reads the durations of build steps from a file written by {@link #dumpTo(Path)}.
+     *
+     * @param file the build metrics file
+     * @return the durations in milliseconds, keyed by build step id, or {@code null} if the file does not exist or cannot
+     *         be read
+     */
+    public static Map<String, Long> readStepDurations(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            JsonObject json = JsonReader.of(Files.readString(file)).read();
+            JsonArray records = json.get("records");
+            if (records == null) {
+                return null;
+            }
+            Map<String, Long> durations = new HashMap<>();
+            for (JsonValue value : records.value()) {
+                JsonObject rec = (JsonObject) value;
+                JsonString stepId = rec.get("stepId");
+                JsonValue duration = rec.get("duration");
+                if (stepId != null && duration instanceof JsonInteger) {
+                    durations.put(stepId.value(), ((JsonInteger) duration).longValue());
+                }
+            }
+            return durations;
+        } catch (IOException | RuntimeException e) {
+            LOG.debugf(e, "Unable to read the build step durations from %s", file);
+            return null;
+        }
+    }
+
     public void dumpTo(Path file) throws IOException {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
 
@@ -93,6 +271,7 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             recObject.put("thread", rec.thread);
             recObject.put("started", rec.started.format(formatter));
             recObject.put("duration", rec.duration);
+            recObject.put("waitTime", rec.waitTime);
             JsonArrayBuilder dependentsArray = Json.array();
             for (StepInfo dependent : rec.stepInfo.getDependents()) {
                 BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
@@ -126,6 +305,15 @@ public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
         }
         json.put("itemsCount", itemsCount);
 
+        JsonArrayBuilder criticalPath = Json.array();
+        long criticalPathNanos = 0;
+        for (BuildStepRecord rec : getCriticalPath()) {
+            criticalPath.add(rec.id);
+            criticalPathNanos += rec.durationNanos;
+        }
+        json.put("criticalPath", criticalPath);
+        json.put("criticalPathDuration", TimeUnit.NANOSECONDS.toMillis(criticalPathNanos));
+
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
             json.appendTo(writer);
         }
@@ -155,12 +343,26 @@ public static class BuildStepRecord {
          */
         public final long duration;
 
-        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        /**
+         * The time in ms the build step waited for a thread after all its dependencies finished.
+         */
+        public final long waitTime;
+
+        final long startOffsetNanos;
+        final long durationNanos;
+        final long waitNanos;
+
+        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long startOffsetNanos,
+                long durationNanos, long waitNanos) {
             this.id = id;
             this.stepInfo = stepInfo;
             this.thread = thread;
             this.started = started;
-            this.duration = duration;
+            this.startOffsetNanos = startOffsetNanos;
+            this.durationNanos = durationNanos;
+            this.waitNanos = waitNanos;
+            this.duration = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            this.waitTime = TimeUnit.NANOSECONDS.toMillis(waitNanos);
         }
 
     }
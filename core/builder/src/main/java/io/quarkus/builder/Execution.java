@@ -6,9 +6,13 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -40,6 +44,10 @@ final class Execution {
 
     private final BuildMetrics metrics;
 
+    // only used if the step durations are estimated
+    private final Map<StepInfo, Long> priorities;
+    private final PriorityBlockingQueue<BuildContext> readySteps;
+
     static {
         try {
             Class.forName("org.jboss.threads.EnhancedQueueExecutor$1", false, Execution.class.getClassLoader());
@@ -66,6 +74,38 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+
+        Map<String, Long> estimates = builder.getStepDurationEstimates();
+        if (estimates != null) {
+            priorities = new HashMap<>();
+            for (StepInfo startStep : chain.getStartSteps()) {
+                computePriority(startStep, estimates);
+            }
+            readySteps = new PriorityBlockingQueue<>(64,
+                    Comparator.comparingLong(BuildContext::getPriority).reversed());
+        } else {
+            priorities = null;
+            readySteps = null;
+        }
+    }
+
+    /**
+     * The priority of a step is the estimated duration of the longest path from the step to the end of the build.
+     * Every step counts as at least one millisecond, so that the longer chains of unknown or very fast steps are
+     * preferred as well.
+     */
+    private long computePriority(StepInfo stepInfo, Map<String, Long> estimates) {
+        Long priority = priorities.get(stepInfo);
+        if (priority == null) {
+            long longestDependent = 0;
+            for (StepInfo dependent : stepInfo.getDependents()) {
+                longestDependent = max(longestDependent, computePriority(dependent, estimates));
+            }
+            Long estimate = estimates.get(stepInfo.getBuildStep().getId());
+            priority = longestDependent + (estimate == null ? 1 : max(1, estimate));
+            priorities.put(stepInfo, priority);
+        }
+        return priority;
     }
 
     List<Diagnostic> getDiagnostics() {
@@ -73,7 +113,8 @@ List<Diagnostic> getDiagnostics() {
     }
 
     BuildContext getBuildContext(StepInfo stepInfo) {
-        return contextCache.computeIfAbsent(stepInfo, si -> new BuildContext(chain.getClassLoader(), si, this));
+        return contextCache.computeIfAbsent(stepInfo, si -> new BuildContext(chain.getClassLoader(), si, this,
+                priorities == null ? 0 : priorities.getOrDefault(si, 0L)));
     }
 
     void removeBuildContext(StepInfo stepInfo, BuildContext buildContext) {
@@ -88,7 +129,7 @@ BuildResult run() throws BuildException {
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -137,6 +178,24 @@ BuildResult run() throws BuildException {
                 duration, metrics);
     }
 
+    void schedule(BuildContext buildContext) {
+        buildContext.ready();
+        if (readySteps == null) {
+            executor.execute(buildContext::run);
+        } else {
+            // each task runs the ready step with the highest priority, which is not necessarily this one
+            readySteps.add(buildContext);
+            executor.execute(this::runNext);
+        }
+    }
+
+    private void runNext() {
+        final BuildContext buildContext = readySteps.poll();
+        if (buildContext != null) {
+            buildContext.run();
+        }
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
@@ -0,0 +1,115 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildMetricsTest {
+
+    public static final class FirstItem extends SimpleBuildItem {
+    }
+
+    public static final class SecondItem extends SimpleBuildItem {
+    }
+
+    public static final class OtherItem extends SimpleBuildItem {
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCriticalPath() throws Exception {
+        BuildResult result = buildChain().createExecutionBuilder("my-app.jar").execute();
+        BuildMetrics metrics = result.getMetrics();
+
+        List<String> criticalPath = metrics.getCriticalPath().stream()
+                .map(rec -> rec.stepInfo.getBuildStep().getId())
+                .collect(Collectors.toList());
+        assertEquals(List.of("first", "second"), criticalPath);
+        assertTrue(metrics.getCriticalPathSummary(10).contains("2 build steps"));
+
+        Path trace = tempDir.resolve("build-trace.json");
+        metrics.dumpTraceTo(trace);
+        String traceContent = Files.readString(trace);
+        assertTrue(traceContent.contains("\"traceEvents\""));
+        assertTrue(traceContent.contains("critical-path"));
+    }
+
+    @Test
+    public void testStepDurationEstimates() throws Exception {
+        Path metricsFile = tempDir.resolve("build-metrics.json");
+        buildChain().createExecutionBuilder("my-app.jar").execute().getMetrics().dumpTo(metricsFile);
+
+        Map<String, Long> durations = BuildMetrics.readStepDurations(metricsFile);
+        assertNotNull(durations);
+        assertEquals(3, durations.size());
+        assertTrue(durations.get("first") >= 50);
+
+        BuildResult result = buildChain().createExecutionBuilder("my-app.jar")
+                .setStepDurationEstimates(durations)
+                .execute();
+        assertNotNull(result.consume(SecondItem.class));
+        assertNotNull(result.consume(OtherItem.class));
+    }
+
+    @Test
+    public void testMissingMetrics() throws IOException {
+        assertEquals(null, BuildMetrics.readStepDurations(tempDir.resolve("missing.json")));
+        Path invalid = tempDir.resolve("invalid.json");
+        Files.writeString(invalid, "{\"records\": [");
+        assertEquals(null, BuildMetrics.readStepDurations(invalid));
+    }
+
+    private static BuildChain buildChain() throws ChainBuildException {
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(step("first", 50, context -> context.produce(new FirstItem())))
+                .produces(FirstItem.class)
+                .build();
+        builder.addBuildStep(step("second", 50, context -> {
+            assertNotNull(context.consume(FirstItem.class));
+            context.produce(new SecondItem());
+        }))
+                .consumes(FirstItem.class)
+                .produces(SecondItem.class)
+                .build();
+        builder.addBuildStep(step("other", 10, context -> context.produce(new OtherItem())))
+                .produces(OtherItem.class)
+                .build();
+        builder.addFinal(SecondItem.class);
+        builder.addFinal(OtherItem.class);
+        return builder.build();
+    }
+
+    private static BuildStep step(String id, long sleep, Consumer<BuildContext> action) {
+        return new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                action.accept(context);
+            }
+
+            @Override
+            public String getId() {
+                return id;
+            }
+        };
+    }
+}
@@ -47,4 +47,23 @@ public interface DebugConfig {
      */
     @WithDefault("false")
     boolean dumpBuildMetrics();
+
+    /**
+     * If set to true then dump the build metrics and a trace of the build steps in the Chrome trace event format to the
+     * build directory, and log the build steps on the critical path of the build.
+     * <p>
+     * The trace can be opened in {@code chrome://tracing} or Perfetto.
+     */
+    @WithDefault("false")
+    boolean buildProfile();
+
+    /**
+     * If set to true and the build metrics of a previous build exist in the build directory, the build steps that are
+     * ready to run are executed in the order of the longest estimated path to the end of the build, so that the steps on
+     * the critical path are not delayed.
+     * <p>
+     * The build metrics are written in dev mode, or when {@code dump-build-metrics} or {@code build-profile} is enabled.
+     */
+    @WithDefault("false")
+    boolean prioritizeCriticalPath();
 }
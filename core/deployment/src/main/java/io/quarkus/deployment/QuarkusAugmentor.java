@@ -21,6 +21,7 @@
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
@@ -43,6 +44,8 @@
 public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
+    private static final String BUILD_METRICS_FILE = "build-metrics.json";
+    private static final String BUILD_TRACE_FILE = "build-trace.json";
 
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
@@ -158,22 +161,32 @@ public BuildResult run() throws Exception {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            Path buildMetricsFile = targetDir.resolve(BUILD_METRICS_FILE);
+            if (Boolean.parseBoolean(System.getProperty("quarkus.debug.prioritize-critical-path"))) {
+                // the metrics of the previous build are dumped in dev mode or if requested
+                execBuilder.setStepDurationEstimates(BuildMetrics.readStepDurations(buildMetricsFile));
+            }
             BuildResult buildResult = execBuilder.execute();
             String message = "Quarkus augmentation completed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
                     + "ms";
+            boolean buildProfile = Boolean.parseBoolean(System.getProperty("quarkus.debug.build-profile"));
+            boolean dumpBuildMetrics = buildProfile;
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
-                if (Boolean.parseBoolean(System.getProperty("quarkus.debug.dump-build-metrics"))) {
-                    buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
-                }
+                dumpBuildMetrics |= Boolean.parseBoolean(System.getProperty("quarkus.debug.dump-build-metrics"));
             } else {
                 //test and dev mode already report the total startup time, no need to add noise to the logs
                 log.debug(message);
 
                 // Dump the metrics in the dev mode but not remote-dev (as it could cause issues with container permissions)
-                if ((launchMode == LaunchMode.DEVELOPMENT) && !LaunchMode.isRemoteDev()) {
-                    buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
-                }
+                dumpBuildMetrics |= (launchMode == LaunchMode.DEVELOPMENT) && !LaunchMode.isRemoteDev();
+            }
+            if (dumpBuildMetrics) {
+                buildResult.getMetrics().dumpTo(buildMetricsFile);
+            }
+            if (buildProfile) {
+                buildResult.getMetrics().dumpTraceTo(targetDir.resolve(BUILD_TRACE_FILE));
+                log.info(buildResult.getMetrics().getCriticalPathSummary(10));
             }
             return buildResult;
         } finally {
@@ -0,0 +1,24 @@
+package io.quarkus.deployment.buildcache;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build cache
+ */
+@ConfigMapping(prefix = "quarkus.build-cache")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface BuildCacheConfig {
+
+    /**
+     * Whether the results of the build steps that support it are stored in the {@code quarkus-build-cache} directory
+     * of the build output directory, and reused by subsequent production and test builds when their inputs did not change.
+     * <p>
+     * Currently, this applies to the bytecode transformations that declare a cache key, such as the Hibernate ORM
+     * entity enhancement.
+     */
+    @WithDefault("false")
+    boolean enabled();
+}
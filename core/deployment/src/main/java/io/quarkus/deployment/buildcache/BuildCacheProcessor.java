@@ -0,0 +1,24 @@
+package io.quarkus.deployment.buildcache;
+
+import io.quarkus.builder.Version;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+import io.quarkus.runtime.LaunchMode;
+
+public class BuildCacheProcessor {
+
+    static final String BUILD_CACHE_DIR = "quarkus-build-cache";
+
+    @BuildStep
+    BuildCacheBuildItem buildCache(BuildCacheConfig config, LaunchModeBuildItem launchMode,
+            BuildSystemTargetBuildItem buildSystemTarget) {
+        // dev mode keeps the results of unchanged classes in memory
+        if (!config.enabled() || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            return new BuildCacheBuildItem(null);
+        }
+        return new BuildCacheBuildItem(buildSystemTarget.getOutputDirectory().resolve(BUILD_CACHE_DIR)
+                .resolve(Version.getVersion()));
+    }
+}
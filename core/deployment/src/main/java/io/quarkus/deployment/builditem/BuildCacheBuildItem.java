@@ -0,0 +1,108 @@
+package io.quarkus.deployment.builditem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * A persistent cache of build results that is reused by subsequent builds of the application, stored in the
+ * {@code quarkus-build-cache} directory of the build output directory.
+ * <p>
+ * An entry must only depend on its key, which is typically a hash of everything the cached result was computed from,
+ * such as the bytecode of the application classes involved. The entries are scoped by the Quarkus version.
+ * <p>
+ * If the cache is disabled, {@link #get(String, String)} always returns {@code null} and
+ * {@link #put(String, String, byte[])} does nothing.
+ *
+ * @see io.quarkus.deployment.buildcache.BuildCacheConfig
+ */
+public final class BuildCacheBuildItem extends SimpleBuildItem {
+
+    private static final Logger log = Logger.getLogger(BuildCacheBuildItem.class);
+
+    private final Path directory;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * @param directory the cache directory, or {@code null} if the cache is disabled
+     */
+    public BuildCacheBuildItem(Path directory) {
+        this.directory = directory;
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @param namespace the namespace of the entry, usually identifying the kind of build result
+     * @param key the key of the entry
+     * @return the cached data, or {@code null} if no entry exists
+     */
+    public byte[] get(String namespace, String key) {
+        if (directory == null) {
+            return null;
+        }
+        try {
+            byte[] data = Files.readAllBytes(entryPath(namespace, key));
+            hits.incrementAndGet();
+            return data;
+        } catch (NoSuchFileException e) {
+            misses.incrementAndGet();
+            return null;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the build cache entry %s/%s", namespace, key);
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given data. Failures to write the entry are ignored, as the data can always be recomputed.
+     *
+     * @param namespace the namespace of the entry, usually identifying the kind of build result
+     * @param key the key of the entry
+     * @param data the data
+     */
+    public void put(String namespace, String key, byte[] data) {
+        if (directory == null) {
+            return;
+        }
+        Path entry = entryPath(namespace, key);
+        try {
+            Files.createDirectories(entry.getParent());
+            // concurrent builds may write the same entry, so the entry is only made visible once complete
+            Path tmp = Files.createTempFile(entry.getParent(), key, ".tmp");
+            Files.write(tmp, data);
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write the build cache entry %s/%s", namespace, key);
+        }
+    }
+
+    /**
+     * @return the number of entries found in the cache
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of entries not found in the cache
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private Path entryPath(String namespace, String key) {
+        return directory.resolve(namespace).resolve(key);
+    }
+}
@@ -48,6 +48,8 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
 
     final int priority;
 
+    final String cacheKey;
+
     public BytecodeTransformerBuildItem(String classToTransform,
             BiFunction<String, ClassVisitor, ClassVisitor> visitorFunction) {
         this(classToTransform, visitorFunction, null);
@@ -85,6 +87,7 @@ public BytecodeTransformerBuildItem(boolean eager, String classToTransform,
         this.classReaderOptions = 0;
         this.continueOnFailure = false;
         this.priority = 0;
+        this.cacheKey = null;
     }
 
     public BytecodeTransformerBuildItem(Builder builder) {
@@ -96,6 +99,7 @@ public BytecodeTransformerBuildItem(Builder builder) {
         this.classReaderOptions = builder.classReaderOptions;
         this.continueOnFailure = builder.continueOnFailure;
         this.priority = builder.priority;
+        this.cacheKey = builder.cacheKey;
         if (visitorFunction == null && inputTransformer == null) {
             throw new IllegalArgumentException("One of either visitorFunction or inputTransformer must be set");
         }
@@ -156,6 +160,22 @@ public int getPriority() {
         return priority;
     }
 
+    /**
+     * A transformer with a cache key declares that the result of the transformation only depends on the original
+     * bytecode of the class and on this key. If all the transformers of a class declare a cache key, the transformed
+     * class is stored in the build cache, and reused by subsequent builds as long as neither the original bytecode nor
+     * the keys change.
+     * <p>
+     * The key must therefore reflect everything else the transformation depends on, for example the configuration or
+     * the bytecode of the related classes.
+     *
+     * @return the cache key, or {@code null} if the transformed class cannot be cached across builds
+     * @see BuildCacheBuildItem
+     */
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
     public static class Builder {
         public BiFunction<String, byte[], byte[]> inputTransformer;
         public boolean continueOnFailure;
@@ -165,6 +185,7 @@ public static class Builder {
         private boolean cacheable = false;
         private int classReaderOptions = 0;
         private int priority = 0;
+        private String cacheKey;
 
         public Builder setContinueOnFailure(boolean continueOnFailure) {
             this.continueOnFailure = continueOnFailure;
@@ -211,6 +232,14 @@ public Builder setPriority(int priority) {
             return this;
         }
 
+        /**
+         * @see BytecodeTransformerBuildItem#getCacheKey()
+         */
+        public Builder setCacheKey(String cacheKey) {
+            this.cacheKey = cacheKey;
+            return this;
+        }
+
         public BytecodeTransformerBuildItem build() {
             return new BytecodeTransformerBuildItem(this);
         }
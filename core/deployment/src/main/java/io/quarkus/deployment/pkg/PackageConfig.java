@@ -211,6 +211,19 @@ interface AppcdsConfig {
             boolean useAot();
         }
 
+        /**
+         * Whether the class path of a {@code fast-jar} or {@code mutable-jar} should also be written to a single
+         * memory mapped archive, holding the uncompressed resources of all the jars along with a pre-computed index.
+         * <p>
+         * When enabled, the production class loader defines classes straight from the mapped archive instead of
+         * opening and decompressing the jars, which reduces the startup time of applications with many dependencies
+         * at the expense of a bigger distribution.
+         * <p>
+         * The archive cannot be larger than 2GB.
+         */
+        @WithDefault("false")
+        boolean mappedArchive();
+
         /**
          * This is an advanced option that only takes effect for development mode.
          * <p>
@@ -50,6 +50,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.model.MutableJarApplicationModel;
+import io.quarkus.bootstrap.runner.MappedArchive;
 import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
@@ -147,6 +148,8 @@ public boolean test(String path) {
 
     public static final String TRANSFORMED_BYTECODE_JAR = "transformed-bytecode.jar";
 
+    public static final String MAPPED_APPLICATION_ARCHIVE = "quarkus-application.qar";
+
     public static final String APP = "app";
 
     public static final String QUARKUS = "quarkus";
@@ -765,8 +768,13 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             Collections.sort(sortedParentFirst);
             List<String> sortedNonExistentResources = new ArrayList<>(nonExistentResources);
             Collections.sort(sortedNonExistentResources);
+            Path mappedArchive = null;
+            if (packageConfig.jar().mappedArchive()) {
+                mappedArchive = quarkus.resolve(MAPPED_APPLICATION_ARCHIVE);
+                MappedArchive.write(mappedArchive, allJars);
+            }
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
-                    sortedNonExistentResources);
+                    sortedNonExistentResources, mappedArchive);
         }
 
         runnerJar.toFile().setReadable(true, false);
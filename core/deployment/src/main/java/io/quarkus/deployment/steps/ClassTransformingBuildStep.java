@@ -25,6 +25,7 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
@@ -41,6 +42,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CuratedApplicationShutdownBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
@@ -55,11 +57,14 @@
 import io.quarkus.maven.dependency.GACT;
 import io.quarkus.maven.dependency.ResolvedDependency;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.util.HashUtil;
 
 public class ClassTransformingBuildStep {
 
     private static final Logger log = Logger.getLogger(ClassTransformingBuildStep.class);
 
+    private static final String TRANSFORMED_CLASSES_CACHE = "transformed-classes";
+
     /**
      * Cache used for dev mode to save the result for classes that have not changed.
      */
@@ -86,7 +91,7 @@ TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBu
             CurateOutcomeBuildItem curateOutcomeBuildItem, List<RemovedResourceBuildItem> removedResourceBuildItems,
             ArchiveRootBuildItem archiveRoot, LaunchModeBuildItem launchMode, PackageConfig packageConfig,
             ExecutorService buildExecutor,
-            CuratedApplicationShutdownBuildItem shutdown)
+            CuratedApplicationShutdownBuildItem shutdown, BuildCacheBuildItem buildCache)
             throws ExecutionException, InterruptedException {
         if (bytecodeTransformerBuildItems.isEmpty() && classLoadingConfig.removedResources().isEmpty()
                 && removedResourceBuildItems.isEmpty()) {
@@ -221,6 +226,7 @@ public byte[] apply(String className, byte[] originalBytes) {
                         .map(BytecodeTransformerBuildItem::getInputTransformer)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList());
+                String cacheKeys = buildCache.isEnabled() ? cacheKeys(className, entry.getValue()) : null;
                 transformedToArchive.put(classFileName, jar);
                 transformed.add(buildExecutor.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
                     @Override
@@ -235,8 +241,9 @@ public TransformedClassesBuildItem.TransformedClass call() throws Exception {
                                     return null;
                                 }
                             }
-                            byte[] data = transformClass(className, visitors, classData, preVisitFunctions,
-                                    classReaderOptions.getOrDefault(className, 0));
+                            byte[] data = transformOrReplay(buildCache, cacheKeys, classData,
+                                    () -> transformClass(className, visitors, classData, preVisitFunctions,
+                                            classReaderOptions.getOrDefault(className, 0)));
                             TransformedClassesBuildItem.TransformedClass transformedClass = new TransformedClassesBuildItem.TransformedClass(
                                     className, data,
                                     classFileName);
@@ -276,6 +283,10 @@ public TransformedClassesBuildItem.TransformedClass call() throws Exception {
                 }
             }
         }
+        if (buildCache.isEnabled()) {
+            log.debugf("Reused %d transformed classes from the build cache, %d were not cached", buildCache.getHits(),
+                    buildCache.getMisses());
+        }
 
         if (packageConfig.writeTransformedBytecodeToBuildOutput() && (launchMode.getLaunchMode() == LaunchMode.NORMAL)) {
             // the idea here is to write the transformed classes into the build tool's output directory to make core coverage work
@@ -344,6 +355,49 @@ private void handleRemovedResources(ClassLoadingConfig classLoadingConfig, Curat
         }
     }
 
+    /**
+     * @param className the name of the transformed class
+     * @param transformers the transformers of the class
+     * @return the class name and the cache keys of its transformers, or {@code null} if one of them does not declare a
+     *         cache key and the transformation cannot be stored in the build cache
+     */
+    public static String cacheKeys(String className, List<BytecodeTransformerBuildItem> transformers) {
+        for (BytecodeTransformerBuildItem transformer : transformers) {
+            if (transformer.getCacheKey() == null) {
+                return null;
+            }
+        }
+        return transformers.stream()
+                .sorted(Comparator.comparingInt(BytecodeTransformerBuildItem::getPriority))
+                .map(BytecodeTransformerBuildItem::getCacheKey)
+                .collect(Collectors.joining("\n", className + "\n", "\n"));
+    }
+
+    /**
+     * Replays the transformation stored in the build cache for the given transformer cache keys and original bytecode,
+     * or performs the transformation and stores its result.
+     *
+     * @param cacheKeys the class name and the cache keys of its transformers, or {@code null} if the transformation cannot
+     *        be cached
+     * @see #cacheKeys(String, List)
+     */
+    public static byte[] transformOrReplay(BuildCacheBuildItem buildCache, String cacheKeys, byte[] classData,
+            Supplier<byte[]> transformation) {
+        String persistentKey = null;
+        if (cacheKeys != null) {
+            persistentKey = HashUtil.sha256(cacheKeys + HashUtil.sha256(classData));
+            byte[] data = buildCache.get(TRANSFORMED_CLASSES_CACHE, persistentKey);
+            if (data != null) {
+                return data;
+            }
+        }
+        byte[] data = transformation.get();
+        if (persistentKey != null && data != null) {
+            buildCache.put(TRANSFORMED_CLASSES_CACHE, persistentKey, data);
+        }
+        return data;
+    }
+
     private byte[] transformClass(String className, List<BiFunction<String, ClassVisitor, ClassVisitor>> visitors,
             byte[] classData, List<BiFunction<String, byte[], byte[]>> preVisitFunctions, int classReaderOptions) {
         for (BiFunction<String, byte[], byte[]> i : preVisitFunctions) {
@@ -0,0 +1,44 @@
+package io.quarkus.deployment.builditem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BuildCacheBuildItemTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPutAndGet() {
+        BuildCacheBuildItem cache = new BuildCacheBuildItem(tempDir.resolve("cache"));
+        assertTrue(cache.isEnabled());
+        assertNull(cache.get("classes", "abc"));
+
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        cache.put("classes", "abc", data);
+        assertArrayEquals(data, cache.get("classes", "abc"));
+        assertNull(cache.get("other", "abc"));
+
+        // entries are shared by subsequent builds
+        assertArrayEquals(data, new BuildCacheBuildItem(tempDir.resolve("cache")).get("classes", "abc"));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void testDisabled() {
+        BuildCacheBuildItem cache = new BuildCacheBuildItem(null);
+        assertFalse(cache.isEnabled());
+        cache.put("classes", "abc", new byte[] { 1 });
+        assertNull(cache.get("classes", "abc"));
+    }
+}
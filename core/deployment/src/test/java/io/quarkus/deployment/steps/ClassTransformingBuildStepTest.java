@@ -0,0 +1,67 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+
+class ClassTransformingBuildStepTest {
+
+    private static final byte[] ORIGINAL = "original".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRANSFORMED = "transformed".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReplayCachedTransformation() {
+        AtomicInteger transformations = new AtomicInteger();
+        Supplier<byte[]> transformation = () -> {
+            transformations.incrementAndGet();
+            return TRANSFORMED;
+        };
+        assertArrayEquals(TRANSFORMED, ClassTransformingBuildStep.transformOrReplay(cache(), "org.acme.Foo\nkey\n",
+                ORIGINAL, transformation));
+        assertEquals(1, transformations.get());
+
+        // the next build replays the stored bytecode
+        BuildCacheBuildItem nextBuild = cache();
+        assertArrayEquals(TRANSFORMED, ClassTransformingBuildStep.transformOrReplay(nextBuild, "org.acme.Foo\nkey\n",
+                ORIGINAL, transformation));
+        assertEquals(1, transformations.get());
+        assertEquals(1, nextBuild.getHits());
+    }
+
+    @Test
+    void testChangedInputsAreTransformedAgain() {
+        AtomicInteger transformations = new AtomicInteger();
+        Supplier<byte[]> transformation = () -> {
+            transformations.incrementAndGet();
+            return TRANSFORMED;
+        };
+        ClassTransformingBuildStep.transformOrReplay(cache(), "org.acme.Foo\nkey\n", ORIGINAL, transformation);
+
+        // another transformer key
+        ClassTransformingBuildStep.transformOrReplay(cache(), "org.acme.Foo\nother-key\n", ORIGINAL, transformation);
+        assertEquals(2, transformations.get());
+        // another original bytecode
+        ClassTransformingBuildStep.transformOrReplay(cache(), "org.acme.Foo\nkey\n",
+                "modified".getBytes(StandardCharsets.UTF_8), transformation);
+        assertEquals(3, transformations.get());
+        // no key, the transformation is not cacheable
+        ClassTransformingBuildStep.transformOrReplay(cache(), null, ORIGINAL, transformation);
+        assertEquals(4, transformations.get());
+    }
+
+    private BuildCacheBuildItem cache() {
+        return new BuildCacheBuildItem(tempDir.resolve("cache"));
+    }
+}
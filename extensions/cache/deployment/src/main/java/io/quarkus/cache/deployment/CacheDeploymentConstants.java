@@ -1,7 +1,11 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
 
@@ -15,6 +19,7 @@
 import io.quarkus.cache.runtime.CacheKeyParameterPositions;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 public class CacheDeploymentConstants {
 
@@ -40,6 +45,13 @@ public class CacheDeploymentConstants {
 
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
+    public static final DotName UNI = dotName(Uni.class);
+
+    // Bulk @CacheResult methods.
+    public static final List<DotName> BULK_KEYS_TYPES = Arrays.asList(dotName(Set.class), dotName(Collection.class),
+            dotName(Iterable.class));
+    public static final DotName MAP = dotName(Map.class);
+    public static final DotName COMPLETION_STAGE = dotName(CompletionStage.class);
 
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
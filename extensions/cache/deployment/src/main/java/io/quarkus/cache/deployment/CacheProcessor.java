@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,11 +9,14 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +52,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BulkMethodTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -207,6 +212,10 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                    AnnotationValue bulk = binding.value("bulk");
+                    if (bulk != null && bulk.asBoolean()) {
+                        throwables.addAll(validateBulkMethod(binding, methodInfo));
+                    }
                 }
                 break;
             default:
@@ -216,6 +225,38 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateBulkMethod(AnnotationInstance binding, MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        if (binding.value("keyGenerator") != null) {
+            throwables.add(new BulkMethodTargetException(methodInfo, "a cache key generator cannot be used"));
+        }
+        short[] cacheKeyParameterPositions = getCacheKeyParameterPositions(methodInfo);
+        Type keysType = null;
+        if (cacheKeyParameterPositions.length == 1) {
+            keysType = methodInfo.parameterType(cacheKeyParameterPositions[0]);
+        } else if (cacheKeyParameterPositions.length == 0 && methodInfo.parametersCount() == 1) {
+            keysType = methodInfo.parameterType(0);
+        } else {
+            throwables.add(new BulkMethodTargetException(methodInfo,
+                    "the keys must be the only argument or the only argument annotated with @CacheKey"));
+        }
+        if (keysType != null && !BULK_KEYS_TYPES.contains(keysType.name())) {
+            throwables.add(new BulkMethodTargetException(methodInfo,
+                    "the keys argument must be declared as a Set, a Collection or an Iterable"));
+        }
+        Type returnType = methodInfo.returnType();
+        boolean returnsMap = MAP.equals(returnType.name());
+        if ((UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name()))
+                && returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            returnsMap = MAP.equals(returnType.asParameterizedType().arguments().get(0).name());
+        }
+        if (!returnsMap) {
+            throwables.add(new BulkMethodTargetException(methodInfo,
+                    "the method must return a Map, or a Uni or a CompletionStage emitting a Map"));
+        }
+        return throwables;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
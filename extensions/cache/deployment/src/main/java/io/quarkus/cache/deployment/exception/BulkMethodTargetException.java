@@ -0,0 +1,24 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResult @CacheResult(bulk = true)} does not declare a collection of keys as cache key argument
+ * or does not return a map of values.
+ */
+@SuppressWarnings("serial")
+public class BulkMethodTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public BulkMethodTargetException(MethodInfo methodInfo, String reason) {
+        super("@CacheResult(bulk = true) is not allowed on this method: " + reason + " [class="
+                + methodInfo.declaringClass().name() + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
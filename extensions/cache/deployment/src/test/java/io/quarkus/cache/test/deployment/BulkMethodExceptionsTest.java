@@ -0,0 +1,73 @@
+package io.quarkus.cache.test.deployment;
+
+import static java.util.Arrays.stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BulkMethodTargetException;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class tests the validation of the methods annotated with {@code @CacheResult(bulk = true)}.
+ */
+public class BulkMethodExceptionsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(TestBean.class))
+            .assertException(t -> {
+                assertEquals(DeploymentException.class, t.getClass());
+                assertEquals(3, t.getSuppressed().length);
+                assertBulkMethodTargetException(t, "shouldThrowBecauseOfTheKeysType");
+                assertBulkMethodTargetException(t, "shouldThrowBecauseOfTheReturnType");
+                assertBulkMethodTargetException(t, "shouldThrowBecauseOfTheAmbiguousKeys");
+            });
+
+    private static void assertBulkMethodTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, stream(t.getSuppressed()).filter(BulkMethodTargetException.class::isInstance)
+                .map(BulkMethodTargetException.class::cast)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
+    @Test
+    public void shouldNotBeInvoked() {
+        fail("This method should not be invoked");
+    }
+
+    @ApplicationScoped
+    static class TestBean {
+
+        @CacheResult(cacheName = "bulk-cache", bulk = true)
+        public Map<String, String> shouldThrowBecauseOfTheKeysType(List<String> keys) {
+            return Map.of();
+        }
+
+        @CacheResult(cacheName = "bulk-cache", bulk = true)
+        public Uni<String> shouldThrowBecauseOfTheReturnType(Set<String> keys) {
+            return Uni.createFrom().nullItem();
+        }
+
+        @CacheResult(cacheName = "bulk-cache", bulk = true)
+        public Map<String, String> shouldThrowBecauseOfTheAmbiguousKeys(Set<String> keys, String locale) {
+            return Map.of();
+        }
+
+        @CacheResult(cacheName = "bulk-cache", bulk = true)
+        public Map<String, String> shouldNotThrow(@CacheKey Set<String> keys, String locale) {
+            return Map.of();
+        }
+    }
+}
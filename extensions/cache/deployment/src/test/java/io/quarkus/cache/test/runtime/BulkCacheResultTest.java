@@ -0,0 +1,178 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the bulk retrieval of cache values with {@link Cache#getAll(Set, Function)} and
+ * {@link CacheResult#bulk() @CacheResult(bulk = true)}.
+ */
+public class BulkCacheResultTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testAnnotation() {
+        assertEquals(Map.of("1", "value-1", "2", "value-2"), cachedService.prices(Set.of("1", "2")));
+        assertEquals(List.of(Set.of("1", "2")), cachedService.getInvocations());
+
+        // Only the missing key is loaded.
+        assertEquals(Map.of("1", "value-1", "3", "value-3"), cachedService.prices(Set.of("1", "3")));
+        assertEquals(List.of(Set.of("1", "2"), Set.of("3")), cachedService.getInvocations());
+
+        // All the keys are cached, the method is not invoked.
+        assertEquals(Map.of("2", "value-2", "3", "value-3"), cachedService.prices(Set.of("2", "3")));
+        assertEquals(2, cachedService.getInvocations().size());
+
+        // The async variant shares the same cache.
+        assertEquals(Map.of("1", "value-1", "4", "value-4"),
+                cachedService.asyncPrices(Set.of("1", "4")).await().indefinitely());
+        assertEquals(List.of(Set.of("1", "2"), Set.of("3"), Set.of("4")), cachedService.getInvocations());
+    }
+
+    @Test
+    public void testKeysMissingFromTheLoadedValuesAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        Function<Set<String>, Map<String, String>> loader = keys -> {
+            loads.incrementAndGet();
+            return Map.of("a", "value-a");
+        };
+
+        assertEquals(Map.of("a", "value-a"), cache.getAll(Set.of("a", "b"), loader).await().indefinitely());
+        assertEquals(Map.of("a", "value-a"), cache.getAll(Set.of("a", "b"), loader).await().indefinitely());
+        assertEquals(2, loads.get());
+        assertFalse(cache.as(CaffeineCache.class).keySet().contains("b"));
+    }
+
+    @Test
+    public void testConcurrentMissesAreLoadedOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CompletableFuture<Map<String, String>> values = new CompletableFuture<>();
+        Function<Set<String>, Uni<Map<String, String>>> loader = keys -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            return Uni.createFrom().completionStage(values);
+        };
+
+        CompletableFuture<Map<String, String>> first = cache.getAllAsync(Set.of("x", "y"), loader)
+                .subscribeAsCompletionStage();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Map<String, String>> second = cache.getAllAsync(Set.of("x", "y"), loader)
+                .subscribeAsCompletionStage();
+
+        values.complete(Map.of("x", "value-x", "y", "value-y"));
+        assertEquals(Map.of("x", "value-x", "y", "value-y"), first.get(5, TimeUnit.SECONDS));
+        assertEquals(Map.of("x", "value-x", "y", "value-y"), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testFailureOfConcurrentGetIsPropagated() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> failingGet = CompletableFuture.supplyAsync(() -> cache.get("f", key -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Loading failed");
+        }).await().indefinitely());
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // the bulk retrieval waits for the value being loaded by get()
+        CompletableFuture<Map<String, String>> values = cache
+                .getAll(Set.of("f"), keys -> Map.of("f", "value-f"))
+                .subscribeAsCompletionStage();
+        release.countDown();
+
+        ExecutionException getFailure = assertThrows(ExecutionException.class, () -> failingGet.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, getFailure.getCause());
+        ExecutionException getAllFailure = assertThrows(ExecutionException.class, () -> values.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, getAllFailure.getCause());
+        assertEquals("Loading failed", getAllFailure.getCause().getMessage());
+    }
+
+    @Test
+    public void testNullLoadedValues() {
+        NullPointerException nullMap = assertThrows(NullPointerException.class,
+                () -> cache.<String, String> getAll(Set.of("n"), keys -> null).await().indefinitely());
+        assertTrue(nullMap.getMessage().contains(CACHE_NAME), nullMap.getMessage());
+        assertTrue(nullMap.getMessage().contains("returned null"), nullMap.getMessage());
+
+        NullPointerException nullUni = assertThrows(NullPointerException.class,
+                () -> cache.<String, String> getAllAsync(Set.of("n"), keys -> null).await().indefinitely());
+        assertTrue(nullUni.getMessage().contains(CACHE_NAME), nullUni.getMessage());
+
+        NullPointerException nullItem = assertThrows(NullPointerException.class,
+                () -> cache.<String, String> getAllAsync(Set.of("n"), keys -> Uni.createFrom().nullItem())
+                        .await().indefinitely());
+        assertTrue(nullItem.getMessage().contains(CACHE_NAME), nullItem.getMessage());
+
+        assertFalse(cache.as(CaffeineCache.class).keySet().contains("n"));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<Set<String>> invocations = new CopyOnWriteArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Map<String, String> prices(Set<String> ids) {
+            invocations.add(Set.copyOf(ids));
+            Map<String, String> prices = new HashMap<>();
+            for (String id : ids) {
+                prices.put(id, "value-" + id);
+            }
+            return prices;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Uni<Map<String, String>> asyncPrices(Set<String> ids) {
+            return Uni.createFrom().item(() -> prices(ids));
+        }
+
+        public List<Set<String>> getInvocations() {
+            return invocations;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that the entries older than the refresh-after-write duration are reloaded in the background while the stale value is
+ * returned.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "PT0.2S");
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testStaleValueIsReturnedWhileRefreshing() throws Exception {
+        assertEquals("rate-1", cachedService.rate("EUR"));
+        assertEquals("rate-1", cachedService.rate("EUR"));
+        Thread.sleep(300L);
+
+        // The entry is stale: it is returned and the refresh is blocked until released.
+        CompletableFuture<Void> release = cachedService.block();
+        assertEquals("rate-1", cachedService.rate("EUR"));
+        // Only one refresh is triggered per key.
+        assertEquals("rate-1", cachedService.rate("EUR"));
+        release.complete(null);
+
+        await().until(() -> "rate-2".equals(cachedService.rate("EUR")));
+        assertEquals(2, cachedService.getInvocations());
+        // The refresh runs on a worker thread, in a new request context
+        assertTrue(cachedService.getRequestContextActive().get(1));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final List<Boolean> requestContextActive = new CopyOnWriteArrayList<>();
+        private volatile CompletableFuture<Void> blocked = CompletableFuture.completedFuture(null);
+
+        public CompletableFuture<Void> block() {
+            blocked = new CompletableFuture<>();
+            return blocked;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String rate(String currency) {
+            blocked.join();
+            requestContextActive.add(Arc.container().requestContext().isActive());
+            return "rate-" + invocations.incrementAndGet();
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+
+        public List<Boolean> getRequestContextActive() {
+            return requestContextActive;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package io.quarkus.cache;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import io.smallrye.mutiny.Uni;
 
@@ -55,6 +61,83 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from {@code valueLoader} with a single invocation if necessary. The keys that are not present in the map returned
+     * by {@code valueLoader} are not cached and not present in the emitted map.
+     * <p>
+     * The default implementation looks up each key separately and invokes {@code valueLoader} once per missing key.
+     * Implementations should override it to retrieve the cache values in bulk and to coalesce the loads of the keys missed by
+     * concurrent callers.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valueLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if a key is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        return getAllAsync(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                    @Override
+                    public Map<K, V> get() {
+                        return valueLoader.apply(missingKeys);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from {@code valueLoader} with a single invocation if necessary. The keys that are not present in the map emitted
+     * by {@code valueLoader} are not cached and not present in the emitted map.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valueLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if a key is {@code null}
+     * @see #getAll(Set, Function)
+     */
+    default <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        List<K> orderedKeys = new ArrayList<>(keys);
+        List<Uni<V>> values = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            values.add(getAsync(key, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K missingKey) {
+                    return valueLoader.apply(Set.of(missingKey)).map(new Function<Map<K, V>, V>() {
+                        @Override
+                        public V apply(Map<K, V> loaded) {
+                            return loaded.get(missingKey);
+                        }
+                    });
+                }
+            }));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new HashMap<>();
+                for (int i = 0; i < list.size(); i++) {
+                    if (list.get(i) != null) {
+                        result.put(orderedKeys.get(i), list.get(i));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
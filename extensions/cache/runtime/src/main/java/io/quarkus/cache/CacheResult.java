@@ -38,6 +38,11 @@
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * If {@code bulk} is {@code true}, the cache key argument must be a collection of keys and the method must return a
+ * {@link java.util.Map Map} of the values indexed by key, or a {@link io.smallrye.mutiny.Uni Uni} or
+ * {@link java.util.concurrent.CompletionStage CompletionStage} emitting that map. The values are then retrieved from the
+ * cache with a single lookup and the method is only invoked once, with the collection of the keys not found in the cache.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
@@ -68,4 +73,12 @@
      */
     @Nonbinding
     Class<? extends CacheKeyGenerator> keyGenerator() default UndefinedCacheKeyGenerator.class;
+
+    /**
+     * Whether the cache key argument is a collection of keys whose values are loaded in bulk. The cache key argument must be
+     * declared as a {@link java.util.Set Set}, a {@link java.util.Collection Collection} or an {@link Iterable}. A key
+     * generator cannot be used and the {@code lockTimeout} parameter is ignored.
+     */
+    @Nonbinding
+    boolean bulk() default false;
 }
@@ -75,6 +75,15 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The reload is triggered by the first read of the
+             * entry after that duration, and the stale value is returned until the reload completes. Only one reload is
+             * triggered at a time for a given key. The reload of a synchronous method runs in a new request context, and its
+             * failures are logged as warnings.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
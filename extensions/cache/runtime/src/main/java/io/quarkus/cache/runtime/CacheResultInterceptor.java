@@ -1,6 +1,10 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -46,6 +50,9 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (binding.bulk()) {
+            return interceptBulk(invocationContext, interceptionContext.getCacheKeyParameterPositions(), binding, cache);
+        }
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
@@ -133,4 +140,71 @@ public Object apply(Object k) {
         }
     }
 
+    private Object interceptBulk(InvocationContext invocationContext, List<Short> cacheKeyParameterPositions,
+            CacheResult binding, AbstractCache cache) throws Throwable {
+        // The keys argument position is validated at build time.
+        int position = cacheKeyParameterPositions.isEmpty() ? 0 : cacheKeyParameterPositions.get(0);
+        Set<Object> keys = new LinkedHashSet<>();
+        for (Object key : (Iterable<?>) invocationContext.getParameters()[position]) {
+            keys.add(key);
+        }
+        LOGGER.debugf("Loading entries with keys %s from cache [%s]", keys, binding.cacheName());
+
+        try {
+            ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+            if (returnType != ReturnType.NonAsync) {
+                Uni<Map<Object, Object>> cacheValues = cache.getAllAsync(keys,
+                        new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                                try {
+                                    return (Uni<Map<Object, Object>>) asyncInvocationResultToUni(
+                                            proceedWithKeys(invocationContext, position, missingKeys), returnType);
+                                } catch (CacheException e) {
+                                    throw e;
+                                } catch (Exception e) {
+                                    throw new CacheException(e);
+                                }
+                            }
+                        });
+                return createAsyncResult(cacheValues.map(new Function<Map<Object, Object>, Object>() {
+                    @Override
+                    public Object apply(Map<Object, Object> values) {
+                        return values;
+                    }
+                }), returnType);
+            } else {
+                return cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Map<Object, Object> apply(Set<Object> missingKeys) {
+                        try {
+                            LOGGER.debugf("Adding entries with keys %s into cache [%s]", missingKeys, binding.cacheName());
+                            return (Map<Object, Object>) proceedWithKeys(invocationContext, position, missingKeys);
+                        } catch (CacheException e) {
+                            throw e;
+                        } catch (Throwable e) {
+                            throw new CacheException(e);
+                        }
+                    }
+                }).await().indefinitely();
+            }
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private static Object proceedWithKeys(InvocationContext invocationContext, int position, Set<Object> keys)
+            throws Exception {
+        Object[] parameters = invocationContext.getParameters().clone();
+        parameters[position] = keys;
+        invocationContext.setParameters(parameters);
+        return invocationContext.proceed();
+    }
+
 }
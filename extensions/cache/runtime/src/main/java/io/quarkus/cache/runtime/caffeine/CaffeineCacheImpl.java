@@ -1,12 +1,18 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -17,13 +23,19 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.runtime.ExecutorRecorder;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
@@ -44,6 +56,9 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    // the time (System.nanoTime()) after which each entry is refreshed, null if refresh-after-write is not configured
+    private final Map<Object, Long> refreshTimes;
+    private final Set<Object> refreshing;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -60,6 +75,21 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            Map<Object, Long> times = new ConcurrentHashMap<>();
+            // The eviction listener is invoked atomically with the eviction, unlike the removal listener.
+            builder.evictionListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    times.remove(key);
+                }
+            });
+            refreshTimes = times;
+            refreshing = ConcurrentHashMap.newKeySet();
+        } else {
+            refreshTimes = null;
+            refreshing = null;
+        }
         this.recordStats = recordStats;
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
@@ -109,6 +139,18 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                         StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
+                        if (refreshTimes != null) {
+                            CompletableFuture<Object> existingCacheValue = cache.getIfPresent(key);
+                            if (existingCacheValue != null) {
+                                refreshIfNeeded(key, existingCacheValue, new Function<Object, Uni<Object>>() {
+                                    @SuppressWarnings("unchecked")
+                                    @Override
+                                    public Uni<Object> apply(Object key) {
+                                        return (Uni<Object>) valueLoader.apply((K) key);
+                                    }
+                                });
+                            }
+                        }
                         @SuppressWarnings("unchecked")
                         CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
                                 new Function<Object, CompletableFuture<Object>>() {
@@ -117,6 +159,12 @@ public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
                                         return valueLoader.apply((K) key)
                                                 .map(TO_CACHE_VALUE)
+                                                .invoke(new Runnable() {
+                                                    @Override
+                                                    public void run() {
+                                                        recordWrite(key);
+                                                    }
+                                                })
                                                 .subscribeAsCompletionStage();
                                     }
                                 });
@@ -125,49 +173,160 @@ public CompletableFuture<Object> apply(Object key) {
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
-                    @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
+                .emitOn(capturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                /*
+                 * Caffeine registers the missing keys before invoking the mapping function, so the keys missed by concurrent
+                 * callers are loaded once. The values are computed synchronously on the calling thread, like in get().
+                 */
+                return fromCacheValues(cache.getAll(keys,
+                        new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys, Executor executor) {
+                                try {
+                                    Map<Object, Object> values = toCacheValues(Objects.requireNonNull(
+                                            valueLoader.apply((Set<K>) missingKeys), nullLoaderResultMessage("map")));
+                                    for (Object key : values.keySet()) {
+                                        recordWrite(key);
+                                    }
+                                    return CompletableFuture.completedFuture(values);
+                                } catch (Throwable t) {
+                                    return CompletableFuture.failedFuture(toCacheException(t));
+                                }
                             }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
+                        }));
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        Context context = Vertx.currentContext();
+        return Uni.createFrom()
+                .completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> get() {
+                        return fromCacheValues(cache.getAll(keys,
+                                new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                                    @SuppressWarnings("unchecked")
+                                    @Override
+                                    public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys,
+                                            Executor executor) {
+                                        try {
+                                            return Objects.requireNonNull(valueLoader.apply((Set<K>) missingKeys),
+                                                    nullLoaderResultMessage("Uni"))
+                                                    .map(new Function<Map<K, V>, Map<Object, Object>>() {
+                                                        @Override
+                                                        public Map<Object, Object> apply(Map<K, V> values) {
+                                                            Map<Object, Object> cacheValues = toCacheValues(
+                                                                    Objects.requireNonNull(values,
+                                                                            nullLoaderResultMessage("map")));
+                                                            for (Object key : cacheValues.keySet()) {
+                                                                recordWrite(key);
+                                                            }
+                                                            return cacheValues;
+                                                        }
+                                                    })
+                                                    .subscribeAsCompletionStage();
+                                        } catch (Throwable t) {
+                                            return CompletableFuture.failedFuture(toCacheException(t));
+                                        }
+                                    }
+                                }));
+                    }
+                })
+                .emitOn(capturedContextExecutor(context));
+    }
+
+    private String nullLoaderResultMessage(String expected) {
+        return "The bulk value loader of the cache " + getName() + " returned null instead of a " + expected
+                + " of the loaded values";
+    }
+
+    private static Map<Object, Object> toCacheValues(Map<?, ?> values) {
+        Map<Object, Object> cacheValues = new HashMap<>(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            cacheValues.put(entry.getKey(), NullValueConverter.toCacheValue(entry.getValue()));
+        }
+        return cacheValues;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> CompletableFuture<Map<K, V>> fromCacheValues(CompletableFuture<Map<Object, Object>> cacheValues) {
+        return cacheValues.thenApply(new Function<Map<Object, Object>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<Object, Object> values) {
+                Map<K, V> result = new HashMap<>(values.size());
+                for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                    // The value of a key loaded by a concurrent get() may hold the failure of its loader
+                    if (entry.getValue() instanceof CaffeineComputationThrowable computationThrowable) {
+                        throw unwrapThrowable(computationThrowable);
+                    }
+                    result.put((K) entry.getKey(), (V) NullValueConverter.fromCacheValue(entry.getValue()));
+                }
+                return result;
+            }
+        });
+    }
+
+    private static Throwable toCacheException(Throwable t) {
+        return t instanceof RuntimeException ? t : new CacheException(t);
+    }
+
+    /**
+     * We need make sure we go back to the original context when the cache value is computed. Otherwise, we would always emit
+     * on the context having computed the value, which could break the duplicated context isolation.
+     *
+     * @param context the captured context, may be {@code null}
+     */
+    private static Executor capturedContextExecutor(Context context) {
+        return new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = Vertx.currentContext();
+                if (context == null) {
+                    // We didn't capture a context
+                    if (ctx == null) {
+                        // We are not on a context => we can execute immediately.
+                        command.run();
+                    } else {
+                        // We are on a context.
+                        // We cannot continue on the current context as we may share a duplicated context.
+                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                        // but the root context.
+                        ((ContextInternal) ctx).duplicate()
+                                .runOnContext(new Handler<Void>() {
                                     @Override
                                     public void handle(Void ignored) {
                                         command.run();
                                     }
                                 });
+                    }
+                } else {
+                    // We captured a context.
+                    if (ctx == context) {
+                        // We are on the same context => we can execute immediately
+                        command.run();
+                    } else {
+                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                command.run();
                             }
-                        }
+                        });
                     }
-                });
+                }
+            }
+        };
     }
 
     @Override
@@ -215,6 +374,7 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
             try {
                 Object value = valueLoader.apply(key);
                 newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                recordWrite(key);
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -223,22 +383,97 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (refreshTimes != null) {
+                refreshIfNeeded(key, existingCacheValue, new Function<Object, Uni<Object>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Uni<Object> apply(Object key) {
+                        return Uni.createFrom().item(new Supplier<Object>() {
+                            @Override
+                            public Object get() {
+                                return loadInRequestContext((K) key, valueLoader);
+                            }
+                        }).runSubscriptionOn(refreshExecutor());
+                    }
+                });
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Reloads the value of {@code key} in the background if it is older than the refresh-after-write duration. The stale
+     * value is kept until the new value is loaded, and only one reload is performed at a time for a given key.
+     */
+    private void refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue, Function<Object, Uni<Object>> reloader) {
+        if (!cacheValue.isDone() || cacheValue.isCompletedExceptionally()
+                || cacheValue.getNow(null) instanceof CaffeineComputationThrowable) {
+            // The value is being loaded, or its loading failed.
+            return;
+        }
+        long now = System.nanoTime();
+        Long refreshTime = refreshTimes.putIfAbsent(key, now + cacheInfo.refreshAfterWrite.toNanos());
+        if (refreshTime == null || now - refreshTime < 0 || !refreshing.add(key)) {
+            return;
+        }
+        LOGGER.tracef("Refreshing key [%s] in cache [%s]", key, cacheInfo.name);
+        reloader.apply(key)
+                .subscribe().with(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object value) {
+                        // The entry is not replaced if it was invalidated or replaced during the reload.
+                        if (cache.asMap().replace(key, cacheValue,
+                                CompletableFuture.completedFuture(NullValueConverter.toCacheValue(value)))) {
+                            recordWrite(key);
+                        }
+                        refreshing.remove(key);
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        LOGGER.warnf(failure, "Unable to refresh key [%s] in cache [%s], the stale value is kept", key,
+                                cacheInfo.name);
+                        refreshing.remove(key);
+                    }
+                });
+    }
+
+    private void recordWrite(Object key) {
+        if (refreshTimes != null) {
+            refreshTimes.put(key, System.nanoTime() + cacheInfo.refreshAfterWrite.toNanos());
+        }
+    }
+
+    /**
+     * Runs the value loader of a background refresh, usually the invocation of a {@code @CacheResult} method. The request
+     * context of the caller is not propagated to the refresh executor, so the loader runs in a new request context.
+     */
+    private static <K, V> V loadInRequestContext(K key, Function<K, V> valueLoader) {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container != null ? container.requestContext() : null;
+        if (requestContext == null || requestContext.isActive()) {
+            return valueLoader.apply(key);
+        }
+        requestContext.activate();
+        try {
+            return valueLoader.apply(key);
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    private static Executor refreshExecutor() {
+        Executor executor = ExecutorRecorder.getCurrent();
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
                 // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
                 if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
-                    }
+                    throw unwrapThrowable((CaffeineComputationThrowable) value);
                 } else {
                     return NullValueConverter.fromCacheValue(value);
                 }
@@ -246,6 +481,15 @@ public Object apply(Object value) {
         });
     }
 
+    private static RuntimeException unwrapThrowable(CaffeineComputationThrowable computationThrowable) {
+        Throwable cause = computationThrowable.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else {
+            return new CacheException(cause);
+        }
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -253,6 +497,9 @@ public Uni<Void> invalidate(Object key) {
             @Override
             public Void get() {
                 cache.synchronous().invalidate(key);
+                if (refreshTimes != null) {
+                    refreshTimes.remove(key);
+                }
                 return null;
             }
         });
@@ -264,6 +511,9 @@ public Uni<Void> invalidateAll() {
             @Override
             public Void get() {
                 cache.synchronous().invalidateAll();
+                if (refreshTimes != null) {
+                    refreshTimes.clear();
+                }
                 return null;
             }
         });
@@ -275,6 +525,9 @@ public Uni<Void> invalidateIf(Predicate<Object> predicate) {
             @Override
             public Void get() {
                 cache.asMap().keySet().removeIf(predicate);
+                if (refreshTimes != null) {
+                    refreshTimes.keySet().removeIf(predicate);
+                }
                 return null;
             }
         });
@@ -289,6 +542,7 @@ public Set<Object> keySet() {
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
         cache.put(key, (CompletableFuture<Object>) valueFuture);
+        recordWrite(key);
     }
 
     @Override
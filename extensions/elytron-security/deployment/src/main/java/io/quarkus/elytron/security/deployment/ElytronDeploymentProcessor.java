@@ -12,6 +12,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.elytron.security.runtime.DefaultRoleDecoder;
 import io.quarkus.elytron.security.runtime.ElytronPasswordIdentityProvider;
 import io.quarkus.elytron.security.runtime.ElytronRecorder;
@@ -52,6 +53,15 @@ void addBeans(BuildProducer<AdditionalBeanBuildItem> beans, List<ElytronPassword
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerPasswordVerificationMetrics(ElytronRecorder recorder, List<ElytronPasswordMarkerBuildItem> pw,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (!pw.isEmpty()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerPasswordVerificationMetrics()));
+        }
+    }
+
     /**
      * Create the deployment SecurityDomain using the SecurityRealm build items that have been created.
      *
@@ -1,7 +1,10 @@
 package io.quarkus.elytron.security.runtime;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -11,6 +14,7 @@
 import org.wildfly.security.authz.Attributes;
 import org.wildfly.security.evidence.PasswordGuessEvidence;
 
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
@@ -33,6 +37,33 @@ public class ElytronPasswordIdentityProvider implements IdentityProvider<Usernam
     @Inject
     SecurityDomain domain;
 
+    @Inject
+    PasswordVerificationConfig config;
+
+    private PasswordVerificationExecutor executor;
+    PasswordVerificationCache cache;
+    private volatile MetricsFactory.TimeRecorder verificationTimer;
+    private volatile MetricsFactory.TimeRecorder failedVerificationTimer;
+
+    @PostConstruct
+    void init() {
+        if (config.executor().enabled()) {
+            executor = new PasswordVerificationExecutor(
+                    config.executor().maxThreads().orElse(Runtime.getRuntime().availableProcessors()),
+                    config.executor().queueSize());
+        }
+        if (config.cache().maxSize() > 0) {
+            cache = new PasswordVerificationCache(config.cache().maxSize(), config.cache().timeToLive());
+        }
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
     @Override
     public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
         return UsernamePasswordAuthenticationRequest.class;
@@ -41,35 +72,107 @@ public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
     @Override
     public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
             AuthenticationRequestContext context) {
-        return context.runBlocking(new Supplier<SecurityIdentity>() {
+        final String cacheKey;
+        if (cache != null) {
+            cacheKey = cache.key(request.getUsername(), request.getPassword().getPassword());
+            SecurityIdentity identity = cache.get(cacheKey);
+            if (identity != null) {
+                return Uni.createFrom().item(withCredential(identity, request));
+            }
+        } else {
+            cacheKey = null;
+        }
+        Supplier<SecurityIdentity> verification = new Supplier<SecurityIdentity>() {
             @Override
             public SecurityIdentity get() {
-                org.wildfly.security.auth.server.SecurityIdentity result;
+                long start = System.nanoTime();
+                SecurityIdentity identity = null;
                 try {
-                    result = domain.authenticate(request.getUsername(),
-                            new PasswordGuessEvidence(request.getPassword().getPassword()));
-
-                    if (result == null) {
-                        throw new AuthenticationFailedException();
-                    }
-                    QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder();
-                    for (Attributes.Entry entry : result.getAttributes().entries()) {
-                        builder.addAttribute(entry.getKey(), entry);
-                    }
-
-                    builder.setPrincipal(result.getPrincipal());
-                    for (String i : result.getRoles()) {
-                        builder.addRole(i);
+                    identity = verify(request);
+                } finally {
+                    // the failed verifications take as long as the successful ones and are recorded separately
+                    MetricsFactory.TimeRecorder timer = identity != null ? verificationTimer : failedVerificationTimer;
+                    if (timer != null) {
+                        timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                     }
-                    builder.addCredential(request.getPassword());
-                    return builder.build();
-                } catch (RealmUnavailableException e) {
-                    throw new RuntimeException(e);
-                } catch (SecurityException e) {
-                    log.debug("Authentication failed", e);
-                    throw new AuthenticationFailedException(e);
                 }
+                if (cacheKey != null) {
+                    cache.add(cacheKey, identity);
+                }
+                return withCredential(identity, request);
+            }
+        };
+        if (executor != null) {
+            return executor.execute(verification);
+        }
+        return context.runBlocking(verification);
+    }
+
+    private SecurityIdentity verify(UsernamePasswordAuthenticationRequest request) {
+        org.wildfly.security.auth.server.SecurityIdentity result;
+        try {
+            result = domain.authenticate(request.getUsername(),
+                    new PasswordGuessEvidence(request.getPassword().getPassword()));
+
+            if (result == null) {
+                throw new AuthenticationFailedException();
+            }
+            QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder();
+            for (Attributes.Entry entry : result.getAttributes().entries()) {
+                builder.addAttribute(entry.getKey(), entry);
             }
-        });
+
+            builder.setPrincipal(result.getPrincipal());
+            for (String i : result.getRoles()) {
+                builder.addRole(i);
+            }
+            // the password is added to the identity returned for each request, so that it is never cached
+            return builder.build();
+        } catch (RealmUnavailableException e) {
+            throw new RuntimeException(e);
+        } catch (SecurityException e) {
+            log.debug("Authentication failed", e);
+            throw new AuthenticationFailedException(e);
+        }
+    }
+
+    private static SecurityIdentity withCredential(SecurityIdentity identity, UsernamePasswordAuthenticationRequest request) {
+        return QuarkusSecurityIdentity.builder(identity).addCredential(request.getPassword()).build();
+    }
+
+    /**
+     * Registers the password verification time, tagged by outcome, and the metrics of the dedicated executor and of the
+     * cache if they are enabled.
+     */
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        verificationTimer = metricsFactory.builder("security.password.verification.time")
+                .description("Time spent verifying the passwords")
+                .tag("outcome", "success")
+                .buildTimer();
+        failedVerificationTimer = metricsFactory.builder("security.password.verification.time")
+                .description("Time spent verifying the passwords")
+                .tag("outcome", "failure")
+                .buildTimer();
+        if (executor != null) {
+            PasswordVerificationExecutor executor = this.executor;
+            metricsFactory.builder("security.password.verification.queue")
+                    .description("Number of password verifications waiting for a thread")
+                    .buildGauge(executor::getQueueSize);
+            metricsFactory.builder("security.password.verification.active")
+                    .description("Number of password verifications in progress")
+                    .buildGauge(executor::getActiveCount);
+            metricsFactory.builder("security.password.verification.rejected")
+                    .description("Number of password verifications rejected because the queue was full")
+                    .buildCounter(executor::getRejectedCount);
+        }
+        if (cache != null) {
+            PasswordVerificationCache cache = this.cache;
+            metricsFactory.builder("security.password.verification.cache.hits")
+                    .description("Number of password verifications skipped because the password was recently verified")
+                    .buildCounter(cache::getHitCount);
+            metricsFactory.builder("security.password.verification.cache.size")
+                    .description("Number of recently verified passwords")
+                    .buildGauge(cache::getCacheSize);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.elytron.security.runtime;
 
 import java.security.Permission;
+import java.util.function.Consumer;
 
 import jakarta.enterprise.inject.spi.CDI;
 
@@ -15,9 +16,11 @@
 import org.wildfly.security.authz.Roles;
 import org.wildfly.security.permission.PermissionVerifier;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 /**
  * The runtime security recorder class that provides methods for creating RuntimeValues for the deployment security objects.
@@ -102,4 +105,13 @@ public Roles decodeRoles(AuthorizationIdentity authorizationIdentity) {
     public RuntimeValue<SecurityDomain> buildDomain(RuntimeValue<SecurityDomain.Builder> builder) {
         return new RuntimeValue<>(builder.getValue().build());
     }
+
+    public Consumer<MetricsFactory> registerPasswordVerificationMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(ElytronPasswordIdentityProvider.class).get().registerMetrics(metricsFactory);
+            }
+        };
+    }
 }
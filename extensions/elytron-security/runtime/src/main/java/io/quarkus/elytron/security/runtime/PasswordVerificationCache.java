@@ -0,0 +1,85 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * Bounded cache of the identities created for the successfully verified username and password pairs.
+ * <p>
+ * The key is an HMAC of the username and the password computed with a random key generated when the cache is created, so
+ * that neither the password nor an unkeyed hash of it is kept in memory. The cached identities do not hold the password
+ * credential either. The entries expire after the configured time to live. When the cache is full, the least recently
+ * used entries are evicted.
+ */
+class PasswordVerificationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, SecurityIdentity> cache;
+    private final SecretKeySpec hmacKey;
+
+    PasswordVerificationCache(int maxSize, Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(timeToLive)
+                // Evict on the calling thread instead of the common pool
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * @return the cache key of the username and password pair
+     */
+    String key(String username, char[] password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            // separate the username from the password
+            mac.update((byte) 0);
+            mac.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(password)));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the identity, or {@code null} if the pair is not cached or has expired
+     */
+    SecurityIdentity get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    void add(String key, SecurityIdentity identity) {
+        cache.put(key, identity);
+    }
+
+    /**
+     * @return the number of verifications which were skipped because the pair was cached
+     */
+    long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    long getCacheSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
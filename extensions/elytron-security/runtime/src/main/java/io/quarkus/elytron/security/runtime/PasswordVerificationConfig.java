@@ -0,0 +1,72 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the verification of the passwords by the Elytron security realms.
+ */
+@ConfigMapping(prefix = "quarkus.security.password-verification")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface PasswordVerificationConfig {
+
+    /**
+     * Dedicated password verification executor configuration.
+     */
+    ExecutorConfig executor();
+
+    /**
+     * Verified passwords cache configuration.
+     */
+    CacheConfig cache();
+
+    interface ExecutorConfig {
+
+        /**
+         * Whether the passwords are verified by a dedicated executor rather than by the worker thread pool.
+         * Hashing the passwords with algorithms such as bcrypt is CPU intensive; with a dedicated executor,
+         * a surge of authentications does not exhaust the worker threads used by the application endpoints.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Maximum number of threads of the dedicated executor.
+         * The number of available processors is used by default.
+         */
+        OptionalInt maxThreads();
+
+        /**
+         * Maximum number of verifications waiting for a thread of the dedicated executor.
+         * When the queue is full, the authentication is rejected immediately with a `503 - Service Unavailable` response.
+         */
+        @WithDefault("100")
+        int queueSize();
+
+    }
+
+    interface CacheConfig {
+
+        /**
+         * Maximum number of successfully verified username and password pairs which can be cached.
+         * Only a keyed hash of the username and the password is kept in memory.
+         * The cache is disabled by default, it is activated by setting this property to a positive value.
+         */
+        @WithDefault("0")
+        int maxSize();
+
+        /**
+         * Maximum amount of time the result of a verification is reused for.
+         * Keep it short: a password which is changed or removed in the realm is still accepted until the entry expires.
+         */
+        @WithDefault("30S")
+        Duration timeToLive();
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Bounded executor dedicated to the verification of the passwords.
+ * <p>
+ * A verification requested from a Vert.x context is completed on that context, so that the authentication continues on the
+ * thread of the caller; the caller is never blocked while the password is verified. When all the threads are busy and the
+ * queue is full, the verification is rejected immediately with a {@link PasswordVerificationRejectedException}.
+ */
+class PasswordVerificationExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+    private final int maxThreads;
+    private final int queueSize;
+
+    PasswordVerificationExecutor(int maxThreads, int queueSize) {
+        this.maxThreads = maxThreads;
+        this.queueSize = queueSize;
+        this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "quarkus-password-verification-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    <T> Uni<T> execute(Supplier<T> verification) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends T>>() {
+            @Override
+            public Uni<? extends T> get() {
+                Context context = Vertx.currentContext();
+                return Uni.createFrom().emitter(new Consumer<UniEmitter<? super T>>() {
+                    @Override
+                    public void accept(UniEmitter<? super T> emitter) {
+                        try {
+                            executor.execute(new Runnable() {
+                                @Override
+                                public void run() {
+                                    T result;
+                                    try {
+                                        result = verification.get();
+                                    } catch (Throwable t) {
+                                        onContext(context, () -> emitter.fail(t));
+                                        return;
+                                    }
+                                    onContext(context, () -> emitter.complete(result));
+                                }
+                            });
+                        } catch (RejectedExecutionException e) {
+                            rejected.increment();
+                            emitter.fail(new PasswordVerificationRejectedException(maxThreads, queueSize, e));
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private static void onContext(Context context, Runnable action) {
+        if (context == null) {
+            action.run();
+        } else {
+            context.runOnContext(v -> action.run());
+        }
+    }
+
+    /**
+     * @return the number of verifications waiting for a thread
+     */
+    int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return the number of verifications in progress
+     */
+    int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return the number of verifications rejected because the queue was full
+     */
+    long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
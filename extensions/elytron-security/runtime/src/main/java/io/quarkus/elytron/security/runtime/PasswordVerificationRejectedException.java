@@ -0,0 +1,21 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when a password verification is rejected because all the threads of the password verification executor are busy
+ * and its queue is full.
+ * <p>
+ * It extends {@link RejectedExecutionException}, so that the authentication fails with a {@code 503 - Service Unavailable}
+ * response.
+ */
+public final class PasswordVerificationRejectedException extends RejectedExecutionException {
+
+    private static final long serialVersionUID = 1L;
+
+    PasswordVerificationRejectedException(int maxThreads, int queueSize, Throwable cause) {
+        super("The password verification executor is saturated: " + maxThreads + " verifications in progress and "
+                + queueSize + " waiting; consider increasing quarkus.security.password-verification.executor.max-threads "
+                + "or quarkus.security.password-verification.executor.queue-size", cause);
+    }
+}
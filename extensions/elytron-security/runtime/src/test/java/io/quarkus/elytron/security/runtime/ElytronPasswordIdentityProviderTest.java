@@ -0,0 +1,162 @@
+package io.quarkus.elytron.security.runtime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.server.SecurityDomain;
+import org.wildfly.security.authz.Attributes;
+import org.wildfly.security.authz.Roles;
+import org.wildfly.security.evidence.Evidence;
+import org.wildfly.security.evidence.PasswordGuessEvidence;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+public class ElytronPasswordIdentityProviderTest {
+
+    private static final AuthenticationRequestContext BLOCKING_CONTEXT = supplier -> Uni.createFrom().item(supplier);
+
+    @Test
+    public void testCacheHitSkipsVerification() throws Exception {
+        SecurityDomain domain = domain();
+        ElytronPasswordIdentityProvider provider = provider(domain, false, 10);
+
+        SecurityIdentity identity = authenticate(provider, "secret").await().indefinitely();
+        Assertions.assertEquals("alice", identity.getPrincipal().getName());
+        Assertions.assertNotNull(identity.getCredential(PasswordCredential.class));
+        SecurityIdentity cached = authenticate(provider, "secret").await().indefinitely();
+        Assertions.assertEquals("alice", cached.getPrincipal().getName());
+        Assertions.assertArrayEquals("secret".toCharArray(), cached.getCredential(PasswordCredential.class).getPassword());
+        Mockito.verify(domain, Mockito.times(1)).authenticate(eq("alice"), any(Evidence.class));
+
+        // the password is not kept in memory by the cache
+        SecurityIdentity entry = provider.cache.get(provider.cache.key("alice", "secret".toCharArray()));
+        Assertions.assertEquals("alice", entry.getPrincipal().getName());
+        Assertions.assertNull(entry.getCredential(PasswordCredential.class));
+        Assertions.assertTrue(entry.getCredentials().isEmpty());
+
+        // failed verifications are not cached
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(AuthenticationFailedException.class,
+                    () -> authenticate(provider, "wrong").await().indefinitely());
+        }
+        Mockito.verify(domain, Mockito.times(3)).authenticate(eq("alice"), any(Evidence.class));
+    }
+
+    @Test
+    public void testVerificationIsRejectedWhenQueueIsFull() throws Exception {
+        org.wildfly.security.auth.server.SecurityIdentity result = verifiedIdentity();
+        CountDownLatch verifying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SecurityDomain domain = Mockito.mock(SecurityDomain.class);
+        Mockito.when(domain.authenticate(eq("alice"), any(Evidence.class))).thenAnswer(invocation -> {
+            verifying.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return result;
+        });
+        // a single verification thread and a single queued verification
+        ElytronPasswordIdentityProvider provider = provider(domain, true, 0);
+        try {
+            // the caller is not blocked while the password is verified
+            CompletableFuture<SecurityIdentity> first = authenticate(provider, "secret").subscribeAsCompletionStage();
+            Assertions.assertTrue(verifying.await(10, TimeUnit.SECONDS));
+            CompletableFuture<SecurityIdentity> queued = authenticate(provider, "secret").subscribeAsCompletionStage();
+
+            // turned into a 503 response by the HTTP layer
+            RejectedExecutionException rejected = Assertions.assertThrows(PasswordVerificationRejectedException.class,
+                    () -> authenticate(provider, "secret").await().indefinitely());
+            Assertions.assertTrue(rejected.getMessage().contains("password verification executor"),
+                    rejected.getMessage());
+
+            release.countDown();
+            Assertions.assertEquals("alice", first.get(10, TimeUnit.SECONDS).getPrincipal().getName());
+            Assertions.assertEquals("alice", queued.get(10, TimeUnit.SECONDS).getPrincipal().getName());
+        } finally {
+            release.countDown();
+            provider.destroy();
+        }
+    }
+
+    @Test
+    public void testVerificationTimeIsRecordedByOutcome() throws Exception {
+        MetricsFactory.TimeRecorder success = Mockito.mock(MetricsFactory.TimeRecorder.class);
+        MetricsFactory.TimeRecorder failure = Mockito.mock(MetricsFactory.TimeRecorder.class);
+        MetricsFactory.MetricBuilder builder = Mockito.mock(MetricsFactory.MetricBuilder.class, Mockito.RETURNS_SELF);
+        MetricsFactory.MetricBuilder successBuilder = Mockito.mock(MetricsFactory.MetricBuilder.class, Mockito.RETURNS_SELF);
+        MetricsFactory.MetricBuilder failureBuilder = Mockito.mock(MetricsFactory.MetricBuilder.class, Mockito.RETURNS_SELF);
+        Mockito.when(builder.tag("outcome", "success")).thenReturn(successBuilder);
+        Mockito.when(builder.tag("outcome", "failure")).thenReturn(failureBuilder);
+        Mockito.when(successBuilder.buildTimer()).thenReturn(success);
+        Mockito.when(failureBuilder.buildTimer()).thenReturn(failure);
+        MetricsFactory metricsFactory = Mockito.mock(MetricsFactory.class);
+        Mockito.when(metricsFactory.builder(anyString())).thenReturn(builder);
+
+        ElytronPasswordIdentityProvider provider = provider(domain(), false, 0);
+        provider.registerMetrics(metricsFactory);
+
+        authenticate(provider, "secret").await().indefinitely();
+        Mockito.verify(success, Mockito.times(1)).update(anyLong(), eq(TimeUnit.NANOSECONDS));
+        Mockito.verify(failure, Mockito.never()).update(anyLong(), any());
+
+        Assertions.assertThrows(AuthenticationFailedException.class,
+                () -> authenticate(provider, "wrong").await().indefinitely());
+        Mockito.verify(success, Mockito.times(1)).update(anyLong(), any());
+        Mockito.verify(failure, Mockito.times(1)).update(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    private static Uni<SecurityIdentity> authenticate(ElytronPasswordIdentityProvider provider, String password) {
+        return provider.authenticate(
+                new UsernamePasswordAuthenticationRequest("alice", new PasswordCredential(password.toCharArray())),
+                BLOCKING_CONTEXT);
+    }
+
+    private static SecurityDomain domain() throws Exception {
+        org.wildfly.security.auth.server.SecurityIdentity result = verifiedIdentity();
+        SecurityDomain domain = Mockito.mock(SecurityDomain.class);
+        Mockito.when(domain.authenticate(eq("alice"), any(Evidence.class))).thenAnswer(invocation -> {
+            PasswordGuessEvidence evidence = invocation.getArgument(1);
+            return "secret".equals(new String(evidence.getGuess())) ? result : null;
+        });
+        return domain;
+    }
+
+    private static org.wildfly.security.auth.server.SecurityIdentity verifiedIdentity() {
+        var identity = Mockito.mock(org.wildfly.security.auth.server.SecurityIdentity.class);
+        Mockito.when(identity.getPrincipal()).thenReturn(new NamePrincipal("alice"));
+        Mockito.when(identity.getAttributes()).thenReturn(Attributes.EMPTY);
+        Mockito.when(identity.getRoles()).thenReturn(Roles.NONE);
+        return identity;
+    }
+
+    private static ElytronPasswordIdentityProvider provider(SecurityDomain domain, boolean executor, int cacheSize) {
+        PasswordVerificationConfig config = Mockito.mock(PasswordVerificationConfig.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(config.executor().enabled()).thenReturn(executor);
+        Mockito.when(config.executor().maxThreads()).thenReturn(OptionalInt.of(1));
+        Mockito.when(config.executor().queueSize()).thenReturn(1);
+        Mockito.when(config.cache().maxSize()).thenReturn(cacheSize);
+        Mockito.when(config.cache().timeToLive()).thenReturn(Duration.ofMinutes(1));
+        ElytronPasswordIdentityProvider provider = new ElytronPasswordIdentityProvider();
+        provider.domain = domain;
+        provider.config = config;
+        provider.init();
+        return provider;
+    }
+}
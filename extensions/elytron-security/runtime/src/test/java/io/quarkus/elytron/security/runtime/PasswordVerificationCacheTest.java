@@ -0,0 +1,61 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+
+public class PasswordVerificationCacheTest {
+
+    @Test
+    public void testCachedIdentity() {
+        PasswordVerificationCache cache = new PasswordVerificationCache(10, Duration.ofMinutes(1));
+        SecurityIdentity identity = identity("alice");
+        String key = cache.key("alice", "secret".toCharArray());
+        cache.add(key, identity);
+
+        Assertions.assertSame(identity, cache.get(cache.key("alice", "secret".toCharArray())));
+        Assertions.assertNull(cache.get(cache.key("alice", "other".toCharArray())));
+        // the separator prevents a collision between two pairs with the same concatenation
+        Assertions.assertNull(cache.get(cache.key("alices", "ecret".toCharArray())));
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testKeyDoesNotContainPassword() {
+        PasswordVerificationCache cache = new PasswordVerificationCache(10, Duration.ofMinutes(1));
+        Assertions.assertFalse(cache.key("alice", "secret".toCharArray()).contains("secret"));
+        Assertions.assertNotEquals(cache.key("alice", "secret".toCharArray()),
+                new PasswordVerificationCache(10, Duration.ofMinutes(1)).key("alice", "secret".toCharArray()));
+    }
+
+    @Test
+    public void testExpiredIdentity() {
+        PasswordVerificationCache cache = new PasswordVerificationCache(10, Duration.ZERO);
+        String key = cache.key("alice", "secret".toCharArray());
+        cache.add(key, identity("alice"));
+
+        Assertions.assertNull(cache.get(key));
+        Assertions.assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    public void testMaxSize() {
+        PasswordVerificationCache cache = new PasswordVerificationCache(1, Duration.ofMinutes(1));
+        String aliceKey = cache.key("alice", "secret".toCharArray());
+        String bobKey = cache.key("bob", "secret".toCharArray());
+        cache.add(aliceKey, identity("alice"));
+        cache.add(bobKey, identity("bob"));
+
+        Assertions.assertEquals(1, cache.getCacheSize());
+        Assertions.assertTrue(cache.get(aliceKey) == null ^ cache.get(bobKey) == null);
+    }
+
+    private static SecurityIdentity identity(String name) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal(name)).build();
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class PasswordVerificationExecutorTest {
+
+    static Vertx vertx = Vertx.vertx();
+
+    @AfterAll
+    public static void closeVertx() {
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+            vertx = null;
+        }
+    }
+
+    @Test
+    public void testVerificationResumesOnCallerContext() throws Exception {
+        PasswordVerificationExecutor executor = new PasswordVerificationExecutor(1, 1);
+        try {
+            Context context = vertx.getOrCreateContext();
+            CompletableFuture<Thread> verificationThread = new CompletableFuture<>();
+            CompletableFuture<Context> resumedContext = new CompletableFuture<>();
+            context.runOnContext(v -> executor.execute(() -> Thread.currentThread())
+                    .subscribe().with(thread -> {
+                        verificationThread.complete(thread);
+                        resumedContext.complete(Vertx.currentContext());
+                    }, resumedContext::completeExceptionally));
+
+            Assertions.assertSame(context, resumedContext.get(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(verificationThread.get().getName().startsWith("quarkus-password-verification-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailureResumesOnCallerContext() throws Exception {
+        PasswordVerificationExecutor executor = new PasswordVerificationExecutor(1, 1);
+        try {
+            Context context = vertx.getOrCreateContext();
+            CompletableFuture<Context> resumedContext = new CompletableFuture<>();
+            CompletableFuture<Throwable> failure = new CompletableFuture<>();
+            context.runOnContext(v -> executor.execute(() -> {
+                throw new AuthenticationFailedException();
+            }).subscribe().with(item -> resumedContext.complete(null), t -> {
+                failure.complete(t);
+                resumedContext.complete(Vertx.currentContext());
+            }));
+
+            Assertions.assertSame(context, resumedContext.get(10, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(AuthenticationFailedException.class, failure.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
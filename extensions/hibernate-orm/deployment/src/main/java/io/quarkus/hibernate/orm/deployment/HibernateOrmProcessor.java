@@ -30,6 +30,7 @@
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.xml.namespace.QName;
@@ -83,6 +84,7 @@
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveMarkerBuildItem;
 import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
 import io.quarkus.deployment.builditem.BytecodeRecorderConstantDefinitionBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
@@ -136,6 +138,7 @@
 import io.quarkus.panache.hibernate.common.deployment.HibernateModelClassCandidatesForFieldAccessBuildItem;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.util.HashUtil;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
@@ -627,10 +630,10 @@ public HibernateEnhancersRegisteredBuildItem enhancerDomainObjects(JpaModelBuild
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             List<AdditionalJpaModelBuildItem> additionalJpaModelBuildItems,
             List<io.quarkus.hibernate.orm.deployment.AdditionalJpaModelBuildItem> deprecatedAdditionalJpaModelBuildItems,
-            BuildProducer<GeneratedClassBuildItem> additionalClasses) {
+            BuildProducer<GeneratedClassBuildItem> additionalClasses, BuildCacheBuildItem buildCache) {
         // Modify the bytecode of all entities to enable lazy-loading, dirty checking, etc..
         enhanceEntities(jpaModel, transformers, additionalJpaModelBuildItems,
-                deprecatedAdditionalJpaModelBuildItems, additionalClasses);
+                deprecatedAdditionalJpaModelBuildItems, additionalClasses, buildCache);
         // this allows others to register their enhancers after Hibernate, so they run before ours
         return new HibernateEnhancersRegisteredBuildItem();
     }
@@ -1069,13 +1072,15 @@ private void enhanceEntities(final JpaModelBuildItem jpaModel,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             List<AdditionalJpaModelBuildItem> additionalJpaModelBuildItems,
             List<io.quarkus.hibernate.orm.deployment.AdditionalJpaModelBuildItem> deprecatedAdditionalJpaModelBuildItems,
-            BuildProducer<GeneratedClassBuildItem> additionalClasses) {
+            BuildProducer<GeneratedClassBuildItem> additionalClasses, BuildCacheBuildItem buildCache) {
         HibernateEntityEnhancer hibernateEntityEnhancer = new HibernateEntityEnhancer();
+        String cacheKey = buildCache.isEnabled() ? enhancementCacheKey(jpaModel) : null;
         for (String i : jpaModel.getManagedClassNames()) {
 
             transformers.produce(new BytecodeTransformerBuildItem.Builder()
                     .setClassToTransform(i)
                     .setVisitorFunction(hibernateEntityEnhancer)
+                    .setCacheKey(cacheKey)
                     .setCacheable(true).build());
         }
         Set<String> additionalClassNames = new HashSet<>();
@@ -1096,6 +1101,41 @@ private void enhanceEntities(final JpaModelBuildItem jpaModel,
         }
     }
 
+    /**
+     * The enhancement of an entity also depends on the other classes of the model, e.g. its superclasses and embeddables,
+     * so the key is computed from the bytecode of all of them. The application classes are not visible to the class loader
+     * of the extension, so they are read from the deployment class loader, like
+     * {@link io.quarkus.hibernate.orm.deployment.integration.QuarkusClassFileLocator} does.
+     */
+    private static String enhancementCacheKey(JpaModelBuildItem jpaModel) {
+        return enhancementCacheKey(jpaModel.getManagedClassNames(), new Function<String, byte[]>() {
+            @Override
+            public byte[] apply(String className) {
+                try {
+                    return IoUtil.readClassAsBytes(Thread.currentThread().getContextClassLoader(), className);
+                } catch (IOException e) {
+                    return null;
+                }
+            }
+        });
+    }
+
+    /**
+     * @param classBytes returns the bytecode of a managed class, or {@code null} if it cannot be read
+     * @return the cache key, or {@code null} if the enhanced classes cannot be cached
+     */
+    static String enhancementCacheKey(Collection<String> managedClassNames, Function<String, byte[]> classBytes) {
+        StringBuilder key = new StringBuilder("hibernate-orm-enhancer:").append(org.hibernate.Version.getVersionString());
+        for (String className : new TreeSet<>(managedClassNames)) {
+            byte[] bytes = classBytes.apply(className);
+            if (bytes == null) {
+                return null;
+            }
+            key.append('\n').append(className).append(':').append(HashUtil.sha256(bytes));
+        }
+        return HashUtil.sha256(key.toString());
+    }
+
     public static Map<String, Set<String>> getModelClassesAndPackagesPerPersistenceUnits(HibernateOrmConfig hibernateOrmConfig,
             JpaModelBuildItem jpaModel, IndexView index, boolean enableDefaultPersistenceUnit) {
         Map<String, Set<String>> modelClassesAndPackagesPerPersistenceUnits = new HashMap<>();
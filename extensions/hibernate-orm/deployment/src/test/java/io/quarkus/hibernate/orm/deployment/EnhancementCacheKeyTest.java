@@ -0,0 +1,47 @@
+package io.quarkus.hibernate.orm.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class EnhancementCacheKeyTest {
+
+    @Test
+    public void testKeyDependsOnAllManagedClasses() {
+        Map<String, byte[]> classes = new HashMap<>();
+        classes.put("org.acme.Person", bytes("person"));
+        classes.put("org.acme.Address", bytes("address"));
+        String key = HibernateOrmProcessor.enhancementCacheKey(List.of("org.acme.Person", "org.acme.Address"), classes::get);
+        assertThat(key).isNotNull();
+
+        // the order of the managed classes does not matter
+        assertThat(HibernateOrmProcessor.enhancementCacheKey(List.of("org.acme.Address", "org.acme.Person"), classes::get))
+                .isEqualTo(key);
+
+        // a modified embeddable changes the key of all the entities
+        classes.put("org.acme.Address", bytes("modified address"));
+        assertThat(HibernateOrmProcessor.enhancementCacheKey(List.of("org.acme.Person", "org.acme.Address"), classes::get))
+                .isNotEqualTo(key);
+
+        // so does an additional managed class
+        classes.put("org.acme.Address", bytes("address"));
+        classes.put("org.acme.Order", bytes("order"));
+        assertThat(HibernateOrmProcessor.enhancementCacheKey(
+                List.of("org.acme.Person", "org.acme.Address", "org.acme.Order"), classes::get))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    public void testNoKeyWhenClassCannotBeRead() {
+        assertThat(HibernateOrmProcessor.enhancementCacheKey(List.of("org.acme.Missing"), className -> null)).isNull();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.hibernate.orm.enhancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.hibernate.engine.spi.ManagedEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
+import io.quarkus.deployment.steps.ClassTransformingBuildStep;
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that the enhancement of an application entity declares a cache key, and that the enhanced class stored in the
+ * build cache is replayed by a subsequent build without enhancing the entity again.
+ */
+public class HibernateEntityEnhancerBuildCacheTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(Address.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.build-cache.enabled", "true")
+            .addBuildChainCustomizer(buildCustomizer());
+
+    @Test
+    public void testEntityIsEnhanced() {
+        assertThat(ManagedEntity.class).isAssignableFrom(Address.class);
+    }
+
+    private static Consumer<BuildChainBuilder> buildCustomizer() {
+        return new Consumer<BuildChainBuilder>() {
+            @Override
+            public void accept(BuildChainBuilder builder) {
+                builder.addBuildStep(new BuildStep() {
+                    @Override
+                    public void execute(BuildContext context) {
+                        String className = Address.class.getName();
+                        List<BytecodeTransformerBuildItem> transformers = context
+                                .consumeMulti(BytecodeTransformerBuildItem.class).stream()
+                                .filter(i -> className.equals(i.getClassToTransform()))
+                                .collect(Collectors.toList());
+                        assertThat(transformers).isNotEmpty();
+                        // the bytecode of the application entity could be read to compute the enhancement key
+                        assertThat(transformers).allSatisfy(i -> assertThat(i.getCacheKey()).isNotNull());
+                        String cacheKeys = ClassTransformingBuildStep.cacheKeys(className, transformers);
+                        assertThat(cacheKeys).isNotNull();
+
+                        byte[] enhanced = context.consume(TransformedClassesBuildItem.class).getTransformedClassesByJar()
+                                .values().stream()
+                                .flatMap(Set::stream)
+                                .filter(i -> className.equals(i.getClassName()))
+                                .findFirst().orElseThrow().getData();
+                        byte[] original;
+                        try {
+                            original = IoUtil.readClassAsBytes(Thread.currentThread().getContextClassLoader(), className);
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                        assertThat(enhanced).isNotEqualTo(original);
+
+                        // a subsequent build replays the stored enhanced class
+                        BuildCacheBuildItem buildCache = context.consume(BuildCacheBuildItem.class);
+                        assertThat(buildCache.isEnabled()).isTrue();
+                        int hits = buildCache.getHits();
+                        byte[] replayed = ClassTransformingBuildStep.transformOrReplay(buildCache, cacheKeys, original,
+                                () -> {
+                                    throw new AssertionError("The enhanced class was not stored in the build cache");
+                                });
+                        assertThat(replayed).isEqualTo(enhanced);
+                        assertThat(buildCache.getHits()).isEqualTo(hits + 1);
+
+                        context.produce(new FeatureBuildItem("enhancer-build-cache-test"));
+                    }
+                }).consumes(BytecodeTransformerBuildItem.class)
+                        .consumes(TransformedClassesBuildItem.class)
+                        .consumes(BuildCacheBuildItem.class)
+                        .produces(FeatureBuildItem.class)
+                        .build();
+            }
+        };
+    }
+}
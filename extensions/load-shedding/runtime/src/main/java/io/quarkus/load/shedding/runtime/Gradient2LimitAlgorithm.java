@@ -0,0 +1,60 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm based on Gradient2, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit follows the ratio of a long-term exponential moving average of the request duration
+ * to the current request duration. When requests get slower than they used to be, the ratio drops below 1
+ * and the limit decreases; when they don't, the limit grows by a queue size of the square root of the limit.
+ */
+final class Gradient2LimitAlgorithm implements LimitAlgorithm {
+    // the number of samples of the long-term average
+    private static final int LONG_WINDOW = 600;
+    // how much slower than the long-term average a request may be before the limit decreases
+    private static final double TOLERANCE = 1.5;
+    // how much of a new limit is applied at once
+    private static final double SMOOTHING = 0.2;
+
+    private final int maxLimit;
+
+    private double longRequestTime = -1;
+    private double estimatedLimit;
+
+    Gradient2LimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        estimatedLimit = config.initialLimit();
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, long currentRequests, int samples) {
+        double shortRequestTime = Math.max(1, requestTime);
+        if (longRequestTime < 0) {
+            longRequestTime = shortRequestTime;
+        } else {
+            // the moving average advances once per request the measurement represents
+            double factor = 2.0 / (LONG_WINDOW + 1);
+            double keep = Math.pow(1.0 - factor, Math.min(samples, LONG_WINDOW));
+            longRequestTime = longRequestTime * keep + shortRequestTime * (1.0 - keep);
+        }
+
+        // when the long-term average drifts far above the current durations, e.g. after a period of overload,
+        // let it recover quickly instead of allowing excessive concurrency for a long time
+        if (longRequestTime / shortRequestTime > 2) {
+            longRequestTime *= 0.95;
+        }
+
+        // the application doesn't use enough of the limit to learn anything about it
+        if (2L * currentRequests < currentLimit) {
+            return currentLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRequestTime / shortRequestTime));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(1, Math.min(maxLimit, newLimit));
+
+        return (long) estimatedLimit;
+    }
+}
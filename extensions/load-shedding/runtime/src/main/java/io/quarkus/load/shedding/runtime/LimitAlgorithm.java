@@ -0,0 +1,31 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * Computes the limit of concurrent requests from the measurements of finished requests.
+ * <p>
+ * Implementations are not thread-safe, the {@link OverloadDetector} makes sure only one thread
+ * updates the limit at a time.
+ */
+interface LimitAlgorithm {
+    /**
+     * @param currentLimit the current limit of concurrent requests
+     * @param requestTime the duration of the finished requests in microseconds; this is an average
+     *        if the measurement represents more than one request
+     * @param currentRequests the number of concurrent requests when the requests finished; this is the highest
+     *        number seen if the measurement represents more than one request
+     * @param samples the number of finished requests the measurement represents
+     * @return the new limit of concurrent requests, or {@code currentLimit} if it should not change
+     */
+    long update(long currentLimit, long requestTime, long currentRequests, int samples);
+
+    static LimitAlgorithm create(LoadSheddingRuntimeConfig config) {
+        switch (config.algorithm()) {
+            case VEGAS:
+                return new VegasLimitAlgorithm(config);
+            case GRADIENT2:
+                return new Gradient2LimitAlgorithm(config);
+            default:
+                throw new IllegalArgumentException("Unknown load shedding algorithm: " + config.algorithm());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +18,12 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -46,6 +54,11 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of batched limit updates.
+     */
+    Batching batching();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +72,42 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, which compares the duration of requests with the lowest duration seen
+         * to estimate the queue size.
+         */
+        VEGAS,
+        /**
+         * An adaptation of the Gradient2 algorithm, which compares a short-term and a long-term average
+         * of the duration of requests.
+         */
+        GRADIENT2,
+    }
+
+    @ConfigGroup
+    interface Batching {
+        /**
+         * Whether the durations of finished requests should be collected in per-thread stripes,
+         * with the limit recomputed from all stripes once enough requests finished or the interval elapsed.
+         * <p>
+         * By default, the limit is recomputed under a lock when each request finishes,
+         * which becomes a point of contention when many threads handle requests.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The number of finished requests after which the limit is recomputed.
+         */
+        @WithDefault("100")
+        int sampleSize();
+
+        /**
+         * The maximum time between two recomputations of the limit, as long as requests finish.
+         */
+        @WithDefault("100ms")
+        Duration interval();
+    }
 }
@@ -1,109 +1,178 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * An overload detector that compares the number of concurrent requests with a limit, which is adapted
+ * by a {@link LimitAlgorithm} as requests finish.
+ * <p>
+ * By default, the limit is recomputed under a lock whenever a request finishes. When batching is enabled,
+ * finished requests are instead recorded in per-thread stripes without any lock, and the limit is recomputed
+ * from all stripes by a single thread once enough requests finished or the batching interval elapsed.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+    private final LimitAlgorithm algorithm;
 
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
+    private final boolean batching;
 
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    private volatile long currentLimit;
 
+    // used when batching is disabled
     private final AtomicInteger currentRequests = new AtomicInteger();
-    private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    // used when batching is enabled
+    private final LongAdder stripedCurrentRequests = new LongAdder();
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final long stripeSampleSize;
+    private final long intervalNanos;
+    private volatile long lastUpdate;
+    private volatile int updating;
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
+        algorithm = LimitAlgorithm.create(config);
         currentLimit = config.initialLimit();
-        resetProbeJitter();
+        batching = config.batching().enabled();
+        if (batching) {
+            int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+            stripes = new Stripe[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe();
+            }
+            stripeMask = stripeCount - 1;
+            stripeSampleSize = Math.max(1, config.batching().sampleSize() / stripeCount);
+            intervalNanos = config.batching().interval().toNanos();
+            lastUpdate = System.nanoTime();
+        } else {
+            stripes = null;
+            stripeMask = 0;
+            stripeSampleSize = 0;
+            intervalNanos = 0;
+        }
     }
 
     public boolean isOverloaded() {
-        return currentRequests.get() >= currentLimit;
+        long current = batching ? stripedCurrentRequests.sum() : currentRequests.get();
+        return current >= currentLimit;
     }
 
     public void requestBegin() {
-        currentRequests.incrementAndGet();
+        if (batching) {
+            stripedCurrentRequests.increment();
+        } else {
+            currentRequests.incrementAndGet();
+        }
     }
 
     public void requestEnd(long timeInMicros) {
-        int current = currentRequests.getAndDecrement();
-
-        update(timeInMicros, current);
+        if (batching) {
+            long current = stripedCurrentRequests.sum();
+            stripedCurrentRequests.decrement();
+            record(timeInMicros, current);
+        } else {
+            int current = currentRequests.getAndDecrement();
+            update(timeInMicros, current);
+        }
     }
 
     private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
+        currentLimit = algorithm.update(currentLimit, requestTime, currentRequests, 1);
+    }
 
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+    private void record(long requestTime, long currentRequests) {
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        long samples = stripe.record(requestTime, currentRequests);
+        if (samples >= stripeSampleSize) {
+            tryUpdate(System.nanoTime());
+        } else {
+            long now = System.nanoTime();
+            if (now - lastUpdate >= intervalNanos) {
+                tryUpdate(now);
+            }
         }
+    }
 
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
+    private void tryUpdate(long now) {
+        if (!UPDATING.compareAndSet(this, 0, 1)) {
+            // someone else is already updating the limit, which will include our measurement
             return;
         }
+        try {
+            long requestTimeSum = 0;
+            long samples = 0;
+            long maxRequests = 0;
+            for (Stripe stripe : stripes) {
+                // the values are drained one by one, so a measurement recorded concurrently may be split
+                // between this update and the next one, which is fine for the purpose of estimating the limit
+                samples += (long) Stripe.SAMPLES.getAndSet(stripe, 0L);
+                requestTimeSum += (long) Stripe.REQUEST_TIME_SUM.getAndSet(stripe, 0L);
+                maxRequests = Math.max(maxRequests, (long) Stripe.MAX_REQUESTS.getAndSet(stripe, 0L));
+            }
+            lastUpdate = now;
+            if (samples > 0) {
+                currentLimit = algorithm.update(currentLimit, requestTimeSum / samples, maxRequests,
+                        (int) Math.min(Integer.MAX_VALUE, samples));
+            }
+        } finally {
+            updating = 0;
+        }
+    }
 
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+    private static final VarHandle UPDATING;
 
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
+    static {
+        try {
+            UPDATING = MethodHandles.lookup().findVarHandle(OverloadDetector.class, "updating", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
         }
-
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    /**
+     * The measurements of finished requests recorded by the threads mapped to one stripe.
+     * The fields are padded to avoid false sharing between stripes.
+     */
+    @SuppressWarnings("unused")
+    static final class Stripe {
+        static final VarHandle SAMPLES;
+        static final VarHandle REQUEST_TIME_SUM;
+        static final VarHandle MAX_REQUESTS;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                SAMPLES = lookup.findVarHandle(Stripe.class, "samples", long.class);
+                REQUEST_TIME_SUM = lookup.findVarHandle(Stripe.class, "requestTimeSum", long.class);
+                MAX_REQUESTS = lookup.findVarHandle(Stripe.class, "maxRequests", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long p00, p01, p02, p03, p04, p05, p06, p07;
+        volatile long samples;
+        volatile long requestTimeSum;
+        volatile long maxRequests;
+        long p10, p11, p12, p13, p14, p15, p16, p17;
+
+        /**
+         * @return the number of measurements in this stripe, including this one
+         */
+        long record(long requestTime, long currentRequests) {
+            REQUEST_TIME_SUM.getAndAdd(this, requestTime);
+            long max = maxRequests;
+            while (currentRequests > max && !MAX_REQUESTS.compareAndSet(this, max, currentRequests)) {
+                max = maxRequests;
+            }
+            return (long) SAMPLES.getAndAdd(this, 1L) + 1;
+        }
     }
 }
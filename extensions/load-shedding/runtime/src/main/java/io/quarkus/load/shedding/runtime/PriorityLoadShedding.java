@@ -2,6 +2,7 @@
 
 import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -29,15 +30,18 @@ public class PriorityLoadShedding {
 
     private final OperatingSystemMXBean os;
 
-    private double lastThreshold;
+    private volatile double lastThreshold;
 
-    private long lastThresholdTime;
+    private final AtomicLong lastThresholdTime = new AtomicLong();
 
     @Inject
     PriorityLoadShedding(LoadSheddingRuntimeConfig config) {
         enabled = config.priority().enabled();
         max = RequestPriority.values().length * RequestClassifier.MAX_COHORT;
         os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        // computed eagerly, so that the threads which do not refresh the threshold never see an uninitialized one
+        lastThreshold = enabled ? computeThreshold() : -1;
+        lastThresholdTime.set(System.currentTimeMillis());
     }
 
     // when this is called, we know we're overloaded
@@ -47,16 +51,10 @@ public boolean shedLoad(Object request) {
         }
 
         long now = System.currentTimeMillis();
-        synchronized (this) {
-            if (now - lastThresholdTime > 1_000) {
-                double load = os.getCpuLoad();
-                if (load < 0) {
-                    lastThreshold = -1;
-                } else {
-                    lastThreshold = max * (1.0 - load * load * load);
-                }
-                lastThresholdTime = now;
-            }
+        long thresholdTime = lastThresholdTime.get();
+        // only one thread refreshes the threshold, the others keep using the previous one in the meantime
+        if (now - thresholdTime > 1_000 && lastThresholdTime.compareAndSet(thresholdTime, now)) {
+            lastThreshold = computeThreshold();
         }
         double threshold = lastThreshold;
         if (threshold < 0) {
@@ -90,4 +88,12 @@ public boolean shedLoad(Object request) {
 
         return priority.cohortBaseline() + cohort > threshold;
     }
+
+    private double computeThreshold() {
+        double load = os.getCpuLoad();
+        if (load < 0) {
+            return -1;
+        }
+        return max * (1.0 - load * load * load);
+    }
 }
@@ -29,6 +29,12 @@ public void report(String name, long durationInNs, boolean succeeded) {
                 .report(name, durationInNs, succeeded);
     }
 
+    @Override
+    public void reportClientSideCache(String name, boolean hit) {
+        reportedMetrics.computeIfAbsent(name, n -> new RedisMetrics(registry, n))
+                .reportClientSideCache(name, hit);
+    }
+
     private class RedisMetrics implements ObservableRedisMetrics {
         private final Tags tags;
         private final Counter operationCounter;
@@ -36,6 +42,8 @@ private class RedisMetrics implements ObservableRedisMetrics {
 
         private final Counter failureCounter;
         private final Timer timer;
+        private final Counter cacheHitCounter;
+        private final Counter cacheMissCounter;
         private String name;
 
         private RedisMetrics(MeterRegistry registry, String name) {
@@ -57,6 +65,14 @@ private RedisMetrics(MeterRegistry registry, String name) {
                     .description("The duration of the operations (commands of batches")
                     .tags(tags)
                     .register(registry);
+            this.cacheHitCounter = Counter.builder("redis.client-side-cache.hits")
+                    .description("The number of replies served from the client-side cache")
+                    .tags(tags)
+                    .register(registry);
+            this.cacheMissCounter = Counter.builder("redis.client-side-cache.misses")
+                    .description("The number of replies not found in the client-side cache")
+                    .tags(tags)
+                    .register(registry);
         }
 
         @Override
@@ -69,5 +85,14 @@ public void report(String name, long durationInNs, boolean succeeded) {
             }
             timer.record(durationInNs, TimeUnit.NANOSECONDS);
         }
+
+        @Override
+        public void reportClientSideCache(String name, boolean hit) {
+            if (hit) {
+                cacheHitCounter.increment();
+            } else {
+                cacheMissCounter.increment();
+            }
+        }
     }
 }
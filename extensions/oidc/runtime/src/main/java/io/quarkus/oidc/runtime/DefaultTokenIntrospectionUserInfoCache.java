@@ -1,5 +1,9 @@
 package io.quarkus.oidc.runtime;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
 import jakarta.enterprise.event.Observes;
 
 import org.jboss.logging.Logger;
@@ -12,6 +16,7 @@
 import io.quarkus.oidc.UserInfoCache;
 import io.quarkus.oidc.common.runtime.OidcConstants;
 import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Vertx;
 
@@ -30,11 +35,29 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     private static final Uni<TokenIntrospection> NULL_INTROSPECTION_UNI = Uni.createFrom().nullItem();
     private static final Uni<UserInfo> NULL_USERINFO_UNI = Uni.createFrom().nullItem();
 
+    // the tenants which are not configured statically share the same metrics
+    private static final String DYNAMIC_TENANTS_TAG = "dynamic";
+
     final MemoryCache<CacheEntry> cache;
+    private final Map<String, TenantStats> staticTenantStats;
+    private final TenantStats dynamicTenantStats = new TenantStats();
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
         cache = new MemoryCache<CacheEntry>(vertx, oidcConfig.tokenCache().cleanUpTimerInterval(),
                 oidcConfig.tokenCache().timeToLive(), oidcConfig.tokenCache().maxSize());
+        staticTenantStats = createStaticTenantStats(oidcConfig);
+    }
+
+    private static Map<String, TenantStats> createStaticTenantStats(OidcConfig oidcConfig) {
+        Map<String, TenantStats> stats = new HashMap<>();
+        stats.put(OidcUtils.DEFAULT_TENANT_ID, new TenantStats());
+        for (var tenant : oidcConfig.namedTenants().entrySet()) {
+            String tenantKey = tenant.getKey();
+            String defaultTenantId = OidcConfig.DEFAULT_TENANT_KEY.equals(tenantKey) ? OidcUtils.DEFAULT_TENANT_ID
+                    : tenantKey;
+            stats.putIfAbsent(tenant.getValue().tenantId().orElse(defaultTenantId), new TenantStats());
+        }
+        return Map.copyOf(stats);
     }
 
     @Override
@@ -54,15 +77,19 @@ public Uni<Void> addIntrospection(String token, TokenIntrospection introspection
     public Uni<TokenIntrospection> getIntrospection(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<TokenIntrospection> requestContext) {
         CacheEntry entry = cache.get(token);
+        TenantStats stats = getTenantStats(oidcConfig);
         if (entry == null || entry.introspection == null) {
+            stats.introspectionMisses.increment();
             return NULL_INTROSPECTION_UNI;
         }
         if (isTokenExpired(entry.introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP), oidcConfig)) {
             LOG.debug("Introspected token has expired, removing it from the token introspection cache");
             cache.remove(token);
+            stats.introspectionMisses.increment();
             return NULL_INTROSPECTION_UNI;
         }
 
+        stats.introspectionHits.increment();
         return Uni.createFrom().item(entry.introspection);
     }
 
@@ -89,7 +116,63 @@ public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig o
     public Uni<UserInfo> getUserInfo(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<UserInfo> requestContext) {
         CacheEntry entry = cache.get(token);
-        return entry == null ? NULL_USERINFO_UNI : Uni.createFrom().item(entry.userInfo);
+        TenantStats stats = getTenantStats(oidcConfig);
+        if (entry == null || entry.userInfo == null) {
+            stats.userInfoMisses.increment();
+            return NULL_USERINFO_UNI;
+        }
+        stats.userInfoHits.increment();
+        return Uni.createFrom().item(entry.userInfo);
+    }
+
+    private TenantStats getTenantStats(OidcTenantConfig oidcConfig) {
+        String tenantId = oidcConfig != null ? oidcConfig.tenantId().orElse(OidcUtils.DEFAULT_TENANT_ID)
+                : OidcUtils.DEFAULT_TENANT_ID;
+        return staticTenantStats.getOrDefault(tenantId, dynamicTenantStats);
+    }
+
+    /**
+     * Registers the metrics of the cache. The hits and misses are tagged with the tenant id for the tenants configured
+     * statically only, so that the number of meters is bounded.
+     */
+    void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("oidc.token.cache.size")
+                .description("Number of entries in the token introspection and UserInfo cache.")
+                .buildGauge(cache::getCacheSize);
+        metricsFactory.builder("oidc.token.cache.evictions")
+                .description("Number of entries evicted from the token introspection and UserInfo cache,"
+                        + " because it was full or because they expired.")
+                .buildCounter(cache::getEvictionCount);
+        for (Map.Entry<String, TenantStats> e : staticTenantStats.entrySet()) {
+            registerTenantMetrics(metricsFactory, e.getKey(), e.getValue());
+        }
+        registerTenantMetrics(metricsFactory, DYNAMIC_TENANTS_TAG, dynamicTenantStats);
+    }
+
+    private static void registerTenantMetrics(MetricsFactory metricsFactory, String tenantId, TenantStats stats) {
+        metricsFactory.builder("oidc.token.cache.hits")
+                .description("Number of token introspections found in the cache.")
+                .tag("tenant", tenantId).tag("type", "introspection")
+                .buildCounter(stats.introspectionHits::sum);
+        metricsFactory.builder("oidc.token.cache.misses")
+                .description("Number of token introspections not found in the cache.")
+                .tag("tenant", tenantId).tag("type", "introspection")
+                .buildCounter(stats.introspectionMisses::sum);
+        metricsFactory.builder("oidc.token.cache.hits")
+                .description("Number of UserInfo found in the cache.")
+                .tag("tenant", tenantId).tag("type", "userinfo")
+                .buildCounter(stats.userInfoHits::sum);
+        metricsFactory.builder("oidc.token.cache.misses")
+                .description("Number of UserInfo not found in the cache.")
+                .tag("tenant", tenantId).tag("type", "userinfo")
+                .buildCounter(stats.userInfoMisses::sum);
+    }
+
+    private static final class TenantStats {
+        final LongAdder introspectionHits = new LongAdder();
+        final LongAdder introspectionMisses = new LongAdder();
+        final LongAdder userInfoHits = new LongAdder();
+        final LongAdder userInfoMisses = new LongAdder();
     }
 
     private static class CacheEntry {
@@ -1,27 +1,39 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * Bounded in-memory cache.
+ * <p>
+ * The entries expire after the configured time to live. When the cache is full, the entries to evict are selected with the
+ * W-TinyLFU policy of Caffeine: a new entry is only admitted if it is likely to be used more often than the entry it would
+ * replace, so that a burst of entries used once does not flush the frequently used entries.
+ * <p>
+ * The expired entries are removed during the cache operations, and also periodically if a clean up timer interval is set.
+ */
 public class MemoryCache<T> {
     private volatile Long timerId = null;
 
-    private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final Cache<String, T> cache;
     private final int cacheSize;
 
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
         this.cacheSize = cacheSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(cacheSize, 0))
+                .expireAfterWrite(cacheTimeToLive)
+                // Evict on the calling thread instead of the common pool
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
         init(vertx, cleanUpTimerInterval);
     }
 
@@ -31,7 +43,7 @@ private void init(Vertx vertx, Optional<Duration> cleanUpTimerInterval) {
                 @Override
                 public void handle(Long event) {
                     // Remove all the entries which have expired
-                    removeInvalidEntries();
+                    cache.cleanUp();
                 }
             });
         }
@@ -39,87 +51,36 @@ public void handle(Long event) {
 
     public void add(String key, T result) {
         if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
-            }
-            cacheMap.put(key, new CacheEntry<T>(result));
+            cache.put(key, result);
         }
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        return cache.asMap().remove(key);
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        return cache.getIfPresent(key);
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
-    }
-
-    private void removeInvalidEntries() {
-        long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
-                }
-            }
-        }
-    }
-
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
-            }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
-    }
-
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
-        }
-        return entry;
-    }
-
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
-    }
-
-    private static long now() {
-        return System.currentTimeMillis();
-    }
-
-    private static class CacheEntry<T> {
-        volatile T result;
-        long createdTime = System.currentTimeMillis();
-
-        public CacheEntry(T result) {
-            this.result = result;
-        }
+        return cache.asMap().containsKey(key);
     }
 
     public int getCacheSize() {
-        return cacheMap.size();
+        cache.cleanUp();
+        return (int) cache.estimatedSize();
     }
 
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the number of entries evicted because the cache was full or because they expired
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
     }
 
     public void stopTimer(Vertx vertx) {
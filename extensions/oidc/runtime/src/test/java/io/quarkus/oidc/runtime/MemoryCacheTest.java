@@ -80,15 +80,37 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
-
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
+        assertEquals(1, cache.getEvictionCount());
+    }
 
-        assertNull(cache.get("1"));
-        assertNull(cache.get("2"));
-        assertEquals("3", cache.get("3").name);
+    @Test
+    public void testFrequentlyUsedEntriesAreKeptWhenMaxCacheSizeIsReached() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 1 minute
+                Duration.ofMinutes(1),
+                // max cache size
+                100);
+
+        // The access frequencies are only recorded once the cache is half full
+        for (int i = 0; i < 50; i++) {
+            cache.add("warm" + i, new Bean("warm" + i));
+        }
+        cache.add("hot", new Bean("hot"));
+        for (int i = 0; i < 10; i++) {
+            assertEquals("hot", cache.get("hot").name);
+        }
+        // A burst of entries which are used only once does not evict the frequently used entry
+        for (int i = 0; i < 1000; i++) {
+            cache.add("cold" + i, new Bean("cold" + i));
+        }
+        assertEquals(100, cache.getCacheSize());
+        assertEquals("hot", cache.get("hot").name);
+        assertEquals(951, cache.getEvictionCount());
     }
 
     static class Bean {
@@ -0,0 +1,20 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated {@link io.quarkus.qute.TemplateRenderer} class.
+ */
+public final class GeneratedTemplateRendererBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public GeneratedTemplateRendererBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
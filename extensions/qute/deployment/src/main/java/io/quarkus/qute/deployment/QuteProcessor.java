@@ -2164,6 +2164,46 @@ public Function<FieldInfo, String> apply(ClassInfo clazz) {
         }
     }
 
+    @BuildStep
+    void generateTemplateRenderers(QuteConfig config, BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<GeneratedTemplateRendererBuildItem> generatedRenderers,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.generateRenderers() || checkedTemplates.isEmpty() || !incorrectExpressions.isEmpty()) {
+            // Skip generation if a validation error occurs
+            return;
+        }
+
+        IndexView index = beanArchiveIndex.getIndex();
+        TemplateRendererGenerator generator = new TemplateRendererGenerator(
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), index,
+                new FixedJavaMemberLookupConfig(index, initDefaultMembersFilter(), false), templateExtensionMethods);
+
+        List<String> generatedTypes = new ArrayList<>();
+        for (TemplateAnalysis templateAnalysis : templatesAnalysis.getAnalysis()) {
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, templateAnalysis, checkedTemplates);
+            if (checkedTemplate == null) {
+                continue;
+            }
+            String generatedType = generator.generate(templateAnalysis, checkedTemplate);
+            if (generatedType != null) {
+                generatedTypes.add(generatedType);
+            }
+        }
+
+        LOGGER.debugf("Generated %s template renderers: %s", generatedTypes.size(), generatedTypes);
+
+        for (String generatedType : generatedTypes) {
+            generatedRenderers.produce(new GeneratedTemplateRendererBuildItem(generatedType));
+            reflectiveClass.produce(ReflectiveClassBuildItem.builder(generatedType).build());
+        }
+    }
+
     /**
      * Tracks non-application value resolvers that have already been generated. There is no need to spend time
      * generating them again on a hot reload.
@@ -2654,12 +2694,15 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<GeneratedTemplateRendererBuildItem> generatedRenderers) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                generatedRenderers.stream()
+                        .map(GeneratedTemplateRendererBuildItem::getClassName).collect(Collectors.toList()));
     }
 
     @BuildStep
@@ -3142,7 +3185,7 @@ private static TemplateExtensionMethodBuildItem findTemplateExtensionMethod(Info
         return null;
     }
 
-    private static AnnotationTarget findProperty(String name, ClassInfo clazz, JavaMemberLookupConfig config) {
+    static AnnotationTarget findProperty(String name, ClassInfo clazz, JavaMemberLookupConfig config) {
         // Attempts to find a property with the specified name
         // i.e. a public non-static non-synthetic field with the given name or a public non-static non-synthetic method with no params and the given name
         Set<DotName> interfaceNames = config.declaredMembersOnly() ? null : new HashSet<>();
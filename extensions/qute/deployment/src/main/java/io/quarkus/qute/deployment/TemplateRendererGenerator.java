@@ -0,0 +1,327 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.Mapper;
+import io.quarkus.qute.Results;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.TemplateRenderer;
+import io.quarkus.qute.deployment.QuteProcessor.JavaMemberLookupConfig;
+import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
+import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+
+/**
+ * Generates a {@link TemplateRenderer} for a type-safe template.
+ * <p>
+ * The generated code appends the text nodes and the values of the expressions that consist of a parameter of the type-safe
+ * template followed by properties that map to public methods with no parameters, e.g. {@code {item.name}} or
+ * {@code {item.owner.fullName}}. The sections, the other expressions and the expressions that cannot be resolved by the
+ * generated code at runtime, e.g. if a value is {@code null}, are rendered by the interpreter.
+ * <p>
+ * The generated code invokes the methods directly, so a property is only resolved by the generated code if no template
+ * extension method matches the property.
+ */
+class TemplateRendererGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(TemplateRendererGenerator.class);
+
+    static final String SUFFIX = "_TemplateRenderer";
+
+    // The method is limited to 64KB of bytecode
+    private static final int MAX_NODES = 2000;
+
+    // Properties resolved by the built-in value resolvers for any object
+    private static final Set<String> BUILT_IN_PROPERTIES = Set.of("raw", "safe", "orEmpty", "this");
+
+    private static final DotName MAPPER = DotName.createSimple(Mapper.class.getName());
+    private static final DotName JSON_OBJECT = DotName.createSimple("io.vertx.core.json.JsonObject");
+
+    private static final MethodDescriptor OUTPUT_TEXT = MethodDescriptor.ofMethod(TemplateRenderer.Output.class, "text",
+            void.class, int.class);
+    private static final MethodDescriptor OUTPUT_DATA = MethodDescriptor.ofMethod(TemplateRenderer.Output.class, "data",
+            Object.class, String.class);
+    private static final MethodDescriptor OUTPUT_VALUE = MethodDescriptor.ofMethod(TemplateRenderer.Output.class, "value",
+            boolean.class, int.class, Object.class);
+    private static final MethodDescriptor OUTPUT_INTERPRET = MethodDescriptor.ofMethod(TemplateRenderer.Output.class,
+            "interpret", boolean.class, int.class);
+
+    private final ClassOutput classOutput;
+    private final IndexView index;
+    private final JavaMemberLookupConfig lookupConfig;
+    private final AssignabilityCheck assignabilityCheck;
+    private final List<TemplateExtensionMethodBuildItem> extensionMethods;
+
+    TemplateRendererGenerator(ClassOutput classOutput, IndexView index, JavaMemberLookupConfig lookupConfig,
+            List<TemplateExtensionMethodBuildItem> extensionMethods) {
+        this.classOutput = classOutput;
+        this.index = index;
+        this.lookupConfig = lookupConfig;
+        this.assignabilityCheck = new AssignabilityCheck(index);
+        this.extensionMethods = extensionMethods;
+    }
+
+    /**
+     *
+     * @param templateAnalysis
+     * @param checkedTemplate
+     * @return the name of the generated class, or {@code null} if no renderer was generated
+     */
+    String generate(TemplateAnalysis templateAnalysis, CheckedTemplateBuildItem checkedTemplate) {
+        List<TemplateNode> nodes = TemplateRenderer.renderedNodes(templateAnalysis.getNodes());
+        if (nodes.size() > MAX_NODES) {
+            LOGGER.debugf("Renderer not generated for %s: too many nodes", templateAnalysis.path);
+            return null;
+        }
+
+        // Find the expressions resolved by the generated code; node index -> properties
+        Map<Integer, List<Property>> expressions = new HashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            TemplateNode node = nodes.get(i);
+            if (node.isExpression()) {
+                List<Property> properties = findProperties(node.getExpressions().get(0), checkedTemplate.bindings);
+                if (properties != null) {
+                    expressions.put(i, properties);
+                }
+            }
+        }
+        if (expressions.isEmpty()) {
+            LOGGER.debugf("Renderer not generated for %s: no expression is supported", templateAnalysis.path);
+            return null;
+        }
+
+        ClassInfo declaringClass = checkedTemplate.isRecord() ? checkedTemplate.recordClass
+                : checkedTemplate.method.declaringClass();
+        String generatedName = DotNames.internalPackageNameWithTrailingSlash(declaringClass.name())
+                + toIdentifier(templateAnalysis.path) + SUFFIX;
+
+        // ItemResource_items_html_TemplateRenderer implements TemplateRenderer
+        try (ClassCreator renderer = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(TemplateRenderer.class).build()) {
+
+            MethodCreator getTemplateId = renderer.getMethodCreator("getTemplateId", String.class);
+            getTemplateId.returnValue(getTemplateId.load(templateAnalysis.path));
+
+            MethodCreator getSignature = renderer.getMethodCreator("getSignature", String.class);
+            getSignature.returnValue(getSignature.load(TemplateRenderer.signature(nodes)));
+
+            MethodCreator render = renderer.getMethodCreator("render", void.class, TemplateRenderer.Output.class);
+            ResultHandle output = render.getMethodParam(0);
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i).isText()) {
+                    render.invokeInterfaceMethod(OUTPUT_TEXT, output, render.load(i));
+                    continue;
+                }
+                ResultHandle rendered;
+                List<Property> properties = expressions.get(i);
+                if (properties != null) {
+                    // A separate method per expression keeps the render() method small
+                    MethodCreator expression = renderer
+                            .getMethodCreator("expression" + i, boolean.class, TemplateRenderer.Output.class)
+                            .setModifiers(Modifier.PRIVATE);
+                    implementExpression(expression, i, nodes.get(i).getExpressions().get(0), properties);
+                    rendered = render.invokeVirtualMethod(expression.getMethodDescriptor(), render.getThis(), output);
+                } else {
+                    rendered = render.invokeInterfaceMethod(OUTPUT_INTERPRET, output, render.load(i));
+                }
+                // The rest of the nodes is rendered by the interpreter if the node was not resolved synchronously
+                render.ifZero(rendered).trueBranch().returnVoid();
+            }
+            render.returnVoid();
+        }
+        LOGGER.debugf("Renderer generated for %s: %s of %s expressions resolved by the generated code",
+                templateAnalysis.path, expressions.size(), nodes.stream().filter(TemplateNode::isExpression).count());
+        return generatedName.replace('/', '.');
+    }
+
+    private void implementExpression(MethodCreator expression, int index, Expression expr, List<Property> properties) {
+        ResultHandle output = expression.getMethodParam(0);
+        ResultHandle value = expression.invokeInterfaceMethod(OUTPUT_DATA, output,
+                expression.load(expr.getParts().get(0).getName()));
+        if (properties.isEmpty()) {
+            // The value of the parameter is output as is if found
+            BytecodeCreator notFound = expression
+                    .ifNonZero(expression.instanceOf(value, Results.NotFound.class.getName()))
+                    .trueBranch();
+            notFound.returnValue(notFound.invokeInterfaceMethod(OUTPUT_INTERPRET, output, notFound.load(index)));
+        }
+        for (Property property : properties) {
+            // E.g. the value is null, not found or an instance of an unexpected class
+            BytecodeCreator unexpected = expression
+                    .ifNonZero(expression.instanceOf(value, property.clazz.name().toString()))
+                    .falseBranch();
+            unexpected.returnValue(unexpected.invokeInterfaceMethod(OUTPUT_INTERPRET, output, unexpected.load(index)));
+
+            MethodInfo method = property.method;
+            ResultHandle base = expression.checkCast(value, method.declaringClass().name().toString());
+            if (Modifier.isInterface(method.declaringClass().flags())) {
+                value = expression.invokeInterfaceMethod(MethodDescriptor.of(method), base);
+            } else {
+                value = expression.invokeVirtualMethod(MethodDescriptor.of(method), base);
+            }
+            if (method.returnType().kind() == Type.Kind.PRIMITIVE) {
+                value = box(expression, value, method.returnType().asPrimitiveType());
+            }
+        }
+        expression.returnValue(expression.invokeInterfaceMethod(OUTPUT_VALUE, output, expression.load(index), value));
+    }
+
+    /**
+     *
+     * @param expression
+     * @param bindings
+     * @return the properties following the parameter, or {@code null} if the expression is not supported
+     */
+    private List<Property> findProperties(Expression expression, Map<String, String> bindings) {
+        if (expression.isLiteral() || expression.hasNamespace()) {
+            return null;
+        }
+        List<Part> parts = expression.getParts();
+        Part root = parts.get(0);
+        String binding = bindings.get(root.getName());
+        if (root.isVirtualMethod() || binding == null) {
+            // Not a parameter of the type-safe template
+            return null;
+        }
+        List<Property> properties = new ArrayList<>(parts.size() - 1);
+        Type type = parts.size() > 1
+                ? TypeInfos.resolveTypeFromTypeInfo(TypeInfos.TYPE_INFO_SEPARATOR + binding + TypeInfos.TYPE_INFO_SEPARATOR)
+                : null;
+        for (Part part : parts.subList(1, parts.size())) {
+            if (type == null || part.isVirtualMethod() || BUILT_IN_PROPERTIES.contains(part.getName())) {
+                return null;
+            }
+            Property property = findProperty(type, part.getName());
+            if (property == null) {
+                return null;
+            }
+            properties.add(property);
+            Type returnType = property.method.returnType();
+            type = returnType.kind() == Type.Kind.CLASS || returnType.kind() == Type.Kind.PARAMETERIZED_TYPE ? returnType
+                    : null;
+        }
+        return properties;
+    }
+
+    private Property findProperty(Type type, String name) {
+        ClassInfo clazz = index.getClassByName(type.name());
+        if (clazz == null || !Modifier.isPublic(clazz.flags())) {
+            return null;
+        }
+        DotName className = clazz.name();
+        if (assignabilityCheck.isAssignableFrom(Names.COMPLETION_STAGE, className)
+                || assignabilityCheck.isAssignableFrom(Names.UNI, className)
+                || assignabilityCheck.isAssignableFrom(MAPPER, className)
+                || assignabilityCheck.isAssignableFrom(JSON_OBJECT, className)) {
+            // The value is resolved asynchronously or the properties are resolved by a built-in value resolver
+            return null;
+        }
+        for (TemplateExtensionMethodBuildItem extensionMethod : extensionMethods) {
+            if (!extensionMethod.hasNamespace()
+                    && extensionMethod.matchesName(name)
+                    && extensionMethod.getParams().evaluated().isEmpty()
+                    && assignabilityCheck.isAssignableFrom(extensionMethod.getMatchType(), type)) {
+                // An extension method may take precedence over the member
+                return null;
+            }
+        }
+        AnnotationTarget member = QuteProcessor.findProperty(name, clazz, lookupConfig);
+        if (member == null || member.kind() != AnnotationTarget.Kind.METHOD) {
+            // Fields are not supported, e.g. the field access of a Panache entity is replaced with a getter
+            return null;
+        }
+        MethodInfo method = member.asMethod();
+        if (!Modifier.isPublic(method.declaringClass().flags())) {
+            return null;
+        }
+        return new Property(clazz, method);
+    }
+
+    private static ResultHandle box(BytecodeCreator bc, ResultHandle value, PrimitiveType type) {
+        Class<?> primitive;
+        Class<?> wrapper;
+        switch (type.primitive()) {
+            case BOOLEAN:
+                primitive = boolean.class;
+                wrapper = Boolean.class;
+                break;
+            case BYTE:
+                primitive = byte.class;
+                wrapper = Byte.class;
+                break;
+            case CHAR:
+                primitive = char.class;
+                wrapper = Character.class;
+                break;
+            case SHORT:
+                primitive = short.class;
+                wrapper = Short.class;
+                break;
+            case INT:
+                primitive = int.class;
+                wrapper = Integer.class;
+                break;
+            case LONG:
+                primitive = long.class;
+                wrapper = Long.class;
+                break;
+            case FLOAT:
+                primitive = float.class;
+                wrapper = Float.class;
+                break;
+            case DOUBLE:
+                primitive = double.class;
+                wrapper = Double.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + type);
+        }
+        return bc.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, primitive), value);
+    }
+
+    private static final class Property {
+
+        // the class the property is resolved on
+        final ClassInfo clazz;
+        final MethodInfo method;
+
+        Property(ClassInfo clazz, MethodInfo method) {
+            this.clazz = clazz;
+            this.method = method;
+        }
+
+    }
+
+    private static String toIdentifier(String path) {
+        // ItemResource/items.html -> ItemResource_items_html
+        StringBuilder identifier = new StringBuilder(path.length());
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            identifier.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return identifier.toString();
+    }
+
+}
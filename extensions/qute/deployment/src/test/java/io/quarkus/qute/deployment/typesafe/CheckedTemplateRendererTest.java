@@ -0,0 +1,73 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.deployment.GeneratedTemplateRendererBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CheckedTemplateRendererTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, OtherItem.class)
+                    .addAsResource(new StringAsset(
+                            "{! Item detail !}Hello {item.name}! {item.primitiveId}:{#for other in item.otherItems}{other.id}{/for}:{name}"),
+                            "templates/CheckedTemplateRendererTest/item.html"))
+            .overrideConfigKey("quarkus.qute.generate-renderers", "true")
+            .addBuildChainCustomizer(buildCustomizer());
+
+    @Test
+    public void testRenderer() {
+        Item item = new Item("<Foo>", new OtherItem(), new OtherItem());
+        String expected = "Hello &lt;Foo&gt;! 9:11:bar";
+        assertEquals(expected, Templates.item(item, "bar").render());
+        assertEquals(expected, Templates.item(item, "bar").renderAsync().toCompletableFuture().join());
+        // The values that cannot be resolved by the generated code are rendered by the interpreter
+        assertEquals("Hello ! 9::", Templates.item(new Item(null), null).render());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance item(Item item, String name);
+
+    }
+
+    private static Consumer<BuildChainBuilder> buildCustomizer() {
+        return new Consumer<BuildChainBuilder>() {
+            @Override
+            public void accept(BuildChainBuilder builder) {
+                builder.addBuildStep(new BuildStep() {
+                    @Override
+                    public void execute(BuildContext context) {
+                        List<String> renderers = context.consumeMulti(GeneratedTemplateRendererBuildItem.class).stream()
+                                .map(GeneratedTemplateRendererBuildItem::getClassName)
+                                .collect(Collectors.toList());
+                        assertTrue(renderers.stream().anyMatch(r -> r.contains("CheckedTemplateRendererTest_item_html")),
+                                renderers.toString());
+                        context.produce(new FeatureBuildItem("template-renderer-test"));
+                    }
+                }).consumes(GeneratedTemplateRendererBuildItem.class)
+                        .produces(FeatureBuildItem.class)
+                        .build();
+            }
+        };
+    }
+
+}
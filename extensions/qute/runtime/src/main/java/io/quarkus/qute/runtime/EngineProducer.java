@@ -58,6 +58,7 @@
 import io.quarkus.qute.TemplateInstance.Initializer;
 import io.quarkus.qute.TemplateLocator;
 import io.quarkus.qute.TemplateLocator.TemplateLocation;
+import io.quarkus.qute.TemplateRenderer;
 import io.quarkus.qute.UserTagSectionHelper;
 import io.quarkus.qute.ValueResolver;
 import io.quarkus.qute.ValueResolvers;
@@ -243,6 +244,12 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             builder.addNamespaceResolver(provider);
         }
 
+        // Add generated renderers
+        for (String rendererClass : context.getRendererClasses()) {
+            builder.addTemplateRenderer(createRenderer(rendererClass));
+            LOGGER.debugf("Added generated template renderer: %s", rendererClass);
+        }
+
         // Add a special initializer for templates that contain an inject/cdi namespace expressions
         Map<String, Boolean> discoveredInjectTemplates = new HashMap<>();
         builder.addTemplateInstanceInitializer(new Initializer() {
@@ -361,6 +368,20 @@ private TemplateGlobalProvider createGlobalProvider(String initializerClassName)
         }
     }
 
+    private TemplateRenderer createRenderer(String rendererClassName) {
+        try {
+            Class<?> rendererClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(rendererClassName);
+            if (TemplateRenderer.class.isAssignableFrom(rendererClazz)) {
+                return (TemplateRenderer) rendererClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a template renderer: " + rendererClassName);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create template renderer: " + rendererClassName, e);
+        }
+    }
+
     private boolean isExcluded(String path) {
         for (Pattern p : templatePathExcludes) {
             if (p.matcher(path).matches()) {
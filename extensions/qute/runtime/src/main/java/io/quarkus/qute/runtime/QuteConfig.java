@@ -95,6 +95,17 @@ public interface QuteConfig {
     @WithDefault("PRIORITIZE")
     DuplicitTemplatesStrategy duplicitTemplatesStrategy();
 
+    /**
+     * If set to {@code true} then a renderer is generated at build time for each type-safe template. The generated code
+     * outputs the text and the values of the expressions that consist of a parameter followed by getters, e.g.
+     * {@code {item.name}}, without the interpreter. Sections and all other expressions are rendered by the interpreter.
+     * <p>
+     * Note that the generated code invokes the getters directly, i.e. the custom value resolvers are not used to resolve such
+     * expressions.
+     */
+    @WithDefault("false")
+    boolean generateRenderers();
+
     /**
      * Development mode configuration.
      */
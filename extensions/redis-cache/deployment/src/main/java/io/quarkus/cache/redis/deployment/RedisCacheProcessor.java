@@ -34,6 +34,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.types.TypeParser;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
@@ -48,8 +49,8 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdownContext) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdownContext));
     }
 
     @BuildStep
@@ -137,6 +138,14 @@ private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedInd
             if (cacheNameValue == null) {
                 continue;
             }
+            AnnotationValue bulkValue = instance.value("bulk");
+            if (bulkValue != null && bulkValue.asBoolean()) {
+                // the values are the values of the returned map
+                methodReturnType = bulkValueType(methodReturnType);
+                if (methodReturnType == null) {
+                    continue;
+                }
+            }
             String cacheName = cacheNameValue.asString();
             Set<Type> types = valueTypesFromAnnotations.get(cacheName);
             if (types == null) {
@@ -186,6 +195,17 @@ private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedInd
         return result;
     }
 
+    private static Type bulkValueType(Type returnType) {
+        Type mapType = returnType;
+        if (returnType.kind() == Type.Kind.PARAMETERIZED_TYPE && UNI.equals(returnType.name())) {
+            mapType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (mapType.kind() == Type.Kind.PARAMETERIZED_TYPE && mapType.asParameterizedType().arguments().size() == 2) {
+            return mapType.asParameterizedType().arguments().get(1);
+        }
+        return null;
+    }
+
     private static String typeToString(Type type) {
         StringBuilder result = new StringBuilder();
         typeToString(type, result);
@@ -0,0 +1,106 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.redis.runtime.RedisCache;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkRedisCacheTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(PriceService.class, TestUtil.class));
+
+    @Inject
+    PriceService priceService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testBulkCacheResult() {
+        assertThat(priceService.prices(Set.of("1", "2"))).isEqualTo(Map.of("1", "price-1", "2", "price-2"));
+        assertThat(TestUtil.allRedisKeys(redisDataSource)).contains(expectedCacheKey("1"), expectedCacheKey("2"));
+
+        // Only the missing key is loaded.
+        assertThat(priceService.prices(Set.of("1", "2", "3")))
+                .isEqualTo(Map.of("1", "price-1", "2", "price-2", "3", "price-3"));
+        assertThat(priceService.getInvocations()).containsExactly(Set.of("1", "2"), Set.of("3"));
+
+        // The values stored by the bulk method can be read by the single key API.
+        assertThat(cache.as(RedisCache.class).<String, String> getOrNull("3").await().indefinitely()).isEqualTo("price-3");
+    }
+
+    @Test
+    public void testKeysMissingFromTheLoadedValuesAreNotCached() {
+        Map<String, String> values = cache.as(RedisCache.class)
+                .getAll(Set.of("a", "b"), String.class, keys -> Map.of("a", "price-a"))
+                .await().indefinitely();
+        assertThat(values).isEqualTo(Map.of("a", "price-a"));
+        assertThat(TestUtil.allRedisKeys(redisDataSource)).contains(expectedCacheKey("a"))
+                .doesNotContain(expectedCacheKey("b"));
+    }
+
+    @Test
+    public void testNullLoadedValues() {
+        assertThatThrownBy(() -> cache.as(RedisCache.class)
+                .<String, String> getAll(Set.of("c"), String.class, keys -> null)
+                .await().indefinitely())
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining(CACHE_NAME)
+                .hasMessageContaining("returned null");
+        assertThatThrownBy(() -> cache.as(RedisCache.class)
+                .<String, String> getAllAsync(Set.of("c"), String.class, keys -> null)
+                .await().indefinitely())
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining(CACHE_NAME)
+                .hasMessageContaining("returned null");
+        assertThat(TestUtil.allRedisKeys(redisDataSource)).doesNotContain(expectedCacheKey("c"));
+    }
+
+    private static String expectedCacheKey(String key) {
+        return "cache:" + CACHE_NAME + ":" + key;
+    }
+
+    @ApplicationScoped
+    public static class PriceService {
+
+        private final List<Set<String>> invocations = new CopyOnWriteArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Map<String, String> prices(Set<String> ids) {
+            invocations.add(Set.copyOf(ids));
+            Map<String, String> prices = new HashMap<>();
+            for (String id : ids) {
+                prices.put(id, "price-" + id);
+            }
+            return prices;
+        }
+
+        public List<Set<String>> getInvocations() {
+            return invocations;
+        }
+    }
+}
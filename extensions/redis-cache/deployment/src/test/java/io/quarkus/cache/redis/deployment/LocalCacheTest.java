@@ -0,0 +1,111 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.RedisCache;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LocalCacheTest {
+
+    private static final String CHANNEL = "quarkus-cache:invalidations";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis.local-cache-max-size", "100");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @CacheName(SimpleCachedService.CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testValuesAreServedFromTheLocalCache() {
+        // the local cache is only used once the subscription to the invalidations is established
+        await().untilAsserted(() -> {
+            String value = simpleCachedService.cachedMethod("1");
+            redisDataSource.key().del(expectedCacheKey("1"));
+            assertThat(simpleCachedService.cachedMethod("1")).isEqualTo(value);
+        });
+    }
+
+    @Test
+    public void testInvalidation() {
+        await().untilAsserted(() -> {
+            String value = simpleCachedService.cachedMethod("2");
+            redisDataSource.key().del(expectedCacheKey("2"));
+            assertThat(simpleCachedService.cachedMethod("2")).isEqualTo(value);
+        });
+        String value = simpleCachedService.cachedMethod("2");
+
+        simpleCachedService.invalidate("2");
+        String recomputed = simpleCachedService.cachedMethod("2");
+        assertThat(recomputed).isNotEqualTo(value);
+        assertThat(redisDataSource.key().exists(expectedCacheKey("2"))).isTrue();
+
+        simpleCachedService.invalidateAll();
+        assertThat(simpleCachedService.cachedMethod("2")).isNotEqualTo(recomputed);
+    }
+
+    @Test
+    public void testInvalidationFromAnotherInstance() {
+        await().untilAsserted(() -> {
+            String value = simpleCachedService.cachedMethod("3");
+            redisDataSource.key().del(expectedCacheKey("3"));
+            assertThat(simpleCachedService.cachedMethod("3")).isEqualTo(value);
+        });
+        String value = simpleCachedService.cachedMethod("3");
+
+        redisDataSource.pubsub(String.class).publish(CHANNEL,
+                "other-instance\n" + SimpleCachedService.CACHE_NAME + "\n" + expectedCacheKey("3"));
+        await().untilAsserted(() -> assertThat(simpleCachedService.cachedMethod("3")).isNotEqualTo(value));
+    }
+
+    @Test
+    public void testBulkValuesAreServedFromTheLocalCache() {
+        RedisCache redisCache = cache.as(RedisCache.class);
+        await().untilAsserted(() -> {
+            Map<String, String> values = redisCache.getAll(Set.of("4", "5"), String.class, LocalCacheTest::load)
+                    .await().indefinitely();
+            redisDataSource.key().del(expectedCacheKey("4"), expectedCacheKey("5"));
+            assertThat(redisCache.getAll(Set.of("4", "5"), String.class, LocalCacheTest::load).await().indefinitely())
+                    .isEqualTo(values);
+        });
+
+        // the values loaded in bulk are also served to the single key API
+        String value = redisCache.<String, String> getAll(Set.of("6"), String.class, LocalCacheTest::load)
+                .await().indefinitely().get("6");
+        redisDataSource.key().del(expectedCacheKey("6"));
+        assertThat(redisCache.<String, String> getOrNull("6", String.class).await().indefinitely()).isEqualTo(value);
+    }
+
+    private static Map<String, String> load(Set<String> keys) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            values.put(key, UUID.randomUUID().toString());
+        }
+        return values;
+    }
+
+    private static String expectedCacheKey(String key) {
+        return "cache:" + SimpleCachedService.CACHE_NAME + ":" + key;
+    }
+}
@@ -105,6 +105,25 @@ public void testPutInTheCache() {
         assertThat(r).isNotNull();
     }
 
+    @Test
+    public void testBytesAreReturnedUnchangedWithoutRefresh() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = byte[].class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(2));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        // starts like the header of the values stored with their write time
+        byte[] value = { 0, 'q', 'c', 'w', 't', 0, 1, 0, 0, 0, 0, 0, 0, 0, 1, 42 };
+        assertThat(cache.<String, byte[]> get(k, s -> value).await().indefinitely()).containsExactly(value);
+        assertThat(cache.getOrNull(k, byte[].class).await().indefinitely()).containsExactly(value);
+
+        String other = UUID.randomUUID().toString();
+        byte[] legacy = { 0, 'w', 't', 0, 0, 0, 0, 0, 0, 0, 1, 42 };
+        assertThat(cache.<String, byte[]> get(other, s -> legacy).await().indefinitely()).containsExactly(legacy);
+        assertThat(cache.getOrNull(other, byte[].class).await().indefinitely()).containsExactly(legacy);
+    }
+
     @Test
     public void testExhaustConnectionPool() {
         String redisUrl = ConfigProvider.getConfig().getValue("quarkus.redis.hosts", String.class);
@@ -0,0 +1,115 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.RedisCache;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RefreshRedisCacheTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofMillis(200);
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis." + CACHE_NAME + ".expire-after-write", "1m")
+            .overrideConfigKey("quarkus.cache.redis." + CACHE_NAME + ".refresh-after-write", "200ms");
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testStaleValueIsReturnedWhileRefreshed() {
+        RedisCache redisCache = cache.as(RedisCache.class);
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(get(redisCache, "1", key -> "value-" + loads.incrementAndGet())).isEqualTo("value-1");
+
+        // a fresh entry is not reloaded
+        assertThat(get(redisCache, "1", key -> "value-" + loads.incrementAndGet())).isEqualTo("value-1");
+        assertThat(loads).hasValue(1);
+
+        await().pollDelay(REFRESH_AFTER_WRITE).untilAsserted(() -> assertThat(
+                get(redisCache, "1", key -> "value-" + loads.incrementAndGet())).isEqualTo("value-1"));
+        await().untilAsserted(() -> assertThat(
+                get(redisCache, "1", key -> "value-" + loads.incrementAndGet())).isNotEqualTo("value-1"));
+        assertThat(redisDataSource.key().ttl(expectedCacheKey("1"))).isPositive();
+    }
+
+    @Test
+    public void testInvalidationDuringRefreshIsKept() throws InterruptedException {
+        RedisCache redisCache = cache.as(RedisCache.class);
+        assertThat(get(redisCache, "2", key -> "value")).isEqualTo("value");
+
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        await().pollDelay(REFRESH_AFTER_WRITE).untilAsserted(() -> assertThat(get(redisCache, "2", key -> {
+            reloading.countDown();
+            try {
+                invalidated.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "reloaded";
+        })).isEqualTo("value"));
+
+        assertThat(reloading.await(10, TimeUnit.SECONDS)).isTrue();
+        redisCache.invalidate("2").await().indefinitely();
+        invalidated.countDown();
+
+        // the reloaded value does not overwrite the invalidation
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(5))
+                .until(() -> !redisDataSource.key().exists(expectedCacheKey("2")));
+    }
+
+    @Test
+    public void testWriteDuringRefreshIsKept() throws InterruptedException {
+        RedisCache redisCache = cache.as(RedisCache.class);
+        assertThat(get(redisCache, "3", key -> "value")).isEqualTo("value");
+
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        await().pollDelay(REFRESH_AFTER_WRITE).untilAsserted(() -> assertThat(get(redisCache, "3", key -> {
+            reloading.countDown();
+            try {
+                written.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "reloaded";
+        })).isEqualTo("value"));
+
+        assertThat(reloading.await(10, TimeUnit.SECONDS)).isTrue();
+        redisCache.put("3", "written").await().indefinitely();
+        written.countDown();
+
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(5))
+                .until(() -> "written".equals(redisCache.getOrNull("3", String.class).await().indefinitely()));
+    }
+
+    private static String get(RedisCache cache, String key, Function<String, String> loader) {
+        return cache.get(key, String.class, loader).await().indefinitely();
+    }
+
+    private static String expectedCacheKey(String key) {
+        return "cache:" + CACHE_NAME + ":" + key;
+    }
+}
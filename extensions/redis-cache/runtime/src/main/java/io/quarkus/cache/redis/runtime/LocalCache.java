@@ -0,0 +1,87 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.redis.runtime.datasource.InvalidationVersions;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * The in-process cache placed in front of a Redis cache, keeping the deserialized values.
+ * <p>
+ * The cache is only used while the invalidations published by the other application instances are received.
+ */
+class LocalCache {
+
+    private final Cache<String, Object> cache;
+    private final LocalCacheInvalidations invalidations;
+    private final InvalidationVersions versions = new InvalidationVersions();
+
+    LocalCache(long maxSize, Duration expireAfterWrite, LocalCacheInvalidations invalidations) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxSize);
+        if (expireAfterWrite != null) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        this.cache = builder.build();
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * @param key the actual Redis key
+     * @param loader retrieves the value from Redis, or computes it
+     * @return the cached value, or the value produced by {@code loader}
+     */
+    @SuppressWarnings("unchecked")
+    <V> Uni<V> get(String key, Supplier<Uni<V>> loader) {
+        Object cached = getIfPresent(key);
+        if (cached != null) {
+            return Uni.createFrom().item((V) cached);
+        }
+        long version = version(key);
+        return loader.get()
+                .invoke(value -> putIfCurrent(key, version, value));
+    }
+
+    /**
+     * @return the cached value, or {@code null} if it is not cached or the cache is bypassed
+     */
+    Object getIfPresent(String key) {
+        return invalidations.isActive() ? cache.getIfPresent(key) : null;
+    }
+
+    /**
+     * @return the version of the key, to be read before its value is retrieved and passed to
+     *         {@link #putIfCurrent(String, long, Object)}
+     */
+    long version(String key) {
+        return versions.get(key);
+    }
+
+    /**
+     * Caches the value, unless the key has been invalidated since the version was read.
+     */
+    void putIfCurrent(String key, long version, Object value) {
+        if (value == null) {
+            return;
+        }
+        cache.asMap().compute(key, (k, old) -> {
+            if (!invalidations.isActive() || !versions.isCurrent(key, version)) {
+                return old;
+            }
+            return value;
+        });
+    }
+
+    void invalidate(String key) {
+        versions.increment(key);
+        cache.invalidate(key);
+    }
+
+    void invalidateAll() {
+        versions.incrementAll();
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,90 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.redis.runtime.datasource.InvalidationSubscription;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Propagates the invalidations of the Redis caches to the in-process caches of all the application instances, using a
+ * Redis pub/sub channel.
+ * <p>
+ * A message contains the id of the publishing instance, the name of the cache and, unless all the entries are
+ * invalidated, the invalidated key, separated by new lines. The in-process caches are emptied when the subscription is
+ * lost, and bypassed until it is established again.
+ */
+public class LocalCacheInvalidations extends InvalidationSubscription {
+
+    static final String CHANNEL = "quarkus-cache:invalidations";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Redis redis;
+    private final Map<String, LocalCache> caches = new ConcurrentHashMap<>();
+
+    public LocalCacheInvalidations(Vertx vertx, Redis redis) {
+        super(vertx, redis);
+        this.redis = redis;
+    }
+
+    void register(String cacheName, LocalCache cache) {
+        caches.put(cacheName, cache);
+    }
+
+    /**
+     * Publishes the invalidation of an entry to the other instances.
+     *
+     * @param cacheName the name of the cache
+     * @param key the invalidated key, {@code null} if all the entries are invalidated
+     */
+    Uni<Void> publish(String cacheName, String key) {
+        String message = instanceId + "\n" + cacheName + (key == null ? "" : "\n" + key);
+        return redis.send(Request.cmd(Command.PUBLISH).arg(CHANNEL).arg(message))
+                .replaceWithVoid();
+    }
+
+    @Override
+    protected Uni<Response> subscribe(RedisConnection connection) {
+        return connection.send(Request.cmd(Command.SUBSCRIBE).arg(CHANNEL));
+    }
+
+    @Override
+    protected String description() {
+        return "the invalidations of the in-process caches";
+    }
+
+    @Override
+    protected void onMessage(Response message) {
+        if (message == null || message.size() < 3 || !"message".equalsIgnoreCase(message.get(0).toString())
+                || !CHANNEL.equals(message.get(1).toString())) {
+            return;
+        }
+        String[] parts = message.get(2).toString().split("\n", 3);
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+        LocalCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 2) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(parts[2]);
+        }
+    }
+
+    @Override
+    protected void invalidateAll() {
+        for (LocalCache cache : caches.values()) {
+            cache.invalidateAll();
+        }
+    }
+}
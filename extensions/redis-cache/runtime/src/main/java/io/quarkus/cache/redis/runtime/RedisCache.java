@@ -1,5 +1,7 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -76,6 +78,54 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param valueLoader the value loader called once with the keys having no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valueLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param valueLoader the value loader called once with the keys having no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Map<K, V>> valueLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param valueLoader the value loader called once with the keys having no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Class<V> clazz, Function<Set<K>, Uni<Map<K, V>>> valueLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param valueLoader the value loader called once with the keys having no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Uni<Map<K, V>>> valueLoader);
+
     /**
      * Put a value in the cache.
      *
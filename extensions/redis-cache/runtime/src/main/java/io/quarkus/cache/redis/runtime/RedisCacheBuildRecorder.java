@@ -6,12 +6,15 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.mutiny.core.Vertx;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -30,7 +33,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -49,6 +52,7 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            LocalCacheInvalidations invalidations = createLocalCacheInvalidations(cacheInfos, shutdownContext);
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
@@ -57,7 +61,7 @@ public CacheManager get() {
                                             cacheInfo.valueType);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName(), invalidations);
                                 caches.put(cacheInfo.name, cache);
                             }
                             return new CacheManagerImpl(caches);
@@ -68,6 +72,22 @@ public CacheManager get() {
         };
     }
 
+    private LocalCacheInvalidations createLocalCacheInvalidations(Set<RedisCacheInfo> cacheInfos,
+            ShutdownContext shutdownContext) {
+        for (RedisCacheInfo cacheInfo : cacheInfos) {
+            if (cacheInfo.localCacheMaxSize.isPresent()) {
+                // a single subscription is shared by all the in-process caches
+                LocalCacheInvalidations invalidations = new LocalCacheInvalidations(
+                        Arc.container().select(Vertx.class).get(),
+                        RedisCacheImpl.determineRedisClient(buildConfig.clientName()));
+                invalidations.start();
+                shutdownContext.addShutdownTask(invalidations::close);
+                return invalidations;
+            }
+        }
+        return null;
+    }
+
     public void setCacheKeyTypes(Map<String, Type> keyTypes) {
         RedisCacheBuildRecorder.keyTypes = keyTypes;
     }
@@ -4,10 +4,20 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -46,6 +56,10 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private static final Logger log = Logger.getLogger(RedisCacheImpl.class);
 
+    // SET key value XX, only if the key still holds the expected value
+    private static final String REPLACE_SCRIPT = "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('SET', KEYS[1], ARGV[2], 'XX', 'EX', ARGV[3]) end return false";
+
     private final Vertx vertx;
     private final Redis redis;
 
@@ -57,13 +71,28 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final LocalCache localCache;
+    private final LocalCacheInvalidations invalidations;
+
+    // the keys being refreshed, so that each key is only refreshed once at a time
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final boolean refreshEnabled;
+
+    // the values being loaded by a bulk retrieval, so that the keys missed by concurrent callers are only loaded once
+    private final Map<String, CompletableFuture<Object>> bulkLoads = new ConcurrentHashMap<>();
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
+        this(cacheInfo, redisClientName, null);
+    }
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName,
+            LocalCacheInvalidations invalidations) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
-                BlockingOperationControl::isBlockingAllowed);
+                BlockingOperationControl::isBlockingAllowed, invalidations);
     }
 
-    private static Redis determineRedisClient(Optional<String> redisClientName) {
+    static Redis determineRedisClient(Optional<String> redisClientName) {
         ArcContainer container = Arc.container();
         if (redisClientName.isPresent()) {
             return container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get();
@@ -73,6 +102,14 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
     }
 
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, null);
+    }
+
+    /**
+     * @param invalidations the invalidations of the in-process caches, {@code null} if the in-process cache is disabled
+     */
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            LocalCacheInvalidations invalidations) {
         this.vertx = vertx;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
@@ -88,6 +125,23 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        this.refreshEnabled = cacheInfo.refreshAfterWrite.isPresent() && cacheInfo.expireAfterWrite.isPresent()
+                && cacheInfo.expireAfterAccess.isEmpty();
+        if (cacheInfo.refreshAfterWrite.isPresent() && !refreshEnabled) {
+            log.warnf("The refresh-after-write duration of the Redis cache %s is ignored: it requires expire-after-write "
+                    + "and is not supported with expire-after-access", getName());
+        }
+
+        if (invalidations != null && cacheInfo.localCacheMaxSize.isPresent()) {
+            this.localCache = new LocalCache(cacheInfo.localCacheMaxSize.getAsLong(), localCacheTtl(cacheInfo),
+                    invalidations);
+            this.invalidations = invalidations;
+            invalidations.register(getName(), localCache);
+        } else {
+            this.localCache = null;
+            this.invalidations = null;
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -144,6 +198,16 @@ public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader)
     }
 
     private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
+        String actualKey = computeActualKey(encodeKey(key));
+        return withLocalCache(actualKey, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return getFromRedis(key, actualKey, type, valueLoader);
+            }
+        });
+    }
+
+    private <K, V> Uni<V> getFromRedis(K key, String actualKey, Type type, Function<K, V> valueLoader) {
         // With optimistic locking:
         // WATCH K
         // val = deserialize(GET K)
@@ -158,24 +222,32 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
-                Uni<V> startingPoint;
+                Uni<Response> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier(connection, encodedKey));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier(connection, encodedKey).get();
                 }
 
                 return startingPoint
-                        .chain(Unchecked.function(new UncheckedFunction<>() {
+                        .chain(Unchecked.function(new UncheckedFunction<Response, Uni<V>>() {
                             @Override
-                            public Uni<V> apply(V cached) throws Exception {
+                            public Uni<V> apply(Response stored) throws Exception {
+                                V cached = decodeValue(type, stored);
                                 if (cached != null) {
+                                    refreshIfNeeded(actualKey, encodedKey, stored, new Supplier<Uni<V>>() {
+                                        @Override
+                                        public Uni<V> get() {
+                                            // the caller does not wait for the refresh, so it always runs on a worker
+                                            return computeValue(key, valueLoader, true);
+                                        }
+                                    });
                                     // Unwatch if optimistic locking
                                     if (cacheInfo.useOptimisticLocking) {
                                         return connection.send(Request.cmd(Command.UNWATCH))
@@ -238,21 +310,38 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        return withLocalCache(actualKey, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return getAsyncFromRedis(key, actualKey, type, valueLoader);
+            }
+        });
+    }
+
+    private <K, V> Uni<V> getAsyncFromRedis(K key, String actualKey, Type type, Function<K, Uni<V>> valueLoader) {
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
-                Uni<V> startingPoint;
+                Uni<Response> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier(connection, encodedKey));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier(connection, encodedKey).get();
                 }
 
                 return startingPoint
-                        .chain(cached -> {
+                        .chain(stored -> {
+                            V cached = decodeValue(type, stored);
                             if (cached != null) {
+                                refreshIfNeeded(actualKey, encodedKey, stored, new Supplier<Uni<V>>() {
+                                    @Override
+                                    public Uni<V> get() {
+                                        return valueLoader.apply(key);
+                                    }
+                                });
                                 // Unwatch if optimistic locking
                                 if (cacheInfo.useOptimisticLocking) {
                                     return connection.send(Request.cmd(Command.UNWATCH))
@@ -282,6 +371,242 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        enforceDefaultType("getAll");
+        return getAll(keys, classOfValue, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valueLoader) {
+        return getAll(keys, (Type) clazz, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Map<K, V>> valueLoader) {
+        return getAll(keys, type.getType(), valueLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Type type, Function<Set<K>, Map<K, V>> valueLoader) {
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return getAllAsync(keys, type, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return computeValues(missingKeys, valueLoader, isWorkerThread);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        enforceDefaultType("getAllAsync");
+        return getAllAsync(keys, classOfValue, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Class<V> clazz, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        return getAllAsync(keys, (Type) clazz, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        return getAllAsync(keys, type.getType(), valueLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Type type, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        // Optimistic locking does not apply to bulk retrievals.
+        // Without expire-after-access:
+        // vals = deserialize(MGET K1 K2 ...), for the keys missing from the in-process cache
+        // missing keys => SET K computation.apply(missing keys).get(K), for each K, pipelined
+        Map<String, K> keysByActualKey = new LinkedHashMap<>();
+        for (K key : keys) {
+            keysByActualKey.put(computeActualKey(encodeKey(Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG))), key);
+        }
+        // the values loaded by concurrent callers may be added from other threads
+        Map<K, V> result = new ConcurrentHashMap<>();
+        Map<String, Long> versions = new LinkedHashMap<>();
+        for (Map.Entry<String, K> entry : keysByActualKey.entrySet()) {
+            V value = getFromLocalCache(entry.getKey());
+            if (value != null) {
+                result.put(entry.getValue(), value);
+            } else {
+                versions.put(entry.getKey(), localCache == null ? 0 : localCache.version(entry.getKey()));
+            }
+        }
+        if (versions.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        // the connection is released before the missing values are loaded, or the loads of concurrent callers awaited
+        return withConnection(new Function<RedisConnection, Uni<List<V>>>() {
+            @Override
+            public Uni<List<V>> apply(RedisConnection connection) {
+                return fetchAll(connection, versions.keySet(), type);
+            }
+        })
+                .chain(cached -> getAll(keysByActualKey, versions, cached, valueLoader, result))
+                .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
+                    log.warn("Unable to connect to Redis, recomputing cached values", e);
+                    return Objects.requireNonNull(valueLoader.apply(keys), nullLoaderResultMessage("Uni"));
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V getFromLocalCache(String actualKey) {
+        return localCache == null ? null : (V) localCache.getIfPresent(actualKey);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> Uni<Map<K, V>> getAll(Map<String, K> keysByActualKey, Map<String, Long> versions, List<V> cached,
+            Function<Set<K>, Uni<Map<K, V>>> valueLoader, Map<K, V> result) {
+        Map<String, CompletableFuture<Object>> loads = new LinkedHashMap<>();
+        List<Uni<Void>> pending = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<String, Long> entry : versions.entrySet()) {
+            String actualKey = entry.getKey();
+            K key = keysByActualKey.get(actualKey);
+            V value = cached.get(index++);
+            if (value != null) {
+                result.put(key, value);
+                if (localCache != null) {
+                    localCache.putIfCurrent(actualKey, entry.getValue(), value);
+                }
+                continue;
+            }
+            CompletableFuture<Object> load = new CompletableFuture<>();
+            CompletableFuture<Object> concurrentLoad = bulkLoads.putIfAbsent(actualKey, load);
+            if (concurrentLoad == null) {
+                loads.put(actualKey, load);
+            } else {
+                pending.add(Uni.createFrom().completionStage(concurrentLoad)
+                        .invoke(loaded -> {
+                            if (loaded != null) {
+                                result.put(key, (V) loaded);
+                            }
+                        })
+                        .replaceWithVoid());
+            }
+        }
+        if (!loads.isEmpty()) {
+            pending.add(load(keysByActualKey, loads, valueLoader, result));
+        }
+        if (pending.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        return Uni.join().all(pending).andFailFast().replaceWith(result);
+    }
+
+    private <V> Uni<List<V>> fetchAll(RedisConnection connection, Collection<String> actualKeys, Type type) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // GETEX only accepts a single key, the commands are pipelined on the connection
+            List<Uni<V>> values = new ArrayList<>(actualKeys.size());
+            for (String actualKey : actualKeys) {
+                values.add(doGet(connection, marshaller.encode(actualKey), type));
+            }
+            return Uni.join().all(values).andFailFast();
+        }
+        Request request = Request.cmd(Command.MGET);
+        for (String actualKey : actualKeys) {
+            request.arg(marshaller.encode(actualKey));
+        }
+        return connection.send(request)
+                .map(new Function<Response, List<V>>() {
+                    @Override
+                    public List<V> apply(Response response) {
+                        List<V> values = new ArrayList<>(response.size());
+                        for (int i = 0; i < response.size(); i++) {
+                            values.add(decodeValue(type, response.get(i)));
+                        }
+                        return values;
+                    }
+                });
+    }
+
+    private <K, V> Uni<Void> load(Map<String, K> keysByActualKey, Map<String, CompletableFuture<Object>> loads,
+            Function<Set<K>, Uni<Map<K, V>>> valueLoader, Map<K, V> result) {
+        Set<K> missingKeys = new LinkedHashSet<>();
+        for (String actualKey : loads.keySet()) {
+            missingKeys.add(keysByActualKey.get(actualKey));
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                return Objects.requireNonNull(valueLoader.apply(missingKeys), nullLoaderResultMessage("Uni"));
+            }
+        })
+                .chain(loaded -> {
+                    Objects.requireNonNull(loaded, nullLoaderResultMessage("map"));
+                    Map<String, V> values = new LinkedHashMap<>();
+                    for (String actualKey : loads.keySet()) {
+                        V value = loaded.get(keysByActualKey.get(actualKey));
+                        if (value != null) {
+                            result.put(keysByActualKey.get(actualKey), value);
+                            values.put(actualKey, value);
+                        }
+                    }
+                    return setAll(values)
+                            .invoke(() -> {
+                                for (Map.Entry<String, CompletableFuture<Object>> entry : loads.entrySet()) {
+                                    entry.getValue().complete(loaded.get(keysByActualKey.get(entry.getKey())));
+                                }
+                            });
+                })
+                .onTermination().invoke((ignored, failure, cancelled) -> {
+                    for (Map.Entry<String, CompletableFuture<Object>> entry : loads.entrySet()) {
+                        // no-op if the value has been loaded
+                        entry.getValue().completeExceptionally(failure != null ? failure : new CancellationException());
+                        bulkLoads.remove(entry.getKey(), entry.getValue());
+                    }
+                });
+    }
+
+    private <V> Uni<Void> setAll(Map<String, V> values) {
+        if (values.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+            @Override
+            public Uni<Void> apply(RedisConnection connection) {
+                // the SET commands are pipelined on the connection
+                List<Uni<Void>> writes = new ArrayList<>(values.size());
+                for (Map.Entry<String, V> entry : values.entrySet()) {
+                    writes.add(set(connection, marshaller.encode(entry.getKey()), marshaller.encode(entry.getValue())));
+                }
+                return Uni.join().all(writes).andFailFast().replaceWithVoid();
+            }
+        }).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                if (localCache == null) {
+                    return Uni.createFrom().voidItem();
+                }
+                // the other instances may still cache an entry which has expired from Redis
+                List<Uni<Void>> invalidations = new ArrayList<>(values.size());
+                for (Map.Entry<String, V> entry : values.entrySet()) {
+                    String actualKey = entry.getKey();
+                    invalidations.add(invalidateLocalCache(actualKey)
+                            .invoke(() -> localCache.putIfCurrent(actualKey, localCache.version(actualKey),
+                                    entry.getValue())));
+                }
+                return Uni.join().all(invalidations).andFailFast();
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> computeValues(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader,
+            boolean isWorkerThread) {
+        if (isWorkerThread) {
+            return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                @Override
+                public Map<K, V> get() {
+                    return valueLoader.apply(keys);
+                }
+            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        } else {
+            return Uni.createFrom().item(valueLoader.apply(keys));
+        }
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -289,16 +614,27 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         byte[] encodedValue = marshaller.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
+        }).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                return invalidateLocalCache(actualKey);
+            }
         });
     }
 
+    private String nullLoaderResultMessage(String expected) {
+        return "The bulk value loader of the cache " + getName() + " returned null instead of a " + expected
+                + " of the loaded values";
+    }
+
     private void enforceDefaultType(String methodName) {
         if (classOfValue == null) {
             throw new UnsupportedOperationException("Cannot use `" + methodName + "` method without a default type configured. "
@@ -325,13 +661,8 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        return this.<K, V> getOrNull(key, type)
+                .onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,19 +682,32 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return withLocalCache(actualKey, new Supplier<Uni<V>>() {
             @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+            public Uni<V> get() {
+                return withConnection(new Function<RedisConnection, Uni<V>>() {
+                    @Override
+                    public Uni<V> apply(RedisConnection redisConnection) {
+                        return doGet(redisConnection, encodedKey, type);
+                    }
+                });
             }
         });
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return invalidateLocalCache(actualKey);
+                    }
+                })
                 .replaceWithVoid();
     }
 
@@ -399,9 +743,55 @@ public Uni<?> apply(Set<String> setOfKeys) {
                 }
             }
         })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        // the keys cached in-process are not tested against the predicate
+                        return invalidateLocalCache(null);
+                    }
+                })
                 .replaceWithVoid();
     }
 
+    /**
+     * The local hits do not reset the expiration of the Redis entries, so the time to live of the in-process entries is
+     * capped by the expire-after-write and expire-after-access durations of the cache.
+     */
+    private static Duration localCacheTtl(RedisCacheInfo cacheInfo) {
+        Duration ttl = null;
+        for (Optional<Duration> duration : List.of(cacheInfo.localCacheExpireAfterWrite, cacheInfo.expireAfterWrite,
+                cacheInfo.expireAfterAccess)) {
+            if (duration.isPresent() && (ttl == null || duration.get().compareTo(ttl) < 0)) {
+                ttl = duration.get();
+            }
+        }
+        return ttl;
+    }
+
+    private <V> Uni<V> withLocalCache(String actualKey, Supplier<Uni<V>> loader) {
+        if (localCache == null) {
+            return loader.get();
+        }
+        return localCache.get(actualKey, loader);
+    }
+
+    /**
+     * Invalidates an entry of the in-process caches of this instance and of the other instances.
+     *
+     * @param actualKey the invalidated key, {@code null} to invalidate all the entries
+     */
+    private Uni<Void> invalidateLocalCache(String actualKey) {
+        if (localCache == null) {
+            return Uni.createFrom().voidItem();
+        }
+        if (actualKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(actualKey);
+        }
+        return invalidations.publish(getName(), actualKey);
+    }
+
     private void scanForKeys(String cursor, Set<String> result, UniEmitter<? super Set<String>> em) {
         Request cmd = Request.cmd(Command.SCAN).arg(cursor)
                 .arg("MATCH").arg(getKeyPattern());
@@ -479,34 +869,113 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
                 .replaceWithVoid();
     }
 
-    private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
-            Marshaller marshaller) {
+    private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz) {
+        return doGet(connection, encoded)
+                .map(new Function<Response, X>() {
+                    @Override
+                    public X apply(Response r) {
+                        return decodeValue(clazz, r);
+                    }
+                });
+    }
+
+    private Uni<Response> doGet(RedisConnection connection, byte[] encoded) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
-            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()));
         } else {
-            return connection.send(Request.cmd(Command.GET).arg(encoded))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return connection.send(Request.cmd(Command.GET).arg(encoded));
         }
     }
 
+    private <X> X decodeValue(Type clazz, Response r) {
+        if (r == null) {
+            return null;
+        }
+        // only the caches refreshing their entries store the write time
+        byte[] stored = r.toBytes();
+        return marshaller.decode(clazz, refreshEnabled ? TimestampedValues.unwrap(stored) : stored);
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
-        Request request = Request.cmd(Command.SET).arg(key).arg(value);
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
+        Request request = Request.cmd(Command.SET).arg(key).arg(storedValue(value));
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
+    }
+
+    private byte[] storedValue(byte[] value) {
+        // the write time is only needed to refresh the entries
+        return refreshEnabled ? TimestampedValues.wrap(value, System.currentTimeMillis()) : value;
+    }
+
+    /**
+     * Reloads the value of a key in the background if it has been written more than the refresh-after-write duration
+     * ago. The reloaded value only replaces the retrieved one, so it is discarded if the key is invalidated or written in
+     * the meantime.
+     */
+    private <V> void refreshIfNeeded(String actualKey, byte[] encodedKey, Response stored, Supplier<Uni<V>> reloader) {
+        if (!refreshEnabled) {
+            return;
+        }
+        byte[] storedValue = stored.toBytes();
+        long age = System.currentTimeMillis() - TimestampedValues.writeTime(storedValue);
+        if (age < cacheInfo.refreshAfterWrite.get().toMillis() || !refreshing.add(actualKey)) {
+            return;
+        }
+        log.tracef("Refreshing key [%s] in Redis cache [%s]", actualKey, getName());
+        Uni.createFrom().deferred(reloader::get)
+                .chain(new Function<V, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(V value) {
+                        if (value == null) {
+                            return Uni.createFrom().voidItem();
+                        }
+                        return redis.send(replaceRequest(encodedKey, storedValue, marshaller.encode(value)))
+                                .call(new Function<Response, Uni<?>>() {
+                                    @Override
+                                    public Uni<?> apply(Response replaced) {
+                                        if (replaced == null) {
+                                            log.tracef("Key [%s] in Redis cache [%s] was modified during its refresh",
+                                                    actualKey, getName());
+                                            return Uni.createFrom().voidItem();
+                                        }
+                                        return invalidateLocalCache(actualKey);
+                                    }
+                                });
+                    }
+                })
+                .onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        refreshing.remove(actualKey);
+                    }
+                })
+                .subscribe().with(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object ignored) {
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        log.warnf(failure, "Unable to refresh key [%s] in Redis cache [%s], the stale value is kept",
+                                actualKey, getName());
+                    }
+                });
+    }
+
+    /**
+     * Sets the value of the key only if it still holds the expected value, like {@code SET key value XX} with a
+     * compare-and-set on the previous value.
+     */
+    private Request replaceRequest(byte[] key, byte[] expected, byte[] value) {
+        return Request.cmd(Command.EVAL).arg(REPLACE_SCRIPT).arg(1).arg(key)
+                .arg(expected).arg(storedValue(value)).arg(cacheInfo.expireAfterWrite.get().toSeconds());
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -539,22 +1008,18 @@ public V get() {
         }
     }
 
-    private class GetFromConnectionSupplier<V> implements Supplier<Uni<? extends V>> {
+    private class GetFromConnectionSupplier implements Supplier<Uni<? extends Response>> {
         private final RedisConnection connection;
-        private final Type clazz;
         private final byte[] encodedKey;
-        private final Marshaller marshaller;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
+        public GetFromConnectionSupplier(RedisConnection connection, byte[] encodedKey) {
             this.connection = connection;
-            this.clazz = clazz;
             this.encodedKey = encodedKey;
-            this.marshaller = marshaller;
         }
 
         @Override
-        public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+        public Uni<Response> get() {
+            return doGet(connection, encodedKey);
         }
     }
 
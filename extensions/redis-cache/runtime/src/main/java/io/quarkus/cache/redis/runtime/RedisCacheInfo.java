@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -22,6 +23,11 @@ public class RedisCacheInfo {
      */
     public Optional<Duration> expireAfterWrite = Optional.empty();
 
+    /**
+     * The duration after which an entry is reloaded in the background when read
+     */
+    public Optional<Duration> refreshAfterWrite = Optional.empty();
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -51,4 +57,15 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * The maximum number of entries of the in-process cache. If not set, no in-process cache is used.
+     */
+    public OptionalLong localCacheMaxSize = OptionalLong.empty();
+
+    /**
+     * The time to live of the entries of the in-process cache, capped by {@link #expireAfterWrite} and
+     * {@link #expireAfterAccess}.
+     */
+    public Optional<Duration> localCacheExpireAfterWrite = Optional.empty();
 }
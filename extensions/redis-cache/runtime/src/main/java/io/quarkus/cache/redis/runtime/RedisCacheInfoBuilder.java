@@ -36,6 +36,12 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.expireAfterWrite = defaultRuntimeConfig.expireAfterWrite();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedRuntimeConfig.refreshAfterWrite();
+                } else if (defaultRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultRuntimeConfig.refreshAfterWrite();
+                }
+
                 // Handle the deprecated TTL
                 if (namedRuntimeConfig != null && namedRuntimeConfig.ttl().isPresent()) {
                     cacheInfo.expireAfterWrite = namedRuntimeConfig.ttl();
@@ -67,6 +73,18 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.localCacheMaxSize().isPresent()) {
+                    cacheInfo.localCacheMaxSize = namedRuntimeConfig.localCacheMaxSize();
+                } else if (defaultRuntimeConfig.localCacheMaxSize().isPresent()) {
+                    cacheInfo.localCacheMaxSize = defaultRuntimeConfig.localCacheMaxSize();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.localCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.localCacheExpireAfterWrite = namedRuntimeConfig.localCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.localCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.localCacheExpireAfterWrite = defaultRuntimeConfig.localCacheExpireAfterWrite();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -28,6 +29,18 @@ public interface RedisCacheRuntimeConfig {
      */
     Optional<Duration> expireAfterAccess();
 
+    /**
+     * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the entry's
+     * creation, or the most recent replacement of its value. The stale value is returned until the reload completes.
+     * This property requires {@code expire-after-write} and is ignored if {@code expire-after-access} is set.
+     * <p>
+     * The write time of each entry is stored in Redis together with its value, which changes the format of the stored
+     * values. The entries written before this property was set have an unknown write time and are refreshed on their first
+     * read. The entries written while it is set cannot be read by a cache which does not set it, so all the applications
+     * sharing the cache must use the same setting, and the cache should be invalidated when the property is removed.
+     */
+    Optional<Duration> refreshAfterWrite();
+
     /**
      * The key prefix allowing to identify the keys belonging to the cache.
      * If not set, the value "{@code cache:{cache-name}}" will be used. The variable
@@ -49,4 +62,19 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * The maximum number of entries kept in an in-process cache placed in front of Redis.
+     * The in-process cache holds the deserialized values, and is invalidated on every instance of the application
+     * through a Redis pub/sub channel when an entry is invalidated or replaced.
+     * If not set (default), no in-process cache is used.
+     */
+    OptionalLong localCacheMaxSize();
+
+    /**
+     * Specifies that each entry of the in-process cache should be removed once a fixed duration has elapsed after its
+     * creation. The duration is capped by the {@code expire-after-write} and {@code expire-after-access} durations of the
+     * cache, as the hits of the in-process cache do not reset the expiration of the Redis entries.
+     */
+    Optional<Duration> localCacheExpireAfterWrite();
 }
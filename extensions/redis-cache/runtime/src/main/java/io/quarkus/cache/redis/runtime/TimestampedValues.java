@@ -0,0 +1,53 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Stores the write time of an entry together with its value, so that the age of the entry is known when it is
+ * retrieved.
+ * <p>
+ * The stored value is made of a marker, a format version, the write time in milliseconds and the encoded value. Values
+ * stored without the marker, for example before the refresh was enabled, are returned as is, with an unknown write time.
+ * The values of the caches that do not refresh their entries are never wrapped nor unwrapped.
+ */
+final class TimestampedValues {
+
+    private static final byte[] MARKER = { 0, 'q', 'c', 'w', 't', 0 };
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = MARKER.length + 1 + Long.BYTES;
+
+    private TimestampedValues() {
+    }
+
+    static byte[] wrap(byte[] value, long writeTime) {
+        return ByteBuffer.allocate(HEADER_LENGTH + value.length)
+                .put(MARKER)
+                .put(VERSION)
+                .putLong(writeTime)
+                .put(value)
+                .array();
+    }
+
+    static byte[] unwrap(byte[] stored) {
+        if (!isTimestamped(stored)) {
+            return stored;
+        }
+        return Arrays.copyOfRange(stored, HEADER_LENGTH, stored.length);
+    }
+
+    /**
+     * @return the write time in milliseconds, or {@code -1} if it is unknown
+     */
+    static long writeTime(byte[] stored) {
+        if (!isTimestamped(stored)) {
+            return -1;
+        }
+        return ByteBuffer.wrap(stored, MARKER.length + 1, Long.BYTES).getLong();
+    }
+
+    private static boolean isTimestamped(byte[] stored) {
+        return stored.length >= HEADER_LENGTH && Arrays.equals(stored, 0, MARKER.length, MARKER, 0, MARKER.length)
+                && stored[MARKER.length] == VERSION;
+    }
+}
@@ -59,6 +59,25 @@ public interface ReactiveRedisDataSource {
      */
     Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> function);
 
+    /**
+     * Retrieves a {@link ReactiveRedisDataSource} pipelining the commands issued by the passed block.
+     * The commands subscribed during the same event-loop tick are written together on a single connection, without
+     * waiting for the reply of the previous commands. Unlike a transaction, each command still completes with its own
+     * result or failure, and the commands of other clients may be executed in between.
+     * <p>
+     * For example, the following block retrieves two values with a single round-trip:
+     *
+     * <pre>
+     * ds.pipeline(p -> Uni.combine().all().unis(
+     *         p.value(String.class).get("a"),
+     *         p.value(String.class).get("b")).asTuple());
+     * </pre>
+     *
+     * @param function the function receiving the pipelining data source and producing the result of the block
+     * @return the result of the block
+     */
+    <T> Uni<T> pipeline(Function<ReactiveRedisDataSource, Uni<T>> function);
+
     /**
      * Retrieves a {@link RedisDataSource} enqueuing commands in a Redis Transaction ({@code MULTI}).
      * Note that transaction acquires a single connection, and all the commands are enqueued in this connection.
@@ -12,6 +12,16 @@ public interface ObservableRedisMetrics {
      */
     void report(String name, long durationInNs, boolean succeeded);
 
+    /**
+     * Method called by the client-side cache after every lookup.
+     *
+     * @param name the client name
+     * @param hit whether the reply was found in the local cache
+     */
+    default void reportClientSideCache(String name, boolean hit) {
+
+    }
+
     ObservableRedisMetrics NOOP = new ObservableRedisMetrics() {
         @Override
         public void report(String name, long durationInNs, boolean succeeded) {
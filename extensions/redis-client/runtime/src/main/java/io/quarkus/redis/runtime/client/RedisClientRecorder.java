@@ -19,9 +19,11 @@
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.runtime.client.config.ClientSideCacheConfig;
 import io.quarkus.redis.runtime.client.config.RedisClientConfig;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ClientSideCache;
 import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -33,6 +35,7 @@
 import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
 import io.vertx.mutiny.redis.client.Request;
+import io.vertx.redis.client.RedisClientType;
 
 @Recorder
 public class RedisClientRecorder {
@@ -41,6 +44,7 @@ public class RedisClientRecorder {
     private final RedisConfig config;
     private static final Map<String, RedisClientAndApi> clients = new HashMap<>();
     private static final Map<String, ReactiveRedisDataSourceImpl> dataSources = new HashMap<>();
+    private static final Map<String, ClientSideCache> clientSideCaches = new HashMap<>();
     private Vertx vertx;
     private ObservableRedisMetrics metrics;
 
@@ -161,7 +165,9 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    RedisClientConfig clientConfig = getClientConfig(name);
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, clientConfig.autoPipelining(),
+                            clientConfig.maxWaitingHandlers(), getClientSideCache(name, redis, clientConfig));
                 });
             }
         };
@@ -192,6 +198,44 @@ public RedisClient get() {
         };
     }
 
+    private RedisClientConfig getClientConfig(String name) {
+        if (RedisConfig.isDefaultClient(name)) {
+            return config.defaultRedisClient();
+        }
+        return config.namedRedisClients().get(name);
+    }
+
+    private ClientSideCache getClientSideCache(String name, Redis redis, RedisClientConfig clientConfig) {
+        ClientSideCacheConfig cacheConfig = clientConfig.clientSideCache();
+        if (!cacheConfig.enabled()) {
+            return null;
+        }
+        if (clientConfig.clientType() == RedisClientType.CLUSTER) {
+            throw new ConfigurationException("The client-side caching of the Redis client " + name
+                    + " cannot be enabled, as it is not supported by the cluster client");
+        }
+        if (!isCaffeinePresent()) {
+            throw new ConfigurationException("The client-side caching of the Redis client " + name
+                    + " cannot be enabled, as it requires the quarkus-caffeine extension");
+        }
+        return clientSideCaches.computeIfAbsent(name, k -> {
+            ClientSideCache cache = new ClientSideCache(name, vertx, redis, cacheConfig.maxSize(),
+                    cacheConfig.expireAfterWrite().orElse(null), cacheConfig.prefixes().orElse(List.of()), metrics);
+            cache.start();
+            return cache;
+        });
+    }
+
+    private static boolean isCaffeinePresent() {
+        try {
+            Class.forName("com.github.benmanes.caffeine.cache.Caffeine", false,
+                    Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     private Duration getTimeoutForClient(String name) {
         Duration timeout;
         if (RedisConfig.isDefaultClient(name)) {
@@ -216,9 +260,13 @@ public void cleanup(ShutdownContext context) {
         context.addShutdownTask(new Runnable() {
             @Override
             public void run() {
+                for (ClientSideCache cache : clientSideCaches.values()) {
+                    cache.close();
+                }
                 for (RedisClientAndApi value : clients.values()) {
                     value.redis.close();
                 }
+                clientSideCaches.clear();
                 clients.clear();
                 dataSources.clear();
             }
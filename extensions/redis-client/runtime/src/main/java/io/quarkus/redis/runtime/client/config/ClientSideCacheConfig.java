@@ -0,0 +1,39 @@
+package io.quarkus.redis.runtime.client.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ClientSideCacheConfig {
+
+    /**
+     * Whether the values retrieved by the {@code GET} and {@code HGET} commands of the data sources are cached locally.
+     * <p>
+     * The cached entries are invalidated using the Redis server-assisted client-side caching
+     * ({@code CLIENT TRACKING}), which requires Redis 6+.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum number of entries of the local cache.
+     */
+    @WithDefault("10000")
+    long maxSize();
+
+    /**
+     * The duration after which an entry is evicted from the local cache, even if it has not been invalidated.
+     */
+    Optional<Duration> expireAfterWrite();
+
+    /**
+     * The key prefixes to cache. The invalidation messages are only sent for the keys matching one of these prefixes.
+     * If not set, all the keys are cached.
+     */
+    Optional<List<String>> prefixes();
+
+}
@@ -186,6 +186,23 @@ public interface RedisClientConfig {
     @ConfigDocDefault("discover")
     Optional<RedisTopology> topology();
 
+    /**
+     * Whether the commands executed by the Redis data sources are automatically pipelined.
+     * <p>
+     * If enabled, the commands issued during the same event-loop tick, or concurrently from other threads, are written
+     * together on a single connection without waiting for the replies of the previous commands. Each command still
+     * completes with its own result. Blocking commands and the commands executed in a transaction or using
+     * {@code withConnection} are not affected.
+     */
+    @WithDefault("false")
+    boolean autoPipelining();
+
+    /**
+     * Client-side caching config.
+     */
+    @ConfigDocSection
+    ClientSideCacheConfig clientSideCache();
+
     /**
      * TCP config.
      */
@@ -258,6 +275,8 @@ default String toDebugString() {
                 ", tls=" + tls() +
                 ", clientName=" + clientName() +
                 ", configureClientName=" + configureClientName() +
+                ", autoPipelining=" + autoPipelining() +
+                ", clientSideCache=" + clientSideCache() +
                 '}';
     }
 
@@ -0,0 +1,205 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A local cache of the replies of the {@code GET} and {@code HGET} commands, relying on the Redis server-assisted
+ * client-side caching.
+ * <p>
+ * A dedicated connection enables the tracking in broadcasting mode ({@code CLIENT TRACKING ON BCAST}) and receives the
+ * invalidation messages of every modified key matching the configured prefixes on the {@code __redis__:invalidate}
+ * channel. The invalidation is asynchronous, so a value modified by another client, or by this application, can be
+ * served from the local cache until the invalidation message is received.
+ * <p>
+ * The local cache is bypassed while the tracking connection is not established, and emptied when it is lost.
+ */
+public class ClientSideCache extends InvalidationSubscription {
+
+    private static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+    private static final Object NULL_REPLY = new Object();
+
+    private final String name;
+    private final List<String> prefixes;
+    private final ObservableRedisMetrics metrics;
+    private final Cache<String, CachedKey> cache;
+    private final InvalidationVersions versions = new InvalidationVersions();
+
+    /**
+     * @param name the name of the Redis client
+     * @param maxSize the maximum number of cached replies
+     * @param expireAfterWrite the duration after which a cached key is evicted, {@code null} to never expire
+     * @param prefixes the prefixes of the cached keys, all the keys are cached if empty
+     */
+    public ClientSideCache(String name, Vertx vertx, Redis redis, long maxSize, Duration expireAfterWrite,
+            List<String> prefixes, ObservableRedisMetrics metrics) {
+        super(vertx, redis);
+        this.name = name;
+        this.prefixes = List.copyOf(prefixes);
+        this.metrics = metrics == null ? ObservableRedisMetrics.NOOP : metrics;
+        Caffeine<String, CachedKey> builder = Caffeine.newBuilder()
+                .maximumWeight(maxSize)
+                .weigher((String key, CachedKey cached) -> cached.weight());
+        if (expireAfterWrite != null) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        this.cache = builder.build();
+    }
+
+    /**
+     * @return whether the tracking connection is established and the replies are cached
+     */
+    public boolean isTracking() {
+        return isActive();
+    }
+
+    /**
+     * @param key the encoded key
+     * @param field the encoded hash field, or {@code null} for the value of the key
+     * @param fetch retrieves the reply from Redis
+     * @return the cached reply, or the reply retrieved by {@code fetch}
+     */
+    Uni<Response> get(byte[] key, byte[] field, Supplier<Uni<Response>> fetch) {
+        if (!isActive()) {
+            return fetch.get();
+        }
+        String cacheKey = toString(key);
+        if (!isCached(cacheKey)) {
+            return fetch.get();
+        }
+        String cacheField = field == null ? null : toString(field);
+        CachedKey cached = cache.getIfPresent(cacheKey);
+        if (cached != null) {
+            Object reply = cached.get(cacheField);
+            if (reply != null) {
+                metrics.reportClientSideCache(name, true);
+                return reply == NULL_REPLY ? Uni.createFrom().nullItem() : Uni.createFrom().item((Response) reply);
+            }
+        }
+        metrics.reportClientSideCache(name, false);
+        long version = versions.get(cacheKey);
+        return fetch.get()
+                .invoke(response -> cache.asMap().compute(cacheKey, (k, old) -> {
+                    if (!isActive() || !versions.isCurrent(cacheKey, version)) {
+                        return old;
+                    }
+                    return CachedKey.with(old, cacheField, response == null ? NULL_REPLY : response);
+                }));
+    }
+
+    private boolean isCached(String key) {
+        if (prefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Uni<Response> subscribe(RedisConnection connection) {
+        return connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                .chain(id -> connection.send(trackingRequest(id.toLong())))
+                .chain(() -> connection.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL)));
+    }
+
+    @Override
+    protected String description() {
+        return "the invalidations of the client-side cache of the Redis client " + name;
+    }
+
+    private Request trackingRequest(long clientId) {
+        Request request = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                .arg("REDIRECT").arg(clientId)
+                .arg("BCAST");
+        for (String prefix : prefixes) {
+            request.arg("PREFIX").arg(prefix);
+        }
+        return request;
+    }
+
+    @Override
+    protected void onMessage(Response message) {
+        if (message == null || message.size() < 3 || !"message".equalsIgnoreCase(message.get(0).toString())
+                || !INVALIDATION_CHANNEL.equals(message.get(1).toString())) {
+            return;
+        }
+        Response keys = message.get(2);
+        if (keys == null) {
+            // FLUSHALL or FLUSHDB
+            invalidateAll();
+        } else {
+            for (int i = 0; i < keys.size(); i++) {
+                invalidate(toString(keys.get(i).toBuffer().getBytes()));
+            }
+        }
+    }
+
+    private void invalidate(String key) {
+        versions.increment(key);
+        cache.invalidate(key);
+    }
+
+    @Override
+    protected void invalidateAll() {
+        versions.incrementAll();
+        cache.invalidateAll();
+    }
+
+    private static String toString(byte[] bytes) {
+        // each byte is mapped to a single char, so distinct keys never collide
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * The cached replies of a key. Instances are never modified once cached, so that the weight stays accurate.
+     */
+    private static final class CachedKey {
+
+        // the reply of GET, or null if not cached
+        private final Object value;
+        // the replies of HGET, per field
+        private final Map<String, Object> fields;
+
+        private CachedKey(Object value, Map<String, Object> fields) {
+            this.value = value;
+            this.fields = fields;
+        }
+
+        static CachedKey with(CachedKey old, String field, Object reply) {
+            if (field == null) {
+                return new CachedKey(reply, old == null ? Map.of() : old.fields);
+            }
+            Map<String, Object> fields = old == null ? new HashMap<>() : new HashMap<>(old.fields);
+            fields.put(field, reply);
+            return new CachedKey(old == null ? null : old.value, fields);
+        }
+
+        Object get(String field) {
+            return field == null ? value : fields.get(field);
+        }
+
+        int weight() {
+            return (value == null ? 0 : 1) + fields.size();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkus.redis.runtime.datasource;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Executes the commands issued during the same event-loop tick, or concurrently from other threads before the pending
+ * commands are flushed, on a single connection acquired from the pool.
+ * <p>
+ * The commands are written back-to-back without waiting for the replies, so a burst of commands costs a single
+ * round-trip. Each command still completes with its own reply or failure, unlike {@link Redis#batch(List)} which fails
+ * all the commands if one of them fails. Blocking commands are never pipelined, as they would delay the other commands
+ * sent on the same connection.
+ * <p>
+ * A connection cannot wait for more replies than the {@code max-waiting-handlers} of the client, so a flush is split
+ * into chunks of at most {@code maxCommands} commands, each sent on its own connection.
+ */
+public class CommandPipeline implements RedisCommandExecutor {
+
+    private static final Set<io.vertx.redis.client.Command> BLOCKING_COMMANDS = Set.of(
+            io.vertx.redis.client.Command.BLPOP, io.vertx.redis.client.Command.BRPOP,
+            io.vertx.redis.client.Command.BRPOPLPUSH, io.vertx.redis.client.Command.BLMOVE,
+            io.vertx.redis.client.Command.BLMPOP, io.vertx.redis.client.Command.BZPOPMIN,
+            io.vertx.redis.client.Command.BZPOPMAX, io.vertx.redis.client.Command.BZMPOP,
+            io.vertx.redis.client.Command.XREAD, io.vertx.redis.client.Command.XREADGROUP,
+            io.vertx.redis.client.Command.WAIT);
+
+    /**
+     * The default {@code max-waiting-handlers} of the client.
+     */
+    public static final int DEFAULT_MAX_COMMANDS = 2048;
+
+    private final Vertx vertx;
+    private final Redis redis;
+    private final int maxCommands;
+    private List<PendingCommand> pending = new ArrayList<>();
+
+    public CommandPipeline(Vertx vertx, Redis redis) {
+        this(vertx, redis, DEFAULT_MAX_COMMANDS);
+    }
+
+    public CommandPipeline(Vertx vertx, Redis redis, int maxCommands) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.maxCommands = positive(maxCommands, "maxCommands");
+    }
+
+    static boolean isBlocking(Request request) {
+        return BLOCKING_COMMANDS.contains(request.getDelegate().command());
+    }
+
+    @Override
+    public Uni<Response> execute(Request request) {
+        if (isBlocking(request)) {
+            return redis.send(request);
+        }
+        return Uni.createFrom().emitter(emitter -> enqueue(new PendingCommand(request, emitter)));
+    }
+
+    private void enqueue(PendingCommand command) {
+        boolean first;
+        synchronized (this) {
+            first = pending.isEmpty();
+            pending.add(command);
+        }
+        if (first) {
+            vertx.runOnContext(this::flush);
+        }
+    }
+
+    private void flush() {
+        List<PendingCommand> commands;
+        synchronized (this) {
+            commands = pending;
+            pending = new ArrayList<>();
+        }
+        for (int i = 0; i < commands.size(); i += maxCommands) {
+            List<PendingCommand> chunk = commands.subList(i, Math.min(i + maxCommands, commands.size()));
+            redis.connect()
+                    .subscribe().with(connection -> send(connection, chunk), failure -> {
+                        for (PendingCommand command : chunk) {
+                            command.fail(failure);
+                        }
+                    });
+        }
+    }
+
+    private static void send(RedisConnection connection, List<PendingCommand> commands) {
+        AtomicInteger remaining = new AtomicInteger(commands.size());
+        for (PendingCommand command : commands) {
+            connection.send(command.request)
+                    .subscribe().with(response -> {
+                        command.complete(response);
+                        release(connection, remaining);
+                    }, failure -> {
+                        command.fail(failure);
+                        release(connection, remaining);
+                    });
+        }
+    }
+
+    private static void release(RedisConnection connection, AtomicInteger remaining) {
+        if (remaining.decrementAndGet() == 0) {
+            connection.closeAndForget();
+        }
+    }
+
+    private static final class PendingCommand {
+
+        private final Request request;
+        private final UniEmitter<? super Response> emitter;
+        // the commands are sent from the context of the first one, the others are completed on their own context
+        private final Context context;
+
+        private PendingCommand(Request request, UniEmitter<? super Response> emitter) {
+            this.request = request;
+            this.emitter = emitter;
+            this.context = io.vertx.core.Vertx.currentContext();
+        }
+
+        private void complete(Response response) {
+            if (context == null || context == io.vertx.core.Vertx.currentContext()) {
+                emitter.complete(response);
+            } else {
+                context.runOnContext(x -> emitter.complete(response));
+            }
+        }
+
+        private void fail(Throwable failure) {
+            if (context == null || context == io.vertx.core.Vertx.currentContext()) {
+                emitter.fail(failure);
+            } else {
+                context.runOnContext(x -> emitter.fail(failure));
+            }
+        }
+    }
+}
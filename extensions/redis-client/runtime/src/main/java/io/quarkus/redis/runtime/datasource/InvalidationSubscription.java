@@ -0,0 +1,146 @@
+package io.quarkus.redis.runtime.datasource;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A dedicated connection receiving the invalidation messages of a local cache.
+ * <p>
+ * The subscription is active once the reply of the subscription commands is received. The local cache must be bypassed
+ * while the subscription is not active, as invalidations may be missed, and is emptied when the subscription is lost. The
+ * connection is established again after a delay.
+ */
+public abstract class InvalidationSubscription {
+
+    private static final Logger LOGGER = Logger.getLogger(InvalidationSubscription.class);
+
+    private static final long RECONNECT_DELAY = 1000;
+
+    private final Vertx vertx;
+    private final Redis redis;
+
+    private RedisConnection connection;
+    private volatile boolean active;
+    private volatile boolean closed;
+
+    protected InvalidationSubscription(Vertx vertx, Redis redis) {
+        this.vertx = vertx;
+        this.redis = redis;
+    }
+
+    /**
+     * Sends the commands subscribing the connection to the invalidation messages.
+     *
+     * @return the reply of the last command, the subscription is active once it is received
+     */
+    protected abstract Uni<Response> subscribe(RedisConnection connection);
+
+    /**
+     * Handles a message received by the subscribed connection.
+     */
+    protected abstract void onMessage(Response message);
+
+    /**
+     * Invalidates the whole local cache, called when the subscription is lost or closed.
+     */
+    protected abstract void invalidateAll();
+
+    /**
+     * @return the description of the subscription, used in the log messages
+     */
+    protected abstract String description();
+
+    /**
+     * Establishes the subscription.
+     */
+    public void start() {
+        connect();
+    }
+
+    public void close() {
+        RedisConnection current;
+        synchronized (this) {
+            closed = true;
+            active = false;
+            current = connection;
+            connection = null;
+        }
+        if (current != null) {
+            current.closeAndForget();
+        }
+        invalidateAll();
+    }
+
+    /**
+     * @return whether the invalidation messages are received
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    private void connect() {
+        if (closed) {
+            return;
+        }
+        redis.connect()
+                .chain(c -> {
+                    synchronized (this) {
+                        if (closed) {
+                            return c.close();
+                        }
+                        connection = c;
+                    }
+                    c.handler(this::onMessage);
+                    c.exceptionHandler(t -> onDisconnect(c, t));
+                    c.endHandler(() -> onDisconnect(c, null));
+                    return subscribe(c)
+                            .invoke(() -> {
+                                synchronized (this) {
+                                    // the connection may have been lost or closed in the meantime
+                                    active = connection == c;
+                                }
+                            })
+                            .onFailure().call(() -> {
+                                synchronized (this) {
+                                    if (connection == c) {
+                                        connection = null;
+                                    }
+                                }
+                                return c.close();
+                            })
+                            .replaceWithVoid();
+                })
+                .subscribe().with(ignored -> {
+                }, failure -> {
+                    LOGGER.warnf(failure, "Unable to subscribe to %s", description());
+                    scheduleReconnect();
+                });
+    }
+
+    private void onDisconnect(RedisConnection c, Throwable failure) {
+        synchronized (this) {
+            if (connection != c) {
+                return;
+            }
+            connection = null;
+            active = false;
+        }
+        invalidateAll();
+        if (failure != null) {
+            LOGGER.debugf(failure, "The subscription to %s failed", description());
+        }
+        c.closeAndForget();
+        scheduleReconnect();
+    }
+
+    private void scheduleReconnect() {
+        if (!closed) {
+            vertx.setTimer(RECONNECT_DELAY, x -> connect());
+        }
+    }
+}
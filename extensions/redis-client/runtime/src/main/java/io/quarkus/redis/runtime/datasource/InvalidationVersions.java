@@ -0,0 +1,43 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Versions of the keys of a local cache, striped by hash code. The version of a key is incremented before the key is
+ * invalidated, so a value loaded concurrently with the invalidation is not cached if the version read before loading it
+ * has changed in the meantime.
+ */
+public final class InvalidationVersions {
+
+    private static final int STRIPES = 64;
+
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    /**
+     * @return the current version of the key, to be read before its value is loaded
+     */
+    public long get(String key) {
+        return versions.get(stripe(key));
+    }
+
+    /**
+     * @return whether the key has not been invalidated since the version was read
+     */
+    public boolean isCurrent(String key, long version) {
+        return versions.get(stripe(key)) == version;
+    }
+
+    public void increment(String key) {
+        versions.incrementAndGet(stripe(key));
+    }
+
+    public void incrementAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+}
@@ -17,10 +17,12 @@
 public class ReactiveHashCommandsImpl<K, F, V> extends AbstractHashCommands<K, F, V> implements ReactiveHashCommands<K, F, V> {
 
     private final ReactiveRedisDataSource reactive;
+    private final ClientSideCache clientSideCache;
 
     public ReactiveHashCommandsImpl(ReactiveRedisDataSourceImpl redis, Type k, Type f, Type v) {
         super(redis, k, f, v);
         this.reactive = redis;
+        this.clientSideCache = redis.getClientSideCache();
     }
 
     @Override
@@ -43,6 +45,10 @@ public Uni<Boolean> hexists(K key, F field) {
 
     @Override
     public Uni<V> hget(K key, F field) {
+        if (clientSideCache != null && key != null && field != null) {
+            return clientSideCache.get(marshaller.encode(key), marshaller.encode(field), () -> super._hget(key, field))
+                    .map(this::decodeV);
+        }
         return super._hget(key, field)
                 .map(this::decodeV);
     }
@@ -49,15 +49,40 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
 
     final Redis redis;
     final RedisConnection connection;
+    private final CommandPipeline pipeline;
+    private final int maxWaitingHandlers;
+    private final ClientSideCache clientSideCache;
     private final Vertx vertx;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, false, CommandPipeline.DEFAULT_MAX_COMMANDS, null);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, boolean autoPipelining) {
+        this(vertx, redis, api, autoPipelining, CommandPipeline.DEFAULT_MAX_COMMANDS, null);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, boolean autoPipelining,
+            int maxWaitingHandlers, ClientSideCache clientSideCache) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.maxWaitingHandlers = maxWaitingHandlers;
+        this.pipeline = autoPipelining ? new CommandPipeline(vertx, redis, maxWaitingHandlers) : null;
+        this.clientSideCache = clientSideCache;
+    }
+
+    private ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, CommandPipeline pipeline, int maxWaitingHandlers,
+            ClientSideCache clientSideCache) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.connection = null;
+        this.pipeline = pipeline;
+        this.maxWaitingHandlers = maxWaitingHandlers;
+        this.clientSideCache = clientSideCache;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -67,6 +92,9 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeline = null;
+        this.maxWaitingHandlers = CommandPipeline.DEFAULT_MAX_COMMANDS;
+        this.clientSideCache = null;
     }
 
     @Override
@@ -74,9 +102,24 @@ public Uni<Response> execute(Request request) {
         if (connection != null) {
             return connection.send(request);
         }
+        if (pipeline != null) {
+            return pipeline.execute(request);
+        }
         return redis.send(request);
     }
 
+    @Override
+    public <T> Uni<T> pipeline(Function<ReactiveRedisDataSource, Uni<T>> function) {
+        nonNull(function, "function");
+        if (connection != null) {
+            // The commands sent on a single connection are already pipelined
+            return function.apply(this);
+        }
+        return Uni.createFrom().deferred(
+                () -> function.apply(new ReactiveRedisDataSourceImpl(vertx, redis,
+                        new CommandPipeline(vertx, redis, maxWaitingHandlers), maxWaitingHandlers, clientSideCache)));
+    }
+
     @Override
     public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
         nonNull(function, "function");
@@ -445,4 +488,11 @@ public Redis getRedis() {
     public Vertx getVertx() {
         return vertx;
     }
+
+    /**
+     * @return the client-side cache, or {@code null} if the replies are not cached locally
+     */
+    ClientSideCache getClientSideCache() {
+        return clientSideCache;
+    }
 }
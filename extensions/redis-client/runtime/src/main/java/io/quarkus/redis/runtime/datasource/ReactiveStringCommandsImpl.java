@@ -15,10 +15,12 @@
         implements ReactiveStringCommands<K, V>, ReactiveValueCommands<K, V> {
 
     private final ReactiveRedisDataSource reactive;
+    private final ClientSideCache clientSideCache;
 
     public ReactiveStringCommandsImpl(ReactiveRedisDataSourceImpl redis, Type k, Type v) {
         super(redis, k, v);
         this.reactive = redis;
+        this.clientSideCache = redis.getClientSideCache();
     }
 
     @Override
@@ -106,6 +108,10 @@ public Uni<Long> decrby(K key, long amount) {
 
     @Override
     public Uni<V> get(K key) {
+        if (clientSideCache != null && key != null) {
+            return clientSideCache.get(marshaller.encode(key), null, () -> super._get(key))
+                    .map(this::decodeV);
+        }
         return super._get(key)
                 .map(this::decodeV);
     }
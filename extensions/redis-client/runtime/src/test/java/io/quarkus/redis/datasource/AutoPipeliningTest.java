@@ -0,0 +1,144 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.tuples.Tuple2;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.RedisOptions;
+
+public class AutoPipeliningTest extends DatasourceTestBase {
+
+    ReactiveRedisDataSource rds = new ReactiveRedisDataSourceImpl(vertx, redis, api, true);
+
+    RedisDataSource ds = new BlockingRedisDataSourceImpl((ReactiveRedisDataSourceImpl) rds, Duration.ofSeconds(5));
+
+    @AfterEach
+    public void tearDown() {
+        ds.flushall();
+    }
+
+    @Test
+    void autoPipelining() {
+        ReactiveValueCommands<String, Integer> values = rds.value(Integer.class);
+        List<Uni<Void>> sets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            sets.add(values.set(key + i, i));
+        }
+        Uni.join().all(sets).andFailFast().await().indefinitely();
+
+        List<Uni<Integer>> gets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            gets.add(values.get(key + i));
+        }
+        List<Integer> results = Uni.join().all(gets).andFailFast().await().indefinitely();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(results.get(i)).isEqualTo(i);
+        }
+
+        assertThat(ds.value(Integer.class).get(key + 42)).isEqualTo(42);
+    }
+
+    @Test
+    void failuresArePerCommand() {
+        ds.value(String.class).set(key, "hello");
+        ds.hash(String.class).hset(key + "-hash", "field", "value");
+
+        Uni<Long> incr = rds.value(String.class).incr(key);
+        Uni<String> hget = rds.hash(String.class).hget(key + "-hash", "field");
+        Tuple2<Throwable, String> results = Uni.combine().all()
+                .unis(incr.onItem().<Throwable> transform(x -> null).onFailure().recoverWithItem(f -> f), hget)
+                .asTuple()
+                .await().indefinitely();
+        assertThat(results.getItem1()).isNotNull();
+        assertThat(results.getItem2()).isEqualTo("value");
+    }
+
+    @Test
+    void pipeline() {
+        ReactiveRedisDataSource regular = new ReactiveRedisDataSourceImpl(vertx, redis, api);
+        ds.value(String.class).set(key + "a", "a");
+        ds.value(String.class).set(key + "b", "b");
+
+        Tuple2<String, String> results = regular.pipeline(p -> Uni.combine().all().unis(
+                p.value(String.class).get(key + "a"),
+                p.value(String.class).get(key + "b")).asTuple())
+                .await().indefinitely();
+        assertThat(results.getItem1()).isEqualTo("a");
+        assertThat(results.getItem2()).isEqualTo("b");
+
+        assertThatThrownBy(() -> regular.pipeline(p -> p.value(String.class).incr(key + "a")).await().indefinitely())
+                .hasMessageContaining("ERR");
+    }
+
+    @Test
+    void commandsAreSentOnTheSameConnection() {
+        // CLIENT ID returns the id of the connection the command is sent on
+        Tuple2<Response, Response> ids = onContext(() -> Uni.combine().all().unis(
+                rds.execute(Command.CLIENT, "ID"),
+                rds.execute(Command.CLIENT, "ID")).asTuple());
+        assertThat(ids.getItem1().toLong()).isEqualTo(ids.getItem2().toLong());
+
+        ReactiveRedisDataSource regular = new ReactiveRedisDataSourceImpl(vertx, redis, api);
+        ids = onContext(() -> regular.pipeline(p -> Uni.combine().all().unis(
+                p.execute(Command.CLIENT, "ID"),
+                p.execute(Command.CLIENT, "ID")).asTuple()));
+        assertThat(ids.getItem1().toLong()).isEqualTo(ids.getItem2().toLong());
+    }
+
+    @Test
+    void burstLargerThanMaxWaitingHandlers() {
+        Redis client = Redis.createClient(vertx, new RedisOptions()
+                .setConnectionString("redis://" + RedisServerExtension.getHost() + ":"
+                        + RedisServerExtension.getFirstMappedPort())
+                .setMaxWaitingHandlers(4));
+        try {
+            ReactiveRedisDataSource small = new ReactiveRedisDataSourceImpl(vertx, client, RedisAPI.api(client), true, 4,
+                    null);
+            ReactiveValueCommands<String, Integer> values = small.value(Integer.class);
+            onContext(() -> {
+                List<Uni<Void>> sets = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    sets.add(values.set(key + i, i));
+                }
+                return Uni.join().all(sets).andFailFast();
+            });
+            assertThat(ds.value(Integer.class).get(key + 99)).isEqualTo(99);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    void blockingCommandsAreNotPipelined() {
+        Uni<String> pop = rds.list(String.class).blpop(Duration.ofSeconds(5), key + "-list")
+                .map(kv -> kv.value);
+        Uni<Long> push = rds.list(String.class).lpush(key + "-list", "hello");
+        Tuple2<String, Long> results = Uni.combine().all().unis(pop, push).asTuple().await().atMost(Duration.ofSeconds(10));
+        assertThat(results.getItem1()).isEqualTo("hello");
+    }
+
+    /**
+     * Subscribes from an event-loop context, so that all the commands are issued during the same tick.
+     */
+    private static <T> T onContext(Supplier<Uni<T>> supplier) {
+        return Uni.createFrom().<T> emitter(emitter -> vertx.runOnContext(() -> supplier.get()
+                .subscribe().with(emitter::complete, emitter::fail)))
+                .await().atMost(Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,121 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.hash.HashCommands;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ClientSideCache;
+import io.quarkus.redis.runtime.datasource.CommandPipeline;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+
+@RequiresRedis6OrHigher
+public class ClientSideCacheTest extends DatasourceTestBase {
+
+    RedisDataSource other = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(5));
+
+    AtomicInteger hits = new AtomicInteger();
+    AtomicInteger misses = new AtomicInteger();
+    ClientSideCache cache;
+    RedisDataSource ds;
+
+    @BeforeEach
+    void init() {
+        cache = new ClientSideCache("test", vertx, redis, 100, null, List.of(key), new ObservableRedisMetrics() {
+            @Override
+            public void report(String name, long durationInNs, boolean succeeded) {
+            }
+
+            @Override
+            public void reportClientSideCache(String name, boolean hit) {
+                (hit ? hits : misses).incrementAndGet();
+            }
+        });
+        cache.start();
+        await().until(cache::isTracking);
+        ds = new BlockingRedisDataSourceImpl(new ReactiveRedisDataSourceImpl(vertx, redis, api, false,
+                CommandPipeline.DEFAULT_MAX_COMMANDS, cache),
+                Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+        other.flushall();
+    }
+
+    @Test
+    void value() {
+        ValueCommands<String, String> values = ds.value(String.class);
+        other.value(String.class).set(key, "hello");
+
+        assertThat(values.get(key)).isEqualTo("hello");
+        assertThat(values.get(key)).isEqualTo("hello");
+        assertThat(misses.get()).isEqualTo(1);
+        assertThat(hits.get()).isEqualTo(1);
+
+        other.value(String.class).set(key, "bonjour");
+        await().untilAsserted(() -> assertThat(values.get(key)).isEqualTo("bonjour"));
+    }
+
+    @Test
+    void missingValue() {
+        ValueCommands<String, String> values = ds.value(String.class);
+
+        assertThat(values.get(key)).isNull();
+        assertThat(values.get(key)).isNull();
+        assertThat(hits.get()).isEqualTo(1);
+
+        other.value(String.class).set(key, "hello");
+        await().untilAsserted(() -> assertThat(values.get(key)).isEqualTo("hello"));
+    }
+
+    @Test
+    void hash() {
+        HashCommands<String, String, String> hash = ds.hash(String.class);
+        other.hash(String.class).hset(key, "a", "hello");
+        other.hash(String.class).hset(key, "b", "world");
+
+        assertThat(hash.hget(key, "a")).isEqualTo("hello");
+        assertThat(hash.hget(key, "b")).isEqualTo("world");
+        assertThat(hash.hget(key, "a")).isEqualTo("hello");
+        assertThat(hash.hget(key, "b")).isEqualTo("world");
+        assertThat(misses.get()).isEqualTo(2);
+        assertThat(hits.get()).isEqualTo(2);
+
+        other.hash(String.class).hset(key, "b", "monde");
+        await().untilAsserted(() -> assertThat(hash.hget(key, "b")).isEqualTo("monde"));
+        assertThat(hash.hget(key, "a")).isEqualTo("hello");
+    }
+
+    @Test
+    void flush() {
+        ValueCommands<String, String> values = ds.value(String.class);
+        other.value(String.class).set(key, "hello");
+        assertThat(values.get(key)).isEqualTo("hello");
+
+        other.flushall();
+        await().untilAsserted(() -> assertThat(values.get(key)).isNull());
+    }
+
+    @Test
+    void keysNotMatchingThePrefixesAreNotCached() {
+        ValueCommands<String, String> values = ds.value(String.class);
+        other.value(String.class).set("other-" + key, "hello");
+
+        assertThat(values.get("other-" + key)).isEqualTo("hello");
+        assertThat(values.get("other-" + key)).isEqualTo("hello");
+        assertThat(hits.get()).isZero();
+        assertThat(misses.get()).isZero();
+    }
+}
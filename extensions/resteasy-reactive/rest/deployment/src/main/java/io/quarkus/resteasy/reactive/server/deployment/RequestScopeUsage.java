@@ -0,0 +1,187 @@
+package io.quarkus.resteasy.reactive.server.deployment;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.ParamConverter;
+import jakarta.ws.rs.ext.ParamConverterProvider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.common.model.ResourceMethod;
+import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
+
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.BeanResolver;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.arc.processor.InjectionPointInfo;
+
+/**
+ * Determines the resource methods that can be invoked without activating the CDI request scope.
+ * <p>
+ * A resource method qualifies if it only has parameters that are extracted from the request itself, and if neither its
+ * resource class nor the providers of the application depend on a bean that isn't {@code @Singleton},
+ * {@code @ApplicationScoped} or {@code @Dependent}, through their injection points, producers, interceptors and
+ * decorators. Programmatic lookups are followed through all the beans that could be obtained, and any other built-in
+ * bean except {@code InjectionPoint} is assumed to require the request scope.
+ */
+final class RequestScopeUsage {
+
+    private static final Logger log = Logger.getLogger(RequestScopeUsage.class);
+
+    private static final Set<ParameterType> REQUEST_PARAMETER_TYPES = EnumSet.of(ParameterType.PATH,
+            ParameterType.QUERY, ParameterType.HEADER, ParameterType.FORM, ParameterType.BODY, ParameterType.MATRIX,
+            ParameterType.COOKIE);
+
+    private static final Set<DotName> PROVIDER_TYPES = Set.of(DotName.createSimple(MessageBodyReader.class),
+            DotName.createSimple(MessageBodyWriter.class), DotName.createSimple(ReaderInterceptor.class),
+            DotName.createSimple(WriterInterceptor.class), DotName.createSimple(ParamConverterProvider.class),
+            DotName.createSimple(ParamConverter.class), DotName.createSimple(ContextResolver.class));
+
+    private final BeanResolver beanResolver;
+    private final Map<DotName, BeanInfo> classBeans = new HashMap<>();
+    private final Map<BeanInfo, Boolean> results = new HashMap<>();
+    private final boolean providersUseRequestScope;
+
+    RequestScopeUsage(Iterable<BeanInfo> beans, BeanResolver beanResolver) {
+        this.beanResolver = beanResolver;
+        boolean providersUseRequestScope = false;
+        for (BeanInfo bean : beans) {
+            if (bean.isClassBean()) {
+                classBeans.put(bean.getBeanClass(), bean);
+            }
+            if (!providersUseRequestScope && isProvider(bean) && usesRequestScope(bean)) {
+                log.debugf("Provider %s depends on the request scope, which is activated for every resource method", bean);
+                providersUseRequestScope = true;
+            }
+        }
+        this.providersUseRequestScope = providersUseRequestScope;
+    }
+
+    /**
+     * Marks the resource methods that don't require the request scope.
+     */
+    void markResourceMethods(List<ResourceClass> resourceClasses) {
+        if (providersUseRequestScope) {
+            return;
+        }
+        for (ResourceClass resourceClass : resourceClasses) {
+            BeanInfo resourceBean = classBeans.get(DotName.createSimple(resourceClass.getClassName()));
+            if (resourceBean == null || usesRequestScope(resourceBean)) {
+                continue;
+            }
+            for (ResourceMethod method : resourceClass.getMethods()) {
+                if (method instanceof ServerResourceMethod && method.getHttpMethod() != null
+                        && hasOnlyRequestParameters(method)) {
+                    ((ServerResourceMethod) method).setRequestScopeRequired(false);
+                }
+            }
+        }
+    }
+
+    private static boolean hasOnlyRequestParameters(ResourceMethod method) {
+        for (MethodParameter parameter : method.getParameters()) {
+            if (!REQUEST_PARAMETER_TYPES.contains(parameter.parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isProvider(BeanInfo bean) {
+        for (Type type : bean.getTypes()) {
+            if (PROVIDER_TYPES.contains(type.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean usesRequestScope(BeanInfo bean) {
+        Boolean result = results.get(bean);
+        if (result == null) {
+            Set<BeanInfo> visited = new HashSet<>();
+            result = usesRequestScope(bean, visited);
+            if (result) {
+                results.put(bean, Boolean.TRUE);
+            } else {
+                // nothing reachable from the visited beans uses the request scope
+                for (BeanInfo visitedBean : visited) {
+                    results.put(visitedBean, Boolean.FALSE);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean usesRequestScope(BeanInfo bean, Set<BeanInfo> visited) {
+        Boolean result = results.get(bean);
+        if (result != null) {
+            return result;
+        }
+        if (!visited.add(bean)) {
+            return false;
+        }
+        if (!BuiltinScope.SINGLETON.is(bean.getScope()) && !BuiltinScope.APPLICATION.is(bean.getScope())
+                && !BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            return true;
+        }
+        if (bean.isSynthetic() && BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            // the creation logic of a synthetic bean is opaque, and a dependent bean is created for every lookup
+            return true;
+        }
+        if (bean.getDeclaringBean() != null && usesRequestScope(bean.getDeclaringBean(), visited)) {
+            return true;
+        }
+        for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+            if (usesRequestScope(injectionPoint, visited)) {
+                return true;
+            }
+        }
+        for (BeanInfo interceptor : bean.getBoundInterceptors()) {
+            if (usesRequestScope(interceptor, visited)) {
+                return true;
+            }
+        }
+        for (BeanInfo decorator : bean.getBoundDecorators()) {
+            if (usesRequestScope(decorator, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean usesRequestScope(InjectionPointInfo injectionPoint, Set<BeanInfo> visited) {
+        if (injectionPoint.isDelegate()) {
+            return false;
+        }
+        if (injectionPoint.isProgrammaticLookup()) {
+            for (BeanInfo candidate : beanResolver.resolveBeans(injectionPoint.getRequiredType(),
+                    injectionPoint.getRequiredQualifiers())) {
+                if (usesRequestScope(candidate, visited)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        BeanInfo resolved = injectionPoint.getResolvedBean();
+        if (resolved == null) {
+            return !DotNames.INJECTION_POINT.equals(injectionPoint.getRequiredType().name());
+        }
+        return usesRequestScope(resolved, visited);
+    }
+}
@@ -132,6 +132,7 @@
 import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
@@ -1350,6 +1351,7 @@ public GlobalHandlerCustomizerBuildItem securityContextOverrideHandler() {
     @BuildStep
     @Record(value = ExecutionTime.STATIC_INIT, useIdentityComparisonForParameters = false)
     public void setupDeployment(BeanContainerBuildItem beanContainerBuildItem,
+            ValidationPhaseBuildItem validationPhaseBuildItem,
             Capabilities capabilities,
             ResteasyReactiveConfig config,
             Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
@@ -1432,6 +1434,11 @@ public void setupDeployment(BeanContainerBuildItem beanContainerBuildItem,
             dynamicFeats.addFeature(resourceFeature);
         }
 
+        if (serverConfig.lazyRequestContext()) {
+            new RequestScopeUsage(validationPhaseBuildItem.getContext().beans(), validationPhaseBuildItem.getBeanResolver())
+                    .markResourceMethods(resourceClasses);
+        }
+
         ServerSerialisers serialisers = serverSerialisersBuildItem.getSerialisers();
 
         for (AdditionalReaderWriter.Entry additionalReader : additionalReaders.get()) {
@@ -5,6 +5,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigMapping(prefix = "quarkus.rest")
 @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
@@ -18,4 +19,19 @@ public interface ResteasyReactiveServerConfig {
      * This value is always resolved relative to {@code quarkus.http.root-path}.
      */
     Optional<String> path();
+
+    /**
+     * If enabled, resource methods that don't depend on the CDI request scope are invoked without activating it,
+     * which avoids activating and terminating the request context for every request.
+     * <p>
+     * This is determined at build time: a resource method is only invoked without the request scope if it only
+     * has parameters extracted from the request, and if neither its resource class nor the providers of the
+     * application inject, directly or transitively, a bean that is not {@code @Singleton}, {@code @ApplicationScoped} or
+     * {@code @Dependent}. Filters, security checks and exception mappers still activate the request scope when they run.
+     * <p>
+     * Request scoped beans that are looked up dynamically, for example through {@code Arc.container()} or
+     * {@code CDI.current()}, can't be detected, so this should only be enabled if resource methods don't do that.
+     */
+    @WithDefault("false")
+    boolean lazyRequestContext();
 }
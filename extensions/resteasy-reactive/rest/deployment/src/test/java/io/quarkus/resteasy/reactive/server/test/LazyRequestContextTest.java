@@ -0,0 +1,135 @@
+package io.quarkus.resteasy.reactive.server.test;
+
+import static io.restassured.RestAssured.given;
+
+import java.net.URI;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LazyRequestContextTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(StatelessResource.class, StatefulResource.class, Greeting.class, RequestData.class,
+                            Model.class))
+            .overrideConfigKey("quarkus.rest.lazy-request-context", "true");
+
+    @Test
+    public void testStatelessResource() {
+        given().when().get("/stateless")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("hello/false"));
+        given().header("foo", "bar").when().get("/stateless/param/value")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("value/bar/false"));
+        given().when().get("/stateless/created")
+                .then()
+                .statusCode(201)
+                .header("Location", Matchers.endsWith("/stateless/created/1"));
+        // @Context parameters require the request scope
+        given().when().get("/stateless/context")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("/stateless/context/true"));
+    }
+
+    @Test
+    public void testStatefulResource() {
+        given().when().get("/stateful")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("stateful/true"));
+    }
+
+    @Path("stateless")
+    public static class StatelessResource {
+
+        @Inject
+        Greeting greeting;
+
+        @GET
+        public String hello() {
+            return greeting.greet() + "/" + Arc.container().requestContext().isActive();
+        }
+
+        @GET
+        @Path("param/{value}")
+        public String param(@PathParam("value") Model model) {
+            return model.value + "/" + model.fooHeader + "/" + Arc.container().requestContext().isActive();
+        }
+
+        @GET
+        @Path("created")
+        public Response created() {
+            return Response.created(URI.create("/stateless/created/1")).build();
+        }
+
+        @GET
+        @Path("context")
+        public String context(@Context UriInfo uriInfo) {
+            return uriInfo.getPath() + "/" + Arc.container().requestContext().isActive();
+        }
+    }
+
+    @Path("stateful")
+    public static class StatefulResource {
+
+        @Inject
+        RequestData requestData;
+
+        @GET
+        public String hello() {
+            return requestData.getValue() + "/" + Arc.container().requestContext().isActive();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Greeting {
+
+        public String greet() {
+            return "hello";
+        }
+    }
+
+    @RequestScoped
+    public static class RequestData {
+
+        public String getValue() {
+            return "stateful";
+        }
+    }
+
+    public static class Model {
+
+        public final String value;
+        public final String fooHeader;
+
+        public Model(String value, String fooHeader) {
+            this.value = value;
+            this.fooHeader = fooHeader;
+        }
+
+        public static Model valueOf(String value) {
+            return new Model(value, (String) CurrentRequestManager.get().getHeader("foo", true));
+        }
+    }
+}
@@ -81,11 +81,24 @@ public void testFiles() throws Exception {
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, "10")
                 .body(Matchers.equalTo(content.substring(20, 30)));
+        RestAssured.given().header("Range", "bytes=2-5").get("/providers/file/file-partial")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "4")
+                .header("Content-Range", "bytes 2-5/10")
+                .body(Matchers.equalTo(content.substring(22, 26)));
         RestAssured.get("/providers/file/path")
                 .then()
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, contentLength)
+                .header("Accept-Ranges", "bytes")
                 .body(Matchers.equalTo(content));
+        RestAssured.given().header("Range", "bytes=-3").get("/providers/file/path-partial")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "3")
+                .header("Content-Range", "bytes 7-9/10")
+                .body(Matchers.equalTo(content.substring(27, 30)));
         RestAssured.get("/providers/file/path-partial")
                 .then()
                 .statusCode(200)
@@ -5,19 +5,34 @@
 import org.jboss.resteasy.reactive.server.core.CurrentRequest;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.smallrye.common.vertx.ContextLocals;
+import io.smallrye.common.vertx.VertxContext;
 import io.vertx.ext.web.RoutingContext;
 
 public class QuarkusCurrentRequest implements CurrentRequest {
 
+    static final String CURRENT_REQUEST_KEY = QuarkusCurrentRequest.class.getName();
+
     private final CurrentVertxRequest currentVertxRequest;
+    private final ManagedContext requestContext;
 
     public QuarkusCurrentRequest(CurrentVertxRequest currentVertxRequest) {
         this.currentVertxRequest = currentVertxRequest;
+        this.requestContext = Arc.container().requestContext();
     }
 
     @Override
     public ResteasyReactiveRequestContext get() {
+        if (!requestContext.isActive() && VertxContext.isOnDuplicatedContext()) {
+            // the request scope is not activated for resource methods that don't need it
+            ResteasyReactiveRequestContext current = ContextLocals.get(CURRENT_REQUEST_KEY, null);
+            if (current != null) {
+                return current;
+            }
+        }
         return (ResteasyReactiveRequestContext) currentVertxRequest.getOtherHttpContextObject();
     }
 
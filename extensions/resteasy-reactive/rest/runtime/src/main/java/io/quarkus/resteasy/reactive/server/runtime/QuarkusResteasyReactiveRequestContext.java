@@ -16,6 +16,7 @@
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.smallrye.common.vertx.ContextLocals;
 import io.smallrye.common.vertx.VertxContext;
 import io.vertx.ext.web.RoutingContext;
 
@@ -49,6 +50,15 @@ protected void handleRequestScopeActivation() {
         }
     }
 
+    @Override
+    protected void handleRequestScopeSkipped() {
+        // the current request is normally kept in a request scoped bean,
+        // so make it available to QuarkusCurrentRequest through the duplicated context instead
+        if (VertxContext.isOnDuplicatedContext()) {
+            ContextLocals.put(QuarkusCurrentRequest.CURRENT_REQUEST_KEY, this);
+        }
+    }
+
     @Override
     protected void requestScopeDeactivated() {
         // we intentionally don't call 'CurrentRequestManager.set(null)'
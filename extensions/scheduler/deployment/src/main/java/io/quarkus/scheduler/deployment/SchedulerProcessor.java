@@ -89,6 +89,7 @@
 import io.quarkus.scheduler.runtime.CompositeScheduler;
 import io.quarkus.scheduler.runtime.Constituent;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
+import io.quarkus.scheduler.runtime.SchedulerConfig.TriggerEngine;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
 import io.smallrye.common.annotation.Identifier;
@@ -316,7 +317,13 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
+            long checkPeriod;
+            if (capabilities.isPresent(Capability.QUARTZ)) {
+                checkPeriod = 50;
+            } else {
+                // the queue engine evaluates the triggers when they are due
+                checkPeriod = config.triggerEngine() == TriggerEngine.QUEUE ? 0 : SimpleScheduler.CHECK_PERIOD;
+            }
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
@@ -0,0 +1,97 @@
+package io.quarkus.scheduler.test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QueueTriggerEngineTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.trigger-engine", "queue");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // 10 executions every 100ms would take at least 10 seconds with the tick engine
+        assertTrue(Jobs.LATCH.await(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPauseResume() {
+        scheduler.pause("fast");
+        assertTrue(scheduler.isPaused("fast"));
+        int count = Jobs.COUNTER.get();
+        // an execution triggered before the pause may still complete, no other execution is expected
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                .until(() -> Jobs.COUNTER.get() <= count + 1);
+        scheduler.resume("fast");
+        int paused = Jobs.COUNTER.get();
+        await().atMost(Duration.ofSeconds(2)).until(() -> Jobs.COUNTER.get() > paused);
+    }
+
+    @Test
+    public void testProgrammaticJob() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        scheduler.newJob("programmatic")
+                .setInterval("50ms")
+                .setTask(ec -> latch.countDown())
+                .schedule();
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("programmatic"));
+
+        AtomicInteger executions = new AtomicInteger();
+        AtomicReference<Instant> firstExecution = new AtomicReference<>();
+        CountDownLatch delayedLatch = new CountDownLatch(1);
+        Instant scheduledAt = Instant.now();
+        scheduler.newJob("delayed")
+                .setInterval("50ms")
+                .setDelayed("500ms")
+                .setTask(ec -> {
+                    firstExecution.compareAndSet(null, Instant.now());
+                    executions.incrementAndGet();
+                    delayedLatch.countDown();
+                })
+                .schedule();
+        assertTrue(delayedLatch.await(3, TimeUnit.SECONDS));
+        assertTrue(Duration.between(scheduledAt, firstExecution.get()).toMillis() >= 500,
+                "Executed before the initial delay: " + firstExecution.get());
+        assertNotNull(scheduler.unscheduleJob("delayed"));
+        int count = executions.get();
+        // an execution triggered before the job was unscheduled may still complete, no other execution is expected
+        await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(2))
+                .until(() -> executions.get() <= count + 1);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(10);
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Scheduled(every = "100ms", identity = "fast")
+        void fast() {
+            LATCH.countDown();
+            COUNTER.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Measures the scheduling accuracy of the queue trigger engine with a large number of registered jobs.
+ * <p>
+ * It is not part of the default test run, enable it with {@code -Drun-scheduler-benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "run-scheduler-benchmark", matches = "true", disabledReason = "Timing sensitive benchmark")
+public class QueueTriggerEngineBenchmarkTest {
+
+    private static final Logger LOG = Logger.getLogger(QueueTriggerEngineBenchmarkTest.class);
+
+    private static final int JOBS = 100_000;
+    private static final int EXECUTIONS = 20;
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.scheduler.start-mode", "forced")
+            .overrideConfigKey("quarkus.scheduler.trigger-engine", "queue");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testManyJobs() throws InterruptedException {
+        long start = System.nanoTime();
+        for (int i = 0; i < JOBS; i++) {
+            // these jobs are never due during the test
+            scheduler.newJob("idle" + i)
+                    .setInterval("1h")
+                    .setDelayed("1h")
+                    .setTask(ec -> {
+                    })
+                    .schedule();
+        }
+        long registration = System.nanoTime() - start;
+        assertEquals(JOBS, scheduler.getScheduledJobs().size());
+
+        CountDownLatch latch = new CountDownLatch(EXECUTIONS);
+        AtomicLong maxLag = new AtomicLong();
+        scheduler.newJob("fast")
+                .setInterval("50ms")
+                .setTask(ec -> {
+                    long lag = Duration.between(ec.getScheduledFireTime(), Instant.now()).toMillis();
+                    maxLag.accumulateAndGet(lag, Math::max);
+                    latch.countDown();
+                })
+                .schedule();
+        // the fast job is not delayed by the idle jobs
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        LOG.infof("Registered %s jobs in %s ms, max lag of a job executed every 50ms: %s ms", JOBS,
+                TimeUnit.NANOSECONDS.toMillis(registration), maxLag.get());
+        assertTrue(maxLag.get() < 1000, "Max lag: " + maxLag.get());
+
+        for (int i = 0; i < JOBS; i++) {
+            scheduler.unscheduleJob("idle" + i);
+        }
+        assertEquals(1, scheduler.getScheduledJobs().size());
+    }
+
+}
@@ -47,4 +47,26 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean useCompositeScheduler();
 
+    /**
+     * The engine used by the simple scheduler to fire the triggers of the scheduled jobs.
+     */
+    @WithDefault("tick")
+    TriggerEngine triggerEngine();
+
+    enum TriggerEngine {
+
+        /**
+         * The triggers of all jobs are checked every second. A job cannot be executed more often than once per second.
+         */
+        TICK,
+
+        /**
+         * The jobs are kept in a queue ordered by the time they are due. Only the triggers of the jobs that are due are
+         * evaluated, and intervals are supported with millisecond precision.
+         * <p>
+         * This is suitable for applications that schedule a large number of jobs or jobs with sub-second intervals.
+         */
+        QUEUE;
+    }
+
 }
@@ -14,7 +14,9 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -58,6 +60,7 @@
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
+import io.quarkus.scheduler.runtime.SchedulerConfig.TriggerEngine;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
@@ -75,6 +78,11 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    private final TriggerEngine triggerEngine;
+    // the precision of the triggers, depends on the trigger engine
+    private final ChronoUnit triggerPrecision;
+    // the queue engine only enqueues the tasks once the scheduler is started
+    private volatile boolean queueStarted;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -90,6 +98,8 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.triggerEngine = schedulerConfig.triggerEngine();
+        this.triggerPrecision = triggerEngine == TriggerEngine.QUEUE ? ChronoUnit.MILLIS : ChronoUnit.SECONDS;
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -123,13 +133,17 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to check all registered triggers every second, or to evaluate the triggers that are due
+        // if the queue engine is used
+        JBossScheduledThreadPoolExecutor executor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // the queue engine cancels the pending evaluation of an unscheduled job
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduledExecutor = executor;
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -196,6 +210,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancel();
                     return task.trigger;
                 }
             }
@@ -208,6 +223,13 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
+        if (triggerEngine == TriggerEngine.QUEUE) {
+            queueStarted = true;
+            for (ScheduledTask task : scheduledTasks.values()) {
+                activate(task);
+            }
+            return;
+        }
         // Try to compute the initial delay to execute the checks near to the whole second
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
@@ -239,6 +261,64 @@ void checkTriggers() {
         }
     }
 
+    /**
+     * Adds the task to the queue of the {@link TriggerEngine#QUEUE} engine, unless it was already added.
+     */
+    private void activate(ScheduledTask task) {
+        synchronized (task) {
+            if (!task.active) {
+                task.active = true;
+                enqueue(task);
+            }
+        }
+    }
+
+    /**
+     * Schedules the next evaluation of the trigger of the given task. A paused task is parked instead and enqueued again
+     * when resumed.
+     */
+    private void enqueue(ScheduledTask task) {
+        synchronized (task) {
+            task.next = null;
+            if (task.cancelled) {
+                return;
+            }
+            if (!running || !task.trigger.isRunning()) {
+                task.parked = true;
+                return;
+            }
+            task.parked = false;
+            Instant due = task.trigger.nextEvaluation();
+            if (due == null) {
+                // the trigger will never fire again
+                return;
+            }
+            long delay = Math.max(0, due.toEpochMilli() - System.currentTimeMillis());
+            try {
+                task.next = scheduledExecutor.schedule(() -> fire(task), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debugf("Unable to enqueue %s - scheduler stopped", task.trigger);
+            }
+        }
+    }
+
+    private void fire(ScheduledTask task) {
+        if (running && !task.cancelled) {
+            ZonedDateTime now = ZonedDateTime.now();
+            LOG.tracef("Evaluate %s at %s", task.trigger, now);
+            task.execute(now, vertx);
+        }
+        enqueue(task);
+    }
+
+    private void unpark(ScheduledTask task) {
+        synchronized (task) {
+            if (task.parked) {
+                enqueue(task);
+            }
+        }
+    }
+
     @Override
     public void pause() {
         if (!isStarted()) {
@@ -289,6 +369,11 @@ public void resume() {
             throw notStarted();
         }
         running = true;
+        if (queueStarted) {
+            for (ScheduledTask task : scheduledTasks.values()) {
+                unpark(task);
+            }
+        }
         events.fireSchedulerResumed();
     }
 
@@ -306,6 +391,9 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            if (queueStarted) {
+                unpark(task);
+            }
             events.fireScheduledJobResumed(new ScheduledJobResumed(task.trigger));
         }
     }
@@ -342,7 +430,7 @@ public Trigger getScheduledJob(String identity) {
 
     Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Scheduled scheduled,
             Duration defaultGracePeriod) {
-        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        ZonedDateTime start = ZonedDateTime.now().truncatedTo(triggerPrecision);
         Long millisToAdd = null;
         if (scheduled.delay() > 0) {
             millisToAdd = scheduled.delayUnit().toMillis(scheduled.delay());
@@ -367,7 +455,8 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription,
+                    triggerPrecision));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -379,6 +468,12 @@ static class ScheduledTask {
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
 
+        // the following fields are only used by the queue engine and guarded by this task
+        private boolean active;
+        private boolean parked;
+        private volatile boolean cancelled;
+        private ScheduledFuture<?> next;
+
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
@@ -399,6 +494,14 @@ void execute(ZonedDateTime now, Vertx vertx) {
             }
         }
 
+        synchronized void cancel() {
+            cancelled = true;
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+        }
+
     }
 
     static abstract class SimpleTrigger implements Trigger {
@@ -422,6 +525,13 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * Used by the queue engine to evaluate the trigger only when it's due.
+         *
+         * @return the time the trigger should be evaluated next, or {@code null} if it will never fire again
+         */
+        abstract Instant nextEvaluation();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,12 +561,15 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        private final ChronoUnit precision;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                ChronoUnit precision) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.precision = precision;
+            if (precision == ChronoUnit.SECONDS && interval < CHECK_PERIOD) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
                         CHECK_PERIOD, description);
@@ -470,13 +583,13 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(precision);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(precision);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -492,6 +605,13 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        Instant nextEvaluation() {
+            ZonedDateTime last = lastFireTime;
+            // the first execution is due at the start time
+            return last == null ? start.toInstant() : last.toInstant().plusMillis(interval);
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -533,6 +653,12 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        Instant nextEvaluation() {
+            // the trigger only fires once the scheduled time has passed
+            return executionTime.nextExecution(lastFireTime).map(next -> next.toInstant().plusMillis(1)).orElse(null);
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -672,6 +798,9 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (queueStarted) {
+                    activate(scheduledTask);
+                }
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,22 @@
+package io.quarkus.security.spi.runtime;
+
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+
+/**
+ * A {@link SecurityIdentityAugmentor} whose result only depends on the principal and the credentials of the augmented
+ * identity, for example an augmentor that loads the roles of the user from a database.
+ * <p>
+ * When the augmentation cache is enabled with the {@code quarkus.security.augmentation-cache.max-size} property, the
+ * roles, the attributes and the permissions added by the cacheable augmentors are reused for the next authentications of
+ * the same principal with the same credentials, until they expire or are invalidated. Only the augmentors invoked before any
+ * augmentor which is not cacheable are cached, therefore the cacheable augmentors should have a higher
+ * {@link SecurityIdentityAugmentor#priority()}.
+ * <p>
+ * The cacheable augmentors receive an identity with the principal, the roles and the credentials created by the identity
+ * provider, without its attributes, and no authentication request attributes. The cached identity does not hold the
+ * credentials, therefore the permission checkers added by the cacheable augmentors must not keep a reference to the
+ * identity they augment.
+ */
+public interface CacheableSecurityIdentityAugmentor extends SecurityIdentityAugmentor {
+
+}
@@ -6,6 +6,7 @@
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
 
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.runtime.ExecutorRecorder;
@@ -32,10 +33,19 @@ public Executor get() {
         });
     }
 
+    // does nothing if the cache is disabled, so that it can be injected to invalidate the cached identities anyway
+    @Produces
+    @Singleton
+    SecurityIdentityAugmentationCache augmentationCache(SecurityConfig securityConfig) {
+        var cacheConfig = securityConfig.augmentationCache();
+        return new SecurityIdentityAugmentationCache(cacheConfig.maxSize(), cacheConfig.timeToLive());
+    }
+
     @Produces
     @ApplicationScoped
     public IdentityProviderManager ipm(Instance<IdentityProvider<?>> identityProviders,
-            Instance<SecurityIdentityAugmentor> augmentors, BlockingSecurityExecutor blockingExecutor) {
+            Instance<SecurityIdentityAugmentor> augmentors, BlockingSecurityExecutor blockingExecutor,
+            SecurityIdentityAugmentationCache augmentationCache) {
         boolean customAnon = false;
         QuarkusIdentityProviderManagerImpl.Builder builder = QuarkusIdentityProviderManagerImpl.builder();
         for (var i : identityProviders) {
@@ -51,6 +61,9 @@ public IdentityProviderManager ipm(Instance<IdentityProvider<?>> identityProvide
             builder.addSecurityIdentityAugmentor(i);
         }
         builder.setBlockingExecutor(blockingExecutor);
+        if (augmentationCache.isEnabled()) {
+            builder.setAugmentationCache(augmentationCache);
+        }
         return builder.build();
     }
 
@@ -22,6 +22,7 @@
 import io.quarkus.security.identity.request.AnonymousAuthenticationRequest;
 import io.quarkus.security.identity.request.AuthenticationRequest;
 import io.quarkus.security.spi.runtime.BlockingSecurityExecutor;
+import io.quarkus.security.spi.runtime.CacheableSecurityIdentityAugmentor;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -33,10 +34,22 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider<? extends AuthenticationRequest>>> providers;
     private final SecurityIdentityAugmentor[] augmenters;
     private final AuthenticationRequestContext blockingRequestContext;
+    private final SecurityIdentityAugmentationCache augmentationCache;
+    /**
+     * number of the first augmenters whose result is cached
+     */
+    private final int cacheableAugmenters;
 
     QuarkusIdentityProviderManagerImpl(Builder builder) {
         this.providers = builder.providers;
         this.augmenters = builder.augmentors.toArray(SecurityIdentityAugmentor[]::new);
+        int cacheableAugmenters = 0;
+        while (cacheableAugmenters < augmenters.length
+                && augmenters[cacheableAugmenters] instanceof CacheableSecurityIdentityAugmentor) {
+            cacheableAugmenters++;
+        }
+        this.cacheableAugmenters = cacheableAugmenters;
+        this.augmentationCache = cacheableAugmenters > 0 ? builder.augmentationCache : null;
         this.blockingRequestContext = new AuthenticationRequestContext() {
             @Override
             public Uni<SecurityIdentity> runBlocking(Supplier<SecurityIdentity> function) {
@@ -85,7 +98,7 @@ public Throwable get() {
                     .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
                         @Override
                         public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
-                            return handleIdentityFromProvider(0, securityIdentity, request.getAttributes());
+                            return augmentIdentity(securityIdentity, request.getAttributes());
                         }
                     });
         }
@@ -117,7 +130,7 @@ private Uni<SecurityIdentity> handleProviders(
                 .transformToUni(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
                     @Override
                     public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
-                        return handleIdentityFromProvider(0, securityIdentity, request.getAttributes());
+                        return augmentIdentity(securityIdentity, request.getAttributes());
                     }
                 });
     }
@@ -142,9 +155,35 @@ public Uni<SecurityIdentity> apply(SecurityIdentity securityIdentity) {
                 });
     }
 
-    private Uni<SecurityIdentity> handleIdentityFromProvider(int pos, SecurityIdentity identity,
+    private Uni<SecurityIdentity> augmentIdentity(SecurityIdentity identity, Map<String, Object> attributes) {
+        if (augmentationCache == null || identity.isAnonymous()) {
+            return handleIdentityFromProvider(0, augmenters.length, identity, attributes);
+        }
+        var key = augmentationCache.key(identity);
+        if (key == null) {
+            return handleIdentityFromProvider(0, augmenters.length, identity, attributes);
+        }
+        SecurityIdentity cached = augmentationCache.get(key);
+        if (cached != null) {
+            return handleIdentityFromProvider(cacheableAugmenters, augmenters.length,
+                    SecurityIdentityAugmentationCache.augment(identity, cached), attributes);
+        }
+        // only what the cacheable augmentors add is cached, not the attributes of the current authentication request
+        SecurityIdentity cacheableIdentity = SecurityIdentityAugmentationCache.toCacheableIdentity(identity);
+        return handleIdentityFromProvider(0, cacheableAugmenters, cacheableIdentity, Map.of())
+                .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
+                    @Override
+                    public Uni<SecurityIdentity> apply(SecurityIdentity augmented) {
+                        augmentationCache.add(key, augmented);
+                        return handleIdentityFromProvider(cacheableAugmenters, augmenters.length,
+                                SecurityIdentityAugmentationCache.augment(identity, augmented), attributes);
+                    }
+                });
+    }
+
+    private Uni<SecurityIdentity> handleIdentityFromProvider(int pos, int end, SecurityIdentity identity,
             Map<String, Object> attributes) {
-        if (pos == augmenters.length) {
+        if (pos == end) {
             return Uni.createFrom().item(identity);
         }
         SecurityIdentityAugmentor a = augmenters[pos];
@@ -152,7 +191,7 @@ private Uni<SecurityIdentity> handleIdentityFromProvider(int pos, SecurityIdenti
                 .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
                     @Override
                     public Uni<SecurityIdentity> apply(SecurityIdentity securityIdentity) {
-                        return handleIdentityFromProvider(pos + 1, securityIdentity, attributes);
+                        return handleIdentityFromProvider(pos + 1, end, securityIdentity, attributes);
                     }
                 });
     }
@@ -184,6 +223,7 @@ public static class Builder {
         private final List<SecurityIdentityAugmentor> augmentors = new ArrayList<>();
         private QuarkusPermissionSecurityIdentityAugmentor quarkusPermissionAugmentor = null;
         private BlockingSecurityExecutor blockingExecutor;
+        private SecurityIdentityAugmentationCache augmentationCache;
         private boolean built = false;
 
         /**
@@ -233,6 +273,15 @@ public Builder setBlockingExecutor(Executor blockingExecutor) {
             return this;
         }
 
+        /**
+         * @param augmentationCache The cache of the identities augmented by the {@link CacheableSecurityIdentityAugmentor}s
+         * @return this builder
+         */
+        public Builder setAugmentationCache(SecurityIdentityAugmentationCache augmentationCache) {
+            this.augmentationCache = augmentationCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
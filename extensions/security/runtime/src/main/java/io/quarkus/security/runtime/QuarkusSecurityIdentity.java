@@ -120,6 +120,13 @@ public Boolean apply(List<?> o) {
 
     }
 
+    /**
+     * @return the permission checkers of this identity
+     */
+    List<Function<Permission, Uni<Boolean>>> getPermissionCheckers() {
+        return permissionCheckers;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -129,13 +136,8 @@ public static Builder builder(SecurityIdentity identity) {
                 .addAttributes(identity.getAttributes())
                 .addCredentials(identity.getCredentials())
                 .addRoles(identity.getRoles())
-                .addPermissionChecker(new Function<Permission, Uni<Boolean>>() {
-                    @Override
-                    public Uni<Boolean> apply(Permission permission) {
-                        // sustain previous permission checks
-                        return identity.checkPermission(permission);
-                    }
-                })
+                // sustain previous permission checks
+                .addPermissionChecker(new IdentityPermissionChecker(identity))
                 .setPrincipal(identity.getPrincipal())
                 .setAnonymous(identity.isAnonymous());
         return builder;
@@ -311,21 +313,7 @@ public QuarkusSecurityIdentity build() {
 
         private void addPossesedPermissionsChecker() {
             if (!permissions.isEmpty()) {
-                addPermissionChecker(
-                        new Function<Permission, Uni<Boolean>>() {
-
-                            @Override
-                            public Uni<Boolean> apply(Permission requiredPermission) {
-
-                                for (Permission possessedPermission : permissions) {
-                                    if (possessedPermission.implies(requiredPermission)) {
-                                        return Uni.createFrom().item(true);
-                                    }
-                                }
-                                return Uni.createFrom().item(false);
-
-                            }
-                        });
+                addPermissionChecker(new PossessedPermissionsChecker(new HashSet<>(permissions)));
             }
 
         }
@@ -342,4 +330,43 @@ static Permission toPermission(String permissionAsString) {
         }
     }
 
+    /**
+     * Checks the permissions of the identity a new identity has been built from.
+     */
+    static final class IdentityPermissionChecker implements Function<Permission, Uni<Boolean>> {
+
+        final SecurityIdentity identity;
+
+        IdentityPermissionChecker(SecurityIdentity identity) {
+            this.identity = identity;
+        }
+
+        @Override
+        public Uni<Boolean> apply(Permission permission) {
+            return identity.checkPermission(permission);
+        }
+    }
+
+    /**
+     * Checks the permissions added to the builder. It is a static class so that it does not keep a reference to the
+     * builder and its credentials.
+     */
+    private static final class PossessedPermissionsChecker implements Function<Permission, Uni<Boolean>> {
+
+        private final Set<Permission> permissions;
+
+        private PossessedPermissionsChecker(Set<Permission> permissions) {
+            this.permissions = permissions;
+        }
+
+        @Override
+        public Uni<Boolean> apply(Permission requiredPermission) {
+            for (Permission possessedPermission : permissions) {
+                if (possessedPermission.implies(requiredPermission)) {
+                    return Uni.createFrom().item(true);
+                }
+            }
+            return Uni.createFrom().item(false);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.security.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -17,6 +19,11 @@ public interface SecurityConfig {
      */
     SecurityEventsConfig events();
 
+    /**
+     * Security identity augmentation cache configuration.
+     */
+    AugmentationCacheConfig augmentationCache();
+
     interface SecurityEventsConfig {
 
         /**
@@ -27,4 +34,23 @@ interface SecurityEventsConfig {
 
     }
 
+    interface AugmentationCacheConfig {
+
+        /**
+         * Maximum number of the identities augmented by the
+         * `io.quarkus.security.spi.runtime.CacheableSecurityIdentityAugmentor`s which can be cached.
+         * The cache is keyed by the principal name and the fingerprint of the credentials.
+         * The cache is disabled by default, it is activated by setting this property to a positive value.
+         */
+        @WithDefault("0")
+        int maxSize();
+
+        /**
+         * Maximum amount of time a cached augmented identity is valid for.
+         */
+        @WithDefault("3M")
+        Duration timeToLive();
+
+    }
+
 }
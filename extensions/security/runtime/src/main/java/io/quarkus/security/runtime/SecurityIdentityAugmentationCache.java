@@ -0,0 +1,252 @@
+package io.quarkus.security.runtime;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Permission;
+import java.security.SecureRandom;
+import java.security.cert.CertificateEncodingException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.security.credential.CertificateCredential;
+import io.quarkus.security.credential.Credential;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity.IdentityPermissionChecker;
+import io.quarkus.security.spi.runtime.CacheableSecurityIdentityAugmentor;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Bounded cache of the augmentations made by the {@link CacheableSecurityIdentityAugmentor}s, keyed by the principal name
+ * and the fingerprint of the credentials of the augmented identity.
+ * <p>
+ * The fingerprint is an HMAC of the credentials computed with a random key generated when the cache is created, so that
+ * neither the credentials nor an unkeyed hash of them is kept in memory. A cached identity only holds the principal, the
+ * roles, the attributes and the permission checkers of the identity augmented by the cacheable augmentors. It is a copy
+ * of the augmented identity and of the identities its permission checks are delegated to, without their credentials, so
+ * the augmented identity is only cached when it and these identities are {@link QuarkusSecurityIdentity} instances. The
+ * permission checkers added by the cacheable augmentors must not keep a reference to the identity they augment. A cached
+ * identity is applied to the identity of each authentication with {@link #augment(SecurityIdentity, SecurityIdentity)},
+ * so that the attributes and the credentials of the current authentication request are kept.
+ * <p>
+ * The entries expire after the configured time to live. When the cache is full, the entries are evicted by the Caffeine
+ * size-based policy. Inject this bean to invalidate the cached identities, for example when the roles of a user are
+ * updated.
+ * <p>
+ * The cache requires the {@code quarkus-caffeine} extension. If the cache is disabled, the Caffeine classes are never loaded
+ * and this bean does nothing.
+ */
+public class SecurityIdentityAugmentationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    // null if the cache is disabled
+    private final Cache<CacheKey, SecurityIdentity> cache;
+    private final SecretKeySpec hmacKey;
+
+    SecurityIdentityAugmentationCache(int maxSize, Duration timeToLive) {
+        if (maxSize <= 0) {
+            this.cache = null;
+            this.hmacKey = null;
+            return;
+        }
+        if (!isCaffeinePresent()) {
+            throw new ConfigurationException("The security identity augmentation cache cannot be enabled, as it requires "
+                    + "the quarkus-caffeine extension");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    private static boolean isCaffeinePresent() {
+        try {
+            Class.forName("com.github.benmanes.caffeine.cache.Caffeine", false,
+                    Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return {@code true} if the cache is enabled
+     */
+    boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * @return the cache key of the identity, or {@code null} if the identity can not be cached because the fingerprint of
+     *         one of its credentials can not be computed
+     */
+    CacheKey key(SecurityIdentity identity) {
+        if (cache == null || identity.getPrincipal() == null) {
+            return null;
+        }
+        Credential[] credentials = identity.getCredentials().toArray(new Credential[0]);
+        if (credentials.length == 0) {
+            return new CacheKey(identity.getPrincipal().getName(), "");
+        }
+        List<String> fingerprints = new ArrayList<>(credentials.length);
+        for (Credential credential : credentials) {
+            String fingerprint = fingerprint(credential);
+            if (fingerprint == null) {
+                return null;
+            }
+            fingerprints.add(fingerprint);
+        }
+        // the credentials are a set, the fingerprint must not depend on the iteration order
+        Collections.sort(fingerprints);
+        return new CacheKey(identity.getPrincipal().getName(), String.join(".", fingerprints));
+    }
+
+    private String fingerprint(Credential credential) {
+        final Mac mac;
+        try {
+            mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        if (credential instanceof PasswordCredential passwordCredential) {
+            mac.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(passwordCredential.getPassword())));
+        } else if (credential instanceof TokenCredential tokenCredential) {
+            if (tokenCredential.getType() != null) {
+                mac.update(tokenCredential.getType().getBytes(StandardCharsets.UTF_8));
+            }
+            // separate the type from the token
+            mac.update((byte) 0);
+            mac.update(tokenCredential.getToken().getBytes(StandardCharsets.UTF_8));
+        } else if (credential instanceof CertificateCredential certificateCredential) {
+            try {
+                mac.update(certificateCredential.getCertificate().getEncoded());
+            } catch (CertificateEncodingException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal());
+    }
+
+    /**
+     * @return the identity to augment with the cacheable augmentors: the identity without its attributes and permissions,
+     *         which may depend on the current authentication request
+     */
+    static SecurityIdentity toCacheableIdentity(SecurityIdentity identity) {
+        return QuarkusSecurityIdentity.builder()
+                .setPrincipal(identity.getPrincipal())
+                .addRoles(identity.getRoles())
+                .addCredentials(identity.getCredentials())
+                .build();
+    }
+
+    /**
+     * @param identity the identity created by the identity provider for the current authentication request
+     * @param augmented the cacheable identity augmented by the cacheable augmentors
+     * @return the identity with the roles, the attributes and the permissions added by the cacheable augmentors
+     */
+    static SecurityIdentity augment(SecurityIdentity identity, SecurityIdentity augmented) {
+        return QuarkusSecurityIdentity.builder(identity)
+                .setPrincipal(augmented.getPrincipal())
+                .addRoles(augmented.getRoles())
+                .addAttributes(augmented.getAttributes())
+                .addPermissionChecker(augmented::checkPermission)
+                .build();
+    }
+
+    /**
+     * @return the augmented cacheable identity, or {@code null} if it is not cached or has expired
+     */
+    SecurityIdentity get(CacheKey key) {
+        return cache == null ? null : cache.getIfPresent(key);
+    }
+
+    void add(CacheKey key, SecurityIdentity augmented) {
+        // the credentials are not needed to apply the augmentation, they are not kept in memory
+        SecurityIdentity identity = cache == null ? null : withoutCredentials(augmented);
+        if (identity != null) {
+            cache.put(key, identity);
+        }
+    }
+
+    /**
+     * @return a copy of the identity without its credentials, whose permission checks are delegated to copies without
+     *         credentials of the identities they were delegated to, or {@code null} if the identity or one of these
+     *         identities is not a {@link QuarkusSecurityIdentity}
+     */
+    static SecurityIdentity withoutCredentials(SecurityIdentity identity) {
+        if (!(identity instanceof QuarkusSecurityIdentity quarkusIdentity)) {
+            return null;
+        }
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder()
+                .setPrincipal(identity.getPrincipal())
+                .setAnonymous(identity.isAnonymous())
+                .addRoles(identity.getRoles())
+                .addAttributes(identity.getAttributes());
+        for (Function<Permission, Uni<Boolean>> checker : quarkusIdentity.getPermissionCheckers()) {
+            if (checker instanceof IdentityPermissionChecker identityChecker) {
+                SecurityIdentity delegate = withoutCredentials(identityChecker.identity);
+                if (delegate == null) {
+                    return null;
+                }
+                builder.addPermissionChecker(new IdentityPermissionChecker(delegate));
+            } else {
+                builder.addPermissionChecker(checker);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Removes the cached identities of the principal, whatever their credentials.
+     *
+     * @param principalName the name of the principal
+     */
+    public void invalidate(String principalName) {
+        if (cache == null) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(new Predicate<CacheKey>() {
+            @Override
+            public boolean test(CacheKey key) {
+                return key.principalName.equals(principalName);
+            }
+        });
+    }
+
+    /**
+     * Removes all the cached identities.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    public long getCacheSize() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    record CacheKey(String principalName, String fingerprint) {
+    }
+}
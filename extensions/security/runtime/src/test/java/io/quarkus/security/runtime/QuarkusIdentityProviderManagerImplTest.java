@@ -1,23 +1,42 @@
 package io.quarkus.security.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.StringPermission;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.credential.TokenCredential;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.IdentityProviderManager;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.SecurityIdentityAugmentor;
 import io.quarkus.security.identity.request.BaseAuthenticationRequest;
+import io.quarkus.security.spi.runtime.CacheableSecurityIdentityAugmentor;
 import io.smallrye.mutiny.Uni;
 
 class QuarkusIdentityProviderManagerImplTest {
@@ -53,6 +72,243 @@ void testIdentityProviderAugmentOnlyOnce() {
         verify(augmentor, times(1)).augment(any(), any());
     }
 
+    @Test
+    void testDisabledAugmentationCache() {
+        SecurityIdentityAugmentationCache cache = new SecurityIdentityAugmentationCache(0, Duration.ofMinutes(3));
+        assertFalse(cache.isEnabled());
+        SecurityIdentity identity = QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal("Bob")).build();
+        assertNull(cache.key(identity));
+        cache.invalidate("Bob");
+        cache.invalidateAll();
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    void testCacheableAugmentorsResultIsCached() {
+        TestCacheableSecurityAugmentor cacheableAugmentor = new TestCacheableSecurityAugmentor();
+        TestCountingSecurityAugmentor augmentor = new TestCountingSecurityAugmentor();
+        SecurityIdentityAugmentationCache cache = new SecurityIdentityAugmentationCache(10, Duration.ofMinutes(3));
+        TestIdentityProviderWithToken identityProvider = new TestIdentityProviderWithToken();
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(identityProvider)
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(augmentor)
+                .addSecurityIdentityAugmentor(cacheableAugmentor)
+                .setAugmentationCache(cache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+
+        for (int i = 0; i < 3; i++) {
+            SecurityIdentity identity = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+            assertTrue(identity.getRoles().contains("cached-role"));
+            assertTrue(identity.getRoles().contains("role"));
+        }
+        assertEquals(1, cacheableAugmentor.count.get());
+        assertEquals(3, augmentor.count.get());
+        assertEquals(1, cache.getCacheSize());
+
+        // the same principal with another credential
+        identityProvider.token = "token2";
+        identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+        assertEquals(2, cacheableAugmentor.count.get());
+        assertEquals(2, cache.getCacheSize());
+
+        cache.invalidate("Bob");
+        assertEquals(0, cache.getCacheSize());
+        SecurityIdentity identity = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+        assertTrue(identity.getRoles().contains("cached-role"));
+        assertEquals(3, cacheableAugmentor.count.get());
+        assertEquals(5, augmentor.count.get());
+    }
+
+    @Test
+    void testCacheHitKeepsCurrentRequestAttributesAndCredentials() {
+        TestCacheableSecurityAugmentor cacheableAugmentor = new TestCacheableSecurityAugmentor() {
+            @Override
+            public Uni<SecurityIdentity> augment(SecurityIdentity securityIdentity,
+                    AuthenticationRequestContext authenticationRequestContext) {
+                count.incrementAndGet();
+                // the attributes of the authentication are not visible to the cacheable augmentors
+                assertNull(securityIdentity.getAttribute("request"));
+                return Uni.createFrom().item(QuarkusSecurityIdentity.builder(securityIdentity)
+                        .addRole("cached-role")
+                        .addAttribute("cached-attribute", "cached")
+                        .addPermissionAsString("read")
+                        .build());
+            }
+        };
+        SecurityIdentityAugmentationCache cache = new SecurityIdentityAugmentationCache(10, Duration.ofMinutes(3));
+        AtomicInteger requests = new AtomicInteger();
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new TestIdentityProvider() {
+                    @Override
+                    public Uni<SecurityIdentity> authenticate(TestAuthenticationRequest request,
+                            AuthenticationRequestContext context) {
+                        return Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                                .setPrincipal(new QuarkusPrincipal("Bob"))
+                                .addCredential(new TokenCredential("token", "bearer"))
+                                .addAttribute("request", requests.incrementAndGet())
+                                .build());
+                    }
+                })
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(cacheableAugmentor)
+                .setAugmentationCache(cache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+
+        SecurityIdentity first = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+        SecurityIdentity second = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+        assertEquals(1, cacheableAugmentor.count.get());
+        for (SecurityIdentity identity : List.of(first, second)) {
+            assertTrue(identity.getRoles().contains("cached-role"));
+            assertEquals("cached", identity.getAttribute("cached-attribute"));
+            assertTrue(identity.checkPermission(new StringPermission("read")).await().indefinitely());
+            assertFalse(identity.checkPermission(new StringPermission("write")).await().indefinitely());
+        }
+        assertEquals(1, (Integer) first.getAttribute("request"));
+        assertEquals(2, (Integer) second.getAttribute("request"));
+        assertEquals(1, second.getCredentials().size());
+        assertNotSame(first.getCredential(TokenCredential.class), second.getCredential(TokenCredential.class));
+
+        // the credentials are not kept in memory by the cache
+        SecurityIdentity cached = cache.get(cache.key(second));
+        assertTrue(cached.getRoles().contains("cached-role"));
+        assertTrue(cached.getCredentials().isEmpty());
+    }
+
+    @Test
+    void testCachedIdentityDoesNotReferenceCredentials() {
+        TestCacheableSecurityAugmentor cacheableAugmentor = new TestCacheableSecurityAugmentor() {
+            @Override
+            public Uni<SecurityIdentity> augment(SecurityIdentity securityIdentity,
+                    AuthenticationRequestContext authenticationRequestContext) {
+                count.incrementAndGet();
+                return Uni.createFrom().item(QuarkusSecurityIdentity.builder(securityIdentity)
+                        .addRole("cached-role")
+                        .addPermissionAsString("read")
+                        .build());
+            }
+        };
+        PasswordCredential credential = new PasswordCredential("secret".toCharArray());
+        SecurityIdentityAugmentationCache cache = new SecurityIdentityAugmentationCache(10, Duration.ofMinutes(3));
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new TestIdentityProvider() {
+                    @Override
+                    public Uni<SecurityIdentity> authenticate(TestAuthenticationRequest request,
+                            AuthenticationRequestContext context) {
+                        return Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                                .setPrincipal(new QuarkusPrincipal("Bob"))
+                                .addCredential(credential)
+                                .build());
+                    }
+                })
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(new TestCacheableSecurityAugmentor())
+                .addSecurityIdentityAugmentor(cacheableAugmentor)
+                .setAugmentationCache(cache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+
+        SecurityIdentity identity = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+        assertTrue(identity.checkPermission(new StringPermission("read")).await().indefinitely());
+        assertEquals(1, cache.getCacheSize());
+
+        SecurityIdentity cached = cache.get(cache.key(identity));
+        assertTrue(cached.getRoles().contains("cached-role"));
+        assertTrue(cached.checkPermission(new StringPermission("read")).await().indefinitely());
+        assertFalse(cached.checkPermission(new StringPermission("write")).await().indefinitely());
+        assertFalse(isReachable(cached, credential));
+        assertFalse(isReachable(cached, credential.getPassword()));
+        // the identity returned for the current request keeps its credentials
+        assertTrue(isReachable(identity, credential));
+    }
+
+    @Test
+    void testAugmentorsAfterNotCacheableAugmentorAreNotCached() {
+        TestCacheableSecurityAugmentor cacheableAugmentor = new TestCacheableSecurityAugmentor() {
+            @Override
+            public int priority() {
+                // invoked after the augmentor which is not cacheable
+                return -1;
+            }
+        };
+        SecurityIdentityAugmentationCache cache = new SecurityIdentityAugmentationCache(10, Duration.ofMinutes(3));
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new TestIdentityProviderWithToken())
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(new TestCountingSecurityAugmentor())
+                .addSecurityIdentityAugmentor(cacheableAugmentor)
+                .setAugmentationCache(cache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+
+        for (int i = 0; i < 2; i++) {
+            SecurityIdentity identity = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+            assertTrue(identity.getRoles().contains("cached-role"));
+        }
+        assertEquals(2, cacheableAugmentor.count.get());
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    /**
+     * Walks the object graph from the root, through the fields of the objects and the elements of the arrays, collections
+     * and maps.
+     */
+    private static boolean isReachable(Object root, Object target) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Object current = toVisit.pop();
+            if (current == target) {
+                return true;
+            }
+            if (!visited.add(current) || current instanceof Class) {
+                continue;
+            }
+            Class<?> type = current.getClass();
+            if (type.isArray()) {
+                if (!type.getComponentType().isPrimitive()) {
+                    for (Object element : (Object[]) current) {
+                        if (element != null) {
+                            toVisit.push(element);
+                        }
+                    }
+                }
+            } else if (current instanceof Collection<?> collection) {
+                for (Object element : collection) {
+                    if (element != null) {
+                        toVisit.push(element);
+                    }
+                }
+            } else if (current instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (entry.getKey() != null) {
+                        toVisit.push(entry.getKey());
+                    }
+                    if (entry.getValue() != null) {
+                        toVisit.push(entry.getValue());
+                    }
+                }
+            } else if (!type.getName().startsWith("java.")) {
+                for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                            continue;
+                        }
+                        try {
+                            field.setAccessible(true);
+                            Object value = field.get(current);
+                            if (value != null) {
+                                toVisit.push(value);
+                            }
+                        } catch (ReflectiveOperationException | RuntimeException e) {
+                            // the fields of the JDK classes are not accessible
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     static class TestAuthenticationRequest extends BaseAuthenticationRequest {
     }
 
@@ -121,4 +377,46 @@ public Uni<SecurityIdentity> augment(SecurityIdentity securityIdentity,
             return Uni.createFrom().item(QuarkusSecurityIdentity.builder(securityIdentity).addRole("role").build());
         }
     }
+
+    static class TestIdentityProviderWithToken extends TestIdentityProvider {
+
+        volatile String token = "token1";
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(TestAuthenticationRequest request, AuthenticationRequestContext context) {
+            return Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal("Bob"))
+                    .addCredential(new TokenCredential(token, "bearer"))
+                    .build());
+        }
+    }
+
+    private static class TestCountingSecurityAugmentor implements SecurityIdentityAugmentor {
+
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Uni<SecurityIdentity> augment(SecurityIdentity securityIdentity,
+                AuthenticationRequestContext authenticationRequestContext) {
+            count.incrementAndGet();
+            return Uni.createFrom().item(QuarkusSecurityIdentity.builder(securityIdentity).addRole("role").build());
+        }
+    }
+
+    private static class TestCacheableSecurityAugmentor implements CacheableSecurityIdentityAugmentor {
+
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Uni<SecurityIdentity> augment(SecurityIdentity securityIdentity,
+                AuthenticationRequestContext authenticationRequestContext) {
+            count.incrementAndGet();
+            return Uni.createFrom().item(QuarkusSecurityIdentity.builder(securityIdentity).addRole("cached-role").build());
+        }
+
+        @Override
+        public int priority() {
+            return 1;
+        }
+    }
 }
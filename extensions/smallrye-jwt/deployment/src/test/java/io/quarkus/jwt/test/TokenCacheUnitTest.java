@@ -0,0 +1,67 @@
+package io.quarkus.jwt.test;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Set;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.smallrye.jwt.runtime.auth.JwtTokenCache;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class TokenCacheUnitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(RolesEndpoint.class, GreetingService.class, User.class, TokenUtils.class)
+                    .addAsResource("publicKey.pem")
+                    .addAsResource("privateKey.pem")
+                    .addAsResource("Token1.json")
+                    .addAsResource("application.properties"))
+            .overrideConfigKey("quarkus.smallrye-jwt.token-cache.max-size", "10");
+
+    @Inject
+    MpJwtValidator validator;
+
+    @Test
+    public void testVerifiedTokenIsCached() throws Exception {
+        JwtTokenCache tokenCache = validator.getTokenCache();
+        Assertions.assertNotNull(tokenCache);
+        tokenCache.clearCache();
+        long hits = tokenCache.getHitCount();
+
+        String token = TokenUtils.generateTokenString("/Token1.json");
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given().auth().oauth2(token)
+                    .get("/endp/authenticated")
+                    .then().statusCode(200).body(equalTo("jdoe@example.com"));
+        }
+        Assertions.assertEquals(1, tokenCache.getCacheSize());
+        Assertions.assertEquals(hits + 2, tokenCache.getHitCount());
+    }
+
+    @Test
+    public void testInvalidTokenIsNotCached() throws Exception {
+        JwtTokenCache tokenCache = validator.getTokenCache();
+        tokenCache.clearCache();
+
+        String token = TokenUtils.generateTokenString("/Token1.json", Set.of(TokenUtils.InvalidClaims.SIGNER));
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().auth().oauth2(token)
+                    .get("/endp/authenticated")
+                    .then().statusCode(401);
+        }
+        token = TokenUtils.generateTokenString("/Token1.json", Set.of(TokenUtils.InvalidClaims.EXP));
+        RestAssured.given().auth().oauth2(token)
+                .get("/endp/authenticated")
+                .then().statusCode(401);
+        Assertions.assertEquals(0, tokenCache.getCacheSize());
+    }
+}
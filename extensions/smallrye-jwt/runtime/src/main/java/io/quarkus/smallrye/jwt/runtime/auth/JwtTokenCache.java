@@ -0,0 +1,118 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded cache of the verified {@link JsonWebToken}s, keyed by the SHA-256 digest of the raw token.
+ * <p>
+ * An entry expires after the configured time to live, and never later than the token itself: its {@code exp} claim, or its
+ * {@code iat} claim plus the maximum token age if configured. When the cache is full, the entries are evicted by the Caffeine
+ * size-based policy, which favors the frequently used tokens.
+ */
+public class JwtTokenCache {
+
+    private final Cache<String, JsonWebToken> cache;
+    private final long timeToLiveMillis;
+    private final Long tokenAgeSecs;
+
+    public JwtTokenCache(int maxSize, Duration timeToLive, Long tokenAgeSecs) {
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.tokenAgeSecs = tokenAgeSecs;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return the digest of the raw token used as the cache key
+     */
+    static String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the verified token, or {@code null} if it is not cached or has expired
+     */
+    public JsonWebToken get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void add(String key, JsonWebToken token) {
+        if (remainingMillis(token) > 0) {
+            cache.put(key, token);
+        }
+    }
+
+    private long remainingMillis(JsonWebToken token) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + timeToLiveMillis;
+        long exp = token.getExpirationTime();
+        if (exp > 0) {
+            expiresAt = Math.min(expiresAt, exp * 1000);
+        }
+        long iat = token.getIssuedAtTime();
+        if (tokenAgeSecs != null && iat > 0) {
+            expiresAt = Math.min(expiresAt, (iat + tokenAgeSecs) * 1000);
+        }
+        return expiresAt - now;
+    }
+
+    /**
+     * @return the number of tokens found in the cache
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * @return the number of tokens not found in the cache, which had to be verified
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long getCacheSize() {
+        return cache.estimatedSize();
+    }
+
+    public void clearCache() {
+        cache.invalidateAll();
+    }
+
+    private final class TokenExpiry implements Expiry<String, JsonWebToken> {
+
+        @Override
+        public long expireAfterCreate(String key, JsonWebToken token, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis(token)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JsonWebToken token, long currentTime, long currentDuration) {
+            // the token was verified concurrently
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JsonWebToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class JwtTokenCacheRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerTokenCacheMetrics(SmallRyeJwtConfig config) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (config.tokenCache().maxSize() <= 0) {
+                    // The cache is not enabled, the validator is not created before the first authentication
+                    return;
+                }
+                JwtTokenCache tokenCache = Arc.container().instance(MpJwtValidator.class).get().getTokenCache();
+                if (tokenCache == null) {
+                    // The cache is not enabled
+                    return;
+                }
+                metricsFactory.builder("smallrye.jwt.token.cache.hits")
+                        .description("Number of bearer tokens found in the cache of the verified tokens.")
+                        .buildCounter(tokenCache::getHitCount);
+                metricsFactory.builder("smallrye.jwt.token.cache.misses")
+                        .description("Number of bearer tokens not found in the cache, which had to be verified.")
+                        .buildCounter(tokenCache::getMissCount);
+                metricsFactory.builder("smallrye.jwt.token.cache.size")
+                        .description("Number of verified tokens in the cache.")
+                        .buildGauge(tokenCache::getCacheSize);
+            }
+        };
+    }
+}
@@ -15,6 +15,7 @@
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.mutiny.Uni;
@@ -31,16 +32,28 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     final JWTParser parser;
     final boolean blockingAuthentication;
+    final JwtTokenCache tokenCache;
 
     public MpJwtValidator() {
         this.parser = null;
         this.blockingAuthentication = false;
+        this.tokenCache = null;
     }
 
-    @Inject
     public MpJwtValidator(JWTParser parser, SmallRyeJwtConfig config) {
+        this(parser, config, null);
+    }
+
+    @Inject
+    public MpJwtValidator(JWTParser parser, SmallRyeJwtConfig config, JWTAuthContextInfo authContextInfo) {
         this.parser = parser;
         this.blockingAuthentication = config == null ? false : config.blockingAuthentication();
+        if (config != null && config.tokenCache().maxSize() > 0) {
+            this.tokenCache = new JwtTokenCache(config.tokenCache().maxSize(), config.tokenCache().timeToLive(),
+                    authContextInfo == null ? null : authContextInfo.getTokenAge());
+        } else {
+            this.tokenCache = null;
+        }
     }
 
     @Override
@@ -54,38 +67,63 @@ public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
         if (!(request.getToken() instanceof JsonWebTokenCredential)) {
             return Uni.createFrom().nullItem();
         }
+        String cacheKey = null;
+        if (tokenCache != null) {
+            cacheKey = JwtTokenCache.key(request.getToken().getToken());
+            JsonWebToken jwtPrincipal = tokenCache.get(cacheKey);
+            if (jwtPrincipal != null) {
+                // The token has already been verified, neither parse it nor verify its signature again
+                return Uni.createFrom().item(createSecurityIdentity(request, jwtPrincipal));
+            }
+        }
+        final String key = cacheKey;
         if (!blockingAuthentication) {
             return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
                 @Override
                 public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
                     try {
-                        uniEmitter.complete(createSecurityIdentity(request));
+                        uniEmitter.complete(createSecurityIdentity(request, key));
                     } catch (AuthenticationFailedException e) {
                         uniEmitter.fail(e);
                     }
                 }
             });
         } else {
-            return context.runBlocking(() -> createSecurityIdentity(request));
+            return context.runBlocking(() -> createSecurityIdentity(request, key));
         }
 
     }
 
-    private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request) {
+    private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request, String cacheKey) {
+        JsonWebToken jwtPrincipal;
         try {
-            JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
-            QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
-                    .addCredential(request.getToken())
-                    .addRoles(jwtPrincipal.getGroups())
-                    .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal);
-            RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
-            if (routingContext != null) {
-                builder.addAttribute(RoutingContext.class.getName(), routingContext);
-            }
-            return builder.build();
+            jwtPrincipal = parser.parse(request.getToken().getToken());
         } catch (ParseException e) {
             log.debug("Authentication failed", e);
             throw new AuthenticationFailedException(e);
         }
+        if (cacheKey != null) {
+            tokenCache.add(cacheKey, jwtPrincipal);
+        }
+        return createSecurityIdentity(request, jwtPrincipal);
+    }
+
+    private static SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request, JsonWebToken jwtPrincipal) {
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
+                .addCredential(request.getToken())
+                .addRoles(jwtPrincipal.getGroups())
+                .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal);
+        RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
+        if (routingContext != null) {
+            builder.addAttribute(RoutingContext.class.getName(), routingContext);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the cache of the verified tokens, or {@code null} if it is not enabled
+     */
+    public JwtTokenCache getTokenCache() {
+        return tokenCache;
     }
 }
@@ -1,5 +1,8 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -30,4 +33,29 @@ public interface SmallRyeJwtConfig {
     @WithDefault("false")
     boolean silent();
 
+    /**
+     * Cache of the verified tokens.
+     */
+    @ConfigDocSection
+    TokenCache tokenCache();
+
+    /**
+     * Cache of the verified tokens.
+     * A token found in the cache is not parsed and its signature is not verified again.
+     */
+    interface TokenCache {
+        /**
+         * Maximum number of cache entries.
+         * Set it to a positive value if the cache has to be enabled.
+         */
+        @WithDefault("0")
+        int maxSize();
+
+        /**
+         * Maximum amount of time a given cache entry is valid for.
+         * An entry never remains in the cache after the token has expired.
+         */
+        @WithDefault("3M")
+        Duration timeToLive();
+    }
 }
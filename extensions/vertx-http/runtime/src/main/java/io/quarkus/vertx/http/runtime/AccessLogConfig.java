@@ -57,6 +57,16 @@ public interface AccessLogConfig {
     @WithDefault(".log")
     String logSuffix();
 
+    /**
+     * If the access log file should be written by a dedicated thread.
+     * <p>
+     * The messages are then formatted directly into reusable byte buffers, and written in batches. If the messages are
+     * produced faster than they can be written, up to 4096 messages are queued and the subsequent ones are dropped.
+     * This only applies if `log-to-file` is enabled.
+     */
+    @WithDefault("false")
+    boolean asyncFileWriter();
+
     /**
      * The log category to use if logging is being done via the standard log mechanism (i.e. if base-file-name is empty).
      *
@@ -28,6 +28,13 @@ public String readAttribute(RoutingContext exchange) {
         return sb.toString();
     }
 
+    /**
+     * @return the attributes merged by this attribute, in order
+     */
+    public ExchangeAttribute[] getAttributes() {
+        return attributes.clone();
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("combined", newValue);
@@ -19,6 +19,10 @@ public String readAttribute(final RoutingContext exchange) {
         return value;
     }
 
+    public String getValue() {
+        return value;
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("constant", newValue);
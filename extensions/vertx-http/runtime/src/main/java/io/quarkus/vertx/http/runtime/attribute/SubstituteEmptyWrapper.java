@@ -37,5 +37,13 @@ public String readAttribute(RoutingContext exchange) {
         public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
             attribute.writeAttribute(exchange, newValue);
         }
+
+        public ExchangeAttribute getAttribute() {
+            return attribute;
+        }
+
+        public String getSubstitute() {
+            return substitute;
+        }
     }
 }
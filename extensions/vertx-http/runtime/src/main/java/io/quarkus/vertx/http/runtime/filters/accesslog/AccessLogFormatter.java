@@ -0,0 +1,140 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.vertx.http.runtime.attribute.CompositeExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ConstantExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper.SubstituteEmptyAttribute;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Formats access log messages directly into byte buffers.
+ * <p>
+ * The parsed format is compiled once into a flat list of segments: the adjacent constant parts are merged and encoded to
+ * UTF-8 up front, and the other attributes are encoded as they are read, so that no string is built for the whole message.
+ */
+public class AccessLogFormatter {
+
+    // for each segment, either the encoded constant or the attribute to read
+    private final byte[][] constants;
+    private final ExchangeAttribute[] attributes;
+
+    public AccessLogFormatter(ExchangeAttribute attribute) {
+        List<ExchangeAttribute> flattened = new ArrayList<>();
+        flatten(attribute, flattened);
+
+        List<byte[]> constants = new ArrayList<>();
+        List<ExchangeAttribute> attributes = new ArrayList<>();
+        StringBuilder constant = new StringBuilder();
+        for (ExchangeAttribute current : flattened) {
+            String value = constantValue(current);
+            if (value != null) {
+                constant.append(value);
+                continue;
+            }
+            if (!constant.isEmpty()) {
+                constants.add(constant.toString().getBytes(StandardCharsets.UTF_8));
+                attributes.add(null);
+                constant.setLength(0);
+            }
+            constants.add(null);
+            attributes.add(current);
+        }
+        if (!constant.isEmpty()) {
+            constants.add(constant.toString().getBytes(StandardCharsets.UTF_8));
+            attributes.add(null);
+        }
+        this.constants = constants.toArray(new byte[0][]);
+        this.attributes = attributes.toArray(new ExchangeAttribute[0]);
+    }
+
+    private static void flatten(ExchangeAttribute attribute, List<ExchangeAttribute> result) {
+        if (attribute instanceof CompositeExchangeAttribute composite) {
+            for (ExchangeAttribute nested : composite.getAttributes()) {
+                flatten(nested, result);
+            }
+        } else {
+            result.add(attribute);
+        }
+    }
+
+    private static String constantValue(ExchangeAttribute attribute) {
+        if (attribute instanceof ConstantExchangeAttribute constant) {
+            return constant.getValue();
+        }
+        if (attribute instanceof SubstituteEmptyAttribute substitute
+                && substitute.getAttribute() instanceof ConstantExchangeAttribute constant) {
+            String value = constant.getValue();
+            return value == null || value.isEmpty() ? substitute.getSubstitute() : value;
+        }
+        return null;
+    }
+
+    /**
+     * Appends the message of the given exchange to the buffer.
+     *
+     * @return the buffer containing the message, a larger buffer than {@code buffer} if it was too small
+     */
+    public ByteBuffer format(RoutingContext exchange, ByteBuffer buffer) {
+        for (int i = 0; i < constants.length; i++) {
+            byte[] constant = constants[i];
+            if (constant != null) {
+                buffer = ensureCapacity(buffer, constant.length);
+                buffer.put(constant);
+            } else {
+                String value = attributes[i].readAttribute(exchange);
+                if (value != null) {
+                    buffer = encode(value, buffer);
+                }
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Appends the UTF-8 encoding of the value to the buffer, without going through a {@link java.nio.charset.CharsetEncoder}.
+     *
+     * @return the buffer containing the value, a larger buffer than {@code buffer} if it was too small
+     */
+    static ByteBuffer encode(String value, ByteBuffer buffer) {
+        int length = value.length();
+        // a char is encoded to at most 3 bytes, and a surrogate pair to 4 bytes
+        buffer = ensureCapacity(buffer, length * 3);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return buffer;
+    }
+
+    static ByteBuffer ensureCapacity(ByteBuffer buffer, int required) {
+        if (buffer.remaining() >= required) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + required));
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+}
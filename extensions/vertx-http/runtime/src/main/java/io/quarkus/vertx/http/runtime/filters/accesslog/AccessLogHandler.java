@@ -98,6 +98,8 @@ public class AccessLogHandler implements Handler<RoutingContext> {
     private final boolean consolidateReroutedRequests;
     private final ExchangeAttribute tokens;
     private final Pattern excludePattern;
+    private final AsyncFileAccessLogReceiver asyncFileReceiver;
+    private final AccessLogFormatter formatter;
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString,
             boolean consolidateReroutedRequests, ClassLoader classLoader,
@@ -112,6 +114,8 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String
         } else {
             this.excludePattern = null;
         }
+        this.asyncFileReceiver = asAsyncFileReceiver(accessLogReceiver);
+        this.formatter = asyncFileReceiver != null ? new AccessLogFormatter(tokens) : null;
     }
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String formatString, boolean consolidateReroutedRequests,
@@ -121,6 +125,12 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String format
         this.consolidateReroutedRequests = consolidateReroutedRequests;
         this.tokens = attribute;
         this.excludePattern = null;
+        this.asyncFileReceiver = asAsyncFileReceiver(accessLogReceiver);
+        this.formatter = asyncFileReceiver != null ? new AccessLogFormatter(tokens) : null;
+    }
+
+    private static AsyncFileAccessLogReceiver asAsyncFileReceiver(AccessLogReceiver accessLogReceiver) {
+        return accessLogReceiver instanceof AsyncFileAccessLogReceiver receiver ? receiver : null;
     }
 
     private static String handleCommonNames(String formatString) {
@@ -155,7 +165,11 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                if (asyncFileReceiver != null) {
+                    asyncFileReceiver.logMessage(formatter, rc);
+                } else {
+                    accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                }
             }
         });
         if (consolidateReroutedRequests) {
@@ -0,0 +1,382 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Log receiver that writes the messages to a file from a dedicated thread, and rotates the file after midnight.
+ * <p>
+ * The messages are formatted directly into the byte buffers of a bounded ring, which are reused once written. The ring has
+ * multiple producers and a single consumer, the writer thread, which writes all the available messages with one gathering
+ * write. The request threads never touch the file, and only the writer thread checks whether the file must be rotated.
+ * <p>
+ * If the ring is full, the messages are dropped and the number of dropped messages is logged.
+ */
+public class AsyncFileAccessLogReceiver implements AccessLogReceiver, Closeable {
+
+    private static final Logger log = Logger.getLogger(AsyncFileAccessLogReceiver.class);
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final String DEFAULT_LOG_SUFFIX = "log";
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    // the buffers grown beyond this size by a large message are not reused
+    private static final int MAX_POOLED_BUFFER_SIZE = 16 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DROPPED_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final int capacity;
+    private final int mask;
+    private final ByteBuffer[] buffers;
+    // the sequence of each slot: its position when it is free, its position + 1 once a message is published to it
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // the total number of dropped messages
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+    private final boolean rotate;
+
+    private final Thread writerThread;
+    private volatile boolean waiting;
+    private volatile boolean forceLogRotation;
+    private volatile boolean closed;
+
+    // only accessed by the writer thread
+    private final ByteBuffer[] batch;
+    private long head;
+    private FileChannel channel;
+    private long changeOverPoint;
+    private String currentDateString;
+    private long lastDroppedReport = System.nanoTime() - DROPPED_REPORT_INTERVAL_NANOS;
+    private long reportedDropped;
+
+    public AsyncFileAccessLogReceiver(Path outputDirectory, String logBaseName, String logNameSuffix, boolean rotate) {
+        this(outputDirectory, logBaseName, logNameSuffix, rotate, DEFAULT_CAPACITY);
+    }
+
+    public AsyncFileAccessLogReceiver(Path outputDirectory, String logBaseName, String logNameSuffix, boolean rotate,
+            int capacity) {
+        this(outputDirectory, logBaseName, logNameSuffix, rotate, capacity, true);
+    }
+
+    AsyncFileAccessLogReceiver(Path outputDirectory, String logBaseName, String logNameSuffix, boolean rotate, int capacity,
+            boolean start) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.capacity = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = this.capacity - 1;
+        this.buffers = new ByteBuffer[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+            sequences.set(i, i);
+        }
+        this.batch = new ByteBuffer[this.capacity];
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName;
+        this.logNameSuffix = effectiveLogNameSuffix(logNameSuffix);
+        this.rotate = rotate;
+        this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
+        this.writerThread = new Thread(this::runWriter, "quarkus-access-log-writer");
+        writerThread.setDaemon(true);
+        if (start) {
+            start();
+        }
+    }
+
+    void start() {
+        writerThread.start();
+    }
+
+    /**
+     * @return the total number of dropped messages
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private static String effectiveLogNameSuffix(String logNameSuffix) {
+        var result = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
+        if (result.charAt(0) != '.') {
+            return '.' + result;
+        }
+        return result;
+    }
+
+    @Override
+    public void logMessage(String message) {
+        long position = claim();
+        if (position < 0) {
+            return;
+        }
+        int index = (int) position & mask;
+        ByteBuffer buffer = buffers[index];
+        boolean written = false;
+        try {
+            buffer = AccessLogFormatter.encode(message, buffer);
+            buffer = newLine(buffer);
+            written = true;
+        } finally {
+            publish(index, position, buffer, written);
+        }
+    }
+
+    /**
+     * Formats the message of the given exchange directly into the buffer that is written to the file.
+     */
+    public void logMessage(AccessLogFormatter formatter, RoutingContext exchange) {
+        long position = claim();
+        if (position < 0) {
+            return;
+        }
+        int index = (int) position & mask;
+        ByteBuffer buffer = buffers[index];
+        boolean written = false;
+        try {
+            buffer = formatter.format(exchange, buffer);
+            buffer = newLine(buffer);
+            written = true;
+        } finally {
+            publish(index, position, buffer, written);
+        }
+    }
+
+    private static ByteBuffer newLine(ByteBuffer buffer) {
+        buffer = AccessLogFormatter.ensureCapacity(buffer, 1);
+        buffer.put((byte) '\n');
+        return buffer;
+    }
+
+    /**
+     * @return the position of the claimed slot, or -1 if the ring is full
+     */
+    private long claim() {
+        if (closed) {
+            return -1;
+        }
+        long position = tail.get();
+        for (;;) {
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (sequence < position) {
+                dropped.incrementAndGet();
+                return -1;
+            } else {
+                // another producer claimed this position
+                position = tail.get();
+            }
+        }
+    }
+
+    private void publish(int index, long position, ByteBuffer buffer, boolean written) {
+        if (!written) {
+            // the slot is published anyway, so that the writer does not wait for it
+            buffer.clear();
+        }
+        buffers[index] = buffer;
+        sequences.set(index, position + 1);
+        if (waiting) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void runWriter() {
+        try {
+            rotateExistingFileIfNeeded();
+            for (;;) {
+                int count = drain();
+                if (count > 0) {
+                    write(count);
+                    release(count);
+                    reportDropped();
+                } else if (forceLogRotation) {
+                    doRotate();
+                } else if (closed) {
+                    break;
+                } else {
+                    waiting = true;
+                    if (!isPublished(head) && !forceLogRotation && !closed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    waiting = false;
+                    reportDropped();
+                }
+            }
+            reportDropped();
+        } catch (Throwable t) {
+            log.error("The access log writer failed", t);
+        } finally {
+            closeChannel();
+        }
+    }
+
+    private boolean isPublished(long position) {
+        return sequences.get((int) position & mask) == position + 1;
+    }
+
+    private int drain() {
+        int count = 0;
+        while (count < capacity && isPublished(head + count)) {
+            ByteBuffer buffer = buffers[(int) (head + count) & mask];
+            buffer.flip();
+            batch[count++] = buffer;
+        }
+        return count;
+    }
+
+    private void write(int count) {
+        if (forceLogRotation || (rotate && System.currentTimeMillis() > changeOverPoint)) {
+            doRotate();
+        }
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            int offset = 0;
+            while (offset < count) {
+                channel.write(batch, offset, count - offset);
+                while (offset < count && !batch[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+            closeChannel();
+        }
+    }
+
+    private void release(int count) {
+        for (int i = 0; i < count; i++) {
+            long position = head + i;
+            int index = (int) position & mask;
+            ByteBuffer buffer = batch[i];
+            batch[i] = null;
+            if (buffer.capacity() > MAX_POOLED_BUFFER_SIZE) {
+                buffers[index] = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+            } else {
+                buffer.clear();
+            }
+            sequences.set(index, position + capacity);
+        }
+        head += count;
+    }
+
+    private void reportDropped() {
+        // reported at most once per interval, so that an overloaded writer does not flood the log
+        long total = dropped.get();
+        if (total > reportedDropped
+                && (closed || System.nanoTime() - lastDroppedReport >= DROPPED_REPORT_INTERVAL_NANOS)) {
+            lastDroppedReport = System.nanoTime();
+            log.warnf("%d access log messages were dropped because they were produced faster than they could be written",
+                    total - reportedDropped);
+            reportedDropped = total;
+        }
+    }
+
+    private void rotateExistingFileIfNeeded() {
+        calculateChangeOverPoint();
+        if (!rotate || !Files.exists(defaultLogFile)) {
+            return;
+        }
+        try {
+            LocalDate lastModified = LocalDate.ofInstant(Files.getLastModifiedTime(defaultLogFile).toInstant(),
+                    ZoneId.systemDefault());
+            if (lastModified.isBefore(LocalDate.now())) {
+                currentDateString = lastModified.toString();
+                doRotate();
+            }
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        LocalDate today = LocalDate.now();
+        currentDateString = today.toString();
+        changeOverPoint = today.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void doRotate() {
+        forceLogRotation = false;
+        if (!rotate) {
+            return;
+        }
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * forces a log rotation. This rotation is performed in an async manner, you cannot rely on the rotation
+     * being performed immediately after this method returns.
+     */
+    public void rotate() {
+        forceLogRotation = true;
+        LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Writes the pending messages and closes the file. The messages logged afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -24,7 +24,6 @@
 import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.AuthorizationRequestContext;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.CheckResult;
-import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher.PathMatch;
 import io.smallrye.mutiny.Uni;
 import io.vertx.ext.web.RoutingContext;
 
@@ -37,8 +36,8 @@ public class AbstractPathMatchingHttpSecurityPolicy {
 
     private static final String PATH_MATCHING_POLICY_FOUND = AbstractPathMatchingHttpSecurityPolicy.class.getName()
             + ".POLICY_FOUND";
-    private final ImmutablePathMatcher<List<HttpMatcher>> pathMatcher;
-    private final List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermissionsPathMatchers;
+    private final ImmutablePathMatcher<PathPermissions> pathMatcher;
+    private final List<ImmutablePathMatcher<PathPermissions>> sharedPermissionsPathMatchers;
     private final boolean hasNoPermissions;
 
     AbstractPathMatchingHttpSecurityPolicy(Map<String, PolicyMappingConfig> permissions,
@@ -46,8 +45,9 @@ public class AbstractPathMatchingHttpSecurityPolicy {
             PolicyMappingConfig.AppliesTo appliesTo) {
         boolean hasNoPermissions = true;
         var namedHttpSecurityPolicies = toNamedHttpSecPolicies(rolePolicy, installedPolicies);
-        List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermsMatchers = new ArrayList<>();
-        final var builder = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+        List<ImmutablePathMatcher<PathPermissions>> sharedPermsMatchers = new ArrayList<>();
+        List<PathPermissions> pathPermissions = new ArrayList<>();
+        final var builder = ImmutablePathMatcher.<PathPermissions> builder().handlerAccumulator(PathPermissions::addAll)
                 .rootPath(rootPath);
         for (PolicyMappingConfig policyMappingConfig : permissions.values()) {
             if (appliesTo != policyMappingConfig.appliesTo()) {
@@ -57,22 +57,26 @@ public class AbstractPathMatchingHttpSecurityPolicy {
                 hasNoPermissions = false;
             }
             if (policyMappingConfig.shared()) {
-                final var builder1 = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
-                        .rootPath(rootPath);
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1);
+                final var builder1 = ImmutablePathMatcher.<PathPermissions> builder()
+                        .handlerAccumulator(PathPermissions::addAll).rootPath(rootPath);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1, pathPermissions);
                 sharedPermsMatchers.add(builder1.build());
             } else {
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder, pathPermissions);
             }
         }
         this.hasNoPermissions = hasNoPermissions;
         this.sharedPermissionsPathMatchers = sharedPermsMatchers.isEmpty() ? null : List.copyOf(sharedPermsMatchers);
         this.pathMatcher = builder.build();
+        // the permissions of the paths are all accumulated now, resolve the policies of each HTTP method once
+        for (PathPermissions p : pathPermissions) {
+            p.compile();
+        }
     }
 
     public String getAuthMechanismName(RoutingContext routingContext) {
         if (sharedPermissionsPathMatchers != null) {
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
+            for (ImmutablePathMatcher<PathPermissions> matcher : sharedPermissionsPathMatchers) {
                 String authMechanismName = getAuthMechanismName(routingContext, matcher);
                 if (authMechanismName != null) {
                     return authMechanismName;
@@ -93,6 +97,20 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
 
     Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext, HttpSecurityPolicy... additionalPolicies) {
+        if (additionalPolicies.length == 0 && sharedPermissionsPathMatchers == null) {
+            if (hasNoPermissions) {
+                return CheckResult.permit();
+            }
+            MethodPolicies policies = findPolicies(routingContext, pathMatcher);
+            if (policies.result != null) {
+                // only permit and deny policies apply, there is no need to evaluate them
+                if (policies.policyFound) {
+                    routingContext.put(PATH_MATCHING_POLICY_FOUND, true);
+                }
+                return policies.result;
+            }
+            return doPermissionCheck(routingContext, identity, 0, null, policies.checkers, requestContext);
+        }
         final List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? new ArrayList<>()
                 : getHttpSecurityPolicies(routingContext);
         if (additionalPolicies.length > 0) {
@@ -108,13 +126,13 @@ Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIde
     private List<HttpSecurityPolicy> getHttpSecurityPolicies(RoutingContext routingContext) {
         final List<HttpSecurityPolicy> permissionCheckers;
         if (sharedPermissionsPathMatchers == null) {
-            permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
+            permissionCheckers = new ArrayList<>(findPolicies(routingContext, pathMatcher).checkers);
         } else {
             permissionCheckers = new ArrayList<>();
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
+            for (ImmutablePathMatcher<PathPermissions> matcher : sharedPermissionsPathMatchers) {
+                permissionCheckers.addAll(findPolicies(routingContext, matcher).checkers);
             }
-            permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
+            permissionCheckers.addAll(findPolicies(routingContext, pathMatcher).checkers);
         }
         return permissionCheckers;
     }
@@ -161,22 +179,15 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
     }
 
     private static String getAuthMechanismName(RoutingContext routingContext,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return null;
-        }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+            ImmutablePathMatcher<PathPermissions> pathMatcher) {
+        PathPermissions toCheck = pathMatcher.match(routingContext.normalizedPath()).getValue();
+        return toCheck == null ? null : toCheck.authMechanism;
     }
 
     private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> permissionCheckers,
             PolicyMappingConfig policyMappingConfig,
-            ImmutablePathMatcher.ImmutablePathMatcherBuilder<List<HttpMatcher>> builder) {
+            ImmutablePathMatcher.ImmutablePathMatcherBuilder<PathPermissions> builder,
+            List<PathPermissions> pathPermissions) {
         HttpSecurityPolicy checker = permissionCheckers.get(policyMappingConfig.policy());
         if (checker == null) {
             throw new RuntimeException("Unable to find HTTP security policy " + policyMappingConfig.policy());
@@ -186,39 +197,19 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
             for (String path : policyMappingConfig.paths().orElse(Collections.emptyList())) {
                 HttpMatcher m = new HttpMatcher(policyMappingConfig.authMechanism().orElse(null),
                         new HashSet<>(policyMappingConfig.methods().orElse(Collections.emptyList())), checker);
-                List<HttpMatcher> perms = new ArrayList<>();
-                perms.add(m);
+                PathPermissions perms = new PathPermissions(m);
+                pathPermissions.add(perms);
                 builder.addPath(path, perms);
             }
         }
     }
 
-    private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        var result = new ArrayList<HttpSecurityPolicy>();
-
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(context.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return result;
+    private static MethodPolicies findPolicies(RoutingContext context, ImmutablePathMatcher<PathPermissions> pathMatcher) {
+        PathPermissions toCheck = pathMatcher.match(context.normalizedPath()).getValue();
+        if (toCheck == null) {
+            return MethodPolicies.NONE;
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(context.request().method().toString())) {
-                methodMatch.add(i.checker);
-            }
-        }
-        if (!methodMatch.isEmpty()) {
-            result.addAll(methodMatch);
-        } else if (!noMethod.isEmpty()) {
-            result.addAll(noMethod);
-        } else {
-            //we deny if we did not match due to method filtering
-            result.add(DenySecurityPolicy.INSTANCE);
-        }
-        return result;
+        return toCheck.getPolicies(context.request().method().name());
     }
 
     static boolean policyApplied(RoutingContext routingContext) {
@@ -414,4 +405,103 @@ static ConfigurationException duplicateNamedPoliciesNotAllowedEx(HttpSecurityPol
     record HttpMatcher(String authMechanism, Set<String> methods, HttpSecurityPolicy checker) {
 
     }
+
+    /**
+     * The permissions of a path. The permissions of the same path are accumulated while the path matcher is built, and
+     * then compiled into the policies to apply for each HTTP method, so that a request only needs a lookup.
+     */
+    static final class PathPermissions {
+
+        private final List<HttpMatcher> matchers = new ArrayList<>();
+        private String authMechanism;
+        private Map<String, MethodPolicies> methodToPolicies;
+        private MethodPolicies otherMethodPolicies;
+
+        private PathPermissions(HttpMatcher matcher) {
+            matchers.add(matcher);
+        }
+
+        private void addAll(PathPermissions other) {
+            matchers.addAll(other.matchers);
+        }
+
+        private void compile() {
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            Set<String> methods = new HashSet<>();
+            for (HttpMatcher i : matchers) {
+                if (authMechanism == null) {
+                    authMechanism = i.authMechanism;
+                }
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    methods.addAll(i.methods);
+                }
+            }
+            Map<String, MethodPolicies> methodToPolicies = new HashMap<>();
+            for (String method : methods) {
+                List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
+                for (HttpMatcher i : matchers) {
+                    if (i.methods != null && i.methods.contains(method)) {
+                        methodMatch.add(i.checker);
+                    }
+                }
+                methodToPolicies.put(method, new MethodPolicies(methodMatch));
+            }
+            this.methodToPolicies = Map.copyOf(methodToPolicies);
+            if (!noMethod.isEmpty()) {
+                this.otherMethodPolicies = new MethodPolicies(noMethod);
+            } else {
+                //we deny if we did not match due to method filtering
+                this.otherMethodPolicies = new MethodPolicies(List.of(DenySecurityPolicy.INSTANCE));
+            }
+        }
+
+        private MethodPolicies getPolicies(String method) {
+            MethodPolicies policies = methodToPolicies.get(method);
+            return policies == null ? otherMethodPolicies : policies;
+        }
+    }
+
+    /**
+     * The policies that apply to a path and an HTTP method, in the order of evaluation.
+     */
+    private static final class MethodPolicies {
+
+        private static final MethodPolicies NONE = new MethodPolicies(List.of());
+
+        private final List<HttpSecurityPolicy> checkers;
+        /**
+         * The result of the policies if it does not depend on the request, that is if only the permit and deny policies
+         * apply; {@code null} otherwise.
+         */
+        private final Uni<CheckResult> result;
+        /**
+         * Whether the request is permitted by at least one policy, if the {@link #result} does not depend on the request.
+         */
+        private final boolean policyFound;
+
+        private MethodPolicies(List<HttpSecurityPolicy> checkers) {
+            this.checkers = List.copyOf(checkers);
+            boolean denied = false;
+            boolean staticResult = true;
+            for (HttpSecurityPolicy checker : checkers) {
+                if (checker.getClass() == DenySecurityPolicy.class) {
+                    denied = true;
+                } else if (checker.getClass() != PermitSecurityPolicy.class) {
+                    staticResult = false;
+                }
+            }
+            if (!staticResult) {
+                this.result = null;
+                this.policyFound = false;
+            } else if (denied) {
+                this.result = CheckResult.deny();
+                this.policyFound = false;
+            } else {
+                this.result = CheckResult.permit();
+                this.policyFound = !checkers.isEmpty();
+            }
+        }
+    }
 }
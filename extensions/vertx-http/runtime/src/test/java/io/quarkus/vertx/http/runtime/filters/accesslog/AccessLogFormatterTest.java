@@ -0,0 +1,43 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
+
+class AccessLogFormatterTest {
+
+    @Test
+    void shouldEncodeToUtf8() {
+        String value = "aé€😀";
+        ByteBuffer buffer = AccessLogFormatter.encode(value, ByteBuffer.allocateDirect(2));
+        assertThat(read(buffer)).isEqualTo(value);
+    }
+
+    @Test
+    void shouldReplaceUnpairedSurrogates() {
+        ByteBuffer buffer = AccessLogFormatter.encode("a\ud83db", ByteBuffer.allocateDirect(16));
+        assertThat(read(buffer)).isEqualTo("a?b");
+    }
+
+    @Test
+    void shouldMergeConstants() {
+        AccessLogFormatter formatter = new AccessLogFormatter(
+                new ExchangeAttributeParser(List.of(new SubstituteEmptyWrapper("-"))).parse("100%% $$ constant"));
+        ByteBuffer buffer = formatter.format(null, ByteBuffer.allocateDirect(4));
+        assertThat(read(buffer)).isEqualTo("100% $ constant");
+    }
+
+    private static String read(ByteBuffer buffer) {
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,172 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AsyncFileAccessLogReceiverTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldWriteMessagesOfConcurrentProducers() throws Exception {
+        int producers = 8;
+        int messages = 1000;
+        AsyncFileAccessLogReceiver receiver = new AsyncFileAccessLogReceiver(dir, "access", "log", false,
+                producers * messages);
+        List<String> expected = produce(receiver, producers, messages, () -> true);
+        receiver.close();
+
+        assertThat(receiver.getDroppedCount()).isZero();
+        assertThat(readLines(dir.resolve("access.log"))).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void shouldWrapAroundTheRing() throws Exception {
+        AsyncFileAccessLogReceiver receiver = new AsyncFileAccessLogReceiver(dir, "access", "log", false, 2);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            // a message larger than the pooled buffers is not reused
+            String message = i == 500 ? "x".repeat(20_000) : "message-" + i;
+            logUntilAccepted(receiver, message);
+            expected.add(message);
+        }
+        receiver.close();
+
+        // a single producer claims the slots in order
+        assertThat(readLines(dir.resolve("access.log"))).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldDropMessagesIfTheRingIsFull() throws Exception {
+        // the writer is not started so that no slot is released
+        AsyncFileAccessLogReceiver receiver = new AsyncFileAccessLogReceiver(dir, "access", "log", false, 4, false);
+        for (int i = 0; i < 10; i++) {
+            receiver.logMessage("message-" + i);
+        }
+        assertThat(receiver.getDroppedCount()).isEqualTo(6);
+
+        receiver.start();
+        receiver.close();
+        assertThat(readLines(dir.resolve("access.log"))).containsExactly("message-0", "message-1", "message-2",
+                "message-3");
+    }
+
+    @Test
+    void shouldNotLoseMessagesIfTheFileIsRotatedDuringWrites() throws Exception {
+        int producers = 4;
+        int messages = 2000;
+        AsyncFileAccessLogReceiver receiver = new AsyncFileAccessLogReceiver(dir, "access", "log", true,
+                producers * messages);
+        List<String> expected = produce(receiver, producers, messages, () -> {
+            receiver.rotate();
+            return true;
+        });
+        // make sure that at least one rotation happened once all the messages are written
+        await(() -> readAllLines().size() == expected.size());
+        receiver.rotate();
+        await(() -> !Files.exists(dir.resolve("access.log")));
+        receiver.close();
+
+        assertThat(receiver.getDroppedCount()).isZero();
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.map(f -> f.getFileName().toString()).collect(Collectors.toList()))
+                    .isNotEmpty()
+                    .allMatch(name -> name.startsWith("access") && name.endsWith(".log") && !name.equals("access.log"));
+        }
+        assertThat(readAllLines()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    /**
+     * Starts the producers and invokes the action until all the producers are finished.
+     *
+     * @return the logged messages
+     */
+    private static List<String> produce(AsyncFileAccessLogReceiver receiver, int producers, int messages,
+            BooleanSupplier whileProducing) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String producer = "producer-" + p;
+            for (int i = 0; i < messages; i++) {
+                expected.add(producer + " message-" + i);
+            }
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < messages; i++) {
+                    receiver.logMessage(producer + " message-" + i);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            while (thread.isAlive() && whileProducing.getAsBoolean()) {
+                thread.join(1);
+            }
+            thread.join();
+        }
+        return expected;
+    }
+
+    private static void logUntilAccepted(AsyncFileAccessLogReceiver receiver, String message) {
+        long dropped = receiver.getDroppedCount();
+        receiver.logMessage(message);
+        while (receiver.getDroppedCount() > dropped) {
+            dropped = receiver.getDroppedCount();
+            Thread.onSpinWait();
+            receiver.logMessage(message);
+        }
+    }
+
+    private List<String> readAllLines() {
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.sorted().collect(Collectors.toList())) {
+                lines.addAll(readLines(file));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return lines;
+    }
+
+    private static List<String> readLines(Path file) {
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // the file may be rotated concurrently
+            return List.of();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("Condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.enterprise.inject.Instance;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+public class AbstractPathMatchingHttpSecurityPolicyTest {
+
+    @Test
+    public void testPermitAndDenyDoNotSubscribeToIdentity() {
+        var policy = createPolicy(Map.of(
+                "public", permission("permit", "/public/*"),
+                "private", permission("deny", "/private/*")));
+
+        TestIdentity identity = new TestIdentity(false);
+        RoutingContext routingContext = routingContext(HttpMethod.GET, "/public/resource");
+        assertTrue(check(policy, routingContext, identity));
+        assertTrue(AbstractPathMatchingHttpSecurityPolicy.policyApplied(routingContext));
+
+        routingContext = routingContext(HttpMethod.GET, "/private/resource");
+        assertFalse(check(policy, routingContext, identity));
+        assertFalse(AbstractPathMatchingHttpSecurityPolicy.policyApplied(routingContext));
+
+        assertFalse(identity.subscribed.get());
+    }
+
+    @Test
+    public void testMethodSpecificAndMethodLessPermissions() {
+        var policy = createPolicy(Map.of(
+                "authenticated", permission("authenticated", "/api/*"),
+                "read", permission("permit", "/api/*", "GET")));
+
+        // only the permissions of the method apply
+        TestIdentity identity = new TestIdentity(true);
+        assertTrue(check(policy, routingContext(HttpMethod.GET, "/api/resource"), identity));
+        assertFalse(identity.subscribed.get());
+
+        // the permissions without methods apply to the other methods
+        assertFalse(check(policy, routingContext(HttpMethod.POST, "/api/resource"), identity));
+        assertTrue(identity.subscribed.get());
+
+        identity = new TestIdentity(false);
+        RoutingContext routingContext = routingContext(HttpMethod.POST, "/api/resource");
+        assertTrue(check(policy, routingContext, identity));
+        assertTrue(AbstractPathMatchingHttpSecurityPolicy.policyApplied(routingContext));
+    }
+
+    @Test
+    public void testUnmatchedMethodIsDenied() {
+        var policy = createPolicy(Map.of("read", permission("authenticated", "/api/*", "GET", "HEAD")));
+
+        TestIdentity identity = new TestIdentity(false);
+        assertTrue(check(policy, routingContext(HttpMethod.HEAD, "/api/resource"), identity));
+
+        identity = new TestIdentity(false);
+        RoutingContext routingContext = routingContext(HttpMethod.DELETE, "/api/resource");
+        assertFalse(check(policy, routingContext, identity));
+        assertFalse(AbstractPathMatchingHttpSecurityPolicy.policyApplied(routingContext));
+        assertFalse(identity.subscribed.get());
+    }
+
+    @Test
+    public void testUnmatchedPathIsPermitted() {
+        var policy = createPolicy(Map.of("api", permission("authenticated", "/api/*")));
+
+        TestIdentity identity = new TestIdentity(true);
+        RoutingContext routingContext = routingContext(HttpMethod.GET, "/other");
+        assertTrue(check(policy, routingContext, identity));
+        assertFalse(AbstractPathMatchingHttpSecurityPolicy.policyApplied(routingContext));
+        assertFalse(identity.subscribed.get());
+    }
+
+    @Test
+    public void testMergedWildcardPaths() {
+        Map<String, PolicyMappingConfig> permissions = new LinkedHashMap<>();
+        permissions.put("read", permission("permit", "/merged/*", "GET"));
+        permissions.put("write", permission("authenticated", "/merged/*", "POST", "PUT"));
+        permissions.put("remove", permission("deny", "/merged/*", "DELETE"));
+        var policy = createPolicy(permissions);
+
+        TestIdentity identity = new TestIdentity(false);
+        assertTrue(check(policy, routingContext(HttpMethod.GET, "/merged/resource"), identity));
+        assertFalse(check(policy, routingContext(HttpMethod.DELETE, "/merged/resource"), identity));
+        assertFalse(check(policy, routingContext(HttpMethod.PATCH, "/merged/resource"), identity));
+        assertFalse(identity.subscribed.get());
+
+        assertTrue(check(policy, routingContext(HttpMethod.PUT, "/merged/resource"), identity));
+        assertTrue(identity.subscribed.get());
+        assertFalse(check(policy, routingContext(HttpMethod.POST, "/merged/resource"), new TestIdentity(true)));
+    }
+
+    private static boolean check(AbstractPathMatchingHttpSecurityPolicy policy, RoutingContext routingContext,
+            TestIdentity identity) {
+        return policy.checkPermission(routingContext, identity.uni(), null).await().indefinitely().isPermitted();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AbstractPathMatchingHttpSecurityPolicy createPolicy(Map<String, PolicyMappingConfig> permissions) {
+        Instance<HttpSecurityPolicy> installedPolicies = Mockito.mock(Instance.class);
+        Mockito.doReturn(List.of()).when(installedPolicies).handles();
+        return new AbstractPathMatchingHttpSecurityPolicy(permissions, Map.of(), "/", installedPolicies,
+                PolicyMappingConfig.AppliesTo.ALL);
+    }
+
+    private static PolicyMappingConfig permission(String policy, String path, String... methods) {
+        PolicyMappingConfig permission = Mockito.mock(PolicyMappingConfig.class);
+        Mockito.when(permission.policy()).thenReturn(policy);
+        Mockito.when(permission.paths()).thenReturn(Optional.of(List.of(path)));
+        Mockito.when(permission.methods()).thenReturn(Optional.of(List.of(methods)));
+        Mockito.when(permission.enabled()).thenReturn(Optional.empty());
+        Mockito.when(permission.authMechanism()).thenReturn(Optional.empty());
+        Mockito.when(permission.appliesTo()).thenReturn(PolicyMappingConfig.AppliesTo.ALL);
+        return permission;
+    }
+
+    private static RoutingContext routingContext(HttpMethod method, String path) {
+        HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+        Mockito.when(request.method()).thenReturn(method);
+        RoutingContext routingContext = Mockito.mock(RoutingContext.class);
+        Mockito.when(routingContext.request()).thenReturn(request);
+        Mockito.when(routingContext.normalizedPath()).thenReturn(path);
+        Map<String, Object> data = new HashMap<>();
+        Mockito.when(routingContext.put(anyString(), any())).thenAnswer(invocation -> {
+            data.put(invocation.getArgument(0), invocation.getArgument(1));
+            return routingContext;
+        });
+        Mockito.when(routingContext.get(anyString())).thenAnswer(invocation -> data.get(invocation.getArgument(0)));
+        return routingContext;
+    }
+
+    private static final class TestIdentity {
+
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+        private final SecurityIdentity identity;
+
+        private TestIdentity(boolean anonymous) {
+            identity = Mockito.mock(SecurityIdentity.class);
+            Mockito.when(identity.isAnonymous()).thenReturn(anonymous);
+        }
+
+        private Uni<SecurityIdentity> uni() {
+            return Uni.createFrom().item(() -> {
+                subscribed.set(true);
+                return identity;
+            });
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.ConnectionGroupBridge;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.ConnectionManager;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class BroadcastGroupTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Rooms.class, TestBridge.class, WSClient.class);
+            });
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    OpenConnections openConnections;
+
+    @Inject
+    TestBridge bridge;
+
+    @Inject
+    ConnectionManager connectionManager;
+
+    @TestHTTPResource("rooms")
+    URI roomsUri;
+
+    @Test
+    public void testGroups() {
+        try (WSClient alice = connect("a"); WSClient bob = connect("a"); WSClient carol = connect("b")) {
+            assertEquals(2, openConnections.findByGroup("rooms", "a").size());
+            assertEquals(1, openConnections.findByGroup("rooms", "b").size());
+
+            alice.send("hi");
+            alice.waitForMessages(2);
+            bob.waitForMessages(2);
+            assertEquals("hi", alice.getLastMessage().toString());
+            assertEquals("hi", bob.getLastMessage().toString());
+
+            // The message is published to other instances
+            Awaitility.await().until(() -> bridge.published.size() == 1);
+            ConnectionGroupBridge.GroupMessage published = bridge.published.get(0);
+            assertEquals("rooms", published.endpointId());
+            assertEquals("a", published.group());
+            assertEquals("hi", published.text());
+
+            // A message published by another instance
+            bridge.receiver.receive(ConnectionGroupBridge.GroupMessage.text("rooms", "b", "remote")).await()
+                    .atMost(Duration.ofSeconds(5));
+            carol.waitForMessages(2);
+            assertEquals("remote", carol.getLastMessage().toString());
+            assertEquals(2, alice.getMessages().size());
+
+            bob.sendAndAwait("leave");
+            Awaitility.await().until(() -> openConnections.findByGroup("rooms", "a").size() == 1);
+            alice.send("bye");
+            alice.waitForMessages(3);
+            assertEquals(2, bob.getMessages().size());
+
+            carol.close();
+            Awaitility.await().until(() -> openConnections.findByGroup("rooms", "b").isEmpty());
+        }
+    }
+
+    @Test
+    public void testJoinWhileClosing() throws InterruptedException {
+        WSClient client = connect("c");
+        WebSocketConnection connection = openConnections.findByGroup("rooms", "c").iterator().next();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger joined = new AtomicInteger();
+        Thread joiner = new Thread(() -> {
+            started.countDown();
+            // Keep joining new groups until the connection is closed, and a few more times after
+            int afterClose = 0;
+            while (afterClose < 100 && joined.get() < 100_000) {
+                connection.join("join-" + joined.getAndIncrement());
+                if (connection.isClosed()) {
+                    afterClose++;
+                }
+            }
+        });
+        joiner.start();
+        started.await();
+        client.close();
+        joiner.join(Duration.ofSeconds(10).toMillis());
+        assertFalse(joiner.isAlive());
+
+        // A closed connection is not a member of any group, even if it joined while being closed
+        Awaitility.await().untilAsserted(() -> {
+            assertFalse(connectionManager.getGroupMembers("rooms", "c").contains(connection));
+            for (int i = 0; i < joined.get(); i++) {
+                assertFalse(connectionManager.getGroupMembers("rooms", "join-" + i).contains(connection));
+            }
+        });
+        assertTrue(connection.groups().isEmpty());
+    }
+
+    WSClient connect(String room) {
+        WSClient client = WSClient.create(vertx).connect(WSClient.toWS(roomsUri, "/rooms/" + room));
+        // Wait until the connection joins the room
+        client.waitForMessages(1);
+        assertEquals("joined", client.getLastMessage().toString());
+        return client;
+    }
+
+    @WebSocket(path = "/rooms/{room}", endpointId = "rooms")
+    public static class Rooms {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnOpen
+        String open() {
+            assertTrue(connection.join(connection.pathParam("room")));
+            assertEquals(Set.of(connection.pathParam("room")), connection.groups());
+            return "joined";
+        }
+
+        @OnTextMessage
+        Uni<Void> message(String message) {
+            String room = connection.pathParam("room");
+            if (message.equals("leave")) {
+                assertTrue(connection.leave(room));
+                return Uni.createFrom().voidItem();
+            }
+            return connection.broadcast().group(room).sendText(message);
+        }
+
+    }
+
+    @Singleton
+    public static class TestBridge implements ConnectionGroupBridge {
+
+        final List<GroupMessage> published = new CopyOnWriteArrayList<>();
+
+        volatile Receiver receiver;
+
+        @Override
+        public void init(Receiver receiver) {
+            this.receiver = receiver;
+        }
+
+        @Override
+        public Uni<Void> publish(GroupMessage message) {
+            published.add(message);
+            return Uni.createFrom().voidItem();
+        }
+
+    }
+
+}
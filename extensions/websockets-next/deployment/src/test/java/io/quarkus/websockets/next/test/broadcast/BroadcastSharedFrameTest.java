@@ -0,0 +1,127 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketClient;
+
+public class BroadcastSharedFrameTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Dashboard.class, Item.class);
+            });
+
+    static final String LARGE = "x".repeat(100_000);
+
+    @TestHTTPResource("dashboard")
+    URI dashboardUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testPojo() throws Exception {
+        assertBroadcast("pojo", "{\"name\":\"foo\",\"value\":1}");
+    }
+
+    @Test
+    public void testMessageLargerThanFrame() throws Exception {
+        assertBroadcast("large", LARGE);
+    }
+
+    @Test
+    public void testBinary() throws Exception {
+        assertBroadcast("binary", "bin");
+    }
+
+    void assertBroadcast(String command, String expectedMessage) throws Exception {
+        List<WebSocketClient> clients = new ArrayList<>();
+        try {
+            CountDownLatch connectedLatch = new CountDownLatch(3);
+            CountDownLatch messagesLatch = new CountDownLatch(3);
+            List<String> messages = new CopyOnWriteArrayList<>();
+            List<io.vertx.core.http.WebSocket> sockets = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                WebSocketClient client = vertx.createWebSocketClient();
+                clients.add(client);
+                client.connect(dashboardUri.getPort(), dashboardUri.getHost(), dashboardUri.getPath())
+                        .onComplete(r -> {
+                            if (r.succeeded()) {
+                                io.vertx.core.http.WebSocket ws = r.result();
+                                ws.textMessageHandler(msg -> {
+                                    messages.add(msg);
+                                    messagesLatch.countDown();
+                                });
+                                ws.binaryMessageHandler(msg -> {
+                                    messages.add(msg.toString());
+                                    messagesLatch.countDown();
+                                });
+                                sockets.add(ws);
+                                connectedLatch.countDown();
+                            } else {
+                                throw new IllegalStateException(r.cause());
+                            }
+                        });
+            }
+            assertTrue(connectedLatch.await(5, TimeUnit.SECONDS));
+            sockets.get(0).writeTextMessage(command);
+            assertTrue(messagesLatch.await(5, TimeUnit.SECONDS), "Messages: " + messages.size());
+            assertEquals(3, messages.size());
+            for (String message : messages) {
+                assertEquals(expectedMessage, message);
+            }
+        } finally {
+            for (WebSocketClient client : clients) {
+                client.close().toCompletionStage().toCompletableFuture().get();
+            }
+        }
+    }
+
+    @WebSocket(path = "/dashboard")
+    public static class Dashboard {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> process(String command) {
+            switch (command) {
+                case "pojo":
+                    return connection.broadcast().sendText(new Item("foo", 1));
+                case "large":
+                    return connection.broadcast().sendText(LARGE);
+                case "binary":
+                    return connection.broadcast().sendBinary(Buffer.buffer("bin"));
+                default:
+                    throw new IllegalArgumentException(command);
+            }
+        }
+
+    }
+
+    public record Item(String name, int value) {
+    }
+
+}
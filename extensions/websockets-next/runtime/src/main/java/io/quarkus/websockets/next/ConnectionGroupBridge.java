@@ -0,0 +1,85 @@
+package io.quarkus.websockets.next;
+
+import java.util.Objects;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Propagates the messages sent to a connection group to other instances of the application, so that the members of the
+ * group receive the messages regardless of the instance they are connected to. A bridge can be implemented with the
+ * Vert.x event bus or Redis pub/sub, for example.
+ * <p>
+ * If a CDI bean that implements this interface exists, then every message sent with a sender obtained from
+ * {@link WebSocketConnection.BroadcastSender#group(String)} is delivered to the local members of the group and passed to
+ * {@link #publish(GroupMessage)}. Messages sent with a sender that declares a
+ * {@link WebSocketConnection.BroadcastSender#filter(java.util.function.Predicate) filter} are only delivered to the local
+ * members.
+ * <p>
+ * The bridge must pass the messages published by other instances to the {@link Receiver}, but must not pass the messages
+ * published by the same instance.
+ *
+ * @see WebSocketConnection#join(String)
+ */
+public interface ConnectionGroupBridge {
+
+    /**
+     * This method is called once, before any message is published.
+     *
+     * @param receiver the receiver that delivers the messages published by other instances to the local members
+     */
+    void init(Receiver receiver);
+
+    /**
+     * Publishes the message to other instances of the application.
+     *
+     * @param message
+     * @return a {@link Uni} completed when the message is published
+     */
+    Uni<Void> publish(GroupMessage message);
+
+    interface Receiver {
+
+        /**
+         * Sends the message to the members of the group connected to this instance.
+         *
+         * @param message
+         * @return a {@link Uni} completed when the message is sent to all members
+         */
+        Uni<Void> receive(GroupMessage message);
+
+    }
+
+    /**
+     * A text or binary message sent to a connection group.
+     *
+     * @param endpointId the endpoint id, see {@link WebSocket#endpointId()}
+     * @param group the group
+     * @param text the encoded text message, or {@code null} for a binary message
+     * @param binary the binary message, or {@code null} for a text message
+     */
+    record GroupMessage(String endpointId, String group, String text, Buffer binary) {
+
+        public GroupMessage {
+            Objects.requireNonNull(endpointId);
+            Objects.requireNonNull(group);
+            if ((text == null) == (binary == null)) {
+                throw new IllegalArgumentException("Either the text or the binary message must be set");
+            }
+        }
+
+        public static GroupMessage text(String endpointId, String group, String text) {
+            return new GroupMessage(endpointId, group, Objects.requireNonNull(text), null);
+        }
+
+        public static GroupMessage binary(String endpointId, String group, Buffer binary) {
+            return new GroupMessage(endpointId, group, null, Objects.requireNonNull(binary));
+        }
+
+        public boolean isBinary() {
+            return binary != null;
+        }
+
+    }
+
+}
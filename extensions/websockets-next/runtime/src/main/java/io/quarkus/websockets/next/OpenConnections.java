@@ -33,6 +33,18 @@ default Collection<WebSocketConnection> findByEndpointId(String endpointId) {
         return stream().filter(c -> c.endpointId().equals(endpointId)).toList();
     }
 
+    /**
+     * Returns an immutable snapshot of all open connections for the given endpoint id that are members of the given group.
+     *
+     * @param endpointId
+     * @param group
+     * @return an immutable collection of all open connections for the given endpoint id and group
+     * @see WebSocketConnection#join(String)
+     */
+    default Collection<WebSocketConnection> findByGroup(String endpointId, String group) {
+        return stream().filter(c -> c.endpointId().equals(endpointId) && c.groups().contains(group)).toList();
+    }
+
     /**
      * Returns the open connection with the given id.
      *
@@ -42,6 +42,32 @@ public interface WebSocketConnection extends Connection {
      */
     String subprotocol();
 
+    /**
+     * Adds this connection to the given group. A connection can be a member of any number of groups. The membership ends
+     * when the connection is closed.
+     * <p>
+     * The members of a group can be targeted with the sender returned from {@link BroadcastSender#group(String)}.
+     *
+     * @param group
+     * @return {@code true} if the connection was added, {@code false} if it's already a member or is closed
+     */
+    boolean join(String group);
+
+    /**
+     * Removes this connection from the given group.
+     *
+     * @param group
+     * @return {@code true} if the connection was removed, {@code false} if it's not a member
+     */
+    boolean leave(String group);
+
+    /**
+     *
+     * @return the immutable set of groups this connection is a member of
+     * @see #join(String)
+     */
+    Set<String> groups();
+
     /**
      * Makes it possible to send messages to all clients connected to the same WebSocket endpoint.
      *
@@ -57,6 +83,17 @@ interface BroadcastSender extends Sender {
          */
         BroadcastSender filter(Predicate<WebSocketConnection> predicate);
 
+        /**
+         * The members of a group are looked up in an index, i.e. the connections that are not members are not inspected.
+         *
+         * @param group
+         * @return a new sender that sends messages to all open clients connected to the same WebSocket endpoint that are
+         *         members of the given group and match the filter predicate, if set
+         * @see WebSocketConnection#join(String)
+         * @see ConnectionGroupBridge
+         */
+        BroadcastSender group(String group);
+
     }
 
 }
@@ -0,0 +1,134 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Writes an encoded message to multiple connections.
+ * <p>
+ * If the message fits in a single frame then all connections share the content of the frame. The results of the write
+ * operations are aggregated in a single {@link Uni}.
+ */
+final class BroadcastWriter {
+
+    private BroadcastWriter() {
+    }
+
+    /**
+     *
+     * @param connections the connections, iterated when the returned {@link Uni} is subscribed
+     * @param filter the filter, may be {@code null}
+     * @param message the encoded message
+     * @param maxFrameSize the max size of the message that is sent in a single frame
+     * @return a {@link Uni} completed when the message is written to all open matching connections
+     */
+    static Uni<Void> writeText(Iterable<WebSocketConnection> connections, Predicate<WebSocketConnection> filter,
+            String message, int maxFrameSize) {
+        return Uni.createFrom().emitter(e -> {
+            // All matching connections share the content of a single frame
+            ByteBuf content = Unpooled.wrappedBuffer(message.getBytes(StandardCharsets.UTF_8));
+            if (content.readableBytes() > maxFrameSize) {
+                // The message is split in multiple frames
+                content.release();
+                content = null;
+            }
+            try {
+                Result result = new Result(e);
+                for (WebSocketConnection connection : connections) {
+                    if (matches(connection, filter)) {
+                        result.add((WebSocketConnectionBase) connection,
+                                ((WebSocketConnectionBase) connection).writeBroadcastText(message, content));
+                    }
+                }
+                result.complete();
+            } finally {
+                if (content != null) {
+                    // Each frame holds its own reference to the content
+                    content.release();
+                }
+            }
+        });
+    }
+
+    /**
+     *
+     * @param connections the connections, iterated when the returned {@link Uni} is subscribed
+     * @param filter the filter, may be {@code null}
+     * @param message the message
+     * @param maxFrameSize the max size of the message that is sent in a single frame
+     * @return a {@link Uni} completed when the message is written to all open matching connections
+     */
+    static Uni<Void> writeBinary(Iterable<WebSocketConnection> connections, Predicate<WebSocketConnection> filter,
+            Buffer message, int maxFrameSize) {
+        return Uni.createFrom().emitter(e -> {
+            ByteBuf content = message.length() <= maxFrameSize ? message.getByteBuf() : null;
+            Result result = new Result(e);
+            for (WebSocketConnection connection : connections) {
+                if (matches(connection, filter)) {
+                    result.add((WebSocketConnectionBase) connection,
+                            ((WebSocketConnectionBase) connection).writeBroadcastBinary(message, content));
+                }
+            }
+            result.complete();
+        });
+    }
+
+    private static boolean matches(WebSocketConnection connection, Predicate<WebSocketConnection> filter) {
+        return connection.isOpen() && (filter == null || filter.test(connection));
+    }
+
+    /**
+     * Aggregates the results of the write operations.
+     */
+    private static class Result {
+
+        private final UniEmitter<? super Void> emitter;
+        // The pending write operations, plus one until all operations are added
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        Result(UniEmitter<? super Void> emitter) {
+            this.emitter = emitter;
+        }
+
+        void add(WebSocketConnectionBase connection, Future<Void> future) {
+            pending.incrementAndGet();
+            future.onComplete(r -> {
+                // Intentionally ignore 'WebSocket is closed' failures
+                // It might happen that the connection is closed in the mean time
+                if (r.failed() && !Endpoints.isWebSocketIsClosedFailure(r.cause(), connection)) {
+                    failures.add(r.cause());
+                }
+                done();
+            });
+        }
+
+        void complete() {
+            done();
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() == 0) {
+                if (failures.isEmpty()) {
+                    emitter.complete(null);
+                } else {
+                    emitter.fail(new CompositeException(failures));
+                }
+            }
+        }
+
+    }
+
+}
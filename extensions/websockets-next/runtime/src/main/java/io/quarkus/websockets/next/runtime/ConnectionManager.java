@@ -1,5 +1,6 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -10,16 +11,23 @@
 
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Singleton;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.websockets.next.Closed;
+import io.quarkus.websockets.next.ConnectionGroupBridge;
+import io.quarkus.websockets.next.ConnectionGroupBridge.GroupMessage;
 import io.quarkus.websockets.next.Open;
 import io.quarkus.websockets.next.OpenConnections;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpServerOptions;
 
 @Singleton
 public class ConnectionManager implements OpenConnections {
@@ -29,18 +37,35 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // endpointId -> group -> members
+    private final ConcurrentMap<String, ConcurrentMap<String, Set<WebSocketConnection>>> endpointToGroups;
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Event<WebSocketConnection> openEvent;
     private final Event<WebSocketConnection> closedEvent;
 
-    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent) {
+    private final ConnectionGroupBridge groupBridge;
+
+    // Broadcast messages up to this size are sent in a single frame shared by all connections
+    private final int maxFrameSize;
+
+    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent,
+            Instance<ConnectionGroupBridge> groupBridge, WebSocketsServerRuntimeConfig config) {
         ArcContainer container = Arc.container();
+        this.endpointToGroups = new ConcurrentHashMap<>();
         this.openEvent = container.resolveObserverMethods(WebSocketConnection.class, Open.Literal.INSTANCE).isEmpty()
                 ? null
                 : openEvent;
         this.closedEvent = container.resolveObserverMethods(WebSocketConnection.class, Closed.Literal.INSTANCE)
                 .isEmpty() ? null : closedEvent;
+        this.maxFrameSize = maxFrameSize(config);
+        if (groupBridge.isResolvable()) {
+            this.groupBridge = groupBridge.get();
+            this.groupBridge.init(this::receive);
+        } else {
+            this.groupBridge = null;
+        }
     }
 
     @Override
@@ -77,6 +102,9 @@ void remove(String endpoint, WebSocketConnection connection) {
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
             if (connections.remove(connection)) {
+                if (connection instanceof WebSocketConnectionImpl impl) {
+                    impl.leaveAllGroups();
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -107,6 +135,73 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     *
+     * @param endpointId
+     * @param group
+     * @return the members of the given group, never {@code null}
+     */
+    public Set<WebSocketConnection> getGroupMembers(String endpointId, String group) {
+        ConcurrentMap<String, Set<WebSocketConnection>> groups = endpointToGroups.get(endpointId);
+        if (groups == null) {
+            return Set.of();
+        }
+        Set<WebSocketConnection> ret = groups.get(group);
+        if (ret == null) {
+            return Set.of();
+        }
+        return ret;
+    }
+
+    @Override
+    public Collection<WebSocketConnection> findByGroup(String endpointId, String group) {
+        return getGroupMembers(endpointId, group).stream().filter(WebSocketConnection::isOpen).toList();
+    }
+
+    void join(String endpointId, String group, WebSocketConnection connection) {
+        endpointToGroups.computeIfAbsent(endpointId, e -> new ConcurrentHashMap<>())
+                .compute(group, (g, members) -> {
+                    if (members == null) {
+                        members = ConcurrentHashMap.newKeySet();
+                    }
+                    members.add(connection);
+                    return members;
+                });
+    }
+
+    void leave(String endpointId, String group, WebSocketConnection connection) {
+        ConcurrentMap<String, Set<WebSocketConnection>> groups = endpointToGroups.get(endpointId);
+        if (groups != null) {
+            // Remove the group once it's empty
+            groups.computeIfPresent(group, (g, members) -> members.remove(connection) && members.isEmpty() ? null : members);
+        }
+    }
+
+    ConnectionGroupBridge groupBridge() {
+        return groupBridge;
+    }
+
+    int maxFrameSize() {
+        return maxFrameSize;
+    }
+
+    private Uni<Void> receive(GroupMessage message) {
+        Set<WebSocketConnection> members = getGroupMembers(message.endpointId(), message.group());
+        if (message.isBinary()) {
+            return BroadcastWriter.writeBinary(members, null, message.binary(), maxFrameSize);
+        }
+        return BroadcastWriter.writeText(members, null, message.text(), maxFrameSize);
+    }
+
+    private static int maxFrameSize(WebSocketsServerRuntimeConfig config) {
+        // A broadcast message is sent in a single shared frame only if it does not exceed any of the configured limits
+        int maxFrameSize = Math.min(config.maxFrameSize().orElse(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE),
+                HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE);
+        return Math.min(maxFrameSize, ConfigProvider.getConfig()
+                .getOptionalValue("quarkus.http.websocket-server.max-frame-size", Integer.class)
+                .orElse(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE));
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
@@ -114,6 +209,7 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        endpointToGroups.clear();
     }
 
     public interface ConnectionListener {
@@ -8,6 +8,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
 import io.quarkus.vertx.utils.NoBoundChecksBuffer;
 import io.quarkus.websockets.next.CloseReason;
@@ -17,9 +18,12 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -89,17 +93,71 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message));
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes a text message that is broadcast to multiple connections.
+     *
+     * @param message the encoded message
+     * @param frameContent the content of a single final frame shared by all connections, or {@code null} if the message
+     *        does not fit in a single frame
+     * @return the result of the write operation
+     */
+    Future<Void> writeBroadcastText(String message, ByteBuf frameContent) {
+        Future<Void> future = frameContent != null
+                ? webSocket().writeFrame(
+                        new WebSocketFrameImpl(WebSocketFrameType.TEXT, frameContent.retainedDuplicate(), true))
+                : webSocket().writeTextMessage(message);
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
+        }
+        return future.onSuccess(ignored -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.textMessageSent(this, message);
+            }
+        });
+    }
+
+    /**
+     * Writes a binary message that is broadcast to multiple connections.
+     *
+     * @param message the message
+     * @param frameContent the content of a single final frame shared by all connections, or {@code null} if the message
+     *        does not fit in a single frame
+     * @return the result of the write operation
+     */
+    Future<Void> writeBroadcastBinary(Buffer message, ByteBuf frameContent) {
+        Future<Void> future = frameContent != null
+                ? webSocket().writeFrame(
+                        new WebSocketFrameImpl(WebSocketFrameType.BINARY, frameContent.retainedDuplicate(), true))
+                : webSocket().writeBinaryMessage(message);
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
         }
-        return sendText(text);
+        return future.onSuccess(ignored -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.binaryMessageSent(this, message);
+            }
+        });
     }
 
     @Override
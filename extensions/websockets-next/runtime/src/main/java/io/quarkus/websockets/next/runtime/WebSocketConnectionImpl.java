@@ -7,10 +7,13 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import io.quarkus.websockets.next.ConnectionGroupBridge;
+import io.quarkus.websockets.next.ConnectionGroupBridge.GroupMessage;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
@@ -32,6 +35,8 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final BroadcastSender defaultBroadcast;
 
+    private final Set<String> groups;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, SendingInterceptor sendingInterceptor) {
@@ -41,7 +46,8 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
-        this.defaultBroadcast = new BroadcastImpl(null);
+        this.defaultBroadcast = new BroadcastImpl(null, null);
+        this.groups = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -70,6 +76,44 @@ public String subprotocol() {
         return webSocket.subProtocol();
     }
 
+    @Override
+    public boolean join(String group) {
+        Objects.requireNonNull(group);
+        if (isClosed() || !groups.add(group)) {
+            return false;
+        }
+        connectionManager.join(endpointId, group, this);
+        if (isClosed()) {
+            // The connection might have been removed from the manager in the mean time, and might have already left
+            // all its groups before the join reached the index
+            groups.remove(group);
+            connectionManager.leave(endpointId, group, this);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean leave(String group) {
+        Objects.requireNonNull(group);
+        if (groups.remove(group)) {
+            connectionManager.leave(endpointId, group, this);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Set<String> groups() {
+        return Set.copyOf(groups);
+    }
+
+    void leaveAllGroups() {
+        for (String group : groups) {
+            leave(group);
+        }
+    }
+
     @Override
     public String toString() {
         return "WebSocket connection [endpointId=" + endpointId + ", path=" + webSocket.path() + ", id=" + identifier + "]";
@@ -166,49 +210,43 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
-        BroadcastImpl(Predicate<WebSocketConnection> filter) {
+        private final String group;
+
+        BroadcastImpl(Predicate<WebSocketConnection> filter, String group) {
             this.filter = filter;
+            this.group = group;
         }
 
         @Override
         public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
-            return new BroadcastImpl(Objects.requireNonNull(predicate));
+            return new BroadcastImpl(Objects.requireNonNull(predicate), group);
+        }
+
+        @Override
+        public BroadcastSender group(String group) {
+            return new BroadcastImpl(filter, Objects.requireNonNull(group));
         }
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return Uni.createFrom().deferred(() -> doSendText(message));
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // The message is encoded once for all connections
+            return Uni.createFrom().deferred(() -> doSendText(encodeText(message)));
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return Uni.createFrom().deferred(() -> {
+                Uni<Void> local = BroadcastWriter.writeBinary(connections(), filter, message,
+                        connectionManager.maxFrameSize());
+                return publish(local, () -> GroupMessage.binary(endpointId, group, message));
+            });
         }
 
         @Override
@@ -221,26 +259,23 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
-            if (connections.isEmpty()) {
-                return Uni.createFrom().voidItem();
-            }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
-            for (WebSocketConnection connection : connections) {
-                if (connection.isOpen()
-                        && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
-                }
-            }
-            if (unis.isEmpty()) {
-                return Uni.createFrom().voidItem();
+        private Uni<Void> doSendText(String message) {
+            Uni<Void> local = BroadcastWriter.writeText(connections(), filter, message, connectionManager.maxFrameSize());
+            return publish(local, () -> GroupMessage.text(endpointId, group, message));
+        }
+
+        private Iterable<WebSocketConnection> connections() {
+            return group == null ? connectionManager.getConnections(generatedEndpointClass)
+                    : connectionManager.getGroupMembers(endpointId, group);
+        }
+
+        private Uni<Void> publish(Uni<Void> local, Supplier<GroupMessage> message) {
+            ConnectionGroupBridge bridge = connectionManager.groupBridge();
+            if (group == null || filter != null || bridge == null) {
+                return local;
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+            // A filter cannot be applied on other instances
+            return Uni.join().all(local, bridge.publish(message.get())).andCollectFailures().replaceWithVoid();
         }
 
     }
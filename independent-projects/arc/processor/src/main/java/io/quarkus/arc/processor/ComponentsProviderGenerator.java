@@ -11,6 +11,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -30,6 +31,7 @@
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.PrecomputedResolution;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -54,6 +56,12 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String ADD_OBSERVERS = "addObservers";
     static final String ADD_REMOVED_BEANS = "addRemovedBeans";
     static final String ADD_BEANS = "addBeans";
+    static final String ADD_PRECOMPUTED_RESOLUTIONS = "addPrecomputedResolutions";
+
+    // built-in beans are not part of the resolutions computed at build time
+    private static final Set<DotName> BUILTIN_BEAN_TYPES = Set.of(DotNames.OBJECT, DotNames.INSTANCE,
+            DotNames.INJECTABLE_INSTANCE, DotNames.PROVIDER, DotNames.EVENT, DotNames.INJECTION_POINT,
+            DotNames.BEAN_MANAGER, DotNames.BEAN_CONTAINER);
 
     private final AnnotationLiteralProcessor annotationLiterals;
     private final boolean detectUnusedFalsePositives;
@@ -190,11 +198,16 @@ Collection<Resource> generate(String name, BeanDeployment beanDeployment, Map<Be
             }
         }
 
+        // Break precomputed resolutions processing into multiple addPrecomputedResolutions() methods
+        ResultHandle precomputedResolutionsHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+        processPrecomputedResolutions(componentsProvider, getComponents, precomputedResolutionsHandle, beanDeployment);
+
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Set.class, Map.class, Supplier.class, Map.class, Set.class, Map.class),
+                        Set.class, Map.class, Supplier.class, Map.class, Set.class, Map.class, Collection.class),
                 beansHandle, observersHandle, contextsHandle, interceptorBindings, transitiveBindingsHandle,
-                removedBeansSupplier, qualifiersNonbindingMembers, qualifiers, contextInstances);
+                removedBeansSupplier, qualifiersNonbindingMembers, qualifiers, contextInstances,
+                precomputedResolutionsHandle);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -319,6 +332,57 @@ private void processRemovedBeans(ClassCreator componentsProvider, BytecodeCreato
         }
     }
 
+    /**
+     * Computes the beans matching the required type and qualifiers of programmatic lookup injection points, so that the
+     * container does not need to find them when {@code Instance#get()} is first called. Lookups via
+     * {@code ArcContainer#instance()} are not known at build time and are always resolved at runtime.
+     */
+    private void processPrecomputedResolutions(ClassCreator componentsProvider, BytecodeCreator targetMethod,
+            ResultHandle precomputedResolutionsHandle, BeanDeployment beanDeployment) {
+        Map<List<Object>, ProgrammaticLookup> lookups = new LinkedHashMap<>();
+        for (InjectionPointInfo injectionPoint : beanDeployment.getInjectionPoints()) {
+            if (!injectionPoint.isProgrammaticLookup()) {
+                continue;
+            }
+            org.jboss.jandex.Type requiredType = injectionPoint.getRequiredType();
+            if (BUILTIN_BEAN_TYPES.contains(requiredType.name()) || !isPrecomputable(requiredType)) {
+                continue;
+            }
+            // a defaulted qualifier is kept: the container replaces missing qualifiers with @Default before any lookup
+            Set<AnnotationInstance> qualifiers = injectionPoint.getRequiredQualifiers();
+            Set<AnnotationInstanceKey> qualifierKeys = new HashSet<>();
+            for (AnnotationInstance qualifier : qualifiers) {
+                qualifierKeys.add(new AnnotationInstanceKey(qualifier));
+            }
+            lookups.computeIfAbsent(List.of(requiredType, qualifierKeys),
+                    k -> new ProgrammaticLookup(requiredType, qualifiers, beanDeployment.getBeanResolver()
+                            .resolveBeans(requiredType, qualifiers)));
+        }
+        try (PrecomputedResolutionAdder adder = new PrecomputedResolutionAdder(componentsProvider, targetMethod,
+                precomputedResolutionsHandle, beanDeployment)) {
+            for (ProgrammaticLookup lookup : lookups.values()) {
+                adder.addComponent(lookup);
+            }
+        }
+    }
+
+    private static boolean isPrecomputable(org.jboss.jandex.Type type) {
+        switch (type.kind()) {
+            case CLASS:
+                return true;
+            case PARAMETERIZED_TYPE:
+                for (org.jboss.jandex.Type argument : type.asParameterizedType().arguments()) {
+                    if (!isPrecomputable(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                // wildcards and type variables
+                return false;
+        }
+    }
+
     /**
      * Returns a dependency map for bean instantiation. Say the following beans exist:
      *
@@ -781,7 +845,79 @@ void addComponentInternal(BeanInfo bean) {
 
     }
 
-    static abstract class ComponentAdder<T extends InjectionTargetInfo> implements AutoCloseable {
+    static final class ProgrammaticLookup {
+
+        final org.jboss.jandex.Type requiredType;
+        final Set<AnnotationInstance> qualifiers;
+        final Set<BeanInfo> beans;
+
+        ProgrammaticLookup(org.jboss.jandex.Type requiredType, Set<AnnotationInstance> qualifiers, Set<BeanInfo> beans) {
+            this.requiredType = requiredType;
+            this.qualifiers = qualifiers;
+            this.beans = beans;
+        }
+
+    }
+
+    class PrecomputedResolutionAdder extends ComponentAdder<ProgrammaticLookup> {
+
+        private final ResultHandle precomputedResolutionsHandle;
+        private final BeanDeployment beanDeployment;
+        private ResultHandle tccl;
+
+        PrecomputedResolutionAdder(ClassCreator componentsProvider, BytecodeCreator targetMethod,
+                ResultHandle precomputedResolutionsHandle, BeanDeployment beanDeployment) {
+            super(targetMethod, componentsProvider);
+            this.precomputedResolutionsHandle = precomputedResolutionsHandle;
+            this.beanDeployment = beanDeployment;
+        }
+
+        @Override
+        MethodCreator newAddMethod() {
+            // static void addPrecomputedResolutions1(List precomputedResolutions)
+            MethodCreator addMethod = componentsProvider
+                    .getMethodCreator(ADD_PRECOMPUTED_RESOLUTIONS + group++, void.class, List.class)
+                    .setModifiers(ACC_STATIC);
+            ResultHandle currentThread = addMethod.invokeStaticMethod(MethodDescriptors.THREAD_CURRENT_THREAD);
+            tccl = addMethod.invokeVirtualMethod(MethodDescriptors.THREAD_GET_TCCL, currentThread);
+            return addMethod;
+        }
+
+        @Override
+        void invokeAddMethod() {
+            targetMethod.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(componentsProvider.getClassName(),
+                            addMethod.getMethodDescriptor().getName(), void.class, List.class),
+                    precomputedResolutionsHandle);
+        }
+
+        @Override
+        void addComponentInternal(ProgrammaticLookup lookup) {
+            ResultHandle precomputedResolutionsHandle = addMethod.getMethodParam(0);
+
+            ResultHandle qualifiersHandle = BeanGenerator.collectQualifiers(beanDeployment, addMethod, annotationLiterals,
+                    lookup.qualifiers);
+            // A type that cannot be loaded is simply resolved at runtime
+            TryBlock tryBlock = addMethod.tryBlock();
+            tryBlock.addCatch(Throwable.class);
+            AssignableResultHandle typeHandle = tryBlock.createVariable(Object.class);
+            // no type cache: with a map cache, the raw type of a parameterized type is read from the map even if absent
+            Types.getTypeHandle(typeHandle, tryBlock, lookup.requiredType, tccl, null);
+            ResultHandle identifiersHandle = tryBlock.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+            for (BeanInfo bean : lookup.beans) {
+                tryBlock.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, identifiersHandle,
+                        tryBlock.load(bean.getIdentifier()));
+            }
+            ResultHandle resolutionHandle = tryBlock.newInstance(
+                    MethodDescriptor.ofConstructor(PrecomputedResolution.class, java.lang.reflect.Type.class, Set.class,
+                            List.class),
+                    typeHandle, qualifiersHandle, identifiersHandle);
+            tryBlock.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, precomputedResolutionsHandle, resolutionHandle);
+        }
+
+    }
+
+    static abstract class ComponentAdder<T> implements AutoCloseable {
 
         private static final int GROUP_LIMIT = 30;
         protected int group;
@@ -2,11 +2,13 @@
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import io.quarkus.arc.impl.ContextInstances;
+import io.quarkus.arc.impl.PrecomputedResolution;
 
 public final class Components {
 
@@ -19,6 +21,7 @@ public final class Components {
     private final Map<String, Set<String>> qualifierNonbindingMembers;
     private final Set<String> qualifiers;
     private final Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances;
+    private final Collection<PrecomputedResolution> precomputedResolutions;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
@@ -27,6 +30,18 @@ public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObse
             Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
             Set<String> qualifiers,
             Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances) {
+        this(beans, observers, contexts, interceptorBindings, transitiveInterceptorBindings, removedBeans,
+                qualifierNonbindingMembers, qualifiers, contextInstances, Collections.emptyList());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Set<String> interceptorBindings,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            Set<String> qualifiers,
+            Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances,
+            Collection<PrecomputedResolution> precomputedResolutions) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
@@ -36,6 +51,7 @@ public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObse
         this.qualifierNonbindingMembers = qualifierNonbindingMembers;
         this.qualifiers = qualifiers;
         this.contextInstances = contextInstances;
+        this.precomputedResolutions = precomputedResolutions;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -84,4 +100,12 @@ public Map<Class<? extends Annotation>, Supplier<ContextInstances>> getContextIn
         return contextInstances;
     }
 
+    /**
+     *
+     * @return the resolutions of programmatic lookups computed at build time
+     */
+    public Collection<PrecomputedResolution> getPrecomputedResolutions() {
+        return precomputedResolutions;
+    }
+
 }
@@ -77,6 +77,8 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final Annotation[] DEFAULT_QUALIFIERS = { Default.Literal.INSTANCE };
+    private static final Annotation[] EMPTY_ANNOTATION_ARRAY = new Annotation[0];
 
     private final String id;
 
@@ -121,6 +123,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         Set<String> qualifiers = new HashSet<>();
         Supplier<ContextInstances> applicationContextInstances = null;
         Supplier<ContextInstances> requestContextInstances = null;
+        List<PrecomputedResolution> precomputedResolutions = new ArrayList<>();
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
                 : currentContextFactory;
 
@@ -146,6 +149,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
             transitiveInterceptorBindings.putAll(c.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(c.getQualifierNonbindingMembers());
             qualifiers.addAll(c.getQualifiers());
+            precomputedResolutions.addAll(c.getPrecomputedResolutions());
             if (applicationContextInstances == null) {
                 applicationContextInstances = c.getContextInstances().get(ApplicationScoped.class);
             }
@@ -161,6 +165,10 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         decorators.sort(Comparator.comparingInt(InjectableDecorator::getPriority));
 
         resolved = new ComputingCache<>(this::resolve);
+        if (components.size() == 1) {
+            // the resolutions only take into account the beans of the deployment they were computed for
+            addPrecomputedResolutions(precomputedResolutions, beans);
+        }
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -313,7 +321,7 @@ public <X> InstanceHandle<X> instance(Type type, Annotation... qualifiers) {
     @Override
     public <T> Supplier<InstanceHandle<T>> beanInstanceSupplier(Class<T> type, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         }
         Resolvable resolvable = new Resolvable(type, qualifiers);
         Set<InjectableBean<?>> resolvedBeans = resolved.getValue(resolvable);
@@ -526,6 +534,39 @@ private Notifier<Object> notifierOrNull(Set<Annotation> qualifiers) {
         return notifier.isEmpty() ? null : notifier;
     }
 
+    /**
+     * Populates the cache of resolved beans with the resolutions computed at build time, so that programmatic lookups
+     * don't need to match all the potential beans when they are first performed.
+     */
+    private void addPrecomputedResolutions(List<PrecomputedResolution> precomputedResolutions,
+            List<InjectableBean<?>> beans) {
+        if (precomputedResolutions.isEmpty()) {
+            return;
+        }
+        Map<String, InjectableBean<?>> beansByIdentifier = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            beansByIdentifier.put(bean.getIdentifier(), bean);
+        }
+        precomputed: for (PrecomputedResolution resolution : precomputedResolutions) {
+            List<InjectableBean<?>> matching = new ArrayList<>(resolution.getBeanIdentifiers().size());
+            for (String identifier : resolution.getBeanIdentifiers()) {
+                InjectableBean<?> bean = beansByIdentifier.get(identifier);
+                if (bean == null) {
+                    // the bean is not registered in this container, let the lookup resolve it
+                    continue precomputed;
+                }
+                matching.add(bean);
+            }
+            Annotation[] qualifiers = resolution.getRequiredQualifiers().toArray(EMPTY_ANNOTATION_ARRAY);
+            if (qualifiers.length == 0) {
+                // keyed like the lookups, which always replace missing qualifiers with @Default
+                qualifiers = DEFAULT_QUALIFIERS;
+            }
+            resolved.putIfAbsent(new Resolvable(resolution.getRequiredType(), qualifiers), resolve(matching));
+        }
+        LOGGER.debugf("Added %s resolutions computed at build time", precomputedResolutions.size());
+    }
+
     private static void addBuiltInBeans(List<InjectableBean<?>> beans, Map<String, List<InjectableBean<?>>> beansByRawType) {
         // BeanManager, Event<?>, Instance<?>, InjectionPoint
         BeanManagerBean beanManagerBean = new BeanManagerBean();
@@ -586,7 +627,7 @@ static <T> InstanceHandle<T> beanInstanceHandle(InjectableBean<T> bean, Creation
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         } else {
             registeredQualifiers.verify(qualifiers);
         }
@@ -603,7 +644,7 @@ Set<Bean<?>> getBeans(Type requiredType, Annotation... qualifiers) {
             throw new IllegalArgumentException("The given type is a type variable: " + requiredType);
         }
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         } else {
             registeredQualifiers.verify(qualifiers);
         }
@@ -941,7 +982,7 @@ List<Decorator<?>> resolveDecorators(Set<Type> types, Annotation... qualifiers)
             throw new IllegalArgumentException("The set of bean types must not be empty");
         }
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         } else {
             registeredQualifiers.verify(qualifiers);
         }
@@ -974,7 +1015,7 @@ private boolean hasAllInterceptionBindings(InjectableInterceptor<?> interceptor,
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         } else {
             registeredQualifiers.verify(qualifiers);
         }
@@ -1066,9 +1107,14 @@ private static final class Resolvable {
 
         @Override
         public int hashCode() {
+            // the hash code of the qualifiers does not depend on their order
+            int qualifiersHash = 0;
+            for (Annotation qualifier : qualifiers) {
+                qualifiersHash += qualifier.hashCode();
+            }
             final int prime = 31;
             int result = 1;
-            result = prime * result + Arrays.hashCode(qualifiers);
+            result = prime * result + qualifiersHash;
             result = prime * result + (requiredType == null ? 0 : requiredType.hashCode());
             return result;
         }
@@ -1092,7 +1138,33 @@ public boolean equals(Object obj) {
             } else if (!requiredType.equals(other.requiredType)) {
                 return false;
             }
-            return Arrays.equals(qualifiers, other.qualifiers);
+            return qualifiersEqual(qualifiers, other.qualifiers);
+        }
+
+        // the qualifiers are usually obtained from a set, so their order is not significant
+        private static boolean qualifiersEqual(Annotation[] qualifiers, Annotation[] otherQualifiers) {
+            if (qualifiers.length != otherQualifiers.length) {
+                return false;
+            }
+            if (Arrays.equals(qualifiers, otherQualifiers)) {
+                return true;
+            }
+            if (qualifiers.length == 1) {
+                return false;
+            }
+            for (Annotation qualifier : qualifiers) {
+                boolean found = false;
+                for (Annotation otherQualifier : otherQualifiers) {
+                    if (qualifier.equals(otherQualifier)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
         }
 
     }
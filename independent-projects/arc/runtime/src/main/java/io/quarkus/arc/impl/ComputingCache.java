@@ -69,6 +69,13 @@ public V computeIfAbsent(K key, Supplier<V> supplier) {
         return value.get();
     }
 
+    /**
+     * Associates the given value with the key, unless a value is already present.
+     */
+    public void putIfAbsent(K key, V value) {
+        map.putIfAbsent(key, new LazyValue<>(new FixedValueSupplier<>(value)));
+    }
+
     public V remove(K key) {
         LazyValue<V> previous = map.remove(key);
         return previous != null ? previous.get() : null;
@@ -0,0 +1,40 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The beans matching a required type and required qualifiers, as determined at build time for a programmatic lookup
+ * injection point. It is used to populate the cache of resolved beans when the container starts.
+ */
+public final class PrecomputedResolution {
+
+    private final Type requiredType;
+    private final Set<Annotation> requiredQualifiers;
+    private final List<String> beanIdentifiers;
+
+    public PrecomputedResolution(Type requiredType, Set<Annotation> requiredQualifiers, List<String> beanIdentifiers) {
+        this.requiredType = requiredType;
+        this.requiredQualifiers = requiredQualifiers;
+        this.beanIdentifiers = beanIdentifiers;
+    }
+
+    public Type getRequiredType() {
+        return requiredType;
+    }
+
+    public Set<Annotation> getRequiredQualifiers() {
+        return requiredQualifiers;
+    }
+
+    /**
+     *
+     * @return the identifiers of all matching beans, before ambiguities are resolved
+     */
+    public List<String> getBeanIdentifiers() {
+        return beanIdentifiers;
+    }
+
+}
@@ -0,0 +1,186 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.ComputingCache;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+
+public class PrecomputedResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Consumer.class, Service.class, Alpha.class, Bravo.class,
+            Charlie.class, Converter.class, StringConverter.class, IntegerConverter.class, MyQualifier.class,
+            Other.class);
+
+    @Test
+    public void testResolution() {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+        assertEquals("bravo", consumer.service.get().ping());
+        // the enabled alternative takes precedence over the other beans
+        assertEquals(List.of("bravo"),
+                consumer.allServices.stream().map(Service::ping).sorted().collect(Collectors.toList()));
+        assertEquals("charlie", consumer.qualifiedService.get().ping());
+        assertEquals("string", consumer.stringConverter.get().convert());
+        assertTrue(consumer.missingService.isUnsatisfied());
+    }
+
+    @Test
+    public void testPrecomputedResolutionUsed() throws Exception {
+        int precomputed = resolvedCount();
+        assertTrue(precomputed > 0);
+        // the injected instances resolve their beans when the consumer is created, they must all hit the precomputed
+        // entries, only the lookup of the consumer itself is added to the cache
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+        assertEquals("bravo", consumer.service.get().ping());
+        assertEquals("charlie", consumer.qualifiedService.get().ping());
+        assertEquals("string", consumer.stringConverter.get().convert());
+        assertTrue(consumer.missingService.isUnsatisfied());
+        assertEquals(precomputed + 1, resolvedCount());
+    }
+
+    @Test
+    public void testQualifiersOrder() {
+        // the order in which the qualifiers are specified must not matter
+        assertEquals("charlie", Arc.container().select(Service.class, new MyQualifier.Literal(), new Other.Literal())
+                .get().ping());
+        assertEquals("charlie", Arc.container().select(Service.class, new Other.Literal(), new MyQualifier.Literal())
+                .get().ping());
+        assertEquals("integer", Arc.container().select(new TypeLiteral<Converter<Integer>>() {
+        }).get().convert());
+    }
+
+    private static int resolvedCount() throws ReflectiveOperationException {
+        Field field = ArcContainerImpl.class.getDeclaredField("resolved");
+        field.setAccessible(true);
+        ComputingCache<?, ?> resolved = (ComputingCache<?, ?>) field.get(Arc.container());
+        AtomicInteger count = new AtomicInteger();
+        resolved.forEachEntry((key, value) -> count.incrementAndGet());
+        return count.get();
+    }
+
+    @Singleton
+    static class Consumer {
+
+        @Inject
+        Instance<Service> service;
+
+        @Any
+        @Inject
+        Instance<Service> allServices;
+
+        @MyQualifier
+        @Other
+        @Inject
+        Instance<Service> qualifiedService;
+
+        @Inject
+        Instance<Converter<String>> stringConverter;
+
+        @Inject
+        Instance<Runnable> missingService;
+
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @ApplicationScoped
+    static class Alpha implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Alternative
+    @Priority(1)
+    @Singleton
+    static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @MyQualifier
+    @Other
+    @Singleton
+    static class Charlie implements Service {
+
+        @Override
+        public String ping() {
+            return "charlie";
+        }
+
+    }
+
+    interface Converter<T> {
+
+        String convert();
+
+    }
+
+    @Singleton
+    static class StringConverter implements Converter<String> {
+
+        @Override
+        public String convert() {
+            return "string";
+        }
+
+    }
+
+    @Singleton
+    static class IntegerConverter implements Converter<Integer> {
+
+        @Override
+        public String convert() {
+            return "integer";
+        }
+
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Other {
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Other> implements Other {
+
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Records the order in which the classes and resources of the application are loaded during startup, and replays
+ * a previous recording on a background thread so that the class definitions overlap with the application startup.
+ * <p>
+ * The recording is a text file with one entry per line: a class name prefixed by {@code C } or a resource name
+ * prefixed by {@code R }.
+ * <p>
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+final class ClassLoadOrder {
+
+    private static final Logger log = Logger.getLogger(ClassLoadOrder.class);
+
+    private static final String CLASS_PREFIX = "C ";
+    private static final String RESOURCE_PREFIX = "R ";
+
+    private ClassLoadOrder() {
+    }
+
+    /**
+     * Collects the loaded classes and resources, until {@link #write()} is called.
+     */
+    static final class Recording {
+
+        private final Path target;
+        private final Queue<String> entries = new ConcurrentLinkedQueue<>();
+        // resources can be looked up many times, we only care about the first lookup
+        private final Set<String> seenResources = ConcurrentHashMap.newKeySet();
+        private volatile boolean written;
+
+        Recording(Path target) {
+            this.target = target;
+        }
+
+        void classLoaded(String className) {
+            entries.add(CLASS_PREFIX + className);
+        }
+
+        void resourceLoaded(String resource) {
+            if (seenResources.add(resource)) {
+                entries.add(RESOURCE_PREFIX + resource);
+            }
+        }
+
+        synchronized void write() {
+            if (written) {
+                return;
+            }
+            written = true;
+            try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.newLine();
+                }
+            } catch (IOException e) {
+                log.warnf(e, "Unable to write the class load order to %s", target);
+            }
+        }
+    }
+
+    /**
+     * Loads the classes and resources of a recording, in order, until the recording is exhausted or {@link #stop()}
+     * is called.
+     */
+    static final class Prefetch implements Runnable {
+
+        private final RunnerClassLoader classLoader;
+        private final Path source;
+        private volatile boolean stopped;
+
+        Prefetch(RunnerClassLoader classLoader, Path source) {
+            this.classLoader = classLoader;
+            this.source = source;
+        }
+
+        void start() {
+            Thread thread = new Thread(this, "quarkus-class-prefetch");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        @Override
+        public void run() {
+            try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                String line;
+                while (!stopped && (line = reader.readLine()) != null) {
+                    if (line.startsWith(CLASS_PREFIX)) {
+                        try {
+                            // we only define the class, initializing it is up to the application
+                            Class.forName(line.substring(CLASS_PREFIX.length()), false, classLoader);
+                        } catch (Throwable ignored) {
+                            // the class may have been removed since the recording was made
+                        }
+                    } else if (line.startsWith(RESOURCE_PREFIX)) {
+                        classLoader.prefetchResource(line.substring(RESOURCE_PREFIX.length()));
+                    }
+                }
+            } catch (IOException ignored) {
+                // this is only an optimization, the application will load what it needs on its own
+            }
+        }
+    }
+}
@@ -98,25 +98,7 @@ public URL apply(JarFile jarFile, Path path, String resource) {
             if (entry == null) {
                 return null;
             }
-            try {
-                final URL resUrl = getUrl(path, getRealName(entry, resource));
-                // wrap it up into a "jar" protocol URL
-                //horrible hack to deal with '?' characters in the URL
-                //seems to be the only way, the URI constructor just does not let you handle them in a sane way
-                var file = new StringBuilder((resUrl.getProtocol() == null ? 4 : resUrl.getProtocol().length()) + 1 +
-                        resUrl.getPath().length() + (resUrl.getQuery() == null ? 0 : 3 + resUrl.getQuery().length()));
-                // protocol shouldn't be null, but let's be safe
-                file.append(resUrl.getProtocol());
-                file.append(':');
-                file.append(resUrl.getPath());
-                if (resUrl.getQuery() != null) {
-                    file.append("%3F");
-                    file.append(resUrl.getQuery());
-                }
-                return new URL("jar", null, file.toString());
-            } catch (MalformedURLException | URISyntaxException e) {
-                throw new RuntimeException(e);
-            }
+            return getJarUrl(path, getRealName(entry, resource));
         }
 
         private static String getRealName(JarEntry entry, String resource) {
@@ -138,19 +120,45 @@ private static String getRealName(JarEntry entry, String resource) {
             return realName;
         }
 
-        private static URL getUrl(Path jarPath, String realName) throws MalformedURLException, URISyntaxException {
-            final URI jarUri = jarPath.toUri();
-            // first create a URI which includes both the jar file path and the relative resource name
-            // and then invoke a toURL on it. The URI reconstruction allows for any encoding to be done
-            // for the "path" which includes the "realName"
-            var ssp = new StringBuilder(jarUri.getPath().length() + realName.length() + 2);
-            ssp.append(jarUri.getPath());
-            ssp.append("!/");
-            ssp.append(realName);
-            return new URI(jarUri.getScheme(), ssp.toString(), null).toURL();
+    }
+
+    /**
+     * @return the "jar" protocol URL of the entry with the given name in the jar located at the given path
+     */
+    static URL getJarUrl(Path jarPath, String realName) {
+        try {
+            final URL resUrl = getUrl(jarPath, realName);
+            // wrap it up into a "jar" protocol URL
+            //horrible hack to deal with '?' characters in the URL
+            //seems to be the only way, the URI constructor just does not let you handle them in a sane way
+            var file = new StringBuilder((resUrl.getProtocol() == null ? 4 : resUrl.getProtocol().length()) + 1 +
+                    resUrl.getPath().length() + (resUrl.getQuery() == null ? 0 : 3 + resUrl.getQuery().length()));
+            // protocol shouldn't be null, but let's be safe
+            file.append(resUrl.getProtocol());
+            file.append(':');
+            file.append(resUrl.getPath());
+            if (resUrl.getQuery() != null) {
+                file.append("%3F");
+                file.append(resUrl.getQuery());
+            }
+            return new URL("jar", null, file.toString());
+        } catch (MalformedURLException | URISyntaxException e) {
+            throw new RuntimeException(e);
         }
     }
 
+    private static URL getUrl(Path jarPath, String realName) throws MalformedURLException, URISyntaxException {
+        final URI jarUri = jarPath.toUri();
+        // first create a URI which includes both the jar file path and the relative resource name
+        // and then invoke a toURL on it. The URI reconstruction allows for any encoding to be done
+        // for the "path" which includes the "realName"
+        var ssp = new StringBuilder(jarUri.getPath().length() + realName.length() + 2);
+        ssp.append(jarUri.getPath());
+        ssp.append("!/");
+        ssp.append(realName);
+        return new URI(jarUri.getScheme(), ssp.toString(), null).toURL();
+    }
+
     @Override
     public ManifestInfo getManifestInfo() {
         return manifestInfo;
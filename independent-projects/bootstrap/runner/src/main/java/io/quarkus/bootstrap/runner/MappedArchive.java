@@ -0,0 +1,449 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * A single, memory-mapped file holding the uncompressed contents of all the jars of the application class path.
+ * <p>
+ * Each jar is stored as a segment of the archive. Every segment has an index which is a minimal probe perfect hash table
+ * (built using the hash and displace algorithm) from the resource name to the offset and length of its data in the file,
+ * which means that a lookup requires at most a single slot comparison and no zip central directory has to be parsed at
+ * runtime. The data of a resource can be handed out as a slice of the mapped buffer, so classes can be defined without
+ * copying their bytes to the heap.
+ * <p>
+ * The file layout is the following:
+ *
+ * <pre>
+ * int magic
+ * int version
+ * resource data...
+ * segment indexes...
+ * int segment count
+ * int[segment count] segment index offsets
+ * int segment table offset
+ * </pre>
+ *
+ * Each segment index is laid out as:
+ *
+ * <pre>
+ * int multi release version count
+ * int[multi release version count] versions, in descending order
+ * int bucket count
+ * int slot count
+ * int[bucket count] bucket seeds
+ * slot[slot count]: long hash, int name offset, int name length, int data offset, int data length
+ * </pre>
+ *
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+public final class MappedArchive {
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+
+    private static final int SLOT_SIZE = 24;
+    private static final int EMPTY_SLOT = -1;
+    // the average number of keys per bucket, and the ratio of keys to slots, used to build the perfect hash
+    private static final int KEYS_PER_BUCKET = 4;
+    private static final double LOAD_FACTOR = 0.8;
+    private static final int MAX_SEED = 1 << 20;
+
+    private static final String META_INF_VERSIONS = SerializedApplication.META_INF_VERSIONS;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final Segment[] segments;
+
+    private MappedArchive(Path path, MappedByteBuffer buffer, Segment[] segments) {
+        this.path = path;
+        this.buffer = buffer;
+        this.segments = segments;
+    }
+
+    /**
+     * Maps the archive located at the given path in memory.
+     */
+    public static MappedArchive open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid once the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new RuntimeException("Wrong magic number in " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new RuntimeException("Wrong archive version in " + path);
+        }
+        int segmentTable = buffer.getInt(buffer.limit() - 4);
+        int segmentCount = buffer.getInt(segmentTable);
+        Segment[] segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = Segment.read(buffer, buffer.getInt(segmentTable + 4 + i * 4));
+        }
+        return new MappedArchive(path, buffer, segments);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * @return the name under which the resource is stored in the given segment, taking multi release jars into account,
+     *         or {@code null} if the segment does not contain the resource
+     */
+    String findEntryName(int segment, String resource) {
+        int slot = findSlot(segment, resource);
+        if (slot == EMPTY_SLOT) {
+            return null;
+        }
+        return readName(slot);
+    }
+
+    /**
+     * @return a read only view of the data of the resource, or {@code null} if the segment does not contain the resource
+     */
+    ByteBuffer getResourceBuffer(int segment, String resource) {
+        int slot = findSlot(segment, resource);
+        if (slot == EMPTY_SLOT) {
+            return null;
+        }
+        int offset = buffer.getInt(slot + 16);
+        int length = buffer.getInt(slot + 20);
+        return buffer.slice(offset, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return a copy of the data of the resource, or {@code null} if the segment does not contain the resource
+     */
+    byte[] getResourceData(int segment, String resource) {
+        int slot = findSlot(segment, resource);
+        if (slot == EMPTY_SLOT) {
+            return null;
+        }
+        byte[] data = new byte[buffer.getInt(slot + 20)];
+        buffer.get(buffer.getInt(slot + 16), data);
+        return data;
+    }
+
+    private int findSlot(int segment, String resource) {
+        Segment seg = segments[segment];
+        for (int version : seg.versions) {
+            int slot = findSlot(seg, META_INF_VERSIONS + version + '/' + resource);
+            if (slot != EMPTY_SLOT) {
+                return slot;
+            }
+        }
+        int slot = findSlot(seg, resource);
+        if (slot == EMPTY_SLOT && !resource.isEmpty() && resource.charAt(resource.length() - 1) != '/') {
+            // mimic ZipFile.getEntry which also returns directory entries when the trailing slash is omitted
+            slot = findSlot(seg, resource + '/');
+        }
+        return slot;
+    }
+
+    private int findSlot(Segment segment, String resource) {
+        if (segment.slotCount == 0) {
+            return EMPTY_SLOT;
+        }
+        long hash = hash(resource);
+        int seed = buffer.getInt(segment.seedsOffset + bucket(hash, segment.bucketCount) * 4);
+        int slot = segment.slotsOffset + slot(hash, seed, segment.slotCount) * SLOT_SIZE;
+        if (buffer.getInt(slot + 20) == EMPTY_SLOT || buffer.getLong(slot) != hash || !nameMatches(slot, resource)) {
+            return EMPTY_SLOT;
+        }
+        return slot;
+    }
+
+    private boolean nameMatches(int slot, String resource) {
+        int nameOffset = buffer.getInt(slot + 8);
+        int nameLength = buffer.getInt(slot + 12);
+        if (nameLength != resource.length()) {
+            // the name is either not ASCII or it does not match, both are handled by the slow path
+            return nameLength >= resource.length() && resource.equals(readName(slot));
+        }
+        for (int i = 0; i < nameLength; i++) {
+            byte b = buffer.get(nameOffset + i);
+            if (b < 0 || b != resource.charAt(i)) {
+                return resource.equals(readName(slot));
+            }
+        }
+        return true;
+    }
+
+    private String readName(int slot) {
+        byte[] name = new byte[buffer.getInt(slot + 12)];
+        buffer.get(buffer.getInt(slot + 8), name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the entries of the given jars to a single archive, one segment per jar, in the given order.
+     */
+    public static void write(Path archive, List<Path> jars) throws IOException {
+        try (OutputStream out = Files.newOutputStream(archive)) {
+            write(out, jars);
+        }
+    }
+
+    static void write(OutputStream outputStream, List<Path> jars) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(outputStream));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        List<List<Entry>> allEntries = new ArrayList<>(jars.size());
+        List<int[]> allVersions = new ArrayList<>(jars.size());
+        for (Path jar : jars) {
+            List<Entry> entries = new ArrayList<>();
+            TreeSet<Integer> versions = new TreeSet<>();
+            try (JarFile zip = new JarFile(jar.toFile())) {
+                boolean multiRelease = zip.isMultiRelease();
+                Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+                while (zipEntries.hasMoreElements()) {
+                    ZipEntry zipEntry = zipEntries.nextElement();
+                    String name = zipEntry.getName();
+                    if (multiRelease && name.startsWith(META_INF_VERSIONS)) {
+                        int slash = name.indexOf('/', META_INF_VERSIONS.length());
+                        if (slash != -1) {
+                            try {
+                                versions.add(Integer.parseInt(name.substring(META_INF_VERSIONS.length(), slash)));
+                            } catch (NumberFormatException e) {
+                                //not a versioned entry, just a badly named one
+                            }
+                        }
+                    }
+                    Entry entry = new Entry(name);
+                    entry.dataOffset = checkedOffset(data.size(), jar);
+                    if (!zipEntry.isDirectory()) {
+                        try (InputStream in = zip.getInputStream(zipEntry)) {
+                            in.transferTo(data);
+                        }
+                    }
+                    entry.dataLength = checkedOffset(data.size(), jar) - entry.dataOffset;
+                    entries.add(entry);
+                }
+            }
+            allEntries.add(entries);
+            allVersions.add(versions.descendingSet().stream().mapToInt(Integer::intValue).toArray());
+        }
+        int[] segmentOffsets = new int[jars.size()];
+        for (int i = 0; i < jars.size(); i++) {
+            segmentOffsets[i] = writeSegment(data, allEntries.get(i), allVersions.get(i), jars.get(i));
+        }
+        int segmentTable = data.size();
+        data.writeInt(segmentOffsets.length);
+        for (int offset : segmentOffsets) {
+            data.writeInt(offset);
+        }
+        data.writeInt(segmentTable);
+        data.flush();
+        checkedOffset(data.size(), null);
+    }
+
+    private static int writeSegment(DataOutputStream data, List<Entry> entries, int[] versions, Path jar)
+            throws IOException {
+        int bucketCount = entries.isEmpty() ? 1 : (entries.size() + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET;
+        int slotCount = entries.isEmpty() ? 0 : (int) Math.ceil(entries.size() / LOAD_FACTOR);
+        int[] seeds = new int[bucketCount];
+        Entry[] slots = new Entry[slotCount];
+        buildPerfectHash(entries, seeds, slots, jar);
+
+        int segmentOffset = data.size();
+        data.writeInt(versions.length);
+        for (int version : versions) {
+            data.writeInt(version);
+        }
+        data.writeInt(bucketCount);
+        data.writeInt(slotCount);
+        for (int seed : seeds) {
+            data.writeInt(seed);
+        }
+        int namePool = checkedOffset((long) data.size() + (long) slotCount * SLOT_SIZE, jar);
+        for (Entry slot : slots) {
+            if (slot == null) {
+                data.writeLong(0);
+                data.writeInt(0);
+                data.writeInt(0);
+                data.writeInt(0);
+                data.writeInt(EMPTY_SLOT);
+            } else {
+                data.writeLong(slot.hash);
+                data.writeInt(namePool);
+                data.writeInt(slot.name.length);
+                data.writeInt(slot.dataOffset);
+                data.writeInt(slot.dataLength);
+                namePool = checkedOffset((long) namePool + slot.name.length, jar);
+            }
+        }
+        for (Entry slot : slots) {
+            if (slot != null) {
+                data.write(slot.name);
+            }
+        }
+        return segmentOffset;
+    }
+
+    /**
+     * Hash and displace: the keys are distributed over buckets, then starting from the biggest bucket we look for
+     * a seed that places all the keys of the bucket in free slots.
+     */
+    private static void buildPerfectHash(List<Entry> entries, int[] seeds, Entry[] slots, Path jar) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<List<Entry>> buckets = new ArrayList<>(seeds.length);
+        for (int i = 0; i < seeds.length; i++) {
+            buckets.add(new ArrayList<>(KEYS_PER_BUCKET));
+        }
+        for (Entry entry : entries) {
+            buckets.get(bucket(entry.hash, seeds.length)).add(entry);
+        }
+        Integer[] order = new Integer[seeds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+        int[] candidate = new int[KEYS_PER_BUCKET];
+        for (int bucketIndex : order) {
+            List<Entry> bucket = buckets.get(bucketIndex);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            if (candidate.length < bucket.size()) {
+                candidate = new int[bucket.size()];
+            }
+            int seed = 0;
+            while (!tryPlace(bucket, seed, slots, candidate)) {
+                if (++seed == MAX_SEED) {
+                    throw new IllegalStateException("Unable to build the resource index of " + jar
+                            + ", this most likely means that it contains duplicate entries");
+                }
+            }
+            seeds[bucketIndex] = seed;
+            for (int i = 0; i < bucket.size(); i++) {
+                slots[candidate[i]] = bucket.get(i);
+            }
+        }
+    }
+
+    private static boolean tryPlace(List<Entry> bucket, int seed, Entry[] slots, int[] candidate) {
+        for (int i = 0; i < bucket.size(); i++) {
+            int slot = slot(bucket.get(i).hash, seed, slots.length);
+            if (slots[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (candidate[j] == slot) {
+                    return false;
+                }
+            }
+            candidate[i] = slot;
+        }
+        return true;
+    }
+
+    private static int checkedOffset(long offset, Path jar) {
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The mapped application archive cannot be larger than 2GB"
+                    + (jar == null ? "" : ", limit reached while adding " + jar));
+        }
+        return (int) offset;
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the UTF-16 code units of the name, which means it can be computed at runtime without
+     * encoding the requested name
+     */
+    static long hash(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= name.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static int bucket(long hash, int bucketCount) {
+        return (int) Long.remainderUnsigned(hash, bucketCount);
+    }
+
+    private static int slot(long hash, int seed, int slotCount) {
+        long h = (hash ^ (seed * 0x9E3779B97F4A7C15L)) * 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 31;
+        return (int) Long.remainderUnsigned(h, slotCount);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedArchive{" + path.getFileName() + '}';
+    }
+
+    private static final class Entry {
+        final byte[] name;
+        final long hash;
+        int dataOffset;
+        int dataLength;
+
+        Entry(String name) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+            this.hash = hash(name);
+        }
+    }
+
+    private static final class Segment {
+        final int[] versions;
+        final int bucketCount;
+        final int slotCount;
+        final int seedsOffset;
+        final int slotsOffset;
+
+        private Segment(int[] versions, int bucketCount, int slotCount, int seedsOffset) {
+            this.versions = versions;
+            this.bucketCount = bucketCount;
+            this.slotCount = slotCount;
+            this.seedsOffset = seedsOffset;
+            this.slotsOffset = seedsOffset + bucketCount * 4;
+        }
+
+        static Segment read(ByteBuffer buffer, int offset) {
+            int versionCount = buffer.getInt(offset);
+            offset += 4;
+            int runtimeVersion = Runtime.version().feature();
+            List<Integer> versions = new ArrayList<>(versionCount);
+            for (int i = 0; i < versionCount; i++) {
+                int version = buffer.getInt(offset);
+                // only the versions the current JVM is able to use are relevant
+                if (version <= runtimeVersion) {
+                    versions.add(version);
+                }
+                offset += 4;
+            }
+            int bucketCount = buffer.getInt(offset);
+            int slotCount = buffer.getInt(offset + 4);
+            return new Segment(versions.stream().mapToInt(Integer::intValue).toArray(), bucketCount, slotCount,
+                    offset + 8);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.bootstrap.runner;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.Objects;
+
+/**
+ * A resource backed by a segment of a {@link MappedArchive}.
+ * <p>
+ * Class and resource data is read straight from the mapped archive, so no jar file is ever opened to load classes.
+ * The jar the segment was created from is still used as the code source, and as the target of the resource URLs,
+ * so that code inspecting those sees the same values as with a {@link JarResource}.
+ */
+public class MappedArchiveResource implements ClassLoadingResource {
+
+    private volatile ProtectionDomain protectionDomain;
+    private final ManifestInfo manifestInfo;
+
+    final Path jarPath;
+    private final MappedArchive archive;
+    private final int segment;
+
+    public MappedArchiveResource(ManifestInfo manifestInfo, Path jarPath, MappedArchive archive, int segment) {
+        this.manifestInfo = manifestInfo;
+        this.jarPath = jarPath;
+        this.archive = archive;
+        this.segment = segment;
+    }
+
+    @Override
+    public void init() {
+        final URL url;
+        try {
+            String path = jarPath.toAbsolutePath().toString();
+            if (!path.startsWith("/")) {
+                path = '/' + path;
+            }
+            URI uri = new URI("file", null, path, null);
+            url = uri.toURL();
+        } catch (URISyntaxException | MalformedURLException e) {
+            throw new RuntimeException("Unable to create protection domain for " + jarPath, e);
+        }
+        this.protectionDomain = new ProtectionDomain(new CodeSource(url, (Certificate[]) null), null);
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        return archive.getResourceData(segment, resource);
+    }
+
+    @Override
+    public ByteBuffer getResourceBuffer(String resource) {
+        return archive.getResourceBuffer(segment, resource);
+    }
+
+    @Override
+    public URL getResourceURL(String resource) {
+        String entryName = archive.findEntryName(segment, resource);
+        if (entryName == null) {
+            return null;
+        }
+        return JarResource.getJarUrl(jarPath, getRealName(entryName, resource));
+    }
+
+    private static String getRealName(String entryName, String resource) {
+        // Make sure directories are returned with a / when the resource was requested with a /, same as JarResource
+        if (resource.endsWith("/") && entryName.endsWith("/")) {
+            return entryName;
+        }
+        if (entryName.endsWith("/")) {
+            return entryName.substring(0, entryName.length() - 1);
+        }
+        return entryName;
+    }
+
+    @Override
+    public ManifestInfo getManifestInfo() {
+        return manifestInfo;
+    }
+
+    @Override
+    public ProtectionDomain getProtectionDomain() {
+        return protectionDomain;
+    }
+
+    @Override
+    public void close() {
+        //nothing to release, the mapping is shared by all the segments and is released when the archive is collected
+    }
+
+    @Override
+    public String toString() {
+        return "MappedArchiveResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        MappedArchiveResource that = (MappedArchiveResource) o;
+        return segment == that.segment && jarPath.equals(that.jarPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jarPath, segment);
+    }
+}
@@ -25,6 +25,17 @@ public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
+    public static final String QUARKUS_CLASS_LOAD_ORDER = "quarkus/quarkus-class-load-order.txt";
+
+    /**
+     * When set to {@code true}, the order in which classes and resources are loaded until the application has booted
+     * is written to {@link #QUARKUS_CLASS_LOAD_ORDER}
+     */
+    public static final String RECORD_CLASS_LOAD_ORDER = "quarkus.launch.record-class-load-order";
+    /**
+     * When set to {@code false}, an existing {@link #QUARKUS_CLASS_LOAD_ORDER} is not used to prefetch classes
+     */
+    public static final String PREFETCH_CLASSES = "quarkus.launch.prefetch-classes";
 
     public static void main(String... args) throws Throwable {
         System.setProperty("java.util.logging.manager", org.jboss.logmanager.LogManager.class.getName());
@@ -60,6 +71,12 @@ private static void doRun(String... args) throws Throwable {
                 app = SerializedApplication.read(in, appRoot);
             }
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            Path loadOrder = appRoot.resolve(QUARKUS_CLASS_LOAD_ORDER);
+            if (Boolean.getBoolean(RECORD_CLASS_LOAD_ORDER)) {
+                appRunnerClassLoader.recordLoadOrder(loadOrder);
+            } else if (Boolean.parseBoolean(System.getProperty(PREFETCH_CLASSES, "true")) && Files.exists(loadOrder)) {
+                appRunnerClassLoader.prefetchLoadOrder(loadOrder);
+            }
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
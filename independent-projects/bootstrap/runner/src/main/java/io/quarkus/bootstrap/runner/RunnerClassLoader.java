@@ -4,6 +4,8 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -53,6 +55,10 @@ public final class RunnerClassLoader extends ClassLoader {
 
     private final CracResource resource;
 
+    // only set when the class load order is being recorded, see QuarkusEntryPoint
+    private volatile ClassLoadOrder.Recording loadOrderRecording;
+    private volatile ClassLoadOrder.Prefetch loadOrderPrefetch;
+
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
@@ -103,12 +109,17 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
             String classResource = fromClassNameToResourceName(name);
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
-                byte[] data = resource.getResourceData(classResource);
+                ByteBuffer data = resource.getResourceBuffer(classResource);
                 if (data == null) {
                     continue;
                 }
                 definePackage(packageName, resources);
-                return defineClass(name, data, resource);
+                Class<?> result = defineClass(name, data, resource);
+                ClassLoadOrder.Recording recording = loadOrderRecording;
+                if (recording != null) {
+                    recording.classLoaded(name);
+                }
+                return result;
             }
         }
         return getParent().loadClass(name);
@@ -146,10 +157,11 @@ private void definePackage(String pkgName, ClassLoadingResource[] resources) {
         }
     }
 
-    private Class<?> defineClass(String name, byte[] data, ClassLoadingResource resource) {
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
         Class<?> loaded;
         try {
-            return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            // direct buffers (i.e. the ones of a MappedArchiveResource) are defined without being copied to the heap
+            return defineClass(name, data, resource.getProtectionDomain());
         } catch (LinkageError e) {
             loaded = findLoadedClass(name);
             if (loaded != null) {
@@ -213,12 +225,65 @@ protected URL findResource(String name) {
             accessingResource(resource);
             URL data = resource.getResourceURL(name);
             if (data != null) {
+                recordResource(name);
                 return data;
             }
         }
         return null;
     }
 
+    private void recordResource(String name) {
+        ClassLoadOrder.Recording recording = loadOrderRecording;
+        if (recording != null) {
+            recording.resourceLoaded(name);
+        }
+    }
+
+    /**
+     * Locates the given resource so that the jars containing it are opened ahead of time, without recording it.
+     */
+    void prefetchResource(String name) {
+        if (nonExistentResources.contains(name)) {
+            return;
+        }
+        ClassLoadingResource[] resources = getClassLoadingResources(name);
+        if (resources != null) {
+            for (ClassLoadingResource resource : resources) {
+                resource.getResourceURL(name);
+            }
+        }
+    }
+
+    /**
+     * Starts recording the classes and resources loaded by this ClassLoader, the recording is written to the given file
+     * once the application has booted, or when this ClassLoader is closed.
+     */
+    void recordLoadOrder(Path target) {
+        loadOrderRecording = new ClassLoadOrder.Recording(target);
+    }
+
+    /**
+     * Loads the classes and resources of a previous recording on a background thread, until the application has booted.
+     */
+    void prefetchLoadOrder(Path source) {
+        ClassLoadOrder.Prefetch prefetch = new ClassLoadOrder.Prefetch(this, source);
+        loadOrderPrefetch = prefetch;
+        prefetch.start();
+    }
+
+    private void completeLoadOrder() {
+        ClassLoadOrder.Prefetch prefetch = loadOrderPrefetch;
+        if (prefetch != null) {
+            prefetch.stop();
+            loadOrderPrefetch = null;
+        }
+        ClassLoadOrder.Recording recording = loadOrderRecording;
+        if (recording != null) {
+            loadOrderRecording = null;
+            recording.write();
+        }
+    }
+
     private String sanitizeName(final String name) {
         if (name.length() > 0 && name.charAt(0) == '/') {
             return name.substring(1);
@@ -268,6 +333,9 @@ protected Enumeration<URL> findResources(String name) {
                 urls.add(data);
             }
         }
+        if (!urls.isEmpty()) {
+            recordResource(name);
+        }
         return Collections.enumeration(urls);
     }
 
@@ -311,6 +379,7 @@ protected Class<?> findClass(String moduleName, String name) {
     }
 
     public void close() {
+        completeLoadOrder();
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
                 i.close();
@@ -319,6 +388,8 @@ public void close() {
     }
 
     public void resetInternalCaches() {
+        // the application has booted, so there is nothing left to record or to prefetch
+        completeLoadOrder();
         synchronized (this.currentlyBufferedResources) {
             for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
                 for (ClassLoadingResource i : entry.getValue()) {
@@ -38,7 +38,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -62,10 +62,22 @@ public String getMainClass() {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, null);
+    }
+
+    /**
+     * @param mappedArchive the {@link MappedArchive} holding the contents of the class path, one segment per class path
+     *        entry in the same order, or {@code null} if the class path entries should be read from the jars directly
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, Path mappedArchive)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            writeNullableString(data,
+                    mappedArchive == null ? null : applicationRoot.relativize(mappedArchive).toString().replace('\\', '/'));
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
@@ -111,9 +123,15 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            String mappedArchivePath = readNullableString(in);
+            MappedArchive mappedArchive = mappedArchivePath == null ? null
+                    : MappedArchive.open(appRoot.resolve(mappedArchivePath));
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
+            if (mappedArchive != null && mappedArchive.getSegmentCount() != numPaths) {
+                throw new RuntimeException("The mapped archive " + mappedArchivePath + " does not match the class path");
+            }
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
             for (int pathCount = 0; pathCount < numPaths; pathCount++) {
                 String path = in.readUTF();
@@ -123,7 +141,8 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                ClassLoadingResource resource = mappedArchive == null ? new JarResource(info, appRoot.resolve(path))
+                        : new MappedArchiveResource(info, appRoot.resolve(path), mappedArchive, pathCount);
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -330,11 +349,11 @@ private static class ResourceDirectoryTracker {
         private final Map<String, ClassLoadingResource[]> result = new HashMap<>();
         private final Map<String, Set<ClassLoadingResource>> overrides = new HashMap<>();
 
-        void addResourceDir(String dir, JarResource resource) {
+        void addResourceDir(String dir, ClassLoadingResource resource) {
             ClassLoadingResource[] existing = result.get(dir);
             if (existing == null) {
                 // this is the first the dir was ever tracked
-                result.put(dir, new JarResource[] { resource });
+                result.put(dir, new ClassLoadingResource[] { resource });
             } else {
                 ClassLoadingResource existingResource = existing[0];
                 if (existingResource.equals(resource)) {
@@ -0,0 +1,105 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link MappedArchive} and {@link MappedArchiveResource}
+ */
+public class MappedArchiveTest {
+
+    private static final Path SIMPLE_JAR = Path.of("src", "test", "resources", "jars", "simple-project-1.0.jar");
+    private static final Path EASY_JAR = Path.of("src", "test", "resources", "jars", "easy-project-1.0.jar");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testResourceData() throws Exception {
+        MappedArchive archive = writeArchive(SIMPLE_JAR, EASY_JAR);
+        assertThat(archive.getSegmentCount()).isEqualTo(2);
+
+        try (JarFile jar = new JarFile(SIMPLE_JAR.toFile())) {
+            ZipEntry entry = jar.getEntry("org/simple/SimplePojo1.class");
+            byte[] expected = jar.getInputStream(entry).readAllBytes();
+            assertThat(archive.getResourceData(0, "org/simple/SimplePojo1.class")).isEqualTo(expected);
+            ByteBuffer buffer = archive.getResourceBuffer(0, "org/simple/SimplePojo1.class");
+            assertThat(buffer.isDirect()).isTrue();
+            assertThat(buffer.remaining()).isEqualTo(expected.length);
+        }
+        // the resources of a segment must not leak into another one
+        assertThat(archive.getResourceData(1, "org/simple/SimplePojo1.class")).isNull();
+        assertThat(archive.getResourceData(0, "org/simple/Missing.class")).isNull();
+        assertThat(archive.getResourceData(0, "")).isNull();
+        // directories can be requested with or without the trailing slash
+        assertThat(archive.findEntryName(0, "org/simple")).isEqualTo("org/simple/");
+        assertThat(archive.findEntryName(0, "org/simple/")).isEqualTo("org/simple/");
+    }
+
+    @Test
+    public void testManyEntriesAndNonAsciiNames() throws Exception {
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        for (int i = 0; i < 2000; i++) {
+            jar.add(new StringAsset("content" + i), "dir" + (i % 10) + "/file" + i + ".txt");
+        }
+        jar.add(new StringAsset("unicode"), "dir/fïlé-ü.txt");
+        Path jarPath = tempDir.resolve("many.jar");
+        jar.as(ZipExporter.class).exportTo(jarPath.toFile(), true);
+
+        MappedArchive archive = writeArchive(jarPath);
+        for (int i = 0; i < 2000; i++) {
+            assertThat(new String(archive.getResourceData(0, "dir" + (i % 10) + "/file" + i + ".txt")))
+                    .isEqualTo("content" + i);
+            assertThat(archive.getResourceData(0, "dir" + (i % 10) + "/file" + i + ".txt.missing")).isNull();
+        }
+        assertThat(archive.getResourceData(0, "dir/fïlé-ü.txt")).isEqualTo("unicode".getBytes());
+        assertThat(archive.getResourceData(0, "dir/fïle-ü.txt")).isNull();
+    }
+
+    @Test
+    public void testRunnerClassLoader() throws Exception {
+        MappedArchive archive = writeArchive(SIMPLE_JAR);
+        MappedArchiveResource resource = new MappedArchiveResource(null, SIMPLE_JAR, archive, 0);
+        resource.init();
+        ClassLoadingResource[] resources = new ClassLoadingResource[] { resource };
+        Map<String, ClassLoadingResource[]> resourceDirectoryMap = Map.of(
+                "org", resources,
+                "org/simple", resources);
+
+        RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(), resourceDirectoryMap,
+                Collections.emptySet(), Collections.emptySet(),
+                Collections.emptyList(), Collections.emptyMap());
+
+        Class<?> pojo = runnerClassLoader.loadClass("org.simple.SimplePojo1");
+        assertThat(pojo.getClassLoader()).isSameAs(runnerClassLoader);
+        assertThat(pojo.getProtectionDomain().getCodeSource().getLocation().getPath()).endsWith("simple-project-1.0.jar");
+
+        assertThat(runnerClassLoader.findResource("org/simple").toString()).endsWith("/org/simple");
+        assertThat(runnerClassLoader.findResource("org/simple/").toString()).endsWith("/org/simple/");
+        assertThat(runnerClassLoader.findResource("org/simple/SimplePojo2.class").toString())
+                .startsWith("jar:file:")
+                .endsWith("simple-project-1.0.jar!/org/simple/SimplePojo2.class");
+        assertThat(runnerClassLoader.findResource("org/simple/SimplePojo3.class")).isNull();
+    }
+
+    private MappedArchive writeArchive(Path... jars) throws Exception {
+        Path archivePath = Files.createTempFile(tempDir, "archive", ".qar");
+        MappedArchive.write(archivePath, List.of(jars));
+        return MappedArchive.open(archivePath);
+    }
+}
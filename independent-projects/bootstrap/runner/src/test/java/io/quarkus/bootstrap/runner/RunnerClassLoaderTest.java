@@ -3,7 +3,9 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,6 +15,7 @@
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class RunnerClassLoaderTest {
 
@@ -120,6 +123,46 @@ public void testUrlWithTrailingSlash() {
                 .endsWith("/org/simple/SimplePojo1.class");
     }
 
+    @Test
+    public void testRecordAndPrefetchLoadOrder(@TempDir Path tempDir) throws Exception {
+        ClassLoadingResource[] classLoadingResources = new ClassLoadingResource[] {
+                createProjectJarResource("simple-project-1.0.jar") };
+        Map<String, ClassLoadingResource[]> resourceDirectoryMap = Map.of(
+                "META-INF/maven/org.mario/simple-project", classLoadingResources,
+                "org/simple", classLoadingResources);
+        Path loadOrder = tempDir.resolve("load-order.txt");
+
+        RunnerClassLoader recordingClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                resourceDirectoryMap, Collections.emptySet(), Collections.emptySet(),
+                Collections.emptyList(), Collections.emptyMap());
+        recordingClassLoader.recordLoadOrder(loadOrder);
+        recordingClassLoader.loadClass("org.simple.SimplePojo2");
+        recordingClassLoader.getResource("META-INF/maven/org.mario/simple-project/pom.properties");
+        recordingClassLoader.getResource("META-INF/maven/org.mario/simple-project/pom.properties");
+        recordingClassLoader.loadClass("org.simple.SimplePojo1");
+        recordingClassLoader.resetInternalCaches();
+        // anything loaded after boot is not recorded
+        recordingClassLoader.getResource("META-INF/maven/org.mario/simple-project/pom.xml");
+
+        assertThat(Files.readAllLines(loadOrder)).containsExactly(
+                "C org.simple.SimplePojo2",
+                "R META-INF/maven/org.mario/simple-project/pom.properties",
+                "C org.simple.SimplePojo1");
+
+        Files.writeString(loadOrder, "C org.simple.Missing\n", StandardOpenOption.APPEND);
+        RunnerClassLoader prefetchingClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                resourceDirectoryMap, Collections.emptySet(), Collections.emptySet(),
+                Collections.emptyList(), Collections.emptyMap());
+        prefetchingClassLoader.prefetchLoadOrder(loadOrder);
+        // loading concurrently with the prefetch thread must result in the same classes
+        Class<?> pojo1 = prefetchingClassLoader.loadClass("org.simple.SimplePojo1");
+        Class<?> pojo2 = prefetchingClassLoader.loadClass("org.simple.SimplePojo2");
+        assertThat(pojo1.getClassLoader()).isSameAs(prefetchingClassLoader);
+        assertThat(pojo2.getClassLoader()).isSameAs(prefetchingClassLoader);
+        assertThat(Class.forName("org.simple.SimplePojo1", false, prefetchingClassLoader)).isSameAs(pojo1);
+        prefetchingClassLoader.resetInternalCaches();
+    }
+
     private static JarResource createProjectJarResource(String jarName) {
         ManifestInfo manifestInfo = new ManifestInfo(jarName.substring(jarName.lastIndexOf('-')), "1.0", "Apache", null, null,
                 null);
@@ -59,6 +59,14 @@ public boolean isFailure() {
         return exception != null;
     }
 
+    /**
+     *
+     * @return the original exception if completed exceptionally, {@code null} otherwise
+     */
+    Throwable getFailure() {
+        return exception;
+    }
+
     public T get() {
         if (exception != null) {
             // Always wrap the original exception if completed exceptionally
@@ -0,0 +1,314 @@
+package io.quarkus.qute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.qute.SectionHelper.SectionResolutionContext;
+
+/**
+ * Renders the nodes of a template directly into the output, on the thread that called {@link TemplateInstance#render()}.
+ * <p>
+ * The nodes are resolved one after another and the result of each node is appended as soon as it is available, so that no
+ * result tree is built for the text, the expressions and the blocks of the built-in sections. Once a node is not resolved
+ * synchronously, the rest of the template is resolved into a result tree as usual, so that the asynchronous values are
+ * resolved concurrently, and the rendering thread waits once for the result, as the blocking
+ * {@link TemplateInstance#render()} does anyway.
+ * <p>
+ * Only the blocks of the sections that output exactly the results of the blocks they execute, in the order of execution,
+ * are rendered directly (see {@link SectionNode#isDirectRendering(String, SectionHelper)}). The other sections, and the
+ * blocks executed from another thread, are resolved into a result tree as usual.
+ */
+final class DirectRenderer {
+
+    private final StringBuilder builder;
+    private final Consumer<String> consumer;
+    private final Thread thread;
+    private final long deadline;
+    private final Supplier<RuntimeException> timeoutError;
+    // the last failure wrapped by this renderer, so that it is not wrapped again by the enclosing blocks
+    private TemplateException wrapped;
+    // false once a node is not resolved synchronously, the results of the following nodes are appended after its result
+    private boolean direct = true;
+
+    DirectRenderer(StringBuilder builder, long timeout, Supplier<RuntimeException> timeoutError) {
+        this.builder = builder;
+        this.consumer = builder::append;
+        this.thread = Thread.currentThread();
+        this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        this.timeoutError = timeoutError;
+    }
+
+    /**
+     *
+     * @param context
+     * @return the renderer if the blocks executed by the section can be rendered directly, {@code null} otherwise
+     */
+    static DirectRenderer of(SectionResolutionContext context) {
+        return context instanceof SectionNode.SectionResolutionContextImpl impl ? impl.renderer : null;
+    }
+
+    void render(SectionNode root, ResolutionContext context) {
+        // Wait once for the nodes that were not rendered
+        append(await(root.resolve(context, null, this), false));
+    }
+
+    /**
+     * Renders the root nodes with a generated renderer.
+     *
+     * @param renderer
+     * @param root
+     * @param nodes the rendered root nodes
+     * @param context
+     * @see TemplateRenderer#renderedNodes(List)
+     */
+    void render(TemplateRenderer renderer, SectionNode root, List<TemplateNode> nodes, ResolutionContext context) {
+        // The interpreter wraps the failures in a block of multiple nodes, incl. the nodes that are not rendered
+        RendererOutput output = new RendererOutput(nodes, context, root.blocks.get(0).nodes.size() > 1);
+        try {
+            renderer.render(output);
+        } catch (Throwable e) {
+            // The interpreter fails with the same exception
+            throw rethrow(e);
+        }
+        if (output.pending != null) {
+            // Wait once for the nodes that were not rendered
+            append(await(output.pending, false));
+        }
+    }
+
+    /**
+     * Executes a block of a section that outputs the result of the block as is.
+     *
+     * @return the no-op result if the block was rendered, or the result tree of the nodes that were not rendered
+     */
+    CompletionStage<ResultNode> execute(List<TemplateNode> nodes, ResolutionContext context) {
+        if (!direct || Thread.currentThread() != thread) {
+            // Executed from another thread, or after a node that was not resolved synchronously
+            // The result is appended once available
+            return Results.resolveAndProcess(nodes, context);
+        }
+        try {
+            CompletionStage<ResultNode> pending = render(nodes, context);
+            return pending != null ? pending : ResultNode.NOOP;
+        } catch (Throwable e) {
+            if (e == wrapped) {
+                // The interpreter throws a wrapped failure when the result is processed, so that the enclosing sections
+                // do not wrap it again
+                return CompletedStage.of(new FailedResultNode(wrapped));
+            }
+            return CompletedStage.failure(e);
+        }
+    }
+
+    /**
+     * @return {@code null} if the nodes were rendered, or the result of the nodes following the first node that was not
+     *         resolved synchronously
+     */
+    private CompletionStage<ResultNode> render(List<TemplateNode> nodes, ResolutionContext context) {
+        int size = nodes.size();
+        // The interpreter wraps the failures of the nodes completed synchronously in a block of multiple nodes
+        boolean wrap = size > 1;
+        for (int i = 0; i < size; i++) {
+            CompletionStage<ResultNode> pending = render(nodes.get(i), context, wrap);
+            if (pending != null) {
+                direct = false;
+                return resolveRest(pending, nodes.subList(i + 1, size), context);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code null} if the node was rendered, or the result if it is not completed yet
+     */
+    private CompletionStage<ResultNode> render(TemplateNode node, ResolutionContext context, boolean wrap) {
+        // Note that we intentionally test the classes in the order of their frequency
+        if (node instanceof TextNode text) {
+            builder.append(text.getValue());
+            return null;
+        } else if (node instanceof ExpressionNode expression && !expression.isTraceLevel()) {
+            return render(expression, context.evaluate(expression.expression), wrap);
+        } else if (node instanceof SectionNode section) {
+            return render(section.resolve(context, null, this), wrap);
+        } else if (!(node instanceof ParameterDeclarationNode)) {
+            // Keep the tracing of the resolution of expressions
+            return render(node.resolve(context), wrap);
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code null} if the result was appended, or the result if it is not completed yet
+     */
+    private CompletionStage<ResultNode> render(CompletionStage<ResultNode> result, boolean wrap) {
+        if (!isDone(result)) {
+            return result;
+        }
+        append(await(result, wrap));
+        return null;
+    }
+
+    /**
+     * @return {@code null} if the value was appended, or the result if the value is not completed yet
+     */
+    private CompletionStage<ResultNode> render(ExpressionNode node, CompletionStage<?> result, boolean wrap) {
+        if (!isDone(result)) {
+            return result.thenCompose(node::toResultNode);
+        }
+        Object value = await(result, wrap);
+        if (value instanceof ResultNode resultNode) {
+            resultNode.process(consumer);
+        } else if (value instanceof CompletableFuture || value instanceof CompletedStage
+                || (CompletionStageSupport.UNRESTRICTED && value instanceof CompletionStage)) {
+            return render(node, (CompletionStage<?>) value, wrap);
+        } else {
+            String str = SingleResultNode.toResult(SingleResultNode.extractValue(value),
+                    node.hasEngineResultMappers() ? node : null);
+            if (str != null) {
+                builder.append(str);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the nodes following a pending node like the interpreter does, so that they are resolved concurrently.
+     */
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<ResultNode> resolveRest(CompletionStage<ResultNode> pending, List<TemplateNode> rest,
+            ResolutionContext context) {
+        if (rest.isEmpty()) {
+            return pending;
+        }
+        CompletableFuture<ResultNode> pendingResult = pending.toCompletableFuture();
+        List<CompletableFuture<ResultNode>> asyncResults = new ArrayList<>(2);
+        asyncResults.add(pendingResult);
+        Supplier<ResultNode> restSupplier;
+        CompletionStage<ResultNode> restResult = Results.resolveAndProcess(rest, context);
+        if (restResult instanceof CompletedStage<ResultNode> completed) {
+            restSupplier = completed;
+        } else {
+            CompletableFuture<ResultNode> restFuture = restResult.toCompletableFuture();
+            asyncResults.add(restFuture);
+            restSupplier = Futures.toSupplier(restFuture);
+        }
+        return Results.toCompletionStage(new Supplier[] { Futures.toSupplier(pendingResult), restSupplier },
+                asyncResults);
+    }
+
+    private static boolean isDone(CompletionStage<?> stage) {
+        return stage instanceof CompletedStage || stage.toCompletableFuture().isDone();
+    }
+
+    private void append(ResultNode result) {
+        if (result != null) {
+            result.process(consumer);
+        }
+    }
+
+    private <T> T await(CompletionStage<T> stage, boolean wrap) {
+        if (stage instanceof CompletedStage<T> completed) {
+            if (completed.isFailure()) {
+                Throwable failure = completed.getFailure();
+                if (wrap && failure != wrapped) {
+                    wrapped = new TemplateException(failure);
+                    throw wrapped;
+                }
+                throw rethrow(failure);
+            }
+            return completed.get();
+        }
+        long timeout = deadline - System.nanoTime();
+        try {
+            return stage.toCompletableFuture().get(timeout, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (TimeoutException e) {
+            throw timeoutError.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException e) {
+            return e;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    private final class RendererOutput implements TemplateRenderer.Output {
+
+        private final List<TemplateNode> nodes;
+        private final ResolutionContext context;
+        private final Object data;
+        private final boolean wrap;
+        // the result of the nodes following the first node that was not resolved synchronously
+        private CompletionStage<ResultNode> pending;
+
+        RendererOutput(List<TemplateNode> nodes, ResolutionContext context, boolean wrap) {
+            this.nodes = nodes;
+            this.context = context;
+            this.data = context.getData();
+            this.wrap = wrap;
+        }
+
+        @Override
+        public void text(int index) {
+            builder.append(((TextNode) nodes.get(index)).getValue());
+        }
+
+        @Override
+        public Object data(String key) {
+            if (data instanceof TemplateInstanceBase.DataMap dataMap && dataMap.appliesTo(key)) {
+                return dataMap.get(key);
+            }
+            return Results.NotFound.EMPTY;
+        }
+
+        @Override
+        public boolean value(int index, Object value) {
+            ExpressionNode node = (ExpressionNode) nodes.get(index);
+            return proceed(index, render(node, CompletionStageSupport.toCompletionStage(value), wrap));
+        }
+
+        @Override
+        public boolean interpret(int index) {
+            return proceed(index, render(nodes.get(index), context, wrap));
+        }
+
+        private boolean proceed(int index, CompletionStage<ResultNode> result) {
+            if (result == null) {
+                return true;
+            }
+            direct = false;
+            pending = resolveRest(result, nodes.subList(index + 1, nodes.size()), context);
+            return false;
+        }
+
+    }
+
+    private static final class FailedResultNode extends ResultNode {
+
+        private final TemplateException failure;
+
+        FailedResultNode(TemplateException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void process(Consumer<String> consumer) {
+            throw failure;
+        }
+
+    }
+
+}
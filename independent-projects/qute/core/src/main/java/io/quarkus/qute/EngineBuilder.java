@@ -43,6 +43,7 @@ public final class EngineBuilder {
     long timeout;
     boolean useAsyncTimeout;
     final List<EngineListener> listeners;
+    final List<TemplateRenderer> templateRenderers;
 
     EngineBuilder() {
         this.sectionHelperFactories = new HashMap<>();
@@ -58,6 +59,7 @@ public final class EngineBuilder {
         this.timeout = 10_000;
         this.useAsyncTimeout = true;
         this.listeners = new ArrayList<>();
+        this.templateRenderers = new ArrayList<>();
     }
 
     /**
@@ -235,6 +237,18 @@ public EngineBuilder addTemplateInstanceInitializer(TemplateInstance.Initializer
         return this;
     }
 
+    /**
+     * A renderer registered for the same template id replaces the previous one.
+     *
+     * @param renderer
+     * @return self
+     * @see TemplateRenderer#getTemplateId()
+     */
+    public EngineBuilder addTemplateRenderer(TemplateRenderer renderer) {
+        this.templateRenderers.add(Objects.requireNonNull(renderer));
+        return this;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
@@ -6,6 +6,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -39,6 +40,8 @@ class EngineImpl implements Engine {
     final boolean removeStandaloneLines;
     private final long timeout;
     private final boolean useAsyncTimeout;
+    // template id -> generated renderer
+    final Map<String, TemplateRenderer> templateRenderers;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Map.copyOf(builder.sectionHelperFactories);
@@ -55,6 +58,11 @@ class EngineImpl implements Engine {
         this.initializers = ImmutableList.copyOf(builder.initializers);
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
+        Map<String, TemplateRenderer> renderers = new HashMap<>();
+        for (TemplateRenderer renderer : builder.templateRenderers) {
+            renderers.put(renderer.getTemplateId(), renderer);
+        }
+        this.templateRenderers = Map.copyOf(renderers);
     }
 
     @Override
@@ -202,6 +210,9 @@ public EngineBuilder newBuilder() {
         for (ParserHook parserHook : parserHooks) {
             builder.addParserHook(parserHook);
         }
+        for (TemplateRenderer renderer : templateRenderers.values()) {
+            builder.addTemplateRenderer(renderer);
+        }
         return builder;
     }
 
@@ -89,6 +89,10 @@ Engine getEngine() {
         return engine;
     }
 
+    boolean isTraceLevel() {
+        return traceLevel;
+    }
+
     boolean hasEngineResultMappers() {
         return hasEngineResultMappers;
     }
@@ -47,7 +47,7 @@ public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
             } else {
                 resolutionContext = context.resolutionContext().createChild(null, extendingBlocks);
             }
-            return root.resolve(resolutionContext, t.isFragment() ? FRAGMENT_PARAMS : null);
+            return root.resolve(resolutionContext, t.isFragment() ? FRAGMENT_PARAMS : null, DirectRenderer.of(context));
         } else {
             CompletableFuture<ResultNode> result = new CompletableFuture<>();
             context.evaluate(parameters).whenComplete((evaluatedParams, t1) -> {
@@ -67,7 +67,7 @@ public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
                         Template t = template.get();
                         SectionNode root = ((TemplateImpl) t).root;
                         // Execute the template with the params as the root context object
-                        root.resolve(resolutionContext, t.isFragment() ? FRAGMENT_PARAMS : null)
+                        root.resolve(resolutionContext, t.isFragment() ? FRAGMENT_PARAMS : null, DirectRenderer.of(context))
                                 .whenComplete((resultNode, t2) -> {
                                     if (t2 != null) {
                                         result.completeExceptionally(t2);
@@ -70,7 +70,7 @@ static CompletionStage<ResultNode> resolveAndProcess(List<TemplateNode> nodes, R
         return toCompletionStage(allResults, asyncResults);
     }
 
-    private static CompletionStage<ResultNode> toCompletionStage(Supplier<ResultNode>[] allResults,
+    static CompletionStage<ResultNode> toCompletionStage(Supplier<ResultNode>[] allResults,
             List<CompletableFuture<ResultNode>> asyncResults) {
         if (asyncResults == null) {
             // No async results present
@@ -31,6 +31,7 @@ static Builder builder(String helperName, Origin origin, Parser parser,
     final SectionHelper helper;
     private final Origin origin;
     private final boolean traceLevel;
+    private final boolean directRendering;
 
     SectionNode(String name, List<SectionBlock> blocks, SectionHelper helper, Origin origin) {
         this.name = name;
@@ -38,20 +39,45 @@ static Builder builder(String helperName, Origin origin, Parser parser,
         this.helper = helper;
         this.origin = origin;
         this.traceLevel = LOG.isTraceEnabled();
+        this.directRendering = isDirectRendering(name, helper);
     }
 
     public CompletionStage<ResultNode> resolve(ResolutionContext context, Map<String, Object> params) {
+        return resolve(context, params, null);
+    }
+
+    CompletionStage<ResultNode> resolve(ResolutionContext context, Map<String, Object> params, DirectRenderer renderer) {
         if (params == null) {
             params = Collections.emptyMap();
         }
+        SectionResolutionContextImpl resolutionContext = new SectionResolutionContextImpl(context, params,
+                directRendering ? renderer : null);
         if (traceLevel && !Parser.ROOT_HELPER_NAME.equals(name)) {
             LOG.tracef("Resolve {#%s} started:%s", name, origin);
-            return helper.resolve(new SectionResolutionContextImpl(context, params)).thenApply(r -> {
+            return helper.resolve(resolutionContext).thenApply(r -> {
                 LOG.tracef("Resolve {#%s} completed:%s", name, origin);
                 return r;
             });
         }
-        return helper.resolve(new SectionResolutionContextImpl(context, params));
+        return helper.resolve(resolutionContext);
+    }
+
+    /**
+     * The blocks of a section can be rendered directly if the section outputs exactly the results of the blocks it executes,
+     * in the order of execution. Only the built-in sections are considered; a subclass may process the results differently.
+     */
+    static boolean isDirectRendering(String name, SectionHelper helper) {
+        if (Parser.ROOT_HELPER_NAME.equals(name)) {
+            return true;
+        }
+        Class<?> clazz = helper.getClass();
+        return clazz == LoopSectionHelper.class
+                || clazz == IfSectionHelper.class
+                || clazz == WithSectionHelper.class
+                || clazz == SetSectionHelper.class
+                || clazz == WhenSectionHelper.class
+                || clazz == InsertSectionHelper.class
+                || clazz == IncludeSectionHelper.class;
     }
 
     @Override
@@ -221,10 +247,17 @@ class SectionResolutionContextImpl implements SectionResolutionContext {
 
         private final Map<String, Object> params;
         private final ResolutionContext resolutionContext;
+        final DirectRenderer renderer;
 
         public SectionResolutionContextImpl(ResolutionContext resolutionContext, Map<String, Object> params) {
+            this(resolutionContext, params, null);
+        }
+
+        SectionResolutionContextImpl(ResolutionContext resolutionContext, Map<String, Object> params,
+                DirectRenderer renderer) {
             this.resolutionContext = resolutionContext;
             this.params = params;
+            this.renderer = renderer;
         }
 
         @Override
@@ -238,6 +271,9 @@ public CompletionStage<ResultNode> execute(SectionBlock block, ResolutionContext
                 // Use the main block
                 block = blocks.get(0);
             }
+            if (renderer != null) {
+                return renderer.execute(block.nodes, context);
+            }
             return Results.resolveAndProcess(block.nodes, context);
         }
 
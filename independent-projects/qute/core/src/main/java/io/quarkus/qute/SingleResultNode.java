@@ -23,7 +23,7 @@ public SingleResultNode(Object value) {
         this.node = expressionNode != null && expressionNode.hasEngineResultMappers() ? expressionNode : null;
     }
 
-    private static Object extractValue(Object value) {
+    static Object extractValue(Object value) {
         if (value instanceof Optional) {
             return ((Optional<?>) value).orElse(null);
         }
@@ -41,15 +41,17 @@ private static Object extractValue(Object value) {
 
     @Override
     public void process(Consumer<String> consumer) {
-        if (value != null) {
-            String result;
-            if (node != null) {
-                result = node.mapResult(value);
-            } else {
-                result = value.toString();
-            }
+        String result = toResult(value, node);
+        if (result != null) {
             consumer.accept(result);
         }
     }
 
+    static String toResult(Object value, ExpressionNode node) {
+        if (value == null) {
+            return null;
+        }
+        return node != null ? node.mapResult(value) : value.toString();
+    }
+
 }
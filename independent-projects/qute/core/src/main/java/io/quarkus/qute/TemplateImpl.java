@@ -13,9 +13,7 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -36,6 +34,9 @@ class TemplateImpl implements Template {
     final SectionNode root;
     private final List<ParameterDeclaration> parameterDeclarations;
     private final LazyValue<Map<String, Fragment>> fragments;
+    // The generated renderer and the rendered root nodes, may be null
+    private final TemplateRenderer renderer;
+    private final List<TemplateNode> renderedNodes;
 
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
@@ -51,6 +52,9 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        TemplateRenderer renderer = initRenderer(root);
+        this.renderer = renderer;
+        this.renderedNodes = renderer != null ? TemplateRenderer.renderedNodes(getNodes()) : null;
     }
 
     @Override
@@ -124,6 +128,30 @@ public SectionNode getRootNode() {
         return root;
     }
 
+    private TemplateRenderer initRenderer(SectionNode section) {
+        if (!section.name.equals(Parser.ROOT_HELPER_NAME)) {
+            // Fragments are always interpreted
+            return null;
+        }
+        TemplateRenderer renderer = engine.templateRenderers.get(templateId);
+        if (renderer == null) {
+            return null;
+        }
+        List<TemplateNode> nodes = TemplateRenderer.renderedNodes(getNodes());
+        if (!renderer.getSignature().equals(TemplateRenderer.signature(nodes))) {
+            // E.g. the standalone lines are not removed at runtime
+            LOG.debugf("Generated renderer not used for %s: the template was parsed differently", templateId);
+            return null;
+        }
+        for (TemplateNode node : nodes) {
+            if (node instanceof ExpressionNode expression && expression.isTraceLevel()) {
+                // Keep the tracing of the resolution of expressions
+                return null;
+            }
+        }
+        return renderer;
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -165,20 +193,21 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
         @Override
         public String render() {
             long timeout = getTimeout();
+            // The calling thread is blocked anyway, so the nodes are rendered directly instead of building a result tree
+            StringBuilder builder = new StringBuilder(getCapacity());
+            DirectRenderer directRenderer = new DirectRenderer(builder, timeout, () -> newTimeoutException(timeout));
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException(e);
-            } catch (TimeoutException e) {
-                throw newTimeoutException(timeout);
-            } catch (ExecutionException e) {
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
+                if (renderer != null) {
+                    directRenderer.render(renderer, root, renderedNodes, newRootContext(data()));
                 } else {
-                    throw new IllegalStateException(e.getCause());
+                    directRenderer.render(root, newRootContext(data()));
                 }
+            } finally {
+                runRenderedActions();
             }
+            String str = builder.toString();
+            capacity.update(str.length());
+            return str;
         }
 
         @Override
@@ -270,13 +299,12 @@ private int getCapacityAttributeValue() {
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
             CompletableFuture<Void> result = new CompletableFuture<>();
-            ResolutionContext rootContext = new ResolutionContextImpl(data,
-                    engine.getEvaluator(), null, this);
-            setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            root.resolve(newRootContext(data)).whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
+                    // Run the actions also if the resolution failed, like render() does
+                    runRenderedActions();
                 } else {
                     // Sync processing of the result tree - build the output
                     try {
@@ -285,22 +313,32 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
             });
             return result;
         }
 
+        private ResolutionContext newRootContext(Object data) {
+            ResolutionContext rootContext = new ResolutionContextImpl(data,
+                    engine.getEvaluator(), null, this);
+            setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            return rootContext;
+        }
+
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -0,0 +1,127 @@
+package io.quarkus.qute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders the root nodes of a specific template with code generated for this template, e.g. at build time for a type-safe
+ * template.
+ * <p>
+ * A renderer is only used by the blocking {@link TemplateInstance#render()} of the template with the id returned by
+ * {@link #getTemplateId()}, and only if the {@link #getSignature() signature} matches the nodes of the parsed template. The
+ * generated code renders the nodes it supports and delegates the other nodes to the interpreter, see
+ * {@link Output#interpret(int)}.
+ * <p>
+ * The nodes are identified by the index in the list of the {@link #renderedNodes(List) rendered root nodes}.
+ *
+ * @see EngineBuilder#addTemplateRenderer(TemplateRenderer)
+ */
+public interface TemplateRenderer {
+
+    /**
+     *
+     * @return the id of the template
+     */
+    String getTemplateId();
+
+    /**
+     *
+     * @return the signature of the rendered root nodes the code was generated for
+     * @see #signature(List)
+     */
+    String getSignature();
+
+    /**
+     * Renders the root nodes of the template. The generated code must return immediately once a method of the output
+     * returns {@code false}.
+     *
+     * @param output
+     */
+    void render(Output output);
+
+    /**
+     * Parameter declarations and comments are ignored because they output nothing; the parameter declarations added by a
+     * {@link ParserHook} during validation are not present at runtime.
+     *
+     * @param nodes the root nodes of a template
+     * @return the root nodes that are rendered
+     * @see Template#getNodes()
+     */
+    static List<TemplateNode> renderedNodes(List<TemplateNode> nodes) {
+        List<TemplateNode> rendered = new ArrayList<>(nodes.size());
+        for (TemplateNode node : nodes) {
+            if (Parser.isDummyNode(node)) {
+                continue;
+            }
+            if (node.isText() || node.isExpression() || node.isSection()) {
+                rendered.add(node);
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * The signature contains the kind of each rendered node and the original value of the expressions, e.g.
+     * {@code T{item.name}T#T}.
+     *
+     * @param renderedNodes
+     * @return the signature of the rendered root nodes
+     * @see #renderedNodes(List)
+     */
+    static String signature(List<TemplateNode> renderedNodes) {
+        StringBuilder signature = new StringBuilder();
+        for (TemplateNode node : renderedNodes) {
+            if (node.isText()) {
+                signature.append('T');
+            } else if (node.isExpression()) {
+                signature.append(node.asExpression().expression.toOriginalString());
+            } else {
+                signature.append('#');
+            }
+        }
+        return signature.toString();
+    }
+
+    /**
+     * The output of a generated renderer.
+     */
+    interface Output {
+
+        /**
+         * Appends the value of the text node.
+         *
+         * @param index
+         */
+        void text(int index);
+
+        /**
+         *
+         * @param key
+         * @return the value of the template instance data with the given key, or {@link Results.NotFound#EMPTY} if no such
+         *         data exists
+         * @see TemplateInstance#data(String, Object)
+         */
+        Object data(String key);
+
+        /**
+         * Appends the value of the expression node, like the interpreter does for the result of the expression.
+         *
+         * @param index
+         * @param value
+         * @return {@code true} if the value was appended, {@code false} if the value is not resolved yet, in which case the
+         *         rest of the nodes is rendered by the interpreter
+         */
+        boolean value(int index, Object value);
+
+        /**
+         * Renders the node with the interpreter.
+         *
+         * @param index
+         * @return {@code true} if the node was rendered, {@code false} if the node is not resolved yet, in which case the
+         *         rest of the nodes is rendered by the interpreter
+         */
+        boolean interpret(int index);
+
+    }
+
+}
@@ -0,0 +1,231 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class DirectRenderingTest {
+
+    @Test
+    public void testAsyncValues() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Integer.class).applyToName("delayed")
+                        .resolveAsync(ec -> delayed(ec.getBase())).build())
+                .build();
+        Template template = engine.parse(
+                "{#for i in items}{#if i.delayed > 1}{#let val=i.delayed}[{val}]{/let}{#else}{i.delayed}{/if}{/for}");
+        List<Integer> items = List.of(1, 2, 3, 4);
+        assertEquals("1[2][3][4]", template.data("items", items).render());
+        assertEquals("1[2][3][4]", template.data("items", items).renderAsync().toCompletableFuture().join());
+        assertEquals("1[2][3][4]", template.data("items", delayed(items)).render());
+    }
+
+    @Test
+    public void testInclude() {
+        Engine engine = Engine.builder().addDefaults().build();
+        engine.putTemplate("item", engine.parse("<{it}>{#insert suffix}!{/insert}"));
+        Template template = engine.parse("{#for i in items}{#include item it=i /}{#include item it=i}{#suffix}?{/suffix}"
+                + "{/include}{/for}");
+        assertEquals("<a>!<a>?<b>!<b>?", template.data("items", delayed(List.of("a", "b"))).render());
+    }
+
+    @Test
+    public void testCustomSection() {
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new ReverseSectionHelper.Factory()).build();
+        Template template = engine.parse("{#for i in items}{#reverse}{i}{/reverse}{/for}");
+        assertEquals("dcba", engine.parse("{#reverse}{#for i in items}{i}{/for}{/reverse}")
+                .data("items", List.of("a", "b", "c", "d")).render());
+        assertEquals("abcd", template.data("items", List.of("a", "b", "c", "d")).render());
+    }
+
+    @Test
+    public void testAsyncValuesAreResolvedConcurrently() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Integer.class).applyToName("slow")
+                        .resolveAsync(ec -> delayed(ec.getBase(), 300)).build())
+                .build();
+        Template template = engine.parse("<{#for i in items}{i.slow},{#if i.slow > 2}{i}{/if}{/for}>");
+        // the values would time out if they were resolved one after another
+        assertEquals("<1,2,3,34,4>", template.data("items", List.of(1, 2, 3, 4))
+                .setAttribute(TemplateInstance.TIMEOUT, 1000).render());
+    }
+
+    @Test
+    public void testTimeout() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Integer.class).applyToName("never")
+                        .resolveAsync(ec -> new CompletableFuture<>()).build())
+                .build();
+        TemplateException e = assertThrows(TemplateException.class,
+                () -> engine.parse("{#for i in items}{i}{i.never}{/for}").data("items", List.of(1, 2))
+                        .setAttribute(TemplateInstance.TIMEOUT, 100).render());
+        assertTrue(e.getMessage().contains("rendering timeout [100ms] occured"), e.getMessage());
+    }
+
+    @Test
+    public void testErrorWrapping() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Integer.class).applyToName("fail")
+                        .resolveSync(ec -> {
+                            throw new IllegalStateException("Failed: " + ec.getBase());
+                        }).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Integer.class).applyToName("delayed")
+                        .resolveAsync(ec -> delayed(ec.getBase())).build())
+                .build();
+        // a failure in a block of multiple nodes is wrapped once, as by the interpreter
+        assertWrappedOnce(engine.parse("{#for i in items}{#if i > 1}{i}:{i.fail}{/if}{/for}"));
+        assertWrappedOnce(engine.parse("{#for i in items}{#let x=i}{#if x > 1}{x}:{x.fail}{/if}{/let}{/for}"));
+        // the same once the rest of the template is resolved asynchronously
+        assertWrappedOnce(engine.parse("{#for i in items}{i.delayed}{#if i > 1}{i}:{i.fail}{/if}{/for}"));
+        assertWrappedOnce(engine.parse("{#for i in items}{i.fail}{/for}"));
+    }
+
+    @Test
+    public void testTemplateRenderer() {
+        HelloRenderer renderer = new HelloRenderer();
+        Engine engine = Engine.builder().addDefaults().addTemplateRenderer(renderer)
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Integer.class).applyToName("delayed")
+                        .resolveAsync(ec -> delayed(ec.getBase())).build())
+                .build();
+        Template template = engine.parse("Hello {name}!{#for i in items}{i}{/for}{name}", null, "hello");
+        // the renderer outputs the name in upper case
+        assertEquals("Hello FOO!12foo", template.data("name", "foo").data("items", List.of(1, 2)).render());
+        assertEquals(1, renderer.rendered.get());
+        // the non-blocking API is always interpreted
+        assertEquals("Hello foo!12foo", template.data("name", "foo").data("items", List.of(1, 2)).renderAsync()
+                .toCompletableFuture().join());
+        assertEquals(1, renderer.rendered.get());
+        // the rest of the template is interpreted once a node is not resolved synchronously
+        assertEquals("Hello FOO!12foo",
+                engine.parse("Hello {name}!{#for i in items}{i.delayed}{/for}{name}", null, "hello").data("name", "foo")
+                        .data("items", List.of(1, 2)).render());
+        // the nodes that the renderer does not support are interpreted
+        assertEquals("Hello 1!121", template.data("name", 1).data("items", List.of(1, 2)).render());
+        assertEquals(3, renderer.rendered.get());
+        // the renderer is not used if the nodes do not match
+        assertEquals("Hello foo!", engine.parse("Hello {name}!", null, "hello").data("name", "foo").render());
+        assertEquals(3, renderer.rendered.get());
+    }
+
+    @Test
+    public void testRenderedActions() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Integer.class).applyToName("fail")
+                        .resolveSync(ec -> {
+                            throw new IllegalStateException("Failed: " + ec.getBase());
+                        }).build())
+                .build();
+        Template template = engine.parse("{#for i in items}{i.fail}{/for}");
+        AtomicInteger rendered = new AtomicInteger();
+        assertThrows(TemplateException.class,
+                () -> template.data("items", List.of(1, 2)).onRendered(rendered::incrementAndGet).render());
+        assertEquals(1, rendered.get());
+        // the same if the template is rendered asynchronously
+        assertThrows(CompletionException.class,
+                () -> template.data("items", List.of(1, 2)).onRendered(rendered::incrementAndGet).renderAsync()
+                        .toCompletableFuture().join());
+        assertEquals(2, rendered.get());
+    }
+
+    private static void assertWrappedOnce(Template template) {
+        TemplateException e = assertThrows(TemplateException.class, () -> template.data("items", List.of(1, 2)).render());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().startsWith("Failed: "));
+        // the interpreter fails with the same exception
+        CompletionException async = assertThrows(CompletionException.class,
+                () -> template.data("items", List.of(1, 2)).renderAsync().toCompletableFuture().join());
+        assertEquals(e.getClass(), async.getCause().getClass());
+        assertEquals(e.getCause().getClass(), async.getCause().getCause().getClass());
+    }
+
+    private static <T> CompletableFuture<T> delayed(T value) {
+        return delayed(value, 10);
+    }
+
+    private static <T> CompletableFuture<T> delayed(T value, long delay) {
+        return CompletableFuture.supplyAsync(() -> value,
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Renders {@code Hello {name}!{#for i in items}{i}{/for}{name}} like a generated renderer, the first name is output in
+     * upper case.
+     */
+    static class HelloRenderer implements TemplateRenderer {
+
+        final AtomicInteger rendered = new AtomicInteger();
+
+        @Override
+        public String getTemplateId() {
+            return "hello";
+        }
+
+        @Override
+        public String getSignature() {
+            return "T{name}T#{name}";
+        }
+
+        @Override
+        public void render(Output output) {
+            rendered.incrementAndGet();
+            output.text(0);
+            if (output.data("name") instanceof String name) {
+                if (!output.value(1, name.toUpperCase())) {
+                    return;
+                }
+            } else if (!output.interpret(1)) {
+                return;
+            }
+            output.text(2);
+            if (!output.interpret(3)) {
+                return;
+            }
+            output.value(4, output.data("name"));
+        }
+
+    }
+
+    /**
+     * Outputs the results of the iterations of the nested loop in reverse order.
+     */
+    static class ReverseSectionHelper implements SectionHelper {
+
+        @Override
+        public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
+            return context.execute().thenApply(r -> {
+                List<String> parts = new ArrayList<>();
+                r.process(parts::add);
+                Collections.reverse(parts);
+                return new SingleResultNode(String.join("", parts));
+            });
+        }
+
+        static class Factory implements SectionHelperFactory<ReverseSectionHelper> {
+
+            @Override
+            public List<String> getDefaultAliases() {
+                return List.of("reverse");
+            }
+
+            @Override
+            public ReverseSectionHelper initialize(SectionInitContext context) {
+                return new ReverseSectionHelper();
+            }
+
+        }
+
+    }
+
+}
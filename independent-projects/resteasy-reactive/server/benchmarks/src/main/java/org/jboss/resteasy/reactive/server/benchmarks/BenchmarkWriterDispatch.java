@@ -0,0 +1,78 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.jboss.resteasy.reactive.common.core.Serialisers;
+import org.jboss.resteasy.reactive.common.core.UnmanagedBeanFactory;
+import org.jboss.resteasy.reactive.common.model.ResourceWriter;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the writer resolution done for every response of an endpoint that can't have its writers determined at
+ * build time, with the lookup in the dispatch table of {@link ServerSerialisers}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkWriterDispatch {
+
+    @Param({ "java.lang.String", "java.util.ArrayList" })
+    public String entityType;
+
+    @Param({ "text/plain", "application/json" })
+    public String mediaType;
+
+    private ServerSerialisers serialisers;
+    private Class<?> entityClass;
+    private MediaType resolvedMediaType;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        serialisers = new ServerSerialisers();
+        for (Serialisers.BuiltinWriter builtinWriter : ServerSerialisers.BUILTIN_WRITERS) {
+            MessageBodyWriter<?> writer;
+            try {
+                writer = builtinWriter.writerClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                // some of the builtin writers need to be injected by the container
+                continue;
+            }
+            serialisers.addWriter(builtinWriter.entityClass, new ResourceWriter()
+                    .setFactory(new UnmanagedBeanFactory<>(writer))
+                    .setMediaTypeStrings(List.of(builtinWriter.mediaType))
+                    .setConstraint(builtinWriter.constraint));
+        }
+        entityClass = Class.forName(entityType);
+        resolvedMediaType = MediaType.valueOf(mediaType);
+    }
+
+    @Benchmark
+    public MessageBodyWriter<?>[] findWriters() {
+        return serialisers.findWriters(null, entityClass, resolvedMediaType, RuntimeType.SERVER)
+                .toArray(ServerSerialisers.NO_WRITER);
+    }
+
+    @Benchmark
+    public MessageBodyWriter<?>[] findServerWriters() {
+        return serialisers.findServerWriters(entityClass, resolvedMediaType);
+    }
+}
@@ -157,6 +157,7 @@
     private OutputStream underlyingOutputStream;
     private FormData formData;
     private boolean producesChecked;
+    private boolean requestScopeSkipped;
 
     private RequestMapper.RequestMatch<RestInitialHandler.InitialMatch> initialMatch;
 
@@ -228,7 +229,10 @@ public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHa
      * @return true if a restart occurred
      */
     public boolean restartWithNextInitialMatch() {
-        initialMatch = new RequestMapper<>(deployment.getClassMappers()).continueMatching(getPathWithoutPrefix(), initialMatch);
+        if (initialMatch == null) {
+            return false;
+        }
+        initialMatch = initialMatch.continueMatching(getPathWithoutPrefix());
         if (initialMatch == null) {
             return false;
         }
@@ -704,6 +708,33 @@ protected void handleRequestScopeActivation() {
         CurrentRequestManager.set(this);
     }
 
+    /**
+     * Ensures the CDI request scope is running if the current target needs it.
+     * <p>
+     * Targets that were determined at build time to not depend on the request scope are invoked without activating it.
+     * Anything that explicitly calls {@link #requireCDIRequestScope()}, such as filters, security checks or exception
+     * mappers, still activates the request scope for the rest of the request.
+     */
+    public void requireCDIRequestScopeForTarget() {
+        RuntimeResource target = this.target;
+        if (target != null && !target.isRequestScopeRequired() && isRequestScopeManagementRequired()) {
+            if (!requestScopeSkipped) {
+                requestScopeSkipped = true;
+                handleRequestScopeSkipped();
+            }
+            return;
+        }
+        requireCDIRequestScope();
+    }
+
+    /**
+     * Invoked once per request when the request scope is not activated for the current target, so that the request
+     * can still be made available to code that looks it up without depending on the request scope.
+     */
+    protected void handleRequestScopeSkipped() {
+
+    }
+
     @Override
     protected void requestScopeDeactivated() {
         CurrentRequestManager.set(null);
@@ -179,6 +179,83 @@ public List<ResourceWriter> apply(Class<?> aClass) {
             return writers;
         }
     };
+    private final ConcurrentMap<Class<?>, WriterDispatchTable> writerDispatchTables = new ConcurrentHashMap<>();
+    private final Function<Class<?>, WriterDispatchTable> dispatchTableFunction = new Function<Class<?>, WriterDispatchTable>() {
+        @Override
+        public WriterDispatchTable apply(Class<?> aClass) {
+            return new WriterDispatchTable();
+        }
+    };
+
+    @Override
+    public <T> void addWriter(Class<T> entityClass, ResourceWriter writer) {
+        super.addWriter(entityClass, writer);
+        writerDispatchTables.clear();
+    }
+
+    /**
+     * Returns the same writers as {@code findWriters(null, entityType, mediaType, RuntimeType.SERVER)}, but the
+     * result is remembered per entity type and media type, so that endpoints which can't have their writers
+     * determined at build time (polymorphic return types, {@link Response}, multiple produced media types) only pay
+     * for the writer lookup once per type they actually return.
+     */
+    public MessageBodyWriter<?>[] findServerWriters(Class<?> entityType, MediaType mediaType) {
+        if (mediaType == null) {
+            return findWriters(null, entityType, null, RuntimeType.SERVER).toArray(NO_WRITER);
+        }
+        WriterDispatchTable table = writerDispatchTables.computeIfAbsent(entityType, dispatchTableFunction);
+        MessageBodyWriter<?>[] result = table.get(mediaType);
+        if (result == null) {
+            result = findWriters(null, entityType, mediaType, RuntimeType.SERVER).toArray(NO_WRITER);
+            table.put(mediaType, result);
+        }
+        return result;
+    }
+
+    /**
+     * The writers resolved for a single entity type, keyed by media type.
+     * <p>
+     * An entity type is only ever written with a handful of media types, so this is a copy-on-write array that is
+     * scanned linearly. The media type can come from the client, so the number of entries is capped, and anything
+     * above that is simply not cached.
+     */
+    static final class WriterDispatchTable {
+
+        static final int MAX_ENTRIES = 16;
+
+        private volatile Entry[] entries = new Entry[0];
+
+        MessageBodyWriter<?>[] get(MediaType mediaType) {
+            Entry[] entries = this.entries;
+            for (int i = 0; i < entries.length; i++) {
+                Entry current = entries[i];
+                if (current.mediaType == mediaType || current.mediaType.equals(mediaType)) {
+                    return current.writers;
+                }
+            }
+            return null;
+        }
+
+        synchronized void put(MediaType mediaType, MessageBodyWriter<?>[] writers) {
+            Entry[] entries = this.entries;
+            if (entries.length >= MAX_ENTRIES || get(mediaType) != null) {
+                return;
+            }
+            Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = new Entry(mediaType, writers);
+            this.entries = newEntries;
+        }
+
+        private static final class Entry {
+            final MediaType mediaType;
+            final MessageBodyWriter<?>[] writers;
+
+            Entry(MediaType mediaType, MessageBodyWriter<?>[] writers) {
+                this.mediaType = mediaType;
+                this.writers = writers;
+            }
+        }
+    }
 
     public static boolean invokeWriter(ResteasyReactiveRequestContext context, Object entity, MessageBodyWriter writer,
             ServerSerialisers serialisers)
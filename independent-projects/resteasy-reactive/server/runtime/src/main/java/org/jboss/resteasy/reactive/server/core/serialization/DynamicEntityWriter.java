@@ -23,8 +23,6 @@
  */
 public class DynamicEntityWriter implements EntityWriter {
 
-    private static final MessageBodyWriter<?>[] EMPTY_ARRAY = new MessageBodyWriter[0];
-
     private final ServerSerialisers serialisers;
 
     public DynamicEntityWriter(ServerSerialisers serialisers) {
@@ -56,10 +54,10 @@ public void write(ResteasyReactiveRequestContext context, Object entity) throws
                             .negotiateProduces(vertxRequest.getRequestHeader(HttpHeaders.ACCEPT)).getKey();
                 }
 
-                List<MessageBodyWriter<?>> writersList = serialisers.findWriters(null, entity.getClass(), negotiatedMediaType,
-                        RuntimeType.SERVER);
-                if (!writersList.isEmpty()) {
-                    writers = writersList.toArray(EMPTY_ARRAY);
+                MessageBodyWriter<?>[] negotiatedWriters = serialisers.findServerWriters(entity.getClass(),
+                        negotiatedMediaType);
+                if (negotiatedWriters.length > 0) {
+                    writers = negotiatedWriters;
                     // use the actual type the method declares as this is what the spec expects despite the fact that we might
                     // have used the suffix of the subtype to determine a MessageBodyWriter
                     MediaType[] sortedOriginalMediaTypes = producesServerMediaType.getSortedOriginalMediaTypes();
@@ -111,9 +109,7 @@ public void write(ResteasyReactiveRequestContext context, Object entity) throws
                 }
             }
         } else {
-            writers = serialisers
-                    .findWriters(null, entity.getClass(), producesMediaType.getMediaType(), RuntimeType.SERVER)
-                    .toArray(ServerSerialisers.NO_WRITER);
+            writers = serialisers.findServerWriters(entity.getClass(), producesMediaType.getMediaType());
         }
         for (MessageBodyWriter<?> w : writers) {
             if (ServerSerialisers.invokeWriter(context, entity, w, serialisers, serverSerializersMediaType)) {
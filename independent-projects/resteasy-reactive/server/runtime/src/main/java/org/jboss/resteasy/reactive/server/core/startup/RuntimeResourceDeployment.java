@@ -449,8 +449,18 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                         score.add(ScoreSystem.Category.Writer, ScoreSystem.Diagnostic.WriterNotRequired);
                     }
                 } else {
-                    //there are multiple possibilities
-                    //we could optimise this more in future
+                    //there are multiple possibilities, the media type is negotiated per request
+                    //but we can resolve the writers for each produced type up front, so the common
+                    //case of returning the declared type only needs a lookup in the dispatch table
+                    if (isNotVoid(rawEffectiveReturnType) && !rawEffectiveReturnType.isPrimitive()
+                            && !rawEffectiveReturnType.isInterface()
+                            && rawEffectiveReturnType != Object.class) {
+                        for (MediaType produced : serverMediaType.getSortedMediaTypes()) {
+                            if (!produced.isWildcardType() && !produced.isWildcardSubtype()) {
+                                serialisers.findServerWriters(rawEffectiveReturnType, produced);
+                            }
+                        }
+                    }
                     handlers.add(new VariableProducesHandler(serverMediaType, serialisers));
                     score.add(ScoreSystem.Category.Writer, ScoreSystem.Diagnostic.WriterRunTime);
                 }
@@ -499,7 +509,7 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                 effectiveReturnType, method.isBlocking(), method.isRunOnVirtualThread(), resourceClass,
                 lazyMethod,
                 pathParameterIndexes, info.isDevelopmentMode() ? score : null, streamElementType,
-                clazz.resourceExceptionMapper());
+                clazz.resourceExceptionMapper(), method.isRequestScopeRequired());
     }
 
     /**
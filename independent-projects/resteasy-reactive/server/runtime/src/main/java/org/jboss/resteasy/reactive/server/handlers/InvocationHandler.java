@@ -24,7 +24,7 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
         if (async) {
             requestContext.suspend();
         }
-        requestContext.requireCDIRequestScope();
+        requestContext.requireCDIRequestScopeForTarget();
         try {
             Object result = invoker.invoke(requestContext.getEndpointInstance(), requestContext.getParameters());
             if (!async) {
@@ -39,8 +39,9 @@ public ParameterHandler(int index, String defaultValue, ParameterExtractor extra
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
-        // needed because user provided ParamConverter classes could use request scoped CDI beans
-        requestContext.requireCDIRequestScope();
+        // needed because user provided ParamConverter classes could use request scoped CDI beans,
+        // which is taken into account when determining whether the target requires the request scope
+        requestContext.requireCDIRequestScopeForTarget();
         try {
             Object result = extractor.extractParameter(requestContext);
             if (result instanceof ParameterExtractor.ParameterCallback) {
@@ -47,7 +47,7 @@ public RequestDeserializeHandler(Class<?> type, Type genericType, List<MediaType
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
-        requestContext.requireCDIRequestScope();
+        requestContext.requireCDIRequestScopeForTarget();
         MediaType effectiveRequestType = null;
         Object requestType = requestContext.getHeader(HttpHeaders.CONTENT_TYPE, true);
         if (requestType != null) {
@@ -121,7 +121,7 @@ private boolean isReadable(MessageBodyReader<?> reader, ResteasyReactiveRequestC
     @SuppressWarnings("unchecked")
     public Object readFrom(MessageBodyReader<?> reader, ResteasyReactiveRequestContext requestContext, MediaType requestType)
             throws IOException {
-        requestContext.requireCDIRequestScope();
+        requestContext.requireCDIRequestScopeForTarget();
         if (reader instanceof ServerMessageBodyReader) {
             return ((ServerMessageBodyReader<?>) reader).readFrom((Class) type, genericType, requestType, requestContext);
         }
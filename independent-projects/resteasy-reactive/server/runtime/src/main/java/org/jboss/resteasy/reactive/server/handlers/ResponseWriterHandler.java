@@ -24,7 +24,7 @@ public ResponseWriterHandler(DynamicEntityWriter dynamicEntityWriter) {
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
-        requestContext.requireCDIRequestScope();
+        requestContext.requireCDIRequestScopeForTarget();
         Object entity = requestContext.getResponseEntity();
         if (entity != null && !requestContext.getMethod().equals(HEAD)) {
             EntityWriter entityWriter = requestContext.getEntityWriter();
@@ -3,7 +3,6 @@
 import java.util.List;
 
 import jakarta.ws.rs.NotAcceptableException;
-import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
@@ -64,13 +63,13 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
         if (MediaTypeHelper.isUnsupportedWildcardSubtype(res)) { // spec says the acceptable wildcard subtypes are */* or application/*
             throw new NotAcceptableException();
         }
-        List<MessageBodyWriter<?>> writers = serialisers.findWriters(null, entity.getClass(), res, RuntimeType.SERVER);
-        if (writers == null || writers.isEmpty()) {
+        MessageBodyWriter<?>[] writers = serialisers.findServerWriters(entity.getClass(), res);
+        if (writers.length == 0) {
             throw new WebApplicationException(Response
                     .notAcceptable(Variant.mediaTypes(mediaTypeList.getSortedMediaTypes()).build())
                     .build());
         }
         requestContext.setResponseContentType(res);
-        requestContext.setEntityWriter(new FixedEntityWriterArray(writers.toArray(EMPTY), serialisers));
+        requestContext.setEntityWriter(new FixedEntityWriterArray(writers, serialisers));
     }
 }
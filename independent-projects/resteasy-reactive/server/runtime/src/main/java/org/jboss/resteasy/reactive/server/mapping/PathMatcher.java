@@ -1,9 +1,9 @@
 package org.jboss.resteasy.reactive.server.mapping;
 
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Handler that dispatches to a given handler based of a prefix match of the path.
@@ -20,42 +20,103 @@
 
     private final T defaultHandler;
     private final SubstringMap<T> paths;
-    private final int[] lengths;
+    private final Node<T> root;
 
-    PathMatcher(T defaultHandler, SubstringMap<T> paths, int[] lengths) {
+    PathMatcher(T defaultHandler, SubstringMap<T> paths, Node<T> root) {
         this.defaultHandler = defaultHandler;
         this.paths = paths;
-        this.lengths = lengths;
+        this.root = root;
     }
 
     /**
      * Matches a path against the registered handlers.
+     * <p>
+     * The longest registered prefix of the path is found with a single walk of a character trie built from all the
+     * registered prefixes, so the cost of a match does not depend on the number of registered prefixes.
      *
      * @param path The relative path to match
      * @return The match match. This will never be null, however if none matched its value field will be
      */
     PathMatch<T> match(String path) {
         int length = path.length();
-        final int[] lengths = this.lengths;
-        for (int i = 0; i < lengths.length; ++i) {
-            int pathLength = lengths[i];
-            if (pathLength == length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, length);
-                if (next != null) {
-                    return new PathMatch<>(path, "", next.getValue());
-                }
-            } else if (pathLength < length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
-                if (next != null) {
-                    return new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue());
-                }
+        Node<T> node = root;
+        Node<T> best = null;
+        int bestLength = 0;
+        for (int i = 0; i < length; ++i) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                break;
             }
+            if (node.key != null) {
+                best = node;
+                bestLength = i + 1;
+            }
+        }
+        if (best == null) {
+            return defaultMatch(path);
         }
-        return defaultMatch(path);
+        if (bestLength == length) {
+            return new PathMatch<>(path, path, length, best.value);
+        }
+        return new PathMatch<>(best.key, path, bestLength, best.value);
     }
 
     PathMatch<T> defaultMatch(String path) {
-        return new PathMatch<>("/", path, defaultHandler);
+        return new PathMatch<>("/", path, 0, defaultHandler);
+    }
+
+    /**
+     * A node of the prefix trie, the children are sorted by character so that they can be binary searched
+     */
+    static final class Node<T> {
+
+        private static final char[] NO_CHARS = new char[0];
+
+        final String key;
+        final T value;
+        private final char[] chars;
+        private final Node<T>[] children;
+
+        Node(String key, T value, char[] chars, Node<T>[] children) {
+            this.key = key;
+            this.value = value;
+            this.chars = chars;
+            this.children = children;
+        }
+
+        Node<T> child(char c) {
+            char[] chars = this.chars;
+            if (chars.length < 8) {
+                for (int i = 0; i < chars.length; ++i) {
+                    if (chars[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            int idx = Arrays.binarySearch(chars, c);
+            return idx < 0 ? null : children[idx];
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Node<T> build(String key, T value, TreeMap<Character, MutableNode<T>> mutableChildren) {
+            char[] chars = mutableChildren.isEmpty() ? NO_CHARS : new char[mutableChildren.size()];
+            Node<T>[] children = new Node[mutableChildren.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode<T>> entry : mutableChildren.entrySet()) {
+                chars[i] = entry.getKey();
+                MutableNode<T> child = entry.getValue();
+                children[i] = build(child.key, child.value, child.children);
+                i++;
+            }
+            return new Node<>(key, value, chars, children);
+        }
+    }
+
+    private static final class MutableNode<T> {
+        String key;
+        T value;
+        final TreeMap<Character, MutableNode<T>> children = new TreeMap<>();
     }
 
     static class Builder<T> {
@@ -92,44 +153,46 @@ void addPrefixPath(final String path, final T handler) {
             pathsBuilder.put(path, handler);
         }
 
-        private int[] buildLengths(SubstringMap<T> paths) {
-            final Set<Integer> lengths = new TreeSet<>(new Comparator<>() {
-                @Override
-                public int compare(Integer o1, Integer o2) {
-                    return -o1.compareTo(o2);
-                }
-            });
+        private Node<T> buildTrie(SubstringMap<T> paths) {
+            MutableNode<T> root = new MutableNode<>();
             for (String p : paths.keys()) {
-                lengths.add(p.length());
-            }
-
-            int[] lengthArray = new int[lengths.size()];
-            int pos = 0;
-            for (int i : lengths) {
-                lengthArray[pos++] = i;
+                MutableNode<T> node = root;
+                for (int i = 0; i < p.length(); ++i) {
+                    node = node.children.computeIfAbsent(p.charAt(i), c -> new MutableNode<>());
+                }
+                SubstringMap.SubstringMatch<T> match = paths.get(p);
+                node.key = match.getKey();
+                node.value = match.getValue();
             }
-            return lengthArray;
+            return Node.build(null, null, root.children);
         }
 
         public PathMatcher<T> build() {
             SubstringMap<T> paths = pathsBuilder.build();
-            return new PathMatcher<>(defaultHandler, paths, buildLengths(paths));
+            return new PathMatcher<>(defaultHandler, paths, buildTrie(paths));
         }
     }
 
     public static final class PathMatch<T> {
         private final String matched;
-        private final String remaining;
+        private final String path;
+        private final int matchedLength;
         private final T value;
 
         public PathMatch(String matched, String remaining, T value) {
+            this(matched, remaining, 0, value);
+        }
+
+        PathMatch(String matched, String path, int matchedLength, T value) {
             this.matched = matched;
-            this.remaining = remaining;
+            this.path = path;
+            this.matchedLength = matchedLength;
             this.value = value;
         }
 
         public String getRemaining() {
-            return remaining;
+            // only computed on demand, as the request mapping does not need it
+            return matchedLength == 0 ? path : path.substring(matchedLength);
         }
 
         public String getMatched() {
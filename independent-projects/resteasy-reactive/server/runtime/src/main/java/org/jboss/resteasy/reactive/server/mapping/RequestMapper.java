@@ -67,6 +67,10 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
         if (lastMatch == null) {
             return null;
         }
+        if (lastMatch.mapper == this) {
+            // resume right after the last match, there is no need to match the path again
+            return mapFromPathMatcher(path, lastMatch.pathMatch, lastMatch.index + 1);
+        }
 
         var initialMatches = requestPaths.match(path);
         var result = mapFromPathMatcher(path, initialMatches, 0);
@@ -112,9 +116,10 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
             return null;
         }
         int pathLength = path.length();
+        // the same array is used for all the candidates, it only escapes when a match is found
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
         for (int index = startIdx; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
@@ -124,19 +129,38 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
                     // exclude any path end slash when matching a subdir, but include it in the matched length
                     boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
+                    if (segment.simpleRegexParts != null) {
+                        int inputLength = endSlash ? pathLength - 1 : pathLength;
+                        boolean anchorEnd = !potentialMatch.template.prefixMatch;
+                        int end = matchSimpleRegex(segment.simpleRegexParts, 0, path, inputLength, matchPos, anchorEnd,
+                                params, paramCount);
+                        if (end < 0) {
+                            // same as the regex path below: a match found further in the path does not reject the
+                            // candidate, which can then still be a prefix match
+                            if ((matchPos != 1 && (matchPos == pathLength || path.charAt(matchPos) != '/'))
+                                    || !hasSimpleRegexMatchAfter(segment.simpleRegexParts, path, inputLength, matchPos,
+                                            anchorEnd, params, paramCount)) {
+                                matched = false;
+                            }
+                            break;
+                        }
+                        matchPos = end;
+                        paramCount += segment.groups.length;
+                    } else {
+                        Matcher matcher = segment.pattern.matcher(
+                                endSlash ? path.substring(0, path.length() - 1) : path);
+                        matched = matcher.find(matchPos);
+                        if (!matched || matcher.start() != matchPos) {
+                            break;
+                        }
+                        matchPos = matcher.end();
+                        for (String group : segment.groups) {
+                            params[paramCount++] = matcher.group(group);
+                        }
                     }
-                    matchPos = matcher.end();
                     if (endSlash) {
                         matchPos++;
                     }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
                     if (matchPos + segment.literalText.length() > pathLength) {
@@ -167,9 +191,6 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
             if (!matched) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -191,12 +212,80 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                         remaining = path.substring(matchPos);
                     }
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                // a previous candidate may have left values behind
+                for (int i = paramCount; i < params.length; ++i) {
+                    params[i] = null;
+                }
+                RequestMatch<T> result = new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                result.mapper = this;
+                result.pathMatch = initialMatches;
+                result.index = index;
+                return result;
             }
         }
         return null;
     }
 
+    /**
+     * Matches a sequence of literals and default path parameters ({@code [^/]+?}) starting at the given position,
+     * exactly like the equivalent regex would, but without having to create a {@link Matcher}.
+     *
+     * @return the end of the match, or {@code -1} if there is no match
+     */
+    private static int matchSimpleRegex(String[] parts, int partIdx, String path, int end, int pos, boolean anchorEnd,
+            String[] params, int paramIdx) {
+        if (partIdx == parts.length) {
+            return !anchorEnd || isRegexEnd(path, end, pos) ? pos : -1;
+        }
+        String part = parts[partIdx];
+        if (part != null) {
+            if (pos + part.length() > end || !path.startsWith(part, pos)) {
+                return -1;
+            }
+            return matchSimpleRegex(parts, partIdx + 1, path, end, pos + part.length(), anchorEnd, params, paramIdx);
+        }
+        // reluctant quantifier, so try the shortest parameter value first
+        for (int paramEnd = pos + 1; paramEnd <= end && path.charAt(paramEnd - 1) != '/'; ++paramEnd) {
+            int result = matchSimpleRegex(parts, partIdx + 1, path, end, paramEnd, anchorEnd, params, paramIdx + 1);
+            if (result >= 0) {
+                params[paramIdx] = path.substring(pos, paramEnd);
+                return result;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasSimpleRegexMatchAfter(String[] parts, String path, int end, int pos, boolean anchorEnd,
+            String[] params, int paramIdx) {
+        for (int start = pos + 1; start < end; ++start) {
+            if (matchSimpleRegex(parts, 0, path, end, start, anchorEnd, params, paramIdx) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The semantics of {@code $} in a {@link java.util.regex.Pattern} without flags: the end of the input, or before
+     * a line terminator that ends the input.
+     */
+    private static boolean isRegexEnd(String path, int end, int pos) {
+        if (pos == end) {
+            return true;
+        }
+        if (pos == end - 2) {
+            return path.charAt(pos) == '\r' && path.charAt(pos + 1) == '\n';
+        }
+        if (pos == end - 1) {
+            char c = path.charAt(pos);
+            if (c == '\n') {
+                return pos == 0 || path.charAt(pos - 1) != '\r';
+            }
+            return c == '\r' || c == '\u0085' || (c | 1) == '\u2029';
+        }
+        return false;
+    }
+
     public static class RequestPath<T> implements Dumpable, Comparable<RequestPath<T>> {
         public final boolean prefixTemplate;
         public final URITemplate template;
@@ -241,6 +330,11 @@ public int compareTo(RequestPath<T> o) {
         public final String[] pathParamValues;
         public final String remaining;
 
+        // where this match was found, so that the matching can be resumed from there
+        RequestMapper<T> mapper;
+        PathMatcher.PathMatch<ArrayList<RequestPath<T>>> pathMatch;
+        int index;
+
         public RequestMatch(URITemplate template, T value, String[] pathParamValues, String remaining) {
             this.template = template;
             this.value = value;
@@ -248,6 +342,17 @@ public RequestMatch(URITemplate template, T value, String[] pathParamValues, Str
             this.remaining = remaining;
         }
 
+        /**
+         * Continue matching for the next best path starting from this match.
+         *
+         * @param path the path this match was found for
+         * @return another RequestMatch, or null if all matches are exhausted.
+         * @see RequestMapper#continueMatching(String, RequestMatch)
+         */
+        public RequestMatch<T> continueMatching(String path) {
+            return mapper == null ? null : mapper.continueMatching(path, this);
+        }
+
         @Override
         public String toString() {
             return "RequestMatch{ value: " + value + ", template: " + template + ", pathParamValues: "
@@ -37,6 +37,7 @@ public class RuntimeResource {
     private final Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score;
     private final MediaType streamElementType;
     private final Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwable>> classExceptionMappers;
+    private final boolean requestScopeRequired;
 
     public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPath, ServerMediaType produces,
             List<MediaType> consumes,
@@ -48,6 +49,23 @@ public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPat
             Map<String, Integer> pathParameterIndexes, Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score,
             MediaType streamElementType,
             Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwable>> classExceptionMappers) {
+        this(httpMethod, path, classPath, produces, consumes, invoker, endpointFactory, handlerChain, javaMethodName,
+                parameterTypes, returnType, blocking, runOnVirtualThread, resourceClass, lazyMethod, pathParameterIndexes,
+                score,
+                streamElementType, classExceptionMappers, true);
+    }
+
+    public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPath, ServerMediaType produces,
+            List<MediaType> consumes,
+            EndpointInvoker invoker,
+            BeanFactory<Object> endpointFactory, ServerRestHandler[] handlerChain, String javaMethodName,
+            Class<?>[] parameterTypes,
+            Type returnType, boolean blocking, boolean runOnVirtualThread, Class<?> resourceClass,
+            ResteasyReactiveResourceInfo lazyMethod,
+            Map<String, Integer> pathParameterIndexes, Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score,
+            MediaType streamElementType,
+            Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwable>> classExceptionMappers,
+            boolean requestScopeRequired) {
         this.httpMethod = httpMethod;
         this.path = path;
         this.classPath = classPath;
@@ -67,6 +85,7 @@ public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPat
         this.score = score;
         this.streamElementType = streamElementType;
         this.classExceptionMappers = classExceptionMappers;
+        this.requestScopeRequired = requestScopeRequired;
     }
 
     public ServerRestHandler[] getHandlerChain() {
@@ -109,6 +128,13 @@ public boolean isBlocking() {
         return blocking;
     }
 
+    /**
+     * @return {@code false} if the resource method can be invoked without activating the CDI request scope
+     */
+    public boolean isRequestScopeRequired() {
+        return requestScopeRequired;
+    }
+
     public boolean isRunOnVirtualThread() {
         return runOnVirtualThread;
     }
@@ -10,6 +10,8 @@ public class URITemplate implements Dumpable, Comparable<URITemplate> {
 
     private static final Pattern GROUP_NAME_PATTERN = Pattern.compile("^[A-Za-z][A-Za-z\\d]*$");
 
+    private static final String DEFAULT_PARAM_REGEX = "[^/]+?";
+
     public final String template;
 
     public final String stem;
@@ -71,8 +73,9 @@ public URITemplate(String template, boolean prefixMatch) {
                                         .add(new TemplateComponent(Type.DEFAULT_REGEX, null, sb.toString().trim(), null, null,
                                                 null));
                             } else {
-                                components.add(new TemplateComponent(Type.CUSTOM_REGEX, "[^/]+?", sb.toString().trim(),
-                                        null, null, null));
+                                components
+                                        .add(new TemplateComponent(Type.CUSTOM_REGEX, DEFAULT_PARAM_REGEX, sb.toString().trim(),
+                                                null, null, null));
                             }
                         } else {
                             throw new IllegalArgumentException("Invalid template " + template);
@@ -131,6 +134,8 @@ public URITemplate(String template, boolean prefixMatch) {
         List<String> groupAggregator = null;
         List<String> nameAggregator = null;
         StringBuilder regexAggregator = null;
+        // the literals and default path parameters (represented by null) of the regex, if it only consists of those
+        List<String> simpleRegexParts = null;
         Iterator<TemplateComponent> it = components.iterator();
         while (it.hasNext()) {
             TemplateComponent component = it.next();
@@ -139,12 +144,16 @@ public URITemplate(String template, boolean prefixMatch) {
                 regexAggregator = new StringBuilder();
                 groupAggregator = new ArrayList<>();
                 nameAggregator = new ArrayList<>();
+                simpleRegexParts = new ArrayList<>();
             }
 
             if (nameAggregator != null) {
                 it.remove();
                 if (component.type == Type.LITERAL) {
                     regexAggregator.append(Pattern.quote(component.literalText));
+                    if (simpleRegexParts != null) {
+                        simpleRegexParts.add(component.literalText);
+                    }
                 } else if (component.type == Type.DEFAULT_REGEX || component.type == Type.CUSTOM_REGEX) {
                     String groupName = component.name;
                     // test if the component name is a valid java groupname according to the rules outlined in java.util.Pattern#groupName
@@ -153,11 +162,18 @@ public URITemplate(String template, boolean prefixMatch) {
                         groupName = "group" + groupAggregator.size();
                     }
 
-                    String regex = "[^/]+?";
+                    String regex = DEFAULT_PARAM_REGEX;
 
                     if (component.type == Type.CUSTOM_REGEX) {
                         regex = component.literalText.trim();
                     }
+                    if (simpleRegexParts != null) {
+                        if (DEFAULT_PARAM_REGEX.equals(regex)) {
+                            simpleRegexParts.add(null);
+                        } else {
+                            simpleRegexParts = null;
+                        }
+                    }
 
                     groupAggregator.add(groupName + "");
                     regexAggregator.append("(?<").append(groupName).append(">")
@@ -172,7 +188,8 @@ public URITemplate(String template, boolean prefixMatch) {
                 regexAggregator.append("$");
             }
             components.add(new TemplateComponent(Type.CUSTOM_REGEX, null, null, Pattern.compile(regexAggregator.toString()),
-                    nameAggregator.toArray(new String[0]), groupAggregator.toArray(new String[0])));
+                    nameAggregator.toArray(new String[0]), groupAggregator.toArray(new String[0]),
+                    simpleRegexParts == null ? null : simpleRegexParts.toArray(new String[0])));
         }
         this.stem = stem;
         this.literalCharacterCount = litChars;
@@ -293,13 +310,26 @@ public static class TemplateComponent implements Dumpable {
          */
         public final String[] names;
 
+        /**
+         * When the CUSTOM_REGEX only consists of literals and path parameters using the default regex, the literals and
+         * the parameters (represented by {@code null}) in order, which allows matching them without using the pattern.
+         * Null otherwise.
+         */
+        public final String[] simpleRegexParts;
+
         public TemplateComponent(Type type, String literalText, String name, Pattern pattern, String[] names, String[] groups) {
+            this(type, literalText, name, pattern, names, groups, null);
+        }
+
+        public TemplateComponent(Type type, String literalText, String name, Pattern pattern, String[] names, String[] groups,
+                String[] simpleRegexParts) {
             this.type = type;
             this.literalText = literalText;
             this.name = name;
             this.pattern = pattern;
             this.names = names;
             this.groups = groups;
+            this.simpleRegexParts = simpleRegexParts;
         }
 
         @Override
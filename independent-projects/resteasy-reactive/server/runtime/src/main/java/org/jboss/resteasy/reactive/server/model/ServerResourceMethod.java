@@ -20,6 +20,7 @@ public class ServerResourceMethod extends ResourceMethod {
     private ParameterExtractor customerParameterExtractor;
     private String actualDeclaringClassName;
     private String classDeclMethodThatHasJaxRsEndpointDefiningAnn;
+    private boolean requestScopeRequired = true;
 
     public ServerResourceMethod() {
     }
@@ -101,4 +102,16 @@ public String getClassDeclMethodThatHasJaxRsEndpointDefiningAnn() {
     public void setClassDeclMethodThatHasJaxRsEndpointDefiningAnn(String classDeclMethodThatHasJaxRsEndpointDefiningAnn) {
         this.classDeclMethodThatHasJaxRsEndpointDefiningAnn = classDeclMethodThatHasJaxRsEndpointDefiningAnn;
     }
+
+    /**
+     * Returns whether the CDI request scope must be activated to invoke this method. This is {@code true} unless it was
+     * determined at build time that neither the resource nor anything it depends on uses the request scope.
+     */
+    public boolean isRequestScopeRequired() {
+        return requestScopeRequired;
+    }
+
+    public void setRequestScopeRequired(boolean requestScopeRequired) {
+        this.requestScopeRequired = requestScopeRequired;
+    }
 }
@@ -3,6 +3,7 @@
 import java.io.File;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.file.FileSystems;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,28 +40,48 @@ public void writeResponse(File o, Type genericType, ServerRequestContext context
     }
 
     static void sendFile(File file, ServerRequestContext context) {
+        sendFile(file.getAbsolutePath(), 0, file.length(), context);
+    }
+
+    /**
+     * Sends {@code count} bytes of the file starting at {@code offset}, honouring a single range {@code Range} header
+     * relative to that window.
+     * <p>
+     * The file is handed to the HTTP layer which uses {@code sendfile} when it can, and only copies the content through
+     * the pipeline when the response has to be encrypted or compressed.
+     */
+    static void sendFile(String path, long offset, long count, ServerRequestContext context) {
         ResteasyReactiveRequestContext ctx = ((ResteasyReactiveRequestContext) context);
         Object rangeObj = ctx.getHeader("Range", true);
         ByteRange byteRange = rangeObj == null ? null : ByteRange.parse(rangeObj.toString());
-        long fileLength = file.length();
         if ((byteRange != null) && (byteRange.ranges.size() == 1)) {
             ByteRange.Range range = byteRange.ranges.get(0);
 
             ByteRange.Range fileRange = (range.getStart() == -1)
-                    ? new ByteRange.Range(fileLength - range.getEnd(), fileLength - 1)
-                    : new ByteRange.Range(range.getStart(), Math.min(fileLength - 1, range.getEnd()));
+                    ? new ByteRange.Range(count - range.getEnd(), count - 1)
+                    : new ByteRange.Range(range.getStart(), Math.min(count - 1, range.getEnd()));
 
             if ((fileRange.getStart() >= 0) && (fileRange.getStart() <= fileRange.getEnd())) {
-                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + fileLength;
+                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + count;
                 long length = fileRange.getEnd() - fileRange.getStart() + 1;
                 context.serverResponse()
                         .setStatusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
                         .setResponseHeader("Content-Range", contentRange)
-                        .sendFile(file.getAbsolutePath(), fileRange.getStart(), length);
+                        .sendFile(path, offset + fileRange.getStart(), length);
                 return;
             }
         }
-        context.serverResponse().sendFile(file.getAbsolutePath(), 0, fileLength);
+        context.serverResponse()
+                .setResponseHeader("Accept-Ranges", "bytes")
+                .sendFile(path, offset, count);
+    }
+
+    /**
+     * {@code sendfile} needs a file on the default file system, paths of other file systems (e.g. a zip file system)
+     * have to be copied.
+     */
+    static boolean canSendFile(java.nio.file.Path path) {
+        return path.getFileSystem() == FileSystems.getDefault();
     }
 
     /**
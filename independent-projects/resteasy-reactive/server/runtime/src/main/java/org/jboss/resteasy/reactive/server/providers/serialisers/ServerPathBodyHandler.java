@@ -1,6 +1,7 @@
 package org.jboss.resteasy.reactive.server.providers.serialisers;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -8,6 +9,7 @@
 
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.resteasy.reactive.common.providers.serialisers.PathBodyHandler;
@@ -35,6 +37,15 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
     @Override
     public void writeResponse(java.nio.file.Path o, Type genericType, ServerRequestContext context)
             throws WebApplicationException {
-        ServerFileBodyHandler.sendFile(o.toFile(), context);
+        if (ServerFileBodyHandler.canSendFile(o)) {
+            ServerFileBodyHandler.sendFile(o.toFile(), context);
+            return;
+        }
+        try (OutputStream out = context.getOrCreateOutputStream()) {
+            context.serverResponse().setResponseHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(Files.size(o)));
+            doWrite(o, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package org.jboss.resteasy.reactive.server.providers.serialisers;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -8,12 +9,12 @@
 
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.resteasy.reactive.PathPart;
 import org.jboss.resteasy.reactive.common.providers.serialisers.PathPartBodyHandler;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
-import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -37,8 +38,16 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
     @Override
     public void writeResponse(PathPart o, Type genericType, ServerRequestContext context)
             throws WebApplicationException {
-        ServerHttpResponse serverResponse = context.serverResponse();
-        // sendFile implies end(), even though javadoc doesn't say, if you add end() it will throw
-        serverResponse.sendFile(o.file.toString(), o.offset, o.count);
+        if (ServerFileBodyHandler.canSendFile(o.file)) {
+            // sendFile implies end(), even though javadoc doesn't say, if you add end() it will throw
+            ServerFileBodyHandler.sendFile(o.file.toString(), o.offset, o.count, context);
+            return;
+        }
+        try (OutputStream out = context.getOrCreateOutputStream()) {
+            context.serverResponse().setResponseHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(o.count));
+            doWrite(o, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
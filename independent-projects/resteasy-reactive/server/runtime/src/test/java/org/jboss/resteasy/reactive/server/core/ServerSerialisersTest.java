@@ -0,0 +1,65 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.jboss.resteasy.reactive.common.core.UnmanagedBeanFactory;
+import org.jboss.resteasy.reactive.common.model.ResourceWriter;
+import org.jboss.resteasy.reactive.server.providers.serialisers.ServerByteArrayMessageBodyHandler;
+import org.jboss.resteasy.reactive.server.providers.serialisers.ServerCharArrayMessageBodyHandler;
+import org.jboss.resteasy.reactive.server.providers.serialisers.ServerStringMessageBodyHandler;
+import org.junit.jupiter.api.Test;
+
+public class ServerSerialisersTest {
+
+    @Test
+    public void testFindServerWriters() {
+        ServerSerialisers serialisers = new ServerSerialisers();
+        addWriter(serialisers, String.class, new ServerStringMessageBodyHandler(), MediaType.TEXT_PLAIN);
+        addWriter(serialisers, Object.class, new ServerByteArrayMessageBodyHandler(), MediaType.WILDCARD);
+
+        for (MediaType mediaType : List.of(MediaType.TEXT_PLAIN_TYPE, MediaType.APPLICATION_JSON_TYPE,
+                MediaType.TEXT_PLAIN_TYPE.withCharset("UTF-8"))) {
+            for (Class<?> type : List.of(String.class, Integer.class, Object.class)) {
+                MessageBodyWriter<?>[] expected = serialisers.findWriters(null, type, mediaType, RuntimeType.SERVER)
+                        .toArray(ServerSerialisers.NO_WRITER);
+                MessageBodyWriter<?>[] first = serialisers.findServerWriters(type, mediaType);
+                assertArrayEquals(expected, first);
+                // the result is resolved once, and then served from the dispatch table
+                assertSame(first, serialisers.findServerWriters(type, mediaType));
+                assertSame(first, serialisers.findServerWriters(type, MediaType.valueOf(mediaType.toString())));
+            }
+        }
+        assertEquals(2, serialisers.findServerWriters(String.class, MediaType.TEXT_PLAIN_TYPE).length);
+
+        // registering a writer invalidates what was resolved before
+        addWriter(serialisers, String.class, new ServerCharArrayMessageBodyHandler(), MediaType.APPLICATION_JSON);
+        assertEquals(2, serialisers.findServerWriters(String.class, MediaType.APPLICATION_JSON_TYPE).length);
+    }
+
+    @Test
+    public void testDispatchTableIsBounded() {
+        ServerSerialisers.WriterDispatchTable table = new ServerSerialisers.WriterDispatchTable();
+        MessageBodyWriter<?>[] writers = new MessageBodyWriter[0];
+        for (int i = 0; i < ServerSerialisers.WriterDispatchTable.MAX_ENTRIES * 2; i++) {
+            table.put(new MediaType("application", "x-" + i), writers);
+        }
+        assertSame(writers, table.get(new MediaType("application", "x-0")));
+        assertNull(table.get(new MediaType("application", "x-" + ServerSerialisers.WriterDispatchTable.MAX_ENTRIES)));
+    }
+
+    private static void addWriter(ServerSerialisers serialisers, Class<?> type, MessageBodyWriter<?> writer,
+            String mediaType) {
+        serialisers.addWriter(type, new ResourceWriter()
+                .setFactory(new UnmanagedBeanFactory<>(writer))
+                .setMediaTypeStrings(List.of(mediaType)));
+    }
+}
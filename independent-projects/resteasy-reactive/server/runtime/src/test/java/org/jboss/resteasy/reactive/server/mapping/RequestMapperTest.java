@@ -0,0 +1,120 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    private static final List<String> TEMPLATES = List.of("/", "/items", "/items/{id}", "/items/{id}.json",
+            "/items/{a}-{b}", "/items/{a}-{b}/details", "/items/special", "/it{x}", "/files/{name}.{ext}",
+            "/files/{path: .+}", "/a/{b}/c/{d}.x");
+
+    @Test
+    public void testMapping() {
+        RequestMapper<String> mapper = mapper(TEMPLATES, false, true);
+
+        assertMatch(mapper, "/items", "/items", "");
+        assertMatch(mapper, "/items/42", "/items/{id}", "", "42");
+        assertMatch(mapper, "/items/42.json", "/items/{id}.json", "", "42");
+        assertMatch(mapper, "/items/a-b-c", "/items/{a}-{b}", "", "a", "b-c");
+        assertMatch(mapper, "/items/a-b/details", "/items/{a}-{b}/details", "", "a", "b");
+        assertMatch(mapper, "/items/special", "/items/special", "");
+        assertMatch(mapper, "/itself", "/it{x}", "", "self");
+        assertMatch(mapper, "/files/archive.tar.gz", "/files/{name}.{ext}", "", "archive", "tar.gz");
+        assertMatch(mapper, "/files/some/dir", "/files/{path: .+}", "", "some/dir");
+        assertMatch(mapper, "/a/1/c/2.x/", "/a/{b}/c/{d}.x", "", "1", "2");
+        assertNull(mapper.map("/a/1/c/2.y"));
+    }
+
+    @Test
+    public void testContinueMatching() {
+        RequestMapper<String> mapper = mapper(List.of("/items/{id}", "/items/{a}-{b}", "/items/{x}{y}"), false, true);
+
+        RequestMapper.RequestMatch<String> match = mapper.map("/items/a-b");
+        assertEquals("/items/{a}-{b}", match.value);
+        match = match.continueMatching("/items/a-b");
+        assertEquals("/items/{x}{y}", match.value);
+        match = mapper.continueMatching("/items/a-b", match);
+        assertEquals("/items/{id}", match.value);
+        assertArrayEquals(new String[] { "a-b", null }, match.pathParamValues);
+        assertNull(match.continueMatching("/items/a-b"));
+    }
+
+    /**
+     * Makes sure that the templates which are matched without a regex behave exactly as the regex would
+     */
+    @Test
+    public void testSimpleRegexMatchesLikeThePattern() {
+        List<String> templates = List.of("/", "/p", "/p/{a}", "/p/{a}.{b}", "/p/{a}-{b}.x", "/p/{a}/{b}-x",
+                "/p{a}-", "/q/{a}.x/", "/q/{a}..{b}");
+        for (boolean prefix : new boolean[] { false, true }) {
+            RequestMapper<String> simple = mapper(templates, prefix, true);
+            RequestMapper<String> regex = mapper(templates, prefix, false);
+            Random random = new Random(42);
+            char[] alphabet = { 'a', 'p', 'q', 'x', '-', '.', '/', '/', '\n' };
+            for (int i = 0; i < 50_000; i++) {
+                StringBuilder path = new StringBuilder("/");
+                int length = random.nextInt(10);
+                for (int j = 0; j < length; j++) {
+                    path.append(alphabet[random.nextInt(alphabet.length)]);
+                }
+                String p = path.toString();
+                RequestMapper.RequestMatch<String> expected = regex.map(p);
+                RequestMapper.RequestMatch<String> actual = simple.map(p);
+                while (expected != null) {
+                    assertNotNull(actual, p);
+                    assertEquals(expected.value, actual.value, p);
+                    assertEquals(expected.remaining, actual.remaining, p);
+                    assertArrayEquals(expected.pathParamValues, actual.pathParamValues, p);
+                    expected = expected.continueMatching(p);
+                    actual = actual.continueMatching(p);
+                }
+                assertNull(actual, p);
+            }
+        }
+    }
+
+    private static void assertMatch(RequestMapper<String> mapper, String path, String template, String remaining,
+            String... params) {
+        RequestMapper.RequestMatch<String> match = mapper.map(path);
+        assertNotNull(match, path);
+        assertEquals(template, match.value);
+        assertEquals(remaining, match.remaining);
+        for (int i = 0; i < params.length; i++) {
+            assertEquals(params[i], match.pathParamValues[i]);
+        }
+        for (int i = params.length; i < match.pathParamValues.length; i++) {
+            assertNull(match.pathParamValues[i]);
+        }
+    }
+
+    private static RequestMapper<String> mapper(List<String> templates, boolean prefix, boolean allowSimpleRegex) {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            URITemplate uriTemplate = new URITemplate(template, prefix);
+            if (!allowSimpleRegex) {
+                uriTemplate = withoutSimpleRegex(uriTemplate);
+            }
+            paths.add(new RequestMapper.RequestPath<>(prefix, uriTemplate, template));
+        }
+        return new RequestMapper<>(paths);
+    }
+
+    private static URITemplate withoutSimpleRegex(URITemplate template) {
+        URITemplate.TemplateComponent[] components = new URITemplate.TemplateComponent[template.components.length];
+        for (int i = 0; i < components.length; i++) {
+            URITemplate.TemplateComponent c = template.components[i];
+            components[i] = new URITemplate.TemplateComponent(c.type, c.literalText, c.name, c.pattern, c.names, c.groups);
+        }
+        return new URITemplate(template.template, template.stem, template.literalCharacterCount,
+                template.capturingGroups, template.complexExpressions, components, template.prefixMatch);
+    }
+}